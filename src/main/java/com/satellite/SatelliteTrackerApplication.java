@@ -2,12 +2,10 @@ package com.satellite;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
-@EnableCaching
 public class SatelliteTrackerApplication {
     public static void main(String[] args) {
         SpringApplication.run(SatelliteTrackerApplication.class, args);
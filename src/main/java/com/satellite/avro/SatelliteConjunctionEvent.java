@@ -0,0 +1,875 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.satellite.avro;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class SatelliteConjunctionEvent extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 3927545066798247200L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"SatelliteConjunctionEvent\",\"namespace\":\"com.satellite.avro\",\"fields\":[{\"name\":\"primarySatelliteId\",\"type\":\"string\"},{\"name\":\"primarySatelliteName\",\"type\":\"string\"},{\"name\":\"secondarySatelliteId\",\"type\":\"string\"},{\"name\":\"secondarySatelliteName\",\"type\":\"string\"},{\"name\":\"timestamp\",\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},{\"name\":\"timeOfClosestApproach\",\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},{\"name\":\"missDistance\",\"type\":\"double\"},{\"name\":\"relativeSpeed\",\"type\":\"double\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<SatelliteConjunctionEvent> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<SatelliteConjunctionEvent> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<SatelliteConjunctionEvent> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<SatelliteConjunctionEvent> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<SatelliteConjunctionEvent> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this SatelliteConjunctionEvent to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a SatelliteConjunctionEvent from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a SatelliteConjunctionEvent instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static SatelliteConjunctionEvent fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  private java.lang.CharSequence primarySatelliteId;
+  private java.lang.CharSequence primarySatelliteName;
+  private java.lang.CharSequence secondarySatelliteId;
+  private java.lang.CharSequence secondarySatelliteName;
+  private long timestamp;
+  private long timeOfClosestApproach;
+  private double missDistance;
+  private double relativeSpeed;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public SatelliteConjunctionEvent() {}
+
+  /**
+   * All-args constructor.
+   * @param primarySatelliteId The new value for primarySatelliteId
+   * @param primarySatelliteName The new value for primarySatelliteName
+   * @param secondarySatelliteId The new value for secondarySatelliteId
+   * @param secondarySatelliteName The new value for secondarySatelliteName
+   * @param timestamp The new value for timestamp
+   * @param timeOfClosestApproach The new value for timeOfClosestApproach
+   * @param missDistance The new value for missDistance
+   * @param relativeSpeed The new value for relativeSpeed
+   */
+  public SatelliteConjunctionEvent(java.lang.CharSequence primarySatelliteId, java.lang.CharSequence primarySatelliteName, java.lang.CharSequence secondarySatelliteId, java.lang.CharSequence secondarySatelliteName, java.lang.Long timestamp, java.lang.Long timeOfClosestApproach, java.lang.Double missDistance, java.lang.Double relativeSpeed) {
+    this.primarySatelliteId = primarySatelliteId;
+    this.primarySatelliteName = primarySatelliteName;
+    this.secondarySatelliteId = secondarySatelliteId;
+    this.secondarySatelliteName = secondarySatelliteName;
+    this.timestamp = timestamp;
+    this.timeOfClosestApproach = timeOfClosestApproach;
+    this.missDistance = missDistance;
+    this.relativeSpeed = relativeSpeed;
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return primarySatelliteId;
+    case 1: return primarySatelliteName;
+    case 2: return secondarySatelliteId;
+    case 3: return secondarySatelliteName;
+    case 4: return timestamp;
+    case 5: return timeOfClosestApproach;
+    case 6: return missDistance;
+    case 7: return relativeSpeed;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: primarySatelliteId = (java.lang.CharSequence)value$; break;
+    case 1: primarySatelliteName = (java.lang.CharSequence)value$; break;
+    case 2: secondarySatelliteId = (java.lang.CharSequence)value$; break;
+    case 3: secondarySatelliteName = (java.lang.CharSequence)value$; break;
+    case 4: timestamp = (java.lang.Long)value$; break;
+    case 5: timeOfClosestApproach = (java.lang.Long)value$; break;
+    case 6: missDistance = (java.lang.Double)value$; break;
+    case 7: relativeSpeed = (java.lang.Double)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'primarySatelliteId' field.
+   * @return The value of the 'primarySatelliteId' field.
+   */
+  public java.lang.CharSequence getPrimarySatelliteId() {
+    return primarySatelliteId;
+  }
+
+
+  /**
+   * Sets the value of the 'primarySatelliteId' field.
+   * @param value the value to set.
+   */
+  public void setPrimarySatelliteId(java.lang.CharSequence value) {
+    this.primarySatelliteId = value;
+  }
+
+  /**
+   * Gets the value of the 'primarySatelliteName' field.
+   * @return The value of the 'primarySatelliteName' field.
+   */
+  public java.lang.CharSequence getPrimarySatelliteName() {
+    return primarySatelliteName;
+  }
+
+
+  /**
+   * Sets the value of the 'primarySatelliteName' field.
+   * @param value the value to set.
+   */
+  public void setPrimarySatelliteName(java.lang.CharSequence value) {
+    this.primarySatelliteName = value;
+  }
+
+  /**
+   * Gets the value of the 'secondarySatelliteId' field.
+   * @return The value of the 'secondarySatelliteId' field.
+   */
+  public java.lang.CharSequence getSecondarySatelliteId() {
+    return secondarySatelliteId;
+  }
+
+
+  /**
+   * Sets the value of the 'secondarySatelliteId' field.
+   * @param value the value to set.
+   */
+  public void setSecondarySatelliteId(java.lang.CharSequence value) {
+    this.secondarySatelliteId = value;
+  }
+
+  /**
+   * Gets the value of the 'secondarySatelliteName' field.
+   * @return The value of the 'secondarySatelliteName' field.
+   */
+  public java.lang.CharSequence getSecondarySatelliteName() {
+    return secondarySatelliteName;
+  }
+
+
+  /**
+   * Sets the value of the 'secondarySatelliteName' field.
+   * @param value the value to set.
+   */
+  public void setSecondarySatelliteName(java.lang.CharSequence value) {
+    this.secondarySatelliteName = value;
+  }
+
+  /**
+   * Gets the value of the 'timestamp' field.
+   * @return The value of the 'timestamp' field.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+
+  /**
+   * Sets the value of the 'timestamp' field.
+   * @param value the value to set.
+   */
+  public void setTimestamp(long value) {
+    this.timestamp = value;
+  }
+
+  /**
+   * Gets the value of the 'timeOfClosestApproach' field.
+   * @return The value of the 'timeOfClosestApproach' field.
+   */
+  public long getTimeOfClosestApproach() {
+    return timeOfClosestApproach;
+  }
+
+
+  /**
+   * Sets the value of the 'timeOfClosestApproach' field.
+   * @param value the value to set.
+   */
+  public void setTimeOfClosestApproach(long value) {
+    this.timeOfClosestApproach = value;
+  }
+
+  /**
+   * Gets the value of the 'missDistance' field.
+   * @return The value of the 'missDistance' field.
+   */
+  public double getMissDistance() {
+    return missDistance;
+  }
+
+
+  /**
+   * Sets the value of the 'missDistance' field.
+   * @param value the value to set.
+   */
+  public void setMissDistance(double value) {
+    this.missDistance = value;
+  }
+
+  /**
+   * Gets the value of the 'relativeSpeed' field.
+   * @return The value of the 'relativeSpeed' field.
+   */
+  public double getRelativeSpeed() {
+    return relativeSpeed;
+  }
+
+
+  /**
+   * Sets the value of the 'relativeSpeed' field.
+   * @param value the value to set.
+   */
+  public void setRelativeSpeed(double value) {
+    this.relativeSpeed = value;
+  }
+
+  /**
+   * Creates a new SatelliteConjunctionEvent RecordBuilder.
+   * @return A new SatelliteConjunctionEvent RecordBuilder
+   */
+  public static com.satellite.avro.SatelliteConjunctionEvent.Builder newBuilder() {
+    return new com.satellite.avro.SatelliteConjunctionEvent.Builder();
+  }
+
+  /**
+   * Creates a new SatelliteConjunctionEvent RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new SatelliteConjunctionEvent RecordBuilder
+   */
+  public static com.satellite.avro.SatelliteConjunctionEvent.Builder newBuilder(com.satellite.avro.SatelliteConjunctionEvent.Builder other) {
+    if (other == null) {
+      return new com.satellite.avro.SatelliteConjunctionEvent.Builder();
+    } else {
+      return new com.satellite.avro.SatelliteConjunctionEvent.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new SatelliteConjunctionEvent RecordBuilder by copying an existing SatelliteConjunctionEvent instance.
+   * @param other The existing instance to copy.
+   * @return A new SatelliteConjunctionEvent RecordBuilder
+   */
+  public static com.satellite.avro.SatelliteConjunctionEvent.Builder newBuilder(com.satellite.avro.SatelliteConjunctionEvent other) {
+    if (other == null) {
+      return new com.satellite.avro.SatelliteConjunctionEvent.Builder();
+    } else {
+      return new com.satellite.avro.SatelliteConjunctionEvent.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for SatelliteConjunctionEvent instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<SatelliteConjunctionEvent>
+    implements org.apache.avro.data.RecordBuilder<SatelliteConjunctionEvent> {
+
+    private java.lang.CharSequence primarySatelliteId;
+    private java.lang.CharSequence primarySatelliteName;
+    private java.lang.CharSequence secondarySatelliteId;
+    private java.lang.CharSequence secondarySatelliteName;
+    private long timestamp;
+    private long timeOfClosestApproach;
+    private double missDistance;
+    private double relativeSpeed;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.satellite.avro.SatelliteConjunctionEvent.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.primarySatelliteId)) {
+        this.primarySatelliteId = data().deepCopy(fields()[0].schema(), other.primarySatelliteId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.primarySatelliteName)) {
+        this.primarySatelliteName = data().deepCopy(fields()[1].schema(), other.primarySatelliteName);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.secondarySatelliteId)) {
+        this.secondarySatelliteId = data().deepCopy(fields()[2].schema(), other.secondarySatelliteId);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.secondarySatelliteName)) {
+        this.secondarySatelliteName = data().deepCopy(fields()[3].schema(), other.secondarySatelliteName);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[4].schema(), other.timestamp);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.timeOfClosestApproach)) {
+        this.timeOfClosestApproach = data().deepCopy(fields()[5].schema(), other.timeOfClosestApproach);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+      if (isValidValue(fields()[6], other.missDistance)) {
+        this.missDistance = data().deepCopy(fields()[6].schema(), other.missDistance);
+        fieldSetFlags()[6] = other.fieldSetFlags()[6];
+      }
+      if (isValidValue(fields()[7], other.relativeSpeed)) {
+        this.relativeSpeed = data().deepCopy(fields()[7].schema(), other.relativeSpeed);
+        fieldSetFlags()[7] = other.fieldSetFlags()[7];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing SatelliteConjunctionEvent instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.satellite.avro.SatelliteConjunctionEvent other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.primarySatelliteId)) {
+        this.primarySatelliteId = data().deepCopy(fields()[0].schema(), other.primarySatelliteId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.primarySatelliteName)) {
+        this.primarySatelliteName = data().deepCopy(fields()[1].schema(), other.primarySatelliteName);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.secondarySatelliteId)) {
+        this.secondarySatelliteId = data().deepCopy(fields()[2].schema(), other.secondarySatelliteId);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.secondarySatelliteName)) {
+        this.secondarySatelliteName = data().deepCopy(fields()[3].schema(), other.secondarySatelliteName);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[4].schema(), other.timestamp);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.timeOfClosestApproach)) {
+        this.timeOfClosestApproach = data().deepCopy(fields()[5].schema(), other.timeOfClosestApproach);
+        fieldSetFlags()[5] = true;
+      }
+      if (isValidValue(fields()[6], other.missDistance)) {
+        this.missDistance = data().deepCopy(fields()[6].schema(), other.missDistance);
+        fieldSetFlags()[6] = true;
+      }
+      if (isValidValue(fields()[7], other.relativeSpeed)) {
+        this.relativeSpeed = data().deepCopy(fields()[7].schema(), other.relativeSpeed);
+        fieldSetFlags()[7] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'primarySatelliteId' field.
+      * @return The value.
+      */
+    public java.lang.CharSequence getPrimarySatelliteId() {
+      return primarySatelliteId;
+    }
+
+
+    /**
+      * Sets the value of the 'primarySatelliteId' field.
+      * @param value The value of 'primarySatelliteId'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setPrimarySatelliteId(java.lang.CharSequence value) {
+      validate(fields()[0], value);
+      this.primarySatelliteId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'primarySatelliteId' field has been set.
+      * @return True if the 'primarySatelliteId' field has been set, false otherwise.
+      */
+    public boolean hasPrimarySatelliteId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'primarySatelliteId' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearPrimarySatelliteId() {
+      primarySatelliteId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'primarySatelliteName' field.
+      * @return The value.
+      */
+    public java.lang.CharSequence getPrimarySatelliteName() {
+      return primarySatelliteName;
+    }
+
+
+    /**
+      * Sets the value of the 'primarySatelliteName' field.
+      * @param value The value of 'primarySatelliteName'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setPrimarySatelliteName(java.lang.CharSequence value) {
+      validate(fields()[1], value);
+      this.primarySatelliteName = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'primarySatelliteName' field has been set.
+      * @return True if the 'primarySatelliteName' field has been set, false otherwise.
+      */
+    public boolean hasPrimarySatelliteName() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'primarySatelliteName' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearPrimarySatelliteName() {
+      primarySatelliteName = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'secondarySatelliteId' field.
+      * @return The value.
+      */
+    public java.lang.CharSequence getSecondarySatelliteId() {
+      return secondarySatelliteId;
+    }
+
+
+    /**
+      * Sets the value of the 'secondarySatelliteId' field.
+      * @param value The value of 'secondarySatelliteId'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setSecondarySatelliteId(java.lang.CharSequence value) {
+      validate(fields()[2], value);
+      this.secondarySatelliteId = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'secondarySatelliteId' field has been set.
+      * @return True if the 'secondarySatelliteId' field has been set, false otherwise.
+      */
+    public boolean hasSecondarySatelliteId() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'secondarySatelliteId' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearSecondarySatelliteId() {
+      secondarySatelliteId = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'secondarySatelliteName' field.
+      * @return The value.
+      */
+    public java.lang.CharSequence getSecondarySatelliteName() {
+      return secondarySatelliteName;
+    }
+
+
+    /**
+      * Sets the value of the 'secondarySatelliteName' field.
+      * @param value The value of 'secondarySatelliteName'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setSecondarySatelliteName(java.lang.CharSequence value) {
+      validate(fields()[3], value);
+      this.secondarySatelliteName = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'secondarySatelliteName' field has been set.
+      * @return True if the 'secondarySatelliteName' field has been set, false otherwise.
+      */
+    public boolean hasSecondarySatelliteName() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'secondarySatelliteName' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearSecondarySatelliteName() {
+      secondarySatelliteName = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timestamp' field.
+      * @return The value.
+      */
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+
+    /**
+      * Sets the value of the 'timestamp' field.
+      * @param value The value of 'timestamp'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setTimestamp(long value) {
+      validate(fields()[4], value);
+      this.timestamp = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timestamp' field has been set.
+      * @return True if the 'timestamp' field has been set, false otherwise.
+      */
+    public boolean hasTimestamp() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'timestamp' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearTimestamp() {
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timeOfClosestApproach' field.
+      * @return The value.
+      */
+    public long getTimeOfClosestApproach() {
+      return timeOfClosestApproach;
+    }
+
+
+    /**
+      * Sets the value of the 'timeOfClosestApproach' field.
+      * @param value The value of 'timeOfClosestApproach'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setTimeOfClosestApproach(long value) {
+      validate(fields()[5], value);
+      this.timeOfClosestApproach = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timeOfClosestApproach' field has been set.
+      * @return True if the 'timeOfClosestApproach' field has been set, false otherwise.
+      */
+    public boolean hasTimeOfClosestApproach() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'timeOfClosestApproach' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearTimeOfClosestApproach() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'missDistance' field.
+      * @return The value.
+      */
+    public double getMissDistance() {
+      return missDistance;
+    }
+
+
+    /**
+      * Sets the value of the 'missDistance' field.
+      * @param value The value of 'missDistance'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setMissDistance(double value) {
+      validate(fields()[6], value);
+      this.missDistance = value;
+      fieldSetFlags()[6] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'missDistance' field has been set.
+      * @return True if the 'missDistance' field has been set, false otherwise.
+      */
+    public boolean hasMissDistance() {
+      return fieldSetFlags()[6];
+    }
+
+
+    /**
+      * Clears the value of the 'missDistance' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearMissDistance() {
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'relativeSpeed' field.
+      * @return The value.
+      */
+    public double getRelativeSpeed() {
+      return relativeSpeed;
+    }
+
+
+    /**
+      * Sets the value of the 'relativeSpeed' field.
+      * @param value The value of 'relativeSpeed'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder setRelativeSpeed(double value) {
+      validate(fields()[7], value);
+      this.relativeSpeed = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'relativeSpeed' field has been set.
+      * @return True if the 'relativeSpeed' field has been set, false otherwise.
+      */
+    public boolean hasRelativeSpeed() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'relativeSpeed' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatelliteConjunctionEvent.Builder clearRelativeSpeed() {
+      fieldSetFlags()[7] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SatelliteConjunctionEvent build() {
+      try {
+        SatelliteConjunctionEvent record = new SatelliteConjunctionEvent();
+        record.primarySatelliteId = fieldSetFlags()[0] ? this.primarySatelliteId : (java.lang.CharSequence) defaultValue(fields()[0]);
+        record.primarySatelliteName = fieldSetFlags()[1] ? this.primarySatelliteName : (java.lang.CharSequence) defaultValue(fields()[1]);
+        record.secondarySatelliteId = fieldSetFlags()[2] ? this.secondarySatelliteId : (java.lang.CharSequence) defaultValue(fields()[2]);
+        record.secondarySatelliteName = fieldSetFlags()[3] ? this.secondarySatelliteName : (java.lang.CharSequence) defaultValue(fields()[3]);
+        record.timestamp = fieldSetFlags()[4] ? this.timestamp : (java.lang.Long) defaultValue(fields()[4]);
+        record.timeOfClosestApproach = fieldSetFlags()[5] ? this.timeOfClosestApproach : (java.lang.Long) defaultValue(fields()[5]);
+        record.missDistance = fieldSetFlags()[6] ? this.missDistance : (java.lang.Double) defaultValue(fields()[6]);
+        record.relativeSpeed = fieldSetFlags()[7] ? this.relativeSpeed : (java.lang.Double) defaultValue(fields()[7]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<SatelliteConjunctionEvent>
+    WRITER$ = (org.apache.avro.io.DatumWriter<SatelliteConjunctionEvent>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<SatelliteConjunctionEvent>
+    READER$ = (org.apache.avro.io.DatumReader<SatelliteConjunctionEvent>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+  @Override protected boolean hasCustomCoders() { return true; }
+
+  @Override public void customEncode(org.apache.avro.io.Encoder out)
+    throws java.io.IOException
+  {
+    out.writeString(this.primarySatelliteId);
+
+    out.writeString(this.primarySatelliteName);
+
+    out.writeString(this.secondarySatelliteId);
+
+    out.writeString(this.secondarySatelliteName);
+
+    out.writeLong(this.timestamp);
+
+    out.writeLong(this.timeOfClosestApproach);
+
+    out.writeDouble(this.missDistance);
+
+    out.writeDouble(this.relativeSpeed);
+
+  }
+
+  @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
+    throws java.io.IOException
+  {
+    org.apache.avro.Schema.Field[] fieldOrder = in.readFieldOrderIfDiff();
+    if (fieldOrder == null) {
+      this.primarySatelliteId = in.readString(this.primarySatelliteId instanceof Utf8 ? (Utf8)this.primarySatelliteId : null);
+
+      this.primarySatelliteName = in.readString(this.primarySatelliteName instanceof Utf8 ? (Utf8)this.primarySatelliteName : null);
+
+      this.secondarySatelliteId = in.readString(this.secondarySatelliteId instanceof Utf8 ? (Utf8)this.secondarySatelliteId : null);
+
+      this.secondarySatelliteName = in.readString(this.secondarySatelliteName instanceof Utf8 ? (Utf8)this.secondarySatelliteName : null);
+
+      this.timestamp = in.readLong();
+
+      this.timeOfClosestApproach = in.readLong();
+
+      this.missDistance = in.readDouble();
+
+      this.relativeSpeed = in.readDouble();
+
+    } else {
+      for (int i = 0; i < 8; i++) {
+        switch (fieldOrder[i].pos()) {
+        case 0:
+          this.primarySatelliteId = in.readString(this.primarySatelliteId instanceof Utf8 ? (Utf8)this.primarySatelliteId : null);
+          break;
+
+        case 1:
+          this.primarySatelliteName = in.readString(this.primarySatelliteName instanceof Utf8 ? (Utf8)this.primarySatelliteName : null);
+          break;
+
+        case 2:
+          this.secondarySatelliteId = in.readString(this.secondarySatelliteId instanceof Utf8 ? (Utf8)this.secondarySatelliteId : null);
+          break;
+
+        case 3:
+          this.secondarySatelliteName = in.readString(this.secondarySatelliteName instanceof Utf8 ? (Utf8)this.secondarySatelliteName : null);
+          break;
+
+        case 4:
+          this.timestamp = in.readLong();
+          break;
+
+        case 5:
+          this.timeOfClosestApproach = in.readLong();
+          break;
+
+        case 6:
+          this.missDistance = in.readDouble();
+          break;
+
+        case 7:
+          this.relativeSpeed = in.readDouble();
+          break;
+
+        default:
+          throw new java.io.IOException("Corrupt ResolvingDecoder.");
+        }
+      }
+    }
+  }
+}
+
+
+
+
+
+
+
+
+
+
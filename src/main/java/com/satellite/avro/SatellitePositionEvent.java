@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -3401277761637580357L;
+  private static final long serialVersionUID = 2777808477555003568L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"SatellitePositionEvent\",\"namespace\":\"com.satellite.avro\",\"fields\":[{\"name\":\"satelliteId\",\"type\":\"string\"},{\"name\":\"satelliteName\",\"type\":\"string\"},{\"name\":\"timestamp\",\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},{\"name\":\"latitude\",\"type\":\"double\"},{\"name\":\"longitude\",\"type\":\"double\"},{\"name\":\"altitude\",\"type\":\"double\"},{\"name\":\"velocity\",\"type\":\"double\"},{\"name\":\"source\",\"type\":\"string\"}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"SatellitePositionEvent\",\"namespace\":\"com.satellite.avro\",\"fields\":[{\"name\":\"satelliteId\",\"type\":\"string\"},{\"name\":\"satelliteName\",\"type\":\"string\"},{\"name\":\"timestamp\",\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},{\"name\":\"latitude\",\"type\":\"double\"},{\"name\":\"longitude\",\"type\":\"double\"},{\"name\":\"altitude\",\"type\":\"double\"},{\"name\":\"velocity\",\"type\":\"double\"},{\"name\":\"source\",\"type\":\"string\"},{\"name\":\"latitudeRate\",\"type\":[\"null\",\"double\"],\"default\":null},{\"name\":\"longitudeRate\",\"type\":[\"null\",\"double\"],\"default\":null},{\"name\":\"altitudeRate\",\"type\":[\"null\",\"double\"],\"default\":null}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -81,6 +81,9 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
   private double altitude;
   private double velocity;
   private java.lang.CharSequence source;
+  private java.lang.Double latitudeRate;
+  private java.lang.Double longitudeRate;
+  private java.lang.Double altitudeRate;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -99,8 +102,11 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
    * @param altitude The new value for altitude
    * @param velocity The new value for velocity
    * @param source The new value for source
+   * @param latitudeRate The new value for latitudeRate
+   * @param longitudeRate The new value for longitudeRate
+   * @param altitudeRate The new value for altitudeRate
    */
-  public SatellitePositionEvent(java.lang.CharSequence satelliteId, java.lang.CharSequence satelliteName, java.lang.Long timestamp, java.lang.Double latitude, java.lang.Double longitude, java.lang.Double altitude, java.lang.Double velocity, java.lang.CharSequence source) {
+  public SatellitePositionEvent(java.lang.CharSequence satelliteId, java.lang.CharSequence satelliteName, java.lang.Long timestamp, java.lang.Double latitude, java.lang.Double longitude, java.lang.Double altitude, java.lang.Double velocity, java.lang.CharSequence source, java.lang.Double latitudeRate, java.lang.Double longitudeRate, java.lang.Double altitudeRate) {
     this.satelliteId = satelliteId;
     this.satelliteName = satelliteName;
     this.timestamp = timestamp;
@@ -109,6 +115,9 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
     this.altitude = altitude;
     this.velocity = velocity;
     this.source = source;
+    this.latitudeRate = latitudeRate;
+    this.longitudeRate = longitudeRate;
+    this.altitudeRate = altitudeRate;
   }
 
   @Override
@@ -129,6 +138,9 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
     case 5: return altitude;
     case 6: return velocity;
     case 7: return source;
+    case 8: return latitudeRate;
+    case 9: return longitudeRate;
+    case 10: return altitudeRate;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -146,6 +158,9 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
     case 5: altitude = (java.lang.Double)value$; break;
     case 6: velocity = (java.lang.Double)value$; break;
     case 7: source = (java.lang.CharSequence)value$; break;
+    case 8: latitudeRate = (java.lang.Double)value$; break;
+    case 9: longitudeRate = (java.lang.Double)value$; break;
+    case 10: altitudeRate = (java.lang.Double)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -286,6 +301,57 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
     this.source = value;
   }
 
+  /**
+   * Gets the value of the 'latitudeRate' field.
+   * @return The value of the 'latitudeRate' field.
+   */
+  public java.lang.Double getLatitudeRate() {
+    return latitudeRate;
+  }
+
+
+  /**
+   * Sets the value of the 'latitudeRate' field.
+   * @param value the value to set.
+   */
+  public void setLatitudeRate(java.lang.Double value) {
+    this.latitudeRate = value;
+  }
+
+  /**
+   * Gets the value of the 'longitudeRate' field.
+   * @return The value of the 'longitudeRate' field.
+   */
+  public java.lang.Double getLongitudeRate() {
+    return longitudeRate;
+  }
+
+
+  /**
+   * Sets the value of the 'longitudeRate' field.
+   * @param value the value to set.
+   */
+  public void setLongitudeRate(java.lang.Double value) {
+    this.longitudeRate = value;
+  }
+
+  /**
+   * Gets the value of the 'altitudeRate' field.
+   * @return The value of the 'altitudeRate' field.
+   */
+  public java.lang.Double getAltitudeRate() {
+    return altitudeRate;
+  }
+
+
+  /**
+   * Sets the value of the 'altitudeRate' field.
+   * @param value the value to set.
+   */
+  public void setAltitudeRate(java.lang.Double value) {
+    this.altitudeRate = value;
+  }
+
   /**
    * Creates a new SatellitePositionEvent RecordBuilder.
    * @return A new SatellitePositionEvent RecordBuilder
@@ -335,6 +401,9 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
     private double altitude;
     private double velocity;
     private java.lang.CharSequence source;
+    private java.lang.Double latitudeRate;
+    private java.lang.Double longitudeRate;
+    private java.lang.Double altitudeRate;
 
     /** Creates a new Builder */
     private Builder() {
@@ -379,6 +448,18 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
         this.source = data().deepCopy(fields()[7].schema(), other.source);
         fieldSetFlags()[7] = other.fieldSetFlags()[7];
       }
+      if (isValidValue(fields()[8], other.latitudeRate)) {
+        this.latitudeRate = data().deepCopy(fields()[8].schema(), other.latitudeRate);
+        fieldSetFlags()[8] = other.fieldSetFlags()[8];
+      }
+      if (isValidValue(fields()[9], other.longitudeRate)) {
+        this.longitudeRate = data().deepCopy(fields()[9].schema(), other.longitudeRate);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
+      if (isValidValue(fields()[10], other.altitudeRate)) {
+        this.altitudeRate = data().deepCopy(fields()[10].schema(), other.altitudeRate);
+        fieldSetFlags()[10] = other.fieldSetFlags()[10];
+      }
     }
 
     /**
@@ -419,6 +500,18 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
         this.source = data().deepCopy(fields()[7].schema(), other.source);
         fieldSetFlags()[7] = true;
       }
+      if (isValidValue(fields()[8], other.latitudeRate)) {
+        this.latitudeRate = data().deepCopy(fields()[8].schema(), other.latitudeRate);
+        fieldSetFlags()[8] = true;
+      }
+      if (isValidValue(fields()[9], other.longitudeRate)) {
+        this.longitudeRate = data().deepCopy(fields()[9].schema(), other.longitudeRate);
+        fieldSetFlags()[9] = true;
+      }
+      if (isValidValue(fields()[10], other.altitudeRate)) {
+        this.altitudeRate = data().deepCopy(fields()[10].schema(), other.altitudeRate);
+        fieldSetFlags()[10] = true;
+      }
     }
 
     /**
@@ -736,6 +829,126 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
       return this;
     }
 
+    /**
+      * Gets the value of the 'latitudeRate' field.
+      * @return The value.
+      */
+    public java.lang.Double getLatitudeRate() {
+      return latitudeRate;
+    }
+
+
+    /**
+      * Sets the value of the 'latitudeRate' field.
+      * @param value The value of 'latitudeRate'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatellitePositionEvent.Builder setLatitudeRate(java.lang.Double value) {
+      validate(fields()[8], value);
+      this.latitudeRate = value;
+      fieldSetFlags()[8] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'latitudeRate' field has been set.
+      * @return True if the 'latitudeRate' field has been set, false otherwise.
+      */
+    public boolean hasLatitudeRate() {
+      return fieldSetFlags()[8];
+    }
+
+
+    /**
+      * Clears the value of the 'latitudeRate' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatellitePositionEvent.Builder clearLatitudeRate() {
+      latitudeRate = null;
+      fieldSetFlags()[8] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'longitudeRate' field.
+      * @return The value.
+      */
+    public java.lang.Double getLongitudeRate() {
+      return longitudeRate;
+    }
+
+
+    /**
+      * Sets the value of the 'longitudeRate' field.
+      * @param value The value of 'longitudeRate'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatellitePositionEvent.Builder setLongitudeRate(java.lang.Double value) {
+      validate(fields()[9], value);
+      this.longitudeRate = value;
+      fieldSetFlags()[9] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'longitudeRate' field has been set.
+      * @return True if the 'longitudeRate' field has been set, false otherwise.
+      */
+    public boolean hasLongitudeRate() {
+      return fieldSetFlags()[9];
+    }
+
+
+    /**
+      * Clears the value of the 'longitudeRate' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatellitePositionEvent.Builder clearLongitudeRate() {
+      longitudeRate = null;
+      fieldSetFlags()[9] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'altitudeRate' field.
+      * @return The value.
+      */
+    public java.lang.Double getAltitudeRate() {
+      return altitudeRate;
+    }
+
+
+    /**
+      * Sets the value of the 'altitudeRate' field.
+      * @param value The value of 'altitudeRate'.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatellitePositionEvent.Builder setAltitudeRate(java.lang.Double value) {
+      validate(fields()[10], value);
+      this.altitudeRate = value;
+      fieldSetFlags()[10] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'altitudeRate' field has been set.
+      * @return True if the 'altitudeRate' field has been set, false otherwise.
+      */
+    public boolean hasAltitudeRate() {
+      return fieldSetFlags()[10];
+    }
+
+
+    /**
+      * Clears the value of the 'altitudeRate' field.
+      * @return This builder.
+      */
+    public com.satellite.avro.SatellitePositionEvent.Builder clearAltitudeRate() {
+      altitudeRate = null;
+      fieldSetFlags()[10] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public SatellitePositionEvent build() {
@@ -749,6 +962,9 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
         record.altitude = fieldSetFlags()[5] ? this.altitude : (java.lang.Double) defaultValue(fields()[5]);
         record.velocity = fieldSetFlags()[6] ? this.velocity : (java.lang.Double) defaultValue(fields()[6]);
         record.source = fieldSetFlags()[7] ? this.source : (java.lang.CharSequence) defaultValue(fields()[7]);
+        record.latitudeRate = fieldSetFlags()[8] ? this.latitudeRate : (java.lang.Double) defaultValue(fields()[8]);
+        record.longitudeRate = fieldSetFlags()[9] ? this.longitudeRate : (java.lang.Double) defaultValue(fields()[9]);
+        record.altitudeRate = fieldSetFlags()[10] ? this.altitudeRate : (java.lang.Double) defaultValue(fields()[10]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -797,6 +1013,30 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
 
     out.writeString(this.source);
 
+    if (this.latitudeRate == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeDouble(this.latitudeRate);
+    }
+
+    if (this.longitudeRate == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeDouble(this.longitudeRate);
+    }
+
+    if (this.altitudeRate == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeDouble(this.altitudeRate);
+    }
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -820,8 +1060,29 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
 
       this.source = in.readString(this.source instanceof Utf8 ? (Utf8)this.source : null);
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.latitudeRate = null;
+      } else {
+        this.latitudeRate = in.readDouble();
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.longitudeRate = null;
+      } else {
+        this.longitudeRate = in.readDouble();
+      }
+
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.altitudeRate = null;
+      } else {
+        this.altitudeRate = in.readDouble();
+      }
+
     } else {
-      for (int i = 0; i < 8; i++) {
+      for (int i = 0; i < 11; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.satelliteId = in.readString(this.satelliteId instanceof Utf8 ? (Utf8)this.satelliteId : null);
@@ -855,6 +1116,33 @@ public class SatellitePositionEvent extends org.apache.avro.specific.SpecificRec
           this.source = in.readString(this.source instanceof Utf8 ? (Utf8)this.source : null);
           break;
 
+        case 8:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.latitudeRate = null;
+          } else {
+            this.latitudeRate = in.readDouble();
+          }
+          break;
+
+        case 9:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.longitudeRate = null;
+          } else {
+            this.longitudeRate = in.readDouble();
+          }
+          break;
+
+        case 10:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.altitudeRate = null;
+          } else {
+            this.altitudeRate = in.readDouble();
+          }
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
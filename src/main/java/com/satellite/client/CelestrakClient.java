@@ -3,50 +3,128 @@ package com.satellite.client;
 import com.satellite.model.TleData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+
 @Component
 public class CelestrakClient {
     
     private static final Logger log = LoggerFactory.getLogger(CelestrakClient.class);
     
+    // Body chunks requested ahead of the decoder; keeps buffered bytes bounded
+    private static final int STREAM_PREFETCH = 4;
+    
+    private static final String ACTIVES_URL = "/NORAD/elements/gp.php?GROUP=active&FORMAT=TLE";
+    
+    private final ConditionalGetCache conditionalGets = new ConditionalGetCache();
+    
     private final WebClient webClient = WebClient.builder()
             .baseUrl("https://celestrak.org")
             .build();
     
-    @Cacheable(value = "celestrakTle", key = "#satelliteId")
-    public Mono<TleData> getTleForSatellite(String satelliteId) {
+    /**
+     * Fetches one satellite's TLE with a conditional GET. Completes empty when
+     * Celestrak answers 304 Not Modified, so callers skip parsing and change
+     * detection for data they have already seen. The response's validators are
+     * returned with the TLE and only take effect once passed to {@link #commit},
+     * which callers do after the TLE has been published.
+     */
+    public Mono<FetchedTle> getTleForSatellite(String satelliteId) {
+        String url = "/NORAD/elements/gp.php?CATNR=" + satelliteId + "&FORMAT=TLE";
         return webClient.get()
                 .uri("/NORAD/elements/gp.php?CATNR={id}&FORMAT=TLE", satelliteId)
-                .retrieve()
-                .bodyToMono(String.class)
-                .map(response -> {
-                    String[] lines = response.trim().split("\n");
-                    if (lines.length >= 3) {
-                        return TleData.parseTle(lines[0], lines[1], lines[2]);
+                .headers(headers -> conditionalGets.applyTo(url, headers))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        conditionalGets.recordNotModified(url);
+                        log.debug("TLE for satellite {} not modified", satelliteId);
+                        return response.releaseBody().then(Mono.<FetchedTle>empty());
                     }
-                    throw new RuntimeException("Invalid TLE response for satellite: " + satelliteId);
+                    if (response.statusCode().isError()) {
+                        return response.<FetchedTle>createError();
+                    }
+                    HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                    return response.bodyToMono(String.class)
+                            .map(body -> {
+                                String[] lines = body.trim().split("\n");
+                                if (lines.length < 3) {
+                                    throw new RuntimeException("Invalid TLE response for satellite: " + satelliteId);
+                                }
+                                TleData tle = TleData.parseTle(lines[0], lines[1], lines[2]);
+                                return new FetchedTle(tle, conditionalGets.recordModified(
+                                        url, responseHeaders,
+                                        wireBytes(responseHeaders, body.getBytes(StandardCharsets.UTF_8).length)));
+                            });
                 })
                 .doOnError(e -> log.error("Error fetching TLE for satellite {}: {}", satelliteId, e.getMessage()));
     }
     
+    /**
+     * Makes the next request for a fetched TLE conditional on its response.
+     */
+    public void commit(FetchedTle fetched) {
+        conditionalGets.save(fetched.validators());
+    }
+    
+    /**
+     * Streams the active catalog as it downloads: body chunks are split into lines
+     * as they arrive and each element set is emitted as soon as it is complete,
+     * honouring downstream demand, so memory does not grow with catalog size.
+     * The request is conditional; a 304 completes empty. The catalog is not
+     * published, only loaded into {@code SatelliteCatalog} as it streams, so its
+     * validators are saved as soon as every element set has been consumed.
+     */
     public Flux<TleData> getActivesSatellites() {
-        return webClient.get()
-                .uri("/NORAD/elements/gp.php?GROUP=active&FORMAT=TLE")
-                .retrieve()
-                .bodyToMono(String.class)
-                .flatMapMany(response -> {
-                    String[] lines = response.trim().split("\n");
-                    return Flux.range(0, lines.length / 3)
-                            .map(i -> {
-                                int idx = i * 3;
-                                return TleData.parseTle(lines[idx], lines[idx + 1], lines[idx + 2]);
+        return Flux.defer(() -> {
+                    TleStreamDecoder decoder = new TleStreamDecoder();
+                    long[] decodedBytes = new long[1];
+                    return webClient.get()
+                            .uri(ACTIVES_URL)
+                            .headers(headers -> conditionalGets.applyTo(ACTIVES_URL, headers))
+                            .exchangeToFlux(response -> {
+                                if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                                    conditionalGets.recordNotModified(ACTIVES_URL);
+                                    log.info("Active catalog not modified since last download");
+                                    return response.releaseBody().thenMany(Flux.<TleData>empty());
+                                }
+                                if (response.statusCode().isError()) {
+                                    return response.<TleData>createError().flux();
+                                }
+                                HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                                return response.bodyToFlux(DataBuffer.class)
+                                        .concatMapIterable(buffer -> {
+                                            try {
+                                                decodedBytes[0] += buffer.readableByteCount();
+                                                return decoder.decode(buffer);
+                                            } finally {
+                                                DataBufferUtils.release(buffer);
+                                            }
+                                        }, STREAM_PREFETCH)
+                                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                        .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.finish())))
+                                        .doOnComplete(() -> conditionalGets.save(conditionalGets.recordModified(
+                                                ACTIVES_URL, responseHeaders, wireBytes(responseHeaders, decodedBytes[0]))));
                             });
                 })
                 .doOnError(e -> log.error("Error fetching active satellites: {}", e.getMessage()));
     }
+    
+    // Bytes on the wire: the Content-Length of the 200. The client does not ask for
+    // compression, so a chunked response without one arrives as many bytes as it decodes to
+    private static long wireBytes(HttpHeaders responseHeaders, long decodedBytes) {
+        long contentLength = responseHeaders.getContentLength();
+        return contentLength >= 0 ? contentLength : decodedBytes;
+    }
+    
+    public ConditionalGetCache getConditionalGetCache() {
+        return conditionalGets;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.satellite.client;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the ETag / Last-Modified validators of each successfully processed
+ * response, keyed by request URL, so the next request can be made conditional.
+ * Hits (304 Not Modified) and misses are counted, together with the body bytes
+ * a hit avoided downloading: the Content-Length of the last full response, or
+ * its decoded size when the server sent none.
+ *
+ * Validators are saved in two steps: {@link #recordModified} captures them from a
+ * full response, and {@link #save} makes later requests conditional on them. The
+ * caller saves only once the data has been acted on, so a response whose data
+ * was never published is downloaded in full next time rather than answered 304.
+ */
+public class ConditionalGetCache {
+    
+    public record Validators(String url, String etag, long lastModified, long contentLength) {
+    }
+    
+    private final Map<String, Validators> validators = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    
+    /**
+     * Adds If-None-Match / If-Modified-Since for {@code url} if we have validators for it.
+     */
+    public void applyTo(String url, HttpHeaders requestHeaders) {
+        Validators cached = validators.get(url);
+        if (cached == null) {
+            return;
+        }
+        if (cached.etag() != null) {
+            requestHeaders.setIfNoneMatch(cached.etag());
+        }
+        if (cached.lastModified() > 0) {
+            requestHeaders.setIfModifiedSince(cached.lastModified());
+        }
+    }
+    
+    public void recordNotModified(String url) {
+        hits.incrementAndGet();
+        Validators cached = validators.get(url);
+        if (cached != null) {
+            bytesSaved.addAndGet(cached.contentLength());
+        }
+    }
+    
+    /**
+     * Counts a full response and returns its validators, which take effect only
+     * once passed to {@link #save}.
+     */
+    public Validators recordModified(String url, HttpHeaders responseHeaders, long contentLength) {
+        misses.incrementAndGet();
+        return new Validators(url, responseHeaders.getETag(), responseHeaders.getLastModified(), contentLength);
+    }
+    
+    /**
+     * Makes later requests for the validators' URL conditional on them. Call only
+     * once the response's data has been processed successfully, otherwise a later
+     * 304 would skip data we never consumed.
+     */
+    public void save(Validators response) {
+        if (response.etag() == null && response.lastModified() <= 0) {
+            validators.remove(response.url());
+        } else {
+            validators.put(response.url(), response);
+        }
+    }
+    
+    public long getHits() {
+        return hits.get();
+    }
+    
+    public long getMisses() {
+        return misses.get();
+    }
+    
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+}
\ No newline at end of file
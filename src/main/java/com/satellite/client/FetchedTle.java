@@ -0,0 +1,12 @@
+package com.satellite.client;
+
+import com.satellite.model.TleData;
+
+/**
+ * A TLE from a full Celestrak response, together with the validators that would
+ * make the next request for it conditional. They are saved through
+ * {@link CelestrakClient#commit} only after the TLE has been published, so a cycle
+ * whose publication fails fetches the TLE in full again instead of getting a 304.
+ */
+public record FetchedTle(TleData tle, ConditionalGetCache.Validators validators) {
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.satellite.client;
 
+import com.satellite.dto.SpaceTrackGpRecord;
 import com.satellite.model.TleData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,25 +9,58 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
 @Component
 public class SpaceTrackClient {
     
     private static final Logger log = LoggerFactory.getLogger(SpaceTrackClient.class);
     
+    private static final String GP_QUERY =
+            "/basicspacedata/query/class/gp/NORAD_CAT_ID/{ids}/orderby/NORAD_CAT_ID%20asc/predicates/{fields}/format/json";
+    private static final String GP_QUERY_SINCE =
+            "/basicspacedata/query/class/gp/NORAD_CAT_ID/{ids}/CREATION_DATE/%3E{since}/orderby/NORAD_CAT_ID%20asc/predicates/{fields}/format/json";
+    private static final String GP_PREDICATES = "NORAD_CAT_ID,CREATION_DATE,TLE_LINE0,TLE_LINE1,TLE_LINE2";
+    private static final DateTimeFormatter CREATION_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    
+    // Re-read a little behind the watermark so sets stamped in the same second as the
+    // last sync are not lost; change detection drops the repeats
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+    
     @Value("${satellite.polling.spacetrack.username}")
     private String username;
     
     @Value("${satellite.polling.spacetrack.password}")
     private String password;
     
+    // NORAD IDs per GP query; keeps the request URL well under server limits
+    @Value("${satellite.polling.spacetrack.batch-size:100}")
+    private int batchSize = 100;
+    
+    // Per GP chunk; a full-catalog chunk streams for a while, so this is generous
+    @Value("${satellite.polling.spacetrack.request-timeout:120}")
+    private int requestTimeoutSeconds = 120;
+    
     private final WebClient webClient = WebClient.builder()
             .baseUrl("https://www.space-track.org")
             .build();
     
     private String authCookie;
     
+    private final SpaceTrackWatermarkStore watermarkStore;
+    
+    public SpaceTrackClient(SpaceTrackWatermarkStore watermarkStore) {
+        this.watermarkStore = watermarkStore;
+    }
+    
     private Mono<String> authenticate() {
         if (authCookie != null) {
             return Mono.just(authCookie);
@@ -77,4 +111,100 @@ public class SpaceTrackClient {
                         }))
                 .doOnError(e -> log.error("Error fetching TLE from SpaceTrack for {}: {}", satelliteId, e.getMessage()));
     }
+    
+    /**
+     * Fetches the current GP element sets for many satellites with one request per
+     * {@code batchSize} IDs instead of one per satellite. Chunks are requested one
+     * after another to stay inside Space-Track's rate limit.
+     */
+    public Flux<TleData> getLatestTles(List<String> satelliteIds) {
+        return fetchGp(satelliteIds, null, new AtomicReference<>());
+    }
+    
+    /**
+     * Like {@link #getLatestTles(List)}, but only returns GP sets created after the
+     * persisted {@code CREATION_DATE} watermark, so a cycle costs one small response
+     * per chunk when little has changed. Satellites the watermark does not cover yet
+     * get a full query. The watermark does not move here: the returned sync carries
+     * the newest {@code CREATION_DATE} seen, and callers pass it to {@link #commit}
+     * once its TLEs have been published, so a failed cycle is re-read from the same
+     * point.
+     */
+    public Mono<SpaceTrackSync> getUpdatedTles(List<String> satelliteIds) {
+        return Mono.defer(() -> {
+            String watermark = watermarkStore.getCreationDate();
+            Set<String> synced = watermark != null ? watermarkStore.getSyncedIds() : Set.of();
+            List<String> known = satelliteIds.stream().filter(synced::contains).toList();
+            List<String> unknown = satelliteIds.stream().filter(id -> !synced.contains(id)).toList();
+            AtomicReference<String> newest = new AtomicReference<>();
+            
+            return Flux.concat(fetchGp(known, watermark, newest), fetchGp(unknown, null, newest))
+                    .collectList()
+                    .map(tles -> {
+                        log.debug("SpaceTrack sync fetched {} TLEs ({} incremental, {} full)",
+                                tles.size(), known.size(), unknown.size());
+                        return new SpaceTrackSync(tles, newest.get(), satelliteIds);
+                    });
+        });
+    }
+    
+    /**
+     * Advances the watermark past a sync whose TLEs have been published.
+     */
+    public void commit(SpaceTrackSync sync) {
+        watermarkStore.advance(sync.newestCreationDate(), sync.satelliteIds());
+        log.debug("SpaceTrack watermark now {}", watermarkStore.getCreationDate());
+    }
+    
+    private Flux<TleData> fetchGp(List<String> satelliteIds, String createdAfter, AtomicReference<String> newest) {
+        if (satelliteIds.isEmpty()) {
+            return Flux.empty();
+        }
+        String since = createdAfter != null
+                ? LocalDateTime.parse(createdAfter).minus(WATERMARK_OVERLAP).format(CREATION_DATE_FORMAT)
+                : null;
+        return authenticate()
+                .flatMapMany(cookie -> Flux.fromIterable(satelliteIds)
+                        .buffer(Math.max(1, batchSize))
+                        .concatMap(chunk -> getGpChunk(cookie, chunk, since)))
+                .doOnNext(record -> {
+                    String created = record.getCreationDate();
+                    if (created != null) {
+                        newest.accumulateAndGet(created, (a, b) -> a == null || b.compareTo(a) > 0 ? b : a);
+                    }
+                })
+                .handle((record, sink) -> {
+                    try {
+                        sink.next(toTleData(record));
+                    } catch (RuntimeException e) {
+                        log.warn("Skipping malformed SpaceTrack GP record for {}: {}", record.getNoradCatId(), e.getMessage());
+                    }
+                });
+    }
+    
+    private Flux<SpaceTrackGpRecord> getGpChunk(String cookie, List<String> chunk, String since) {
+        String ids = String.join(",", chunk);
+        WebClient.RequestHeadersSpec<?> request = since == null
+                ? webClient.get().uri(GP_QUERY, ids, GP_PREDICATES)
+                : webClient.get().uri(GP_QUERY_SINCE, ids, since, GP_PREDICATES);
+        // The JSON array is decoded element by element as it arrives
+        return request
+                .cookie("chocolatechip", cookie)
+                .retrieve()
+                .bodyToFlux(SpaceTrackGpRecord.class)
+                .timeout(Duration.ofSeconds(requestTimeoutSeconds))
+                .doOnComplete(() -> log.debug("Fetched SpaceTrack GP batch of {} satellites", chunk.size()))
+                .doOnError(e -> log.error("Error fetching SpaceTrack GP batch starting at {}: {}",
+                        chunk.get(0), e.getMessage()));
+    }
+    
+    private static TleData toTleData(SpaceTrackGpRecord record) {
+        String name = record.getTleLine0();
+        if (name == null || name.isBlank()) {
+            name = "NORAD-" + record.getNoradCatId();
+        } else if (name.startsWith("0 ")) {
+            name = name.substring(2);
+        }
+        return TleData.parseTle(name.trim(), record.getTleLine1(), record.getTleLine2());
+    }
 }
\ No newline at end of file
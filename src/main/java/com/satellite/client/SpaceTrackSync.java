@@ -0,0 +1,15 @@
+package com.satellite.client;
+
+import com.satellite.model.TleData;
+
+import java.util.List;
+
+/**
+ * The result of one incremental Space-Track sync: the GP sets fetched and the
+ * watermark they would advance to, applied with {@link SpaceTrackClient#commit}.
+ *
+ * @param newestCreationDate newest {@code CREATION_DATE} seen, or null if nothing was returned
+ * @param satelliteIds       the satellites the sync covered
+ */
+public record SpaceTrackSync(List<TleData> tles, String newestCreationDate, List<String> satelliteIds) {
+}
\ No newline at end of file
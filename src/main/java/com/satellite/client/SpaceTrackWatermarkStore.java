@@ -0,0 +1,110 @@
+package com.satellite.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * File-backed high-water mark for incremental Space-Track sync: the newest GP
+ * {@code CREATION_DATE} seen so far and the NORAD IDs it covers. IDs outside
+ * that set have never been fetched and still need a full query. Writes go to a
+ * temporary file that is atomically moved into place, so a crash never leaves a
+ * half-written watermark behind.
+ */
+@Component
+public class SpaceTrackWatermarkStore {
+    
+    private static final Logger log = LoggerFactory.getLogger(SpaceTrackWatermarkStore.class);
+    
+    private static final String CREATION_DATE = "creationDate";
+    private static final String NORAD_IDS = "noradIds";
+    
+    private final Path file;
+    private volatile String creationDate;
+    private volatile Set<String> syncedIds = Collections.emptySet();
+    
+    public SpaceTrackWatermarkStore(
+            @Value("${satellite.polling.spacetrack.watermark-file:data/spacetrack-watermark.properties}") String file) {
+        this.file = Path.of(file);
+        load();
+    }
+    
+    public String getCreationDate() {
+        return creationDate;
+    }
+    
+    public Set<String> getSyncedIds() {
+        return syncedIds;
+    }
+    
+    /**
+     * Records a completed sync of {@code ids} up to {@code newCreationDate}. The
+     * watermark never moves backwards; a null date keeps the current one.
+     */
+    public synchronized void advance(String newCreationDate, Collection<String> ids) {
+        String next = creationDate;
+        if (newCreationDate != null && (next == null || newCreationDate.compareTo(next) > 0)) {
+            next = newCreationDate;
+        }
+        Set<String> nextIds = new TreeSet<>(syncedIds);
+        nextIds.addAll(ids);
+        if (next == null || (next.equals(creationDate) && nextIds.equals(syncedIds))) {
+            return;
+        }
+        save(next, nextIds);
+        creationDate = next;
+        syncedIds = Collections.unmodifiableSet(nextIds);
+    }
+    
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            log.warn("Could not read SpaceTrack watermark from {}, starting with a full sync: {}", file, e.getMessage());
+            return;
+        }
+        creationDate = properties.getProperty(CREATION_DATE);
+        String ids = properties.getProperty(NORAD_IDS, "");
+        if (!ids.isEmpty()) {
+            syncedIds = Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(ids.split(","))));
+        }
+        log.info("Loaded SpaceTrack watermark {} covering {} satellites", creationDate, syncedIds.size());
+    }
+    
+    private void save(String newCreationDate, Set<String> ids) {
+        Properties properties = new Properties();
+        properties.setProperty(CREATION_DATE, newCreationDate);
+        properties.setProperty(NORAD_IDS, String.join(",", ids));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                properties.store(writer, "SpaceTrack GP sync watermark");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not persist SpaceTrack watermark to " + file, e);
+        }
+    }
+}
\ No newline at end of file
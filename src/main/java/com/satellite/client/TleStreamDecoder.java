@@ -0,0 +1,114 @@
+package com.satellite.client;
+
+import com.satellite.model.TleData;
+import com.satellite.model.TleParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incrementally splits a streamed TLE catalog body into element sets.
+ *
+ * Bytes are fed one {@link DataBuffer} at a time; a line that straddles two
+ * buffers is carried over in a small reusable array, so memory stays bounded by
+ * the longest line rather than the size of the catalog. Accepts both 3LE
+ * (name line, optionally prefixed "0 ") and bare 2LE input. One instance
+ * decodes one response and is not thread-safe.
+ */
+public class TleStreamDecoder {
+    
+    private static final Logger log = LoggerFactory.getLogger(TleStreamDecoder.class);
+    
+    private final TleParser parser;
+    private byte[] line = new byte[128];
+    private int lineLength;
+    private String name;
+    private String line1;
+    private int rejected;
+    
+    public TleStreamDecoder() {
+        this(TleParser.LENIENT);
+    }
+    
+    public TleStreamDecoder(TleParser parser) {
+        this.parser = parser;
+    }
+    
+    /**
+     * Consumes the readable bytes of {@code buffer} (the caller keeps ownership and
+     * must release it) and returns the element sets completed by them.
+     */
+    public List<TleData> decode(DataBuffer buffer) {
+        List<TleData> completed = new ArrayList<>(buffer.readableByteCount() / 160 + 1);
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                ByteBuffer bytes = iterator.next();
+                while (bytes.hasRemaining()) {
+                    byte b = bytes.get();
+                    if (b == '\n') {
+                        endLine(completed);
+                    } else if (b != '\r') {
+                        append(b);
+                    }
+                }
+            }
+        }
+        return completed;
+    }
+    
+    /**
+     * Flushes a final line that was not newline-terminated.
+     */
+    public List<TleData> finish() {
+        List<TleData> completed = new ArrayList<>(1);
+        if (lineLength > 0) {
+            endLine(completed);
+        }
+        return completed;
+    }
+    
+    public int getRejectedCount() {
+        return rejected;
+    }
+    
+    private void append(byte b) {
+        if (lineLength == line.length) {
+            line = Arrays.copyOf(line, line.length * 2);
+        }
+        line[lineLength++] = b;
+    }
+    
+    private void endLine(List<TleData> completed) {
+        int length = lineLength;
+        lineLength = 0;
+        while (length > 0 && line[length - 1] == ' ') length--;
+        if (length == 0) {
+            return;
+        }
+        
+        String text = new String(line, 0, length, StandardCharsets.ISO_8859_1);
+        if (length >= 63 && text.startsWith("1 ")) {
+            line1 = text;
+        } else if (length >= 63 && text.startsWith("2 ") && line1 != null) {
+            String satName = name != null ? name : "NORAD-" + line1.substring(2, 7).trim();
+            try {
+                completed.add(parser.parse(satName, line1, text));
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                log.warn("Skipping malformed TLE for {}: {}", satName, e.getMessage());
+            }
+            name = null;
+            line1 = null;
+        } else {
+            // SpaceTrack 3LE prefixes names with "0 "
+            name = text.startsWith("0 ") ? text.substring(2) : text;
+            line1 = null;
+        }
+    }
+}
\ No newline at end of file
@@ -1,20 +1,37 @@
 package com.satellite.config;
 
+import com.satellite.avro.SatelliteConjunctionEvent;
+import com.satellite.avro.SatelliteGeofenceEvent;
+import com.satellite.avro.SatellitePassEvent;
+import com.satellite.avro.SatellitePositionEvent;
+import com.satellite.avro.SatelliteTleUpdateEvent;
+import com.satellite.serialization.EventSerializationPipeline;
+import com.satellite.serialization.SatelliteAvroDeserializer;
+import com.satellite.serialization.SatelliteAvroSerializer;
+import com.satellite.serialization.SatelliteKeySerializer;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringSerializer;
-import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Configuration
 public class KafkaConfig {
@@ -34,6 +51,28 @@ public class KafkaConfig {
     @Value("${kafka.topics.satellite-tle}")
     private String tleTopic;
     
+    @Value("${kafka.topics.satellite-conjunction}")
+    private String conjunctionTopic;
+    
+    @Value("${kafka.topics.satellite-geofence}")
+    private String geofenceTopic;
+    
+    // "default" keeps strict one-at-a-time delivery; "throughput" pipelines batches
+    @Value("${satellite.kafka.producer.profile:default}")
+    private String producerProfile;
+    
+    @Value("${satellite.kafka.producer.throughput.max-in-flight:5}")
+    private int throughputMaxInFlight;
+    
+    @Value("${satellite.kafka.producer.throughput.linger-ms:20}")
+    private int throughputLingerMs;
+    
+    @Value("${satellite.kafka.producer.throughput.batch-size:131072}")
+    private int throughputBatchSize;
+    
+    @Value("${satellite.kafka.producer.throughput.compression-type:lz4}")
+    private String throughputCompressionType;
+    
     @Bean
     public KafkaAdmin kafkaAdmin() {
         Map<String, Object> configs = new HashMap<>();
@@ -48,7 +87,10 @@ public class KafkaConfig {
     
     @Bean
     public NewTopic satellitePassTopic() {
-        return createCompactedTopic(passTopic);
+        // Pass keys include the start time, so old passes must age out instead of compacting away
+        return createCompactedTopic(passTopic, Map.of(
+                "cleanup.policy", "compact,delete",
+                "retention.ms", Long.toString(7 * 24 * 3_600_000L)));
     }
     
     @Bean
@@ -56,34 +98,171 @@ public class KafkaConfig {
         return createCompactedTopic(tleTopic);
     }
     
+    @Bean
+    public NewTopic satelliteConjunctionTopic() {
+        return createCompactedTopic(conjunctionTopic);
+    }
+    
+    @Bean
+    public NewTopic satelliteGeofenceTopic() {
+        return createCompactedTopic(geofenceTopic);
+    }
+    
     private NewTopic createCompactedTopic(String name) {
+        return createCompactedTopic(name, Map.of());
+    }
+    
+    private NewTopic createCompactedTopic(String name, Map<String, String> overrides) {
         Map<String, String> configs = new HashMap<>();
         configs.put("cleanup.policy", "compact");
         configs.put("min.cleanable.dirty.ratio", "0.1");
         configs.put("segment.ms", "100");
+        configs.putAll(overrides);
         
         return new NewTopic(name, 3, (short) 1)
                 .configs(configs);
     }
     
+    // Must be unique per instance; left empty it is derived from the host name
+    @Value("${satellite.kafka.transactions.transaction-id-prefix:}")
+    private String transactionIdPrefix;
+    
+    @Bean
+    @Primary
+    public ProducerFactory<Object, Object> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProperties());
+    }
+    
+    /**
+     * Separate transactional producer for atomic TLE catalog cycles, so position and
+     * pass events keep using plain (non-transactional) sends.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "satellite.kafka.transactions.enabled", havingValue = "true")
+    public ProducerFactory<Object, Object> tleTransactionalProducerFactory() {
+        DefaultKafkaProducerFactory<Object, Object> factory = new DefaultKafkaProducerFactory<>(producerProperties());
+        factory.setTransactionIdPrefix(transactionIdPrefix(transactionIdPrefix, localHostName()));
+        return factory;
+    }
+    
+    /**
+     * Transactional IDs must differ between instances: a second instance, or the
+     * next one in a rolling deploy, that reused them would fence the first one's
+     * producer mid-cycle. Unless a prefix is configured it is made unique with the
+     * host name, which only a restart of the same instance reuses.
+     */
+    static String transactionIdPrefix(String configured, String hostName) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        return "satellite-tracker-tle-" + hostName + "-";
+    }
+    
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            // Unique at least, at the cost of not fencing a zombie from the previous run
+            return UUID.randomUUID().toString();
+        }
+    }
+    
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    @ConditionalOnProperty(value = "satellite.kafka.transactions.enabled", havingValue = "true")
+    public KafkaTemplate<Object, Object> tleTransactionalKafkaTemplate() {
+        return new KafkaTemplate<>(tleTransactionalProducerFactory());
+    }
+    
+    /**
+     * Encodes events on dedicated worker threads and sends the bytes through a
+     * {@code byte[]}-valued producer, so polling threads never run Avro encoding.
+     * That producer is not a bean; the pipeline closes it on shutdown.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "satellite.kafka.serialization.offload", havingValue = "true")
+    public EventSerializationPipeline eventSerializationPipeline(
+            @Value("${satellite.kafka.serialization.workers:0}") int workers,
+            @Value("${satellite.kafka.serialization.queue-capacity:10000}") int queueCapacity) {
+        Map<String, Object> props = producerProperties();
+        SatelliteAvroSerializer serializer = new SatelliteAvroSerializer();
+        serializer.configure(props, false);
+        
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        KafkaTemplate<Object, byte[]> byteArrayTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+        
+        int workerCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return new EventSerializationPipeline(serializer, byteArrayTemplate, workerCount, queueCapacity);
+    }
+    
+    private Map<String, Object> producerProperties() {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
-        props.put("schema.registry.url", schemaRegistryUrl);
-        props.put("auto.register.schemas", true);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, SatelliteKeySerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, SatelliteAvroSerializer.class);
+        props.put(SatelliteAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+        props.put(SatelliteAvroSerializer.AUTO_REGISTER_SCHEMAS_CONFIG, true);
+        // Schema IDs are looked up once when the producer is created
+        props.put(SatelliteAvroSerializer.TOPIC_SCHEMAS_CONFIG, Map.of(
+                positionTopic, SatellitePositionEvent.getClassSchema(),
+                passTopic, SatellitePassEvent.getClassSchema(),
+                tleTopic, SatelliteTleUpdateEvent.getClassSchema(),
+                conjunctionTopic, SatelliteConjunctionEvent.getClassSchema(),
+                geofenceTopic, SatelliteGeofenceEvent.getClassSchema()));
+        props.putAll(deliveryProperties(producerProfile, throughputMaxInFlight, throughputLingerMs,
+                throughputBatchSize, throughputCompressionType));
+        return props;
+    }
+    
+    /**
+     * Delivery settings for a producer profile. Both profiles are idempotent with
+     * acks=all, so per-key ordering survives retries; "throughput" additionally
+     * allows up to five in-flight requests (the idempotence limit), lingers to fill
+     * larger batches and compresses them.
+     */
+    public static Map<String, Object> deliveryProperties(String profile, int maxInFlight, int lingerMs,
+                                                         int batchSize, String compressionType) {
+        Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
         props.put(ProducerConfig.RETRIES_CONFIG, 3);
-        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
-        
-        return new DefaultKafkaProducerFactory<>(props);
+        switch (profile) {
+            case "default" -> props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+            case "throughput" -> {
+                if (maxInFlight < 1 || maxInFlight > 5) {
+                    throw new IllegalArgumentException(
+                            "Idempotent producers allow 1-5 in-flight requests, got " + maxInFlight);
+                }
+                props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
+                props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+                props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+                props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+            }
+            default -> throw new IllegalArgumentException("Unknown Kafka producer profile: " + profile);
+        }
+        return props;
+    }
+    
+    /**
+     * Consumers for reading the compacted topics back at startup: assigned
+     * partitions, no group and no offset commits. Only committed transactions are
+     * read, so an aborted TLE cycle is not mistaken for published state.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "satellite.change-detection.bootstrap.enabled", havingValue = "true")
+    public ConsumerFactory<byte[], Object> stateBootstrapConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, SatelliteAvroDeserializer.class);
+        props.put(SatelliteAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        return new DefaultKafkaConsumerFactory<>(props);
     }
     
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
+    @Primary
+    public KafkaTemplate<Object, Object> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 }
\ No newline at end of file
@@ -1,5 +1,12 @@
 package com.satellite.controller;
 
+import com.satellite.client.CelestrakClient;
+import com.satellite.client.ConditionalGetCache;
+import com.satellite.client.SpaceTrackWatermarkStore;
+import com.satellite.service.ChangeDetectionBootstrap;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.polling.CelestrakPollingService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,10 +16,25 @@ import java.util.Map;
 @RestController
 public class HealthCheckController {
     
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final SpaceTrackWatermarkStore spaceTrackWatermarkStore;
+    private final CelestrakClient celestrakClient;
+    private final ChangeDetectionService changeDetectionService;
+    private final ObjectProvider<ChangeDetectionBootstrap> changeDetectionBootstrap;
+    private final ObjectProvider<CelestrakPollingService> celestrakPolling;
     
-    public HealthCheckController(KafkaTemplate<String, Object> kafkaTemplate) {
+    public HealthCheckController(KafkaTemplate<Object, Object> kafkaTemplate,
+                                 SpaceTrackWatermarkStore spaceTrackWatermarkStore,
+                                 CelestrakClient celestrakClient,
+                                 ChangeDetectionService changeDetectionService,
+                                 ObjectProvider<ChangeDetectionBootstrap> changeDetectionBootstrap,
+                                 ObjectProvider<CelestrakPollingService> celestrakPolling) {
         this.kafkaTemplate = kafkaTemplate;
+        this.spaceTrackWatermarkStore = spaceTrackWatermarkStore;
+        this.celestrakClient = celestrakClient;
+        this.changeDetectionService = changeDetectionService;
+        this.changeDetectionBootstrap = changeDetectionBootstrap;
+        this.celestrakPolling = celestrakPolling;
     }
     
     @GetMapping("/health")
@@ -29,6 +51,44 @@ public class HealthCheckController {
         if (kafkaTemplate.metrics() != null) {
             metrics.put("kafka_metrics", kafkaTemplate.metrics());
         }
+        if (spaceTrackWatermarkStore.getCreationDate() != null) {
+            metrics.put("spacetrack_creation_date_watermark", spaceTrackWatermarkStore.getCreationDate());
+        }
+        ConditionalGetCache conditionalGets = celestrakClient.getConditionalGetCache();
+        if (conditionalGets.getHits() + conditionalGets.getMisses() > 0) {
+            Map<String, Long> celestrak = new HashMap<>();
+            celestrak.put("not_modified_hits", conditionalGets.getHits());
+            celestrak.put("misses", conditionalGets.getMisses());
+            celestrak.put("bytes_saved", conditionalGets.getBytesSaved());
+            metrics.put("celestrak_conditional_get", celestrak);
+        }
+        if (changeDetectionService.getPositionsObserved() > 0) {
+            Map<String, Object> positions = new HashMap<>();
+            positions.put("mode", changeDetectionService.isDeadReckoning() ? "dead-reckoning" : "threshold");
+            positions.put("observed", changeDetectionService.getPositionsObserved());
+            positions.put("produced", changeDetectionService.getPositionsProduced());
+            positions.put("suppression_ratio", changeDetectionService.getPositionSuppressionRatio());
+            metrics.put("position_change_detection", positions);
+        }
+        ChangeDetectionBootstrap bootstrap = changeDetectionBootstrap.getIfAvailable();
+        if (bootstrap != null && bootstrap.getDurationMillis() >= 0) {
+            Map<String, Long> stateBootstrap = new HashMap<>();
+            stateBootstrap.put("records", bootstrap.getRecordsRead());
+            stateBootstrap.put("duration_ms", bootstrap.getDurationMillis());
+            metrics.put("state_bootstrap", stateBootstrap);
+        }
+        CelestrakPollingService celestrak = celestrakPolling.getIfAvailable();
+        if (celestrak != null) {
+            Map<String, Long> requests = new HashMap<>();
+            celestrak.getRequestCounts().forEach((regime, count) -> {
+                if (count > 0) {
+                    requests.put(regime.name(), count);
+                }
+            });
+            if (!requests.isEmpty()) {
+                metrics.put("celestrak_requests_by_regime", requests);
+            }
+        }
         return metrics;
     }
 }
\ No newline at end of file
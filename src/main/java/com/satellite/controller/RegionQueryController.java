@@ -0,0 +1,79 @@
+package com.satellite.controller;
+
+import com.satellite.geo.GeoPolygon;
+import com.satellite.model.SatellitePosition;
+import com.satellite.service.RegionIndexService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Which satellites are over a region right now, answered from the
+ * {@link RegionIndexService} cell index.
+ */
+@RestController
+public class RegionQueryController {
+    
+    private final RegionIndexService regionIndexService;
+    
+    public RegionQueryController(RegionIndexService regionIndexService) {
+        this.regionIndexService = regionIndexService;
+    }
+    
+    /**
+     * Satellites inside a lat/lon box; {@code minLon > maxLon} crosses the antimeridian.
+     */
+    @GetMapping("/regions/box")
+    public List<SatellitePosition> box(@RequestParam double minLat, @RequestParam double maxLat,
+                                       @RequestParam double minLon, @RequestParam double maxLon) {
+        try {
+            return regionIndexService.queryBox(minLat, maxLat, minLon, maxLon);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
+    /**
+     * Satellites inside a polygon given as {@code [[lat, lon], ...]}.
+     */
+    @PostMapping("/regions/polygon")
+    public List<SatellitePosition> polygon(@RequestBody List<double[]> vertices) {
+        double[] latitudes = new double[vertices.size()];
+        double[] longitudes = new double[vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            double[] vertex = vertices.get(i);
+            if (vertex.length != 2) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Vertices must be [lat, lon] pairs");
+            }
+            latitudes[i] = vertex[0];
+            longitudes[i] = vertex[1];
+        }
+        try {
+            return regionIndexService.queryPolygon(new GeoPolygon(latitudes, longitudes));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
+    @GetMapping("/geofences")
+    public Set<String> geofences() {
+        return regionIndexService.getGeofenceNames();
+    }
+    
+    @GetMapping("/geofences/{name}/satellites")
+    public List<SatellitePosition> geofence(@PathVariable String name) {
+        List<SatellitePosition> positions = regionIndexService.queryGeofence(name);
+        if (positions == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown geofence " + name);
+        }
+        return positions;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.satellite.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One row of a Space-Track {@code class/gp} JSON query, restricted to the
+ * columns we request via {@code predicates}.
+ */
+public class SpaceTrackGpRecord {
+    @JsonProperty("NORAD_CAT_ID")
+    private String noradCatId;
+    @JsonProperty("CREATION_DATE")
+    private String creationDate;
+    @JsonProperty("TLE_LINE0")
+    private String tleLine0;
+    @JsonProperty("TLE_LINE1")
+    private String tleLine1;
+    @JsonProperty("TLE_LINE2")
+    private String tleLine2;
+    
+    public String getNoradCatId() {
+        return noradCatId;
+    }
+    
+    public void setNoradCatId(String noradCatId) {
+        this.noradCatId = noradCatId;
+    }
+    
+    public String getCreationDate() {
+        return creationDate;
+    }
+    
+    public void setCreationDate(String creationDate) {
+        this.creationDate = creationDate;
+    }
+    
+    public String getTleLine0() {
+        return tleLine0;
+    }
+    
+    public void setTleLine0(String tleLine0) {
+        this.tleLine0 = tleLine0;
+    }
+    
+    public String getTleLine1() {
+        return tleLine1;
+    }
+    
+    public void setTleLine1(String tleLine1) {
+        this.tleLine1 = tleLine1;
+    }
+    
+    public String getTleLine2() {
+        return tleLine2;
+    }
+    
+    public void setTleLine2(String tleLine2) {
+        this.tleLine2 = tleLine2;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.satellite.geo;
+
+import com.satellite.model.SatellitePosition;
+
+/**
+ * The extrapolation model shared with position consumers. A published position
+ * may carry latitude, longitude and altitude rates; between events a consumer
+ * moves the last position it saw linearly along those rates (holding it still
+ * if there are none). The producer runs the same model and only publishes when
+ * the observed position has drifted further than its tolerance from it.
+ */
+public final class DeadReckoning {
+    
+    private static final double EARTH_RADIUS_KM = 6378.137;
+    
+    private DeadReckoning() {}
+    
+    /**
+     * Where a consumer holding {@code published} believes the satellite is at
+     * {@code timestampMillis}, as {latitude, longitude, altitude}.
+     */
+    public static double[] extrapolate(SatellitePosition published, long timestampMillis) {
+        double seconds = (timestampMillis - published.getTimestamp()) / 1000.0;
+        double latitude = published.getLatitude();
+        double longitude = published.getLongitude();
+        double altitude = published.getAltitude();
+        if (published.getLatitudeRate() != null) {
+            latitude += published.getLatitudeRate() * seconds;
+            longitude = normalizeLongitude(longitude + published.getLongitudeRate() * seconds);
+            altitude += published.getAltitudeRate() * seconds;
+        }
+        return new double[]{latitude, longitude, altitude};
+    }
+    
+    /**
+     * Rates estimated from two observations, or {@code current} unchanged if they
+     * are not in time order.
+     */
+    public static SatellitePosition withRates(SatellitePosition previous, SatellitePosition current) {
+        double seconds = (current.getTimestamp() - previous.getTimestamp()) / 1000.0;
+        if (!(seconds > 0.0)) {
+            return current;
+        }
+        return current.toBuilder()
+                .latitudeRate((current.getLatitude() - previous.getLatitude()) / seconds)
+                .longitudeRate(longitudeDifference(current.getLongitude(), previous.getLongitude()) / seconds)
+                .altitudeRate((current.getAltitude() - previous.getAltitude()) / seconds)
+                .build();
+    }
+    
+    /**
+     * Straight-line distance in km between two lat/lon/alt points on a spherical Earth.
+     */
+    public static double distanceKm(double latitude1, double longitude1, double altitude1,
+                                    double latitude2, double longitude2, double altitude2) {
+        double r1 = EARTH_RADIUS_KM + altitude1;
+        double r2 = EARTH_RADIUS_KM + altitude2;
+        double phi1 = Math.toRadians(latitude1);
+        double phi2 = Math.toRadians(latitude2);
+        double lambda1 = Math.toRadians(longitude1);
+        double lambda2 = Math.toRadians(longitude2);
+        double dx = r1 * Math.cos(phi1) * Math.cos(lambda1) - r2 * Math.cos(phi2) * Math.cos(lambda2);
+        double dy = r1 * Math.cos(phi1) * Math.sin(lambda1) - r2 * Math.cos(phi2) * Math.sin(lambda2);
+        double dz = r1 * Math.sin(phi1) - r2 * Math.sin(phi2);
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+    
+    /**
+     * {@code a - b} in degrees, taking the short way across the antimeridian.
+     */
+    public static double longitudeDifference(double a, double b) {
+        return normalizeLongitude(a - b);
+    }
+    
+    // Into [-180, 180)
+    private static double normalizeLongitude(double longitude) {
+        return longitude - 360.0 * Math.floor((longitude + 180.0) / 360.0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.satellite.geo;
+
+import com.satellite.model.SatellitePosition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latest position per satellite, bucketed into fixed lat/lon cells so region
+ * queries only visit the cells they overlap instead of every satellite.
+ *
+ * Cells are geohash cells: {@code bitsPerAxis} longitude and latitude bits
+ * interleaved (longitude first), so the key of a cell is its geohash as an
+ * integer. Updates move a satellite between cells only when it leaves its cell.
+ * Queries are safe to run concurrently with updates and see each satellite's
+ * most recent position.
+ */
+public class GeoCellIndex {
+    
+    private record Entry(SatellitePosition position, long cell) {}
+    
+    private final int cellsPerAxis;
+    private final double latitudeCellSize;
+    private final double longitudeCellSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> cells = new ConcurrentHashMap<>();
+    
+    public GeoCellIndex(int bitsPerAxis) {
+        if (bitsPerAxis < 1 || bitsPerAxis > 15) {
+            throw new IllegalArgumentException("Cell bits per axis must be between 1 and 15, got " + bitsPerAxis);
+        }
+        this.cellsPerAxis = 1 << bitsPerAxis;
+        this.latitudeCellSize = 180.0 / cellsPerAxis;
+        this.longitudeCellSize = 360.0 / cellsPerAxis;
+    }
+    
+    public void update(SatellitePosition position) {
+        long cell = cellKey(latitudeIndex(position.getLatitude()), longitudeIndex(position.getLongitude()));
+        entries.compute(position.getSatelliteId(), (id, previous) -> {
+            if (previous == null || previous.cell() != cell) {
+                cells.computeIfAbsent(cell, c -> ConcurrentHashMap.newKeySet()).add(id);
+                if (previous != null) {
+                    cells.get(previous.cell()).remove(id);
+                }
+            }
+            return new Entry(position, cell);
+        });
+    }
+    
+    public void remove(String satelliteId) {
+        entries.computeIfPresent(satelliteId, (id, previous) -> {
+            cells.get(previous.cell()).remove(id);
+            return null;
+        });
+    }
+    
+    public SatellitePosition get(String satelliteId) {
+        Entry entry = entries.get(satelliteId);
+        return entry == null ? null : entry.position();
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Satellites inside the box. {@code minLongitude > maxLongitude} selects a box
+     * that crosses the antimeridian.
+     */
+    public List<SatellitePosition> queryBox(double minLatitude, double maxLatitude,
+                                            double minLongitude, double maxLongitude) {
+        if (minLatitude > maxLatitude) {
+            throw new IllegalArgumentException("minLatitude must not exceed maxLatitude");
+        }
+        List<SatellitePosition> result = new ArrayList<>();
+        if (minLongitude <= maxLongitude) {
+            collect(minLatitude, maxLatitude, minLongitude, maxLongitude, null, result);
+        } else {
+            collect(minLatitude, maxLatitude, minLongitude, 180.0, null, result);
+            collect(minLatitude, maxLatitude, -180.0, maxLongitude, null, result);
+        }
+        return result;
+    }
+    
+    public List<SatellitePosition> queryPolygon(GeoPolygon polygon) {
+        List<SatellitePosition> result = new ArrayList<>();
+        double minLongitude = polygon.getMinLongitude();
+        double maxLongitude = polygon.getMaxLongitude();
+        if (minLongitude <= maxLongitude) {
+            collect(polygon.getMinLatitude(), polygon.getMaxLatitude(), minLongitude, maxLongitude, polygon, result);
+        } else {
+            collect(polygon.getMinLatitude(), polygon.getMaxLatitude(), minLongitude, 180.0, polygon, result);
+            collect(polygon.getMinLatitude(), polygon.getMaxLatitude(), -180.0, maxLongitude, polygon, result);
+        }
+        return result;
+    }
+    
+    private void collect(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude,
+                         GeoPolygon polygon, List<SatellitePosition> result) {
+        int fromRow = latitudeIndex(minLatitude);
+        int toRow = latitudeIndex(maxLatitude);
+        int fromColumn = longitudeIndex(minLongitude);
+        int toColumn = longitudeIndex(maxLongitude);
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                Set<String> members = cells.get(cellKey(row, column));
+                if (members == null) {
+                    continue;
+                }
+                for (String id : members) {
+                    Entry entry = entries.get(id);
+                    if (entry == null) {
+                        continue;
+                    }
+                    // Edge cells overlap the region only partly
+                    SatellitePosition position = entry.position();
+                    double latitude = position.getLatitude();
+                    double longitude = position.getLongitude();
+                    boolean inside = polygon != null
+                            ? polygon.contains(latitude, longitude)
+                            : latitude >= minLatitude && latitude <= maxLatitude
+                                    && longitude >= minLongitude && longitude <= maxLongitude;
+                    if (inside) {
+                        result.add(position);
+                    }
+                }
+            }
+        }
+    }
+    
+    private int latitudeIndex(double latitude) {
+        int index = (int) Math.floor((latitude + 90.0) / latitudeCellSize);
+        return Math.max(0, Math.min(cellsPerAxis - 1, index));
+    }
+    
+    private int longitudeIndex(double longitude) {
+        int index = (int) Math.floor((longitude + 180.0) / longitudeCellSize);
+        return Math.max(0, Math.min(cellsPerAxis - 1, index));
+    }
+    
+    /**
+     * Geohash of a point as an integer, {@code bitsPerAxis} bits per axis (at most 16).
+     */
+    public static long geohash(double latitude, double longitude, int bitsPerAxis) {
+        int cells = 1 << bitsPerAxis;
+        int row = (int) Math.floor((latitude + 90.0) / 180.0 * cells);
+        int column = (int) Math.floor((longitude + 180.0) / 360.0 * cells);
+        return cellKey(Math.max(0, Math.min(cells - 1, row)), Math.max(0, Math.min(cells - 1, column)));
+    }
+    
+    // Geohash bit order: longitude bits in the odd (higher) positions of each pair
+    static long cellKey(int latitudeIndex, int longitudeIndex) {
+        long key = 0;
+        for (int bit = 15; bit >= 0; bit--) {
+            key = (key << 2) | (((longitudeIndex >>> bit) & 1L) << 1) | ((latitudeIndex >>> bit) & 1L);
+        }
+        return key;
+    }
+}
\ No newline at end of file
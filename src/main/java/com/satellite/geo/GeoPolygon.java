@@ -0,0 +1,84 @@
+package com.satellite.geo;
+
+/**
+ * Simple lat/lon polygon (degrees) with an even-odd point test. Edges are
+ * straight in latitude/longitude, not great circles, which is what users draw
+ * on a map. A polygon may cross the antimeridian as long as no single edge spans
+ * more than 180° of longitude; such polygons are handled in 0..360° longitudes.
+ */
+public class GeoPolygon {
+    
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final boolean wraps;
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+    
+    public GeoPolygon(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length || latitudes.length < 3) {
+            throw new IllegalArgumentException("A polygon needs at least three vertices");
+        }
+        int n = latitudes.length;
+        boolean crossesAntimeridian = false;
+        for (int i = 0; i < n; i++) {
+            if (Math.abs(latitudes[i]) > 90.0 || Math.abs(longitudes[i]) > 180.0) {
+                throw new IllegalArgumentException("Vertex out of range: " + latitudes[i] + ", " + longitudes[i]);
+            }
+            if (Math.abs(longitudes[(i + 1) % n] - longitudes[i]) > 180.0) {
+                crossesAntimeridian = true;
+            }
+        }
+        this.wraps = crossesAntimeridian;
+        this.latitudes = latitudes.clone();
+        this.longitudes = new double[n];
+        double minLat = 90.0, maxLat = -90.0, minLon = 360.0, maxLon = -180.0;
+        for (int i = 0; i < n; i++) {
+            double lon = unwrap(longitudes[i]);
+            this.longitudes[i] = lon;
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+            minLon = Math.min(minLon, lon);
+            maxLon = Math.max(maxLon, lon);
+        }
+        this.minLatitude = minLat;
+        this.maxLatitude = maxLat;
+        this.minLongitude = minLon;
+        this.maxLongitude = maxLon;
+    }
+    
+    public boolean contains(double latitude, double longitude) {
+        double lon = unwrap(longitude);
+        if (latitude < minLatitude || latitude > maxLatitude || lon < minLongitude || lon > maxLongitude) {
+            return false;
+        }
+        boolean inside = false;
+        int n = latitudes.length;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            if ((latitudes[i] > latitude) != (latitudes[j] > latitude)
+                    && lon < (longitudes[j] - longitudes[i]) * (latitude - latitudes[i])
+                            / (latitudes[j] - latitudes[i]) + longitudes[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+    
+    private double unwrap(double longitude) {
+        return wraps && longitude < 0.0 ? longitude + 360.0 : longitude;
+    }
+    
+    public double getMinLatitude() { return minLatitude; }
+    public double getMaxLatitude() { return maxLatitude; }
+    
+    /** Western edge of the bounding box, in -180..180. */
+    public double getMinLongitude() { return normalise(minLongitude); }
+    
+    /** Eastern edge of the bounding box, in -180..180; west of the minimum if the box wraps. */
+    public double getMaxLongitude() { return normalise(maxLongitude); }
+    
+    private static double normalise(double longitude) {
+        return longitude > 180.0 ? longitude - 360.0 : longitude;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.satellite.geo;
+
+public enum GeofenceTransition {
+    ENTER,
+    EXIT
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.satellite.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable {@link CharSequence} view over an ASCII byte range, so fixed-column
+ * TLE fields can be decoded from network buffers without building Strings.
+ */
+public final class AsciiSequence implements CharSequence {
+    
+    private byte[] bytes = new byte[0];
+    private int offset;
+    private int length;
+    
+    public AsciiSequence reset(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+    
+    @Override
+    public int length() {
+        return length;
+    }
+    
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (bytes[offset + index] & 0xFF);
+    }
+    
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+    
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
\ No newline at end of file
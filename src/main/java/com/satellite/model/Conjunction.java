@@ -0,0 +1,84 @@
+package com.satellite.model;
+
+public class Conjunction {
+    private String primarySatelliteId;
+    private String primarySatelliteName;
+    private String secondarySatelliteId;
+    private String secondarySatelliteName;
+    private long timeOfClosestApproach;
+    private double missDistance;   // km
+    private double relativeSpeed;  // km/s
+    
+    private Conjunction() {}
+    
+    public static ConjunctionBuilder builder() {
+        return new ConjunctionBuilder();
+    }
+    
+    // Getters
+    public String getPrimarySatelliteId() { return primarySatelliteId; }
+    public String getPrimarySatelliteName() { return primarySatelliteName; }
+    public String getSecondarySatelliteId() { return secondarySatelliteId; }
+    public String getSecondarySatelliteName() { return secondarySatelliteName; }
+    public long getTimeOfClosestApproach() { return timeOfClosestApproach; }
+    public double getMissDistance() { return missDistance; }
+    public double getRelativeSpeed() { return relativeSpeed; }
+    
+    // Builder
+    public static class ConjunctionBuilder {
+        private String primarySatelliteId;
+        private String primarySatelliteName;
+        private String secondarySatelliteId;
+        private String secondarySatelliteName;
+        private long timeOfClosestApproach;
+        private double missDistance;
+        private double relativeSpeed;
+        
+        public ConjunctionBuilder primarySatelliteId(String primarySatelliteId) {
+            this.primarySatelliteId = primarySatelliteId;
+            return this;
+        }
+        
+        public ConjunctionBuilder primarySatelliteName(String primarySatelliteName) {
+            this.primarySatelliteName = primarySatelliteName;
+            return this;
+        }
+        
+        public ConjunctionBuilder secondarySatelliteId(String secondarySatelliteId) {
+            this.secondarySatelliteId = secondarySatelliteId;
+            return this;
+        }
+        
+        public ConjunctionBuilder secondarySatelliteName(String secondarySatelliteName) {
+            this.secondarySatelliteName = secondarySatelliteName;
+            return this;
+        }
+        
+        public ConjunctionBuilder timeOfClosestApproach(long timeOfClosestApproach) {
+            this.timeOfClosestApproach = timeOfClosestApproach;
+            return this;
+        }
+        
+        public ConjunctionBuilder missDistance(double missDistance) {
+            this.missDistance = missDistance;
+            return this;
+        }
+        
+        public ConjunctionBuilder relativeSpeed(double relativeSpeed) {
+            this.relativeSpeed = relativeSpeed;
+            return this;
+        }
+        
+        public Conjunction build() {
+            Conjunction conjunction = new Conjunction();
+            conjunction.primarySatelliteId = this.primarySatelliteId;
+            conjunction.primarySatelliteName = this.primarySatelliteName;
+            conjunction.secondarySatelliteId = this.secondarySatelliteId;
+            conjunction.secondarySatelliteName = this.secondarySatelliteName;
+            conjunction.timeOfClosestApproach = this.timeOfClosestApproach;
+            conjunction.missDistance = this.missDistance;
+            conjunction.relativeSpeed = this.relativeSpeed;
+            return conjunction;
+        }
+    }
+}
\ No newline at end of file
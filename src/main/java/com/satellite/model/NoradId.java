@@ -0,0 +1,64 @@
+package com.satellite.model;
+
+/**
+ * Converts catalog numbers to primitive ints, including the Alpha-5 form
+ * ("A0001" = 100001) used once five digits run out.
+ */
+public final class NoradId {
+    
+    private static final String ALPHA5_LETTERS = "ABCDEFGHJKLMNPQRSTUVWXYZ"; // no I or O
+    
+    private NoradId() {}
+    
+    public static int parse(CharSequence id) {
+        return parse(id, 0, id.length());
+    }
+    
+    /**
+     * Parses {@code id[start, end)}, ignoring surrounding spaces, without allocating.
+     */
+    public static int parse(CharSequence id, int start, int end) {
+        while (start < end && id.charAt(start) == ' ') start++;
+        while (end > start && id.charAt(end - 1) == ' ') end--;
+        if (start == end) {
+            throw new IllegalArgumentException("Empty NORAD catalog number");
+        }
+        
+        int value = 0;
+        char first = id.charAt(start);
+        if (first >= 'A' && first <= 'Z') {
+            int letter = ALPHA5_LETTERS.indexOf(first);
+            if (letter < 0) {
+                throw new IllegalArgumentException("Invalid Alpha-5 catalog number: " + id.subSequence(start, end));
+            }
+            value = letter + 10;
+            start++;
+        }
+        for (int i = start; i < end; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid NORAD catalog number: " + id.subSequence(start, end));
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+    
+    /**
+     * Inverse of {@link #parse}: five zero-padded digits, or Alpha-5 above 99999.
+     */
+    public static String format(int noradId) {
+        if (noradId < 0 || noradId >= (ALPHA5_LETTERS.length() + 10) * 10000) {
+            throw new IllegalArgumentException("NORAD catalog number out of range: " + noradId);
+        }
+        char[] digits = new char[5];
+        int rest = noradId;
+        for (int i = 4; i > 0; i--) {
+            digits[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        // Whatever is left above the last four digits is 0-9, or an Alpha-5 letter
+        digits[0] = rest < 10 ? (char) ('0' + rest) : ALPHA5_LETTERS.charAt(rest - 10);
+        return new String(digits);
+    }
+}
\ No newline at end of file
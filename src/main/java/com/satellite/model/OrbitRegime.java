@@ -0,0 +1,35 @@
+package com.satellite.model;
+
+/**
+ * Coarse orbit class from a TLE's mean motion and eccentricity. It drives how
+ * often a satellite's elements are expected to change: drag keeps revising LEO
+ * sets several times a day while a GEO set can stand for a week.
+ */
+public enum OrbitRegime {
+    LEO,
+    MEO,
+    GEO,
+    HEO,
+    UNKNOWN;
+    
+    public static OrbitRegime of(TleData tle) {
+        return tle == null ? UNKNOWN : of(tle.getMeanMotion(), tle.getEccentricity());
+    }
+    
+    public static OrbitRegime of(double meanMotion, double eccentricity) {
+        if (!(meanMotion > 0)) {
+            return UNKNOWN;
+        }
+        if (eccentricity >= 0.25) {
+            return HEO;
+        }
+        // Period of 128 minutes or less
+        if (meanMotion >= 11.25) {
+            return LEO;
+        }
+        if (meanMotion >= 0.99 && meanMotion <= 1.01 && eccentricity < 0.01) {
+            return GEO;
+        }
+        return MEO;
+    }
+}
\ No newline at end of file
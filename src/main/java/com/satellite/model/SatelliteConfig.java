@@ -9,6 +9,7 @@ import java.util.List;
 public class SatelliteConfig {
     private List<TrackedSatellite> trackedSatellites;
     private List<ObserverLocation> observerLocations;
+    private List<Geofence> geofences;
     
     public List<TrackedSatellite> getTrackedSatellites() {
         return trackedSatellites;
@@ -26,6 +27,14 @@ public class SatelliteConfig {
         this.observerLocations = observerLocations;
     }
     
+    public List<Geofence> getGeofences() {
+        return geofences;
+    }
+    
+    public void setGeofences(List<Geofence> geofences) {
+        this.geofences = geofences;
+    }
+    
     public static class TrackedSatellite {
         private String id;
         private String name;
@@ -76,4 +85,46 @@ public class SatelliteConfig {
             this.longitude = longitude;
         }
     }
+    
+    public static class Geofence {
+        private String name;
+        private List<Vertex> vertices;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public List<Vertex> getVertices() {
+            return vertices;
+        }
+        
+        public void setVertices(List<Vertex> vertices) {
+            this.vertices = vertices;
+        }
+    }
+    
+    public static class Vertex {
+        private double latitude;
+        private double longitude;
+        
+        public double getLatitude() {
+            return latitude;
+        }
+        
+        public void setLatitude(double latitude) {
+            this.latitude = latitude;
+        }
+        
+        public double getLongitude() {
+            return longitude;
+        }
+        
+        public void setLongitude(double longitude) {
+            this.longitude = longitude;
+        }
+    }
 }
\ No newline at end of file
@@ -8,6 +8,10 @@ public class SatellitePosition {
     private double altitude;
     private double velocity;
     private long timestamp;
+    // Dead-reckoning rates (deg/s, deg/s, km/s); null when not estimated
+    private Double latitudeRate;
+    private Double longitudeRate;
+    private Double altitudeRate;
     
     private SatellitePosition() {}
     
@@ -15,6 +19,20 @@ public class SatellitePosition {
         return new SatellitePositionBuilder();
     }
     
+    public SatellitePositionBuilder toBuilder() {
+        return builder()
+                .satelliteId(satelliteId)
+                .satelliteName(satelliteName)
+                .latitude(latitude)
+                .longitude(longitude)
+                .altitude(altitude)
+                .velocity(velocity)
+                .timestamp(timestamp)
+                .latitudeRate(latitudeRate)
+                .longitudeRate(longitudeRate)
+                .altitudeRate(altitudeRate);
+    }
+    
     // Getters
     public String getSatelliteId() { return satelliteId; }
     public String getSatelliteName() { return satelliteName; }
@@ -23,6 +41,9 @@ public class SatellitePosition {
     public double getAltitude() { return altitude; }
     public double getVelocity() { return velocity; }
     public long getTimestamp() { return timestamp; }
+    public Double getLatitudeRate() { return latitudeRate; }
+    public Double getLongitudeRate() { return longitudeRate; }
+    public Double getAltitudeRate() { return altitudeRate; }
     
     // Builder
     public static class SatellitePositionBuilder {
@@ -33,6 +54,9 @@ public class SatellitePosition {
         private double altitude;
         private double velocity;
         private long timestamp;
+        private Double latitudeRate;
+        private Double longitudeRate;
+        private Double altitudeRate;
         
         public SatellitePositionBuilder satelliteId(String satelliteId) {
             this.satelliteId = satelliteId;
@@ -69,6 +93,21 @@ public class SatellitePosition {
             return this;
         }
         
+        public SatellitePositionBuilder latitudeRate(Double latitudeRate) {
+            this.latitudeRate = latitudeRate;
+            return this;
+        }
+        
+        public SatellitePositionBuilder longitudeRate(Double longitudeRate) {
+            this.longitudeRate = longitudeRate;
+            return this;
+        }
+        
+        public SatellitePositionBuilder altitudeRate(Double altitudeRate) {
+            this.altitudeRate = altitudeRate;
+            return this;
+        }
+        
         public SatellitePosition build() {
             SatellitePosition pos = new SatellitePosition();
             pos.satelliteId = this.satelliteId;
@@ -78,6 +117,9 @@ public class SatellitePosition {
             pos.altitude = this.altitude;
             pos.velocity = this.velocity;
             pos.timestamp = this.timestamp;
+            pos.latitudeRate = this.latitudeRate;
+            pos.longitudeRate = this.longitudeRate;
+            pos.altitudeRate = this.altitudeRate;
             return pos;
         }
     }
@@ -13,6 +13,7 @@ public class TleData {
     private double raan;
     private double argumentOfPerigee;
     private double meanAnomaly;
+    private double bstar;
     private long lastUpdated;
     
     private TleData() {}
@@ -22,21 +23,14 @@ public class TleData {
     }
     
     public static TleData parseTle(String name, String line1, String line2) {
-        return TleData.builder()
-                .satelliteId(line1.substring(2, 7).trim())
-                .satelliteName(name.trim())
-                .line1(line1)
-                .line2(line2)
-                .epochYear(Integer.parseInt(line1.substring(18, 20)))
-                .epochDay(Double.parseDouble(line1.substring(20, 32)))
-                .meanMotion(Double.parseDouble(line2.substring(52, 63)))
-                .eccentricity(Double.parseDouble("0." + line2.substring(26, 33)))
-                .inclination(Double.parseDouble(line2.substring(8, 16)))
-                .raan(Double.parseDouble(line2.substring(17, 25)))
-                .argumentOfPerigee(Double.parseDouble(line2.substring(34, 42)))
-                .meanAnomaly(Double.parseDouble(line2.substring(43, 51)))
-                .lastUpdated(System.currentTimeMillis())
-                .build();
+        return TleParser.LENIENT.parse(name, line1, line2);
+    }
+    
+    /**
+     * Epoch of the element set as Unix milliseconds (two-digit years 57-99 map to the 1900s).
+     */
+    public long getEpochMillis() {
+        return TleParser.epochMillis(epochYear, epochDay);
     }
     
     // Getters
@@ -52,6 +46,7 @@ public class TleData {
     public double getRaan() { return raan; }
     public double getArgumentOfPerigee() { return argumentOfPerigee; }
     public double getMeanAnomaly() { return meanAnomaly; }
+    public double getBstar() { return bstar; }
     public long getLastUpdated() { return lastUpdated; }
     
     // Builder
@@ -68,6 +63,7 @@ public class TleData {
         private double raan;
         private double argumentOfPerigee;
         private double meanAnomaly;
+        private double bstar;
         private long lastUpdated;
         
         public TleDataBuilder satelliteId(String satelliteId) {
@@ -130,6 +126,11 @@ public class TleData {
             return this;
         }
         
+        public TleDataBuilder bstar(double bstar) {
+            this.bstar = bstar;
+            return this;
+        }
+        
         public TleDataBuilder lastUpdated(long lastUpdated) {
             this.lastUpdated = lastUpdated;
             return this;
@@ -149,6 +150,7 @@ public class TleData {
             tle.raan = this.raan;
             tle.argumentOfPerigee = this.argumentOfPerigee;
             tle.meanAnomaly = this.meanAnomaly;
+            tle.bstar = this.bstar;
             tle.lastUpdated = this.lastUpdated;
             return tle;
         }
@@ -0,0 +1,222 @@
+package com.satellite.model;
+
+/**
+ * Fixed-column two-line element parser that decodes fields in place from any
+ * {@link CharSequence} (including {@link AsciiSequence} windows over raw bytes).
+ *
+ * Numeric fields are read as an integer mantissa and scaled by an exact power of
+ * ten, which yields the same correctly rounded double as {@code Double.parseDouble}
+ * for every TLE field width, without substring or boxing allocations. The
+ * {@link ElementSink} path allocates nothing at all; building a {@link TleData}
+ * only allocates the Strings the model itself holds.
+ */
+public final class TleParser {
+    
+    /** Accepts any well-formed TLE regardless of its checksum digits. */
+    public static final TleParser LENIENT = new TleParser(false);
+    /** Additionally rejects lines whose modulo-10 checksum does not match column 69. */
+    public static final TleParser STRICT = new TleParser(true);
+    
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    
+    /**
+     * Receives the decoded elements of one TLE (angles in degrees, mean motion in rev/day).
+     */
+    @FunctionalInterface
+    public interface ElementSink {
+        void accept(int noradId, CharSequence name, long epochMillis, double meanMotion,
+                    double eccentricity, double inclination, double raan, double argumentOfPerigee,
+                    double meanAnomaly, double bstar);
+    }
+    
+    private final boolean verifyChecksums;
+    
+    private TleParser(boolean verifyChecksums) {
+        this.verifyChecksums = verifyChecksums;
+    }
+    
+    public TleData parse(String name, String line1, String line2) {
+        validate(line1, line2);
+        int epochYear = (int) decimal(line1, 18, 20);
+        return TleData.builder()
+                .satelliteId(trimmed(line1, 2, 7))
+                .satelliteName(name.trim())
+                .line1(line1)
+                .line2(line2)
+                .epochYear(epochYear)
+                .epochDay(decimal(line1, 20, 32))
+                .meanMotion(decimal(line2, 52, 63))
+                .eccentricity(impliedDecimal(line2, 26, 33))
+                .inclination(decimal(line2, 8, 16))
+                .raan(decimal(line2, 17, 25))
+                .argumentOfPerigee(decimal(line2, 34, 42))
+                .meanAnomaly(decimal(line2, 43, 51))
+                .bstar(impliedExponent(line1, 53, 61))
+                .lastUpdated(System.currentTimeMillis())
+                .build();
+    }
+    
+    public void parse(CharSequence name, CharSequence line1, CharSequence line2, ElementSink sink) {
+        validate(line1, line2);
+        int epochYear = (int) decimal(line1, 18, 20);
+        sink.accept(NoradId.parse(line1, 2, 7),
+                name,
+                epochMillis(epochYear, decimal(line1, 20, 32)),
+                decimal(line2, 52, 63),
+                impliedDecimal(line2, 26, 33),
+                decimal(line2, 8, 16),
+                decimal(line2, 17, 25),
+                decimal(line2, 34, 42),
+                decimal(line2, 43, 51),
+                impliedExponent(line1, 53, 61));
+    }
+    
+    /**
+     * Modulo-10 checksum over columns 1-68: digits count at face value, '-' counts as 1.
+     */
+    public static boolean isChecksumValid(CharSequence line) {
+        if (line.length() < 69) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < 68; i++) {
+            char c = line.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sum += c - '0';
+            } else if (c == '-') {
+                sum += 1;
+            }
+        }
+        char expected = line.charAt(68);
+        return expected >= '0' && expected <= '9' && sum % 10 == expected - '0';
+    }
+    
+    /**
+     * Epoch as Unix milliseconds from a two-digit TLE year (57-99 map to the 1900s)
+     * and fractional day of year (1.0 = 1 January 00:00 UTC).
+     */
+    public static long epochMillis(int twoDigitYear, double epochDay) {
+        int year = twoDigitYear < 57 ? 2000 + twoDigitYear : 1900 + twoDigitYear;
+        long daysToYear = 365L * (year - 1970)
+                + Math.floorDiv(year - 1969, 4)
+                - Math.floorDiv(year - 1901, 100)
+                + Math.floorDiv(year - 1601, 400);
+        return daysToYear * MILLIS_PER_DAY + Math.round((epochDay - 1.0) * MILLIS_PER_DAY);
+    }
+    
+    private void validate(CharSequence line1, CharSequence line2) {
+        if (line1.length() < 63 || line2.length() < 63) {
+            throw new IllegalArgumentException("TLE lines too short");
+        }
+        if (line1.charAt(0) != '1' || line2.charAt(0) != '2') {
+            throw new IllegalArgumentException("TLE line numbers out of order");
+        }
+        if (verifyChecksums && (!isChecksumValid(line1) || !isChecksumValid(line2))) {
+            throw new IllegalArgumentException("TLE checksum mismatch for satellite " + trimmed(line1, 2, 7));
+        }
+    }
+    
+    // Signed decimal with optional point, e.g. " 51.6400" or "-.00001234"
+    static double decimal(CharSequence s, int start, int end) {
+        int i = skipSpaces(s, start, end);
+        boolean negative = false;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean seenPoint = false;
+        boolean seenDigit = false;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                seenDigit = true;
+                if (seenPoint) fractionDigits++;
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else if (c == ' ') {
+                break;
+            } else {
+                throw malformed(s, start, end);
+            }
+        }
+        if (!seenDigit || skipSpaces(s, i, end) != end) {
+            throw malformed(s, start, end);
+        }
+        // Exact mantissa (< 2^53) divided by an exact power of ten is correctly rounded
+        double value = mantissa / POW10[fractionDigits];
+        return negative ? -value : value;
+    }
+    
+    // Digits with an assumed leading decimal point, e.g. "1859667" -> 0.1859667
+    private static double impliedDecimal(CharSequence s, int start, int end) {
+        long mantissa = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+            } else if (c != ' ') {
+                throw malformed(s, start, end);
+            }
+        }
+        return mantissa / POW10[digits];
+    }
+    
+    // Assumed decimal point with exponent, e.g. " 28098-4" -> 0.28098e-4
+    private static double impliedExponent(CharSequence s, int start, int end) {
+        int i = skipSpaces(s, start, end);
+        if (i == end) {
+            return 0.0;
+        }
+        double sign = 1.0;
+        if (s.charAt(i) == '-' || s.charAt(i) == '+') {
+            sign = s.charAt(i) == '-' ? -1.0 : 1.0;
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        while (i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+            mantissa = mantissa * 10 + (s.charAt(i) - '0');
+            digits++;
+            i++;
+        }
+        int exponent = 0;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            boolean negativeExponent = s.charAt(i) == '-';
+            i++;
+            while (i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                exponent = exponent * 10 + (s.charAt(i) - '0');
+                i++;
+            }
+            if (negativeExponent) exponent = -exponent;
+        }
+        if (digits == 0 || skipSpaces(s, i, end) != end) {
+            throw malformed(s, start, end);
+        }
+        return sign * (mantissa / POW10[digits]) * Math.pow(10, exponent);
+    }
+    
+    private static int skipSpaces(CharSequence s, int i, int end) {
+        while (i < end && s.charAt(i) == ' ') i++;
+        return i;
+    }
+    
+    private static String trimmed(CharSequence s, int start, int end) {
+        int from = skipSpaces(s, start, end);
+        int to = end;
+        while (to > from && s.charAt(to - 1) == ' ') to--;
+        return s.subSequence(from, to).toString();
+    }
+    
+    private static IllegalArgumentException malformed(CharSequence s, int start, int end) {
+        return new NumberFormatException("Malformed TLE field: '" + s.subSequence(start, end) + "'");
+    }
+}
\ No newline at end of file
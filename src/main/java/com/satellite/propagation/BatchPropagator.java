@@ -0,0 +1,123 @@
+package com.satellite.propagation;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Propagates a whole catalog to a common instant by splitting it into ranges
+ * on a dedicated {@link ForkJoinPool}. Each leaf task reuses its own scratch
+ * buffers and the sidereal time is computed once per batch, so the work per
+ * object is a single SGP4 evaluation plus the geodetic conversion.
+ */
+@Component
+public class BatchPropagator {
+    
+    private static final int DEFAULT_LEAF_SIZE = 256;
+    
+    /**
+     * Computes one satellite's TEME position (km) and velocity (km/s) into {@code rv}.
+     *
+     * @return false if the satellite cannot be propagated to that time
+     */
+    @FunctionalInterface
+    public interface StateFunction {
+        boolean state(Sgp4Propagator propagator, long timestampMillis, double[] rv);
+    }
+    
+    private static final StateFunction SGP4 =
+            (propagator, timestampMillis, rv) -> propagator.propagate(propagator.minutesSinceEpoch(timestampMillis), rv);
+    
+    private final ForkJoinPool pool;
+    private final int leafSize;
+    
+    public BatchPropagator(@Value("${satellite.propagation.parallelism:0}") int parallelism) {
+        this(parallelism, DEFAULT_LEAF_SIZE);
+    }
+    
+    public BatchPropagator(int parallelism, int leafSize) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.leafSize = Math.max(1, leafSize);
+    }
+    
+    public PropagationResult propagate(List<Sgp4Propagator> propagators, long timestampMillis) {
+        return propagate(propagators, timestampMillis, SGP4);
+    }
+    
+    /**
+     * Like {@link #propagate(List, long)}, but takes each state from {@code states},
+     * e.g. {@link EphemerisCache#evaluate}, so any table fits it does are spread
+     * over the pool as well.
+     */
+    public PropagationResult propagate(List<Sgp4Propagator> propagators, long timestampMillis, StateFunction states) {
+        PropagationResult result = new PropagationResult(propagators, timestampMillis);
+        if (propagators.isEmpty()) {
+            return result;
+        }
+        double gmst = EarthFrames.gmst(timestampMillis);
+        pool.invoke(new RangeTask(propagators, result, states, gmst, 0, propagators.size()));
+        return result;
+    }
+    
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+    
+    private class RangeTask extends RecursiveAction {
+        private final List<Sgp4Propagator> propagators;
+        private final PropagationResult result;
+        private final StateFunction states;
+        private final double gmst;
+        private final int from;
+        private final int to;
+        
+        RangeTask(List<Sgp4Propagator> propagators, PropagationResult result, StateFunction states, double gmst,
+                  int from, int to) {
+            this.propagators = propagators;
+            this.result = result;
+            this.states = states;
+            this.gmst = gmst;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                propagateRange();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(propagators, result, states, gmst, from, mid),
+                    new RangeTask(propagators, result, states, gmst, mid, to));
+        }
+        
+        private void propagateRange() {
+            double[] rv = new double[6];
+            double[] geodetic = new double[3];
+            long timestamp = result.getTimestamp();
+            for (int i = from; i < to; i++) {
+                Sgp4Propagator propagator = propagators.get(i);
+                if (!states.state(propagator, timestamp, rv)) {
+                    continue;
+                }
+                EarthFrames.temeToGeodetic(rv, gmst, geodetic);
+                result.latitude[i] = geodetic[0];
+                result.longitude[i] = geodetic[1];
+                result.altitude[i] = geodetic[2];
+                result.velocity[i] = Math.sqrt(rv[3] * rv[3] + rv[4] * rv[4] + rv[5] * rv[5]);
+                result.valid[i] = true;
+            }
+        }
+    }
+}
\ No newline at end of file
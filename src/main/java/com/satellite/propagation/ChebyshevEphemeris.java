@@ -0,0 +1,263 @@
+package com.satellite.propagation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Piecewise Chebyshev fit of one satellite's SGP4 TEME state over a time span,
+ * so positions can be produced at any rate for the cost of a polynomial
+ * evaluation instead of an SGP4 run.
+ *
+ * Each segment is fitted through SGP4 samples at the Chebyshev nodes and then
+ * checked against SGP4 at its ends and half-way between the nodes; a segment whose position
+ * error exceeds the tolerance is split in two and refitted. Velocity comes from
+ * the derivative of the position fit. If SGP4 fails part-way (decay), coverage
+ * ends at the last good segment.
+ */
+public final class ChebyshevEphemeris {
+    
+    // Segments are not split below this, whatever the tolerance
+    private static final double MIN_SEGMENT_MINUTES = 0.5;
+    
+    private final Sgp4Propagator source;
+    private final int degree;
+    private final double[] segmentStarts;      // minutes since epoch; last entry is the end of coverage
+    private final double[][] positionCoefficients; // per segment: x, y, z series of degree + 1 terms, km
+    private final double[][] velocityCoefficients; // per segment: derivative series, km/s
+    private final double maxFitError;
+    
+    private ChebyshevEphemeris(Sgp4Propagator source, int degree, double[] segmentStarts,
+                               double[][] positionCoefficients, double[][] velocityCoefficients, double maxFitError) {
+        this.source = source;
+        this.degree = degree;
+        this.segmentStarts = segmentStarts;
+        this.positionCoefficients = positionCoefficients;
+        this.velocityCoefficients = velocityCoefficients;
+        this.maxFitError = maxFitError;
+    }
+    
+    /**
+     * Fits {@code propagator} between two instants.
+     *
+     * @param segmentMinutes initial segment length, shortened where needed to meet the tolerance
+     * @param degree         Chebyshev degree per segment
+     * @param toleranceKm    maximum position error at the check points
+     */
+    public static ChebyshevEphemeris fit(Sgp4Propagator propagator, long startMillis, long endMillis,
+                                         double segmentMinutes, int degree, double toleranceKm) {
+        if (degree < 2 || !(segmentMinutes > 0.0) || !(toleranceKm > 0.0) || endMillis <= startMillis) {
+            throw new IllegalArgumentException("Invalid ephemeris fit parameters");
+        }
+        Fitter fitter = new Fitter(propagator, degree, toleranceKm);
+        double start = propagator.minutesSinceEpoch(startMillis);
+        double end = propagator.minutesSinceEpoch(endMillis);
+        for (double a = start; a < end && !fitter.failed; a += segmentMinutes) {
+            fitter.fitInterval(a, Math.min(a + segmentMinutes, end));
+        }
+        
+        int segments = fitter.starts.size();
+        double[] starts = new double[segments + 1];
+        for (int i = 0; i < segments; i++) {
+            starts[i] = fitter.starts.get(i);
+        }
+        starts[segments] = segments == 0 ? start : fitter.coverageEnd;
+        return new ChebyshevEphemeris(propagator, degree, starts,
+                fitter.positions.toArray(new double[0][]), fitter.velocities.toArray(new double[0][]),
+                fitter.maxError);
+    }
+    
+    public boolean covers(long timestampMillis) {
+        double t = source.minutesSinceEpoch(timestampMillis);
+        return segmentStarts.length > 1 && t >= segmentStarts[0] && t <= segmentStarts[segmentStarts.length - 1];
+    }
+    
+    /**
+     * Evaluates the fit like {@link Sgp4Propagator#propagate}: TEME position (km)
+     * and velocity (km/s) into {@code rv}.
+     *
+     * @return false if the instant is outside the fitted span
+     */
+    public boolean evaluate(long timestampMillis, double[] rv) {
+        double t = source.minutesSinceEpoch(timestampMillis);
+        int last = segmentStarts.length - 1;
+        if (last < 1 || t < segmentStarts[0] || t > segmentStarts[last]) {
+            return false;
+        }
+        int segment = Arrays.binarySearch(segmentStarts, t);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        segment = Math.min(segment, last - 1);
+        
+        double a = segmentStarts[segment];
+        double b = segmentStarts[segment + 1];
+        double x = (2.0 * t - a - b) / (b - a);
+        double[] position = positionCoefficients[segment];
+        double[] velocity = velocityCoefficients[segment];
+        int terms = degree + 1;
+        for (int axis = 0; axis < 3; axis++) {
+            rv[axis] = clenshaw(position, axis * terms, terms, x);
+            rv[axis + 3] = clenshaw(velocity, axis * terms, terms, x);
+        }
+        return true;
+    }
+    
+    public Sgp4Propagator getSource() {
+        return source;
+    }
+    
+    public int getSegmentCount() {
+        return segmentStarts.length - 1;
+    }
+    
+    /** Largest position error seen at the check points, km. */
+    public double getMaxFitError() {
+        return maxFitError;
+    }
+    
+    private static double clenshaw(double[] coefficients, int offset, int terms, double x) {
+        double b1 = 0.0;
+        double b2 = 0.0;
+        double twoX = 2.0 * x;
+        for (int j = terms - 1; j >= 1; j--) {
+            double b0 = coefficients[offset + j] + twoX * b1 - b2;
+            b2 = b1;
+            b1 = b0;
+        }
+        return coefficients[offset] + x * b1 - b2;
+    }
+    
+    private static final class Fitter {
+        final Sgp4Propagator propagator;
+        final int degree;
+        final int terms;
+        final double toleranceKm;
+        final double[] nodes;
+        final double[] checkPoints;
+        final double[][] basis;       // T_j at node k
+        final double[][] samples;
+        final double[] rv = new double[6];
+        
+        final List<Double> starts = new ArrayList<>();
+        final List<double[]> positions = new ArrayList<>();
+        final List<double[]> velocities = new ArrayList<>();
+        double coverageEnd;
+        double maxError;
+        boolean failed;
+        
+        Fitter(Sgp4Propagator propagator, int degree, double toleranceKm) {
+            this.propagator = propagator;
+            this.degree = degree;
+            this.terms = degree + 1;
+            this.toleranceKm = toleranceKm;
+            this.nodes = new double[terms];
+            for (int k = 0; k < terms; k++) {
+                nodes[k] = Math.cos(Math.PI * (k + 0.5) / terms);
+            }
+            // The segment ends and half-way between consecutive nodes, where the fit error peaks
+            this.checkPoints = new double[degree + 2];
+            checkPoints[0] = 1.0;
+            checkPoints[degree + 1] = -1.0;
+            for (int k = 0; k < degree; k++) {
+                checkPoints[k + 1] = Math.cos(Math.PI * (k + 1.0) / terms);
+            }
+            this.basis = new double[terms][terms];
+            for (int j = 0; j < terms; j++) {
+                for (int k = 0; k < terms; k++) {
+                    basis[j][k] = Math.cos(Math.PI * j * (k + 0.5) / terms);
+                }
+            }
+            this.samples = new double[3][terms];
+        }
+        
+        void fitInterval(double a, double b) {
+            if (failed) {
+                return;
+            }
+            double[] coefficients = fitSegment(a, b);
+            if (coefficients == null) {
+                failed = true;
+                return;
+            }
+            double error = checkError(coefficients, a, b);
+            if (Double.isNaN(error)) {
+                failed = true;
+                return;
+            }
+            if (error > toleranceKm && b - a > 2 * MIN_SEGMENT_MINUTES) {
+                double mid = 0.5 * (a + b);
+                fitInterval(a, mid);
+                fitInterval(mid, b);
+                return;
+            }
+            maxError = Math.max(maxError, error);
+            starts.add(a);
+            positions.add(coefficients);
+            velocities.add(derivative(coefficients, b - a));
+            coverageEnd = b;
+        }
+        
+        private double[] fitSegment(double a, double b) {
+            double half = 0.5 * (b - a);
+            double mid = 0.5 * (a + b);
+            for (int k = 0; k < terms; k++) {
+                if (!propagator.propagate(mid + half * nodes[k], rv)) {
+                    return null;
+                }
+                samples[0][k] = rv[0];
+                samples[1][k] = rv[1];
+                samples[2][k] = rv[2];
+            }
+            double[] coefficients = new double[3 * terms];
+            for (int axis = 0; axis < 3; axis++) {
+                for (int j = 0; j < terms; j++) {
+                    double sum = 0.0;
+                    for (int k = 0; k < terms; k++) {
+                        sum += samples[axis][k] * basis[j][k];
+                    }
+                    coefficients[axis * terms + j] = (j == 0 ? 1.0 : 2.0) * sum / terms;
+                }
+            }
+            return coefficients;
+        }
+        
+        private double checkError(double[] coefficients, double a, double b) {
+            double half = 0.5 * (b - a);
+            double mid = 0.5 * (a + b);
+            double worst = 0.0;
+            for (double x : checkPoints) {
+                if (!propagator.propagate(mid + half * x, rv)) {
+                    return Double.NaN;
+                }
+                double dx = clenshaw(coefficients, 0, terms, x) - rv[0];
+                double dy = clenshaw(coefficients, terms, terms, x) - rv[1];
+                double dz = clenshaw(coefficients, 2 * terms, terms, x) - rv[2];
+                worst = Math.max(worst, Math.sqrt(dx * dx + dy * dy + dz * dz));
+            }
+            return worst;
+        }
+        
+        // d/dt of the series, in km/s, for a segment spanning lengthMinutes
+        private double[] derivative(double[] coefficients, double lengthMinutes) {
+            double scale = 2.0 / (lengthMinutes * 60.0);
+            double[] result = new double[3 * terms];
+            for (int axis = 0; axis < 3; axis++) {
+                int offset = axis * terms;
+                double next = 0.0;      // b[j + 1]
+                double nextNext = 0.0;  // b[j + 2]
+                for (int j = degree - 1; j >= 0; j--) {
+                    double value = nextNext + 2.0 * (j + 1) * coefficients[offset + j + 1];
+                    result[offset + j] = value;
+                    nextNext = next;
+                    next = value;
+                }
+                result[offset] *= 0.5;
+                for (int j = 0; j < terms; j++) {
+                    result[offset + j] *= scale;
+                }
+            }
+            return result;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,289 @@
+package com.satellite.propagation;
+
+import com.satellite.model.Conjunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Screens a catalog for close approaches between every pair of objects over a
+ * look-ahead window without an O(n²) pair scan.
+ *
+ * At each time step all objects are propagated and hashed into a uniform grid
+ * whose cell size is the screening distance padded by how far two objects can
+ * close in half a step, so any pair that comes within the threshold between two
+ * steps is in the same or an adjacent cell at the nearer step. Only those
+ * neighbouring pairs are compared; pairs whose perigee/apogee shells cannot come
+ * within the threshold are dropped before the time of closest approach is refined.
+ *
+ * Positions are compared in TEME, where distances are the same as Earth-fixed.
+ * Results are only as good as SGP4 on public TLEs (kilometre level), i.e. this is
+ * a screening step for candidates, not a collision probability. Deep-space
+ * objects are left out, since they would need SDP4 (see {@link Sgp4Propagator}).
+ */
+@Component
+public class ConjunctionScreener {
+    
+    // Upper bound on the closing speed of two Earth orbiters (head-on in LEO), km/s
+    static final double MAX_RELATIVE_SPEED = 16.0;
+    
+    // Short-period J2 terms move the osculating radius away from the mean-element shell
+    private static final double SHELL_MARGIN_KM = 25.0;
+    
+    private static final int MAX_REFINE_ITERATIONS = 8;
+    
+    private final double thresholdKm;
+    private final long stepMillis;
+    
+    public ConjunctionScreener(@Value("${satellite.conjunction.threshold-km:5}") double thresholdKm,
+                               @Value("${satellite.conjunction.step-seconds:20}") int stepSeconds) {
+        if (!(thresholdKm > 0.0) || stepSeconds <= 0) {
+            throw new IllegalArgumentException("Conjunction threshold and step must be positive");
+        }
+        this.thresholdKm = thresholdKm;
+        this.stepMillis = stepSeconds * 1000L;
+    }
+    
+    /**
+     * Finds every pair of near-earth objects that comes within the threshold between
+     * {@code startMillis} and {@code endMillis}, one result per encounter, ordered by
+     * time of closest approach.
+     */
+    public List<Conjunction> screen(List<Sgp4Propagator> propagators, long startMillis, long endMillis) {
+        Sgp4Propagator[] objects = propagators.stream()
+                .filter(propagator -> !propagator.isDeepSpace())
+                .toArray(Sgp4Propagator[]::new);
+        int n = objects.length;
+        if (n < 2 || endMillis < startMillis) {
+            return List.of();
+        }
+        double[] perigee = new double[n];
+        double[] apogee = new double[n];
+        for (int i = 0; i < n; i++) {
+            perigee[i] = objects[i].getPerigeeAltitude();
+            apogee[i] = objects[i].getApogeeAltitude();
+        }
+        
+        double cellSize = thresholdKm + MAX_RELATIVE_SPEED * stepMillis / 2000.0;
+        double cellSizeSq = cellSize * cellSize;
+        double shellGap = thresholdKm + SHELL_MARGIN_KM;
+        
+        SpatialGrid grid = new SpatialGrid(n, cellSize);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double[] z = new double[n];
+        boolean[] valid = new boolean[n];
+        double[] rv = new double[6];
+        double[] rvA = new double[6];
+        double[] rvB = new double[6];
+        
+        // Latest encounter per pair; consecutive steps usually flag the same encounter
+        Map<Long, Conjunction> recent = new HashMap<>();
+        List<Conjunction> found = new ArrayList<>();
+        
+        for (long t = startMillis; t <= endMillis; t += stepMillis) {
+            grid.clear();
+            for (int i = 0; i < n; i++) {
+                Sgp4Propagator object = objects[i];
+                valid[i] = object.propagate(object.minutesSinceEpoch(t), rv);
+                if (valid[i]) {
+                    x[i] = rv[0];
+                    y[i] = rv[1];
+                    z[i] = rv[2];
+                    grid.insert(i, x[i], y[i], z[i]);
+                }
+            }
+            
+            for (int i = 0; i < n; i++) {
+                if (!valid[i]) {
+                    continue;
+                }
+                long cx = grid.cell(x[i]);
+                long cy = grid.cell(y[i]);
+                long cz = grid.cell(z[i]);
+                for (long dx = -1; dx <= 1; dx++) {
+                    for (long dy = -1; dy <= 1; dy++) {
+                        for (long dz = -1; dz <= 1; dz++) {
+                            for (int j = grid.head(cx + dx, cy + dy, cz + dz); j >= 0; j = grid.next(j)) {
+                                if (j <= i) {
+                                    continue;
+                                }
+                                double ex = x[j] - x[i];
+                                double ey = y[j] - y[i];
+                                double ez = z[j] - z[i];
+                                if (ex * ex + ey * ey + ez * ez >= cellSizeSq) {
+                                    continue;
+                                }
+                                if (Math.max(perigee[i], perigee[j]) - Math.min(apogee[i], apogee[j]) > shellGap) {
+                                    continue;
+                                }
+                                Conjunction conjunction = refine(objects[i], objects[j], t, rvA, rvB);
+                                if (conjunction != null) {
+                                    record(recent, found, ((long) i << 32) | j, conjunction);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        
+        found.addAll(recent.values());
+        found.sort(Comparator.comparingLong(Conjunction::getTimeOfClosestApproach));
+        return found;
+    }
+    
+    private void record(Map<Long, Conjunction> recent, List<Conjunction> found, long pair, Conjunction conjunction) {
+        Conjunction previous = recent.get(pair);
+        if (previous != null
+                && Math.abs(previous.getTimeOfClosestApproach() - conjunction.getTimeOfClosestApproach()) <= 2 * stepMillis) {
+            if (conjunction.getMissDistance() < previous.getMissDistance()) {
+                recent.put(pair, conjunction);
+            }
+            return;
+        }
+        if (previous != null) {
+            found.add(previous);
+        }
+        recent.put(pair, conjunction);
+    }
+    
+    /**
+     * Finds the time of closest approach within one step either side of the sample
+     * by repeatedly solving the linearised relative motion, then checks the miss
+     * distance there against the threshold.
+     */
+    private Conjunction refine(Sgp4Propagator a, Sgp4Propagator b, long sampleMillis, double[] rvA, double[] rvB) {
+        long lo = sampleMillis - stepMillis;
+        long hi = sampleMillis + stepMillis;
+        long t = sampleMillis;
+        long evaluated = t;
+        double dx = 0, dy = 0, dz = 0, dvx = 0, dvy = 0, dvz = 0;
+        for (int iteration = 0; iteration < MAX_REFINE_ITERATIONS; iteration++) {
+            if (!a.propagate(a.minutesSinceEpoch(t), rvA) || !b.propagate(b.minutesSinceEpoch(t), rvB)) {
+                return null;
+            }
+            evaluated = t;
+            dx = rvB[0] - rvA[0];
+            dy = rvB[1] - rvA[1];
+            dz = rvB[2] - rvA[2];
+            dvx = rvB[3] - rvA[3];
+            dvy = rvB[4] - rvA[4];
+            dvz = rvB[5] - rvA[5];
+            double dvSq = dvx * dvx + dvy * dvy + dvz * dvz;
+            if (dvSq == 0.0) {
+                break;
+            }
+            double dtSeconds = -(dx * dvx + dy * dvy + dz * dvz) / dvSq;
+            long next = Math.max(lo, Math.min(hi, t + Math.round(dtSeconds * 1000.0)));
+            if (next == t) {
+                break;
+            }
+            t = next;
+        }
+        
+        double missDistance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (missDistance > thresholdKm) {
+            return null;
+        }
+        return Conjunction.builder()
+                .primarySatelliteId(a.getSatelliteId())
+                .primarySatelliteName(a.getSatelliteName())
+                .secondarySatelliteId(b.getSatelliteId())
+                .secondarySatelliteName(b.getSatelliteName())
+                .timeOfClosestApproach(evaluated)
+                .missDistance(missDistance)
+                .relativeSpeed(Math.sqrt(dvx * dvx + dvy * dvy + dvz * dvz))
+                .build();
+    }
+    
+    public double getThresholdKm() {
+        return thresholdKm;
+    }
+    
+    public long getStepMillis() {
+        return stepMillis;
+    }
+    
+    /**
+     * Uniform grid over object indices: an open-addressed table from packed cell
+     * coordinates to the first object in the cell, with the rest chained through
+     * {@code next}. Rebuilt every step without allocating.
+     */
+    static final class SpatialGrid {
+        
+        private static final long EMPTY = -1L;
+        private static final long COORDINATE_OFFSET = 1L << 20;
+        private static final long COORDINATE_MASK = (1L << 21) - 1;
+        
+        private final double inverseCellSize;
+        private final long[] keys;
+        private final int[] heads;
+        private final int[] next;
+        private final int mask;
+        private final int shift;
+        
+        SpatialGrid(int capacity, double cellSize) {
+            this.inverseCellSize = 1.0 / cellSize;
+            int tableSize = Integer.highestOneBit(Math.max(16, capacity * 2) - 1) << 1;
+            this.keys = new long[tableSize];
+            this.heads = new int[tableSize];
+            this.next = new int[capacity];
+            this.mask = tableSize - 1;
+            this.shift = 64 - Integer.numberOfTrailingZeros(tableSize);
+            clear();
+        }
+        
+        void clear() {
+            Arrays.fill(keys, EMPTY);
+        }
+        
+        long cell(double coordinate) {
+            return (long) Math.floor(coordinate * inverseCellSize);
+        }
+        
+        void insert(int object, double x, double y, double z) {
+            long key = key(cell(x), cell(y), cell(z));
+            int slot = slotFor(key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                next[object] = -1;
+            } else {
+                next[object] = heads[slot];
+            }
+            heads[slot] = object;
+        }
+        
+        /** First object in the cell, or -1 if it is empty. */
+        int head(long cx, long cy, long cz) {
+            long key = key(cx, cy, cz);
+            int slot = slotFor(key);
+            return keys[slot] == EMPTY ? -1 : heads[slot];
+        }
+        
+        int next(int object) {
+            return next[object];
+        }
+        
+        // Finds the key's slot, or the empty slot where it would go
+        private int slotFor(long key) {
+            int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+        
+        private static long key(long cx, long cy, long cz) {
+            return (((cx + COORDINATE_OFFSET) & COORDINATE_MASK) << 42)
+                    | (((cy + COORDINATE_OFFSET) & COORDINATE_MASK) << 21)
+                    | ((cz + COORDINATE_OFFSET) & COORDINATE_MASK);
+        }
+    }
+}
\ No newline at end of file
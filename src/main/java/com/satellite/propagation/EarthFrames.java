@@ -0,0 +1,108 @@
+package com.satellite.propagation;
+
+/**
+ * Time and reference-frame helpers for turning SGP4 TEME state vectors into
+ * Earth-fixed geodetic coordinates.
+ */
+public final class EarthFrames {
+    
+    public static final double TWO_PI = 2.0 * Math.PI;
+    
+    // WGS-84 ellipsoid, used for geodetic output
+    private static final double WGS84_A = 6378.137; // km
+    private static final double WGS84_F = 1.0 / 298.257223563;
+    private static final double WGS84_E2 = WGS84_F * (2.0 - WGS84_F);
+    
+    private static final double MILLIS_PER_DAY = 86_400_000.0;
+    private static final double UNIX_EPOCH_JD = 2440587.5;
+    
+    private EarthFrames() {}
+    
+    public static double julianDate(long timestampMillis) {
+        return timestampMillis / MILLIS_PER_DAY + UNIX_EPOCH_JD;
+    }
+    
+    /**
+     * Greenwich mean sidereal time (IAU-82), in radians, for the given UT1 Julian date.
+     */
+    public static double gmst(double julianDate) {
+        double tut1 = (julianDate - 2451545.0) / 36525.0;
+        double seconds = -6.2e-6 * tut1 * tut1 * tut1
+                + 0.093104 * tut1 * tut1
+                + (876600.0 * 3600.0 + 8640184.812866) * tut1
+                + 67310.54841;
+        double gmst = (Math.toRadians(seconds / 240.0)) % TWO_PI;
+        return gmst < 0.0 ? gmst + TWO_PI : gmst;
+    }
+    
+    public static double gmst(long timestampMillis) {
+        return gmst(julianDate(timestampMillis));
+    }
+    
+    /**
+     * Rotates a TEME position (km) into the Earth-fixed frame and converts it to
+     * geodetic latitude (deg), longitude (deg, -180..180] and altitude (km).
+     *
+     * @param rTeme TEME position, at least three elements
+     * @param gmst  Greenwich mean sidereal time in radians
+     * @param out   receives {latitude, longitude, altitude}
+     */
+    public static void temeToGeodetic(double[] rTeme, double gmst, double[] out) {
+        double cosG = Math.cos(gmst);
+        double sinG = Math.sin(gmst);
+        double x = cosG * rTeme[0] + sinG * rTeme[1];
+        double y = -sinG * rTeme[0] + cosG * rTeme[1];
+        double z = rTeme[2];
+        ecefToGeodetic(x, y, z, out);
+    }
+    
+    /**
+     * Rotates a TEME vector into the Earth-fixed frame (polar motion neglected).
+     */
+    public static void temeToEcef(double[] rTeme, double gmst, double[] out) {
+        double cosG = Math.cos(gmst);
+        double sinG = Math.sin(gmst);
+        double x = cosG * rTeme[0] + sinG * rTeme[1];
+        double y = -sinG * rTeme[0] + cosG * rTeme[1];
+        out[0] = x;
+        out[1] = y;
+        out[2] = rTeme[2];
+    }
+    
+    /**
+     * Converts geodetic latitude/longitude (deg) and altitude (km) to Earth-fixed km.
+     */
+    public static void geodeticToEcef(double latitude, double longitude, double altitude, double[] out) {
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        double sinLat = Math.sin(lat);
+        double cosLat = Math.cos(lat);
+        double n = WGS84_A / Math.sqrt(1.0 - WGS84_E2 * sinLat * sinLat);
+        out[0] = (n + altitude) * cosLat * Math.cos(lon);
+        out[1] = (n + altitude) * cosLat * Math.sin(lon);
+        out[2] = (n * (1.0 - WGS84_E2) + altitude) * sinLat;
+    }
+    
+    public static void ecefToGeodetic(double x, double y, double z, double[] out) {
+        double p = Math.sqrt(x * x + y * y);
+        double longitude = Math.atan2(y, x);
+        
+        // Fixed point iteration on latitude, converges in a handful of steps for orbital altitudes
+        double latitude = Math.atan2(z, p * (1.0 - WGS84_E2));
+        double n = WGS84_A;
+        for (int i = 0; i < 5; i++) {
+            double sinLat = Math.sin(latitude);
+            n = WGS84_A / Math.sqrt(1.0 - WGS84_E2 * sinLat * sinLat);
+            latitude = Math.atan2(z + n * WGS84_E2 * sinLat, p);
+        }
+        
+        double cosLat = Math.cos(latitude);
+        double altitude = Math.abs(cosLat) > 1e-10
+                ? p / cosLat - n
+                : Math.abs(z) - WGS84_A * Math.sqrt(1.0 - WGS84_E2);
+        
+        out[0] = Math.toDegrees(latitude);
+        out[1] = Math.toDegrees(longitude);
+        out[2] = altitude;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.satellite.propagation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-satellite {@link ChebyshevEphemeris} tables. A table is fitted the first
+ * time a satellite is evaluated, covers the next {@code span-hours}, and is
+ * refitted when a request falls outside it or it was built from a different
+ * propagator than the catalog now holds. {@link #invalidate} drops a table as
+ * soon as a new TLE is accepted, and {@link #retainOnly} the tables of
+ * satellites that are no longer propagated.
+ *
+ * Batches are evaluated through {@link BatchPropagator}, which passes
+ * {@link #evaluate} as its state function so fits run in parallel.
+ */
+@Component
+public class EphemerisCache {
+    
+    // Fit a little before the first request so slightly older timestamps still hit
+    private static final long LEAD_MILLIS = 60_000L;
+    
+    private final double toleranceKm;
+    private final long spanMillis;
+    private final double segmentMinutes;
+    private final int degree;
+    
+    private final Map<String, ChebyshevEphemeris> ephemerides = new ConcurrentHashMap<>();
+    private final AtomicLong fits = new AtomicLong();
+    
+    public EphemerisCache(@Value("${satellite.ephemeris.tolerance-km:0.01}") double toleranceKm,
+                          @Value("${satellite.ephemeris.span-hours:6}") int spanHours,
+                          @Value("${satellite.ephemeris.segment-minutes:20}") double segmentMinutes,
+                          @Value("${satellite.ephemeris.degree:10}") int degree) {
+        if (!(toleranceKm > 0.0) || spanHours <= 0 || !(segmentMinutes > 0.0) || degree < 2) {
+            throw new IllegalArgumentException("Invalid ephemeris cache settings");
+        }
+        this.toleranceKm = toleranceKm;
+        this.spanMillis = spanHours * 3_600_000L;
+        this.segmentMinutes = segmentMinutes;
+        this.degree = degree;
+    }
+    
+    /**
+     * TEME position (km) and velocity (km/s) into {@code rv}, from the cached fit
+     * where possible.
+     *
+     * @return false if the satellite cannot be propagated to that time
+     */
+    public boolean evaluate(Sgp4Propagator propagator, long timestampMillis, double[] rv) {
+        ChebyshevEphemeris ephemeris = ephemerides.get(propagator.getSatelliteId());
+        if (ephemeris == null || ephemeris.getSource() != propagator || !ephemeris.covers(timestampMillis)) {
+            ephemeris = ChebyshevEphemeris.fit(propagator, timestampMillis - LEAD_MILLIS,
+                    timestampMillis + spanMillis, segmentMinutes, degree, toleranceKm);
+            ephemerides.put(propagator.getSatelliteId(), ephemeris);
+            fits.incrementAndGet();
+        }
+        return ephemeris.evaluate(timestampMillis, rv);
+    }
+    
+    public void invalidate(String satelliteId) {
+        ephemerides.remove(satelliteId);
+    }
+    
+    /**
+     * Drops the tables of every satellite not among {@code propagators}.
+     */
+    public void retainOnly(Collection<Sgp4Propagator> propagators) {
+        Set<String> satelliteIds = new HashSet<>(propagators.size() * 2);
+        for (Sgp4Propagator propagator : propagators) {
+            satelliteIds.add(propagator.getSatelliteId());
+        }
+        ephemerides.keySet().retainAll(satelliteIds);
+    }
+    
+    public int size() {
+        return ephemerides.size();
+    }
+    
+    /** Number of tables fitted so far. */
+    public long getFitCount() {
+        return fits.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,290 @@
+package com.satellite.propagation;
+
+import com.satellite.model.NoradId;
+import com.satellite.model.TleData;
+import com.satellite.model.TleParser;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented store of mean orbital elements for a whole catalog.
+ *
+ * Each NORAD ID is assigned a dense int slot the first time it is seen; every
+ * element lives in a parallel primitive array at that slot, so a full-catalog
+ * scan walks contiguous memory instead of chasing one {@link TleData} object
+ * (and its two line Strings) per satellite. A new TLE overwrites its slot in place.
+ *
+ * Writes are serialised; {@link #scan(SlotVisitor)} holds the read lock for the
+ * duration of the scan so a visitor never sees a half-written element set.
+ */
+public class OrbitalElementStore implements TleParser.ElementSink {
+    
+    @FunctionalInterface
+    public interface SlotVisitor {
+        void visit(OrbitalElementStore store, int slot);
+    }
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SlotIndex index;
+    private int size;
+    
+    private int[] noradId;
+    private String[] name;
+    private long[] epochMillis;
+    private double[] meanMotion;       // rev/day
+    private double[] eccentricity;
+    private double[] inclination;      // deg
+    private double[] raan;             // deg
+    private double[] argumentOfPerigee; // deg
+    private double[] meanAnomaly;      // deg
+    private double[] bstar;
+    
+    public OrbitalElementStore() {
+        this(1024);
+    }
+    
+    public OrbitalElementStore(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.index = new SlotIndex(capacity);
+        this.noradId = new int[capacity];
+        this.name = new String[capacity];
+        this.epochMillis = new long[capacity];
+        this.meanMotion = new double[capacity];
+        this.eccentricity = new double[capacity];
+        this.inclination = new double[capacity];
+        this.raan = new double[capacity];
+        this.argumentOfPerigee = new double[capacity];
+        this.meanAnomaly = new double[capacity];
+        this.bstar = new double[capacity];
+    }
+    
+    /**
+     * Inserts or overwrites the element set for {@code tle}'s satellite.
+     *
+     * @return the slot holding the satellite
+     */
+    public int put(TleData tle) {
+        return put(NoradId.parse(tle.getSatelliteId()), tle.getSatelliteName(), tle.getEpochMillis(),
+                tle.getMeanMotion(), tle.getEccentricity(), tle.getInclination(), tle.getRaan(),
+                tle.getArgumentOfPerigee(), tle.getMeanAnomaly(), tle.getBstar());
+    }
+    
+    /**
+     * {@link TleParser.ElementSink} entry point, so a parser can write straight into the columns.
+     */
+    @Override
+    public void accept(int id, CharSequence satelliteName, long epoch, double meanMotionRevPerDay, double ecc,
+                       double inclinationDeg, double raanDeg, double argPerigeeDeg, double meanAnomalyDeg,
+                       double bstarTerm) {
+        put(id, satelliteName, epoch, meanMotionRevPerDay, ecc, inclinationDeg, raanDeg, argPerigeeDeg,
+                meanAnomalyDeg, bstarTerm);
+    }
+    
+    public int put(int id, CharSequence satelliteName, long epoch, double meanMotionRevPerDay, double ecc,
+                   double inclinationDeg, double raanDeg, double argPerigeeDeg, double meanAnomalyDeg,
+                   double bstarTerm) {
+        lock.writeLock().lock();
+        try {
+            int slot = index.get(id);
+            if (slot < 0) {
+                if (size == noradId.length) {
+                    grow();
+                }
+                slot = size++;
+                index.put(id, slot);
+                noradId[slot] = id;
+            }
+            // Keep the existing String when the name is unchanged to avoid allocating on every update
+            String currentName = name[slot];
+            if (currentName == null || !equalsTrimmed(currentName, satelliteName)) {
+                name[slot] = satelliteName.toString().trim();
+            }
+            epochMillis[slot] = epoch;
+            meanMotion[slot] = meanMotionRevPerDay;
+            eccentricity[slot] = ecc;
+            inclination[slot] = inclinationDeg;
+            raan[slot] = raanDeg;
+            argumentOfPerigee[slot] = argPerigeeDeg;
+            meanAnomaly[slot] = meanAnomalyDeg;
+            bstar[slot] = bstarTerm;
+            return slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * @return the slot for {@code id}, or -1 if the satellite is not in the store
+     */
+    public int slotOf(int id) {
+        lock.readLock().lock();
+        try {
+            return index.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Visits every occupied slot in ascending order under the read lock.
+     */
+    public void scan(SlotVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                visitor.visit(this, slot);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Whether {@code slot} already holds {@code tle}'s element set: the same epoch
+     * and mean elements, i.e. the same TLE lines.
+     */
+    public boolean holds(int slot, TleData tle) {
+        lock.readLock().lock();
+        try {
+            return epochMillis[slot] == tle.getEpochMillis()
+                    && meanMotion[slot] == tle.getMeanMotion()
+                    && eccentricity[slot] == tle.getEccentricity()
+                    && inclination[slot] == tle.getInclination()
+                    && raan[slot] == tle.getRaan()
+                    && argumentOfPerigee[slot] == tle.getArgumentOfPerigee()
+                    && meanAnomaly[slot] == tle.getMeanAnomaly()
+                    && bstar[slot] == tle.getBstar();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Builds an SGP4 propagator straight from the columns of {@code slot}. Derived
+     * quantities such as perigee and apogee altitude live on the propagator.
+     *
+     * @throws IllegalArgumentException if the elements cannot be propagated
+     */
+    public Sgp4Propagator createPropagator(int slot) {
+        lock.readLock().lock();
+        try {
+            return new Sgp4Propagator(NoradId.format(noradId[slot]), name[slot], epochMillis[slot],
+                    meanMotion[slot], eccentricity[slot], inclination[slot], raan[slot],
+                    argumentOfPerigee[slot], meanAnomaly[slot], bstar[slot]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Column accessors; callers outside scan() should hold a slot obtained from slotOf()
+    public int noradId(int slot) { return noradId[slot]; }
+    public String name(int slot) { return name[slot]; }
+    public long epochMillis(int slot) { return epochMillis[slot]; }
+    public double meanMotion(int slot) { return meanMotion[slot]; }
+    public double eccentricity(int slot) { return eccentricity[slot]; }
+    public double inclination(int slot) { return inclination[slot]; }
+    public double raan(int slot) { return raan[slot]; }
+    public double argumentOfPerigee(int slot) { return argumentOfPerigee[slot]; }
+    public double meanAnomaly(int slot) { return meanAnomaly[slot]; }
+    public double bstar(int slot) { return bstar[slot]; }
+    
+    private static boolean equalsTrimmed(String current, CharSequence candidate) {
+        int start = 0;
+        int end = candidate.length();
+        while (start < end && candidate.charAt(start) <= ' ') start++;
+        while (end > start && candidate.charAt(end - 1) <= ' ') end--;
+        if (end - start != current.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (candidate.charAt(i) != current.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void grow() {
+        int capacity = noradId.length * 2;
+        noradId = Arrays.copyOf(noradId, capacity);
+        name = Arrays.copyOf(name, capacity);
+        epochMillis = Arrays.copyOf(epochMillis, capacity);
+        meanMotion = Arrays.copyOf(meanMotion, capacity);
+        eccentricity = Arrays.copyOf(eccentricity, capacity);
+        inclination = Arrays.copyOf(inclination, capacity);
+        raan = Arrays.copyOf(raan, capacity);
+        argumentOfPerigee = Arrays.copyOf(argumentOfPerigee, capacity);
+        meanAnomaly = Arrays.copyOf(meanAnomaly, capacity);
+        bstar = Arrays.copyOf(bstar, capacity);
+    }
+    
+    /**
+     * Open-addressing int-to-int map from NORAD ID to slot (linear probing, no removal).
+     */
+    private static final class SlotIndex {
+        private static final int EMPTY = -1;
+        
+        private int[] keys;
+        private int[] values;
+        private int count;
+        
+        SlotIndex(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+        
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                int k = keys[i];
+                if (k == key) return values[i];
+                if (k == EMPTY) return -1;
+            }
+        }
+        
+        void put(int key, int value) {
+            if ((count + 1) * 2 > keys.length) {
+                rehash();
+            }
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (keys[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == EMPTY) count++;
+            keys[i] = key;
+            values[i] = value;
+        }
+        
+        private void rehash() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            Arrays.fill(keys, EMPTY);
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+        
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
\ No newline at end of file
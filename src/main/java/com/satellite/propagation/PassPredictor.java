@@ -0,0 +1,249 @@
+package com.satellite.propagation;
+
+import com.satellite.model.SatellitePass;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Predicts passes (AOS/LOS, maximum elevation and rise/set azimuths) of
+ * satellites over ground observers from their SGP4 propagators.
+ *
+ * Each satellite is propagated once per grid step into an Earth-fixed
+ * trajectory, and every observer is then evaluated against that shared
+ * trajectory with a couple of dot products, so adding observers costs far
+ * less than adding satellites. Horizon crossings found on the grid are refined
+ * by bisection and the culmination by golden-section search.
+ *
+ * The step grid is aligned to absolute multiples of the step size and times are
+ * rounded to whole seconds, so the same element set yields identical pass start
+ * times from one cycle to the next. Passes shorter than one step can be missed.
+ * Deep-space objects get no passes, since they would need SDP4 (see {@link Sgp4Propagator}).
+ */
+@Component
+public class PassPredictor {
+    
+    private static final long REFINE_TOLERANCE_MILLIS = 10;
+    private static final double GOLDEN = (Math.sqrt(5.0) - 1.0) / 2.0;
+    
+    private final ForkJoinPool pool;
+    private final long stepMillis;
+    private final double minElevation;
+    
+    public PassPredictor(@Value("${satellite.propagation.parallelism:0}") int parallelism,
+                         @Value("${satellite.polling.pass-prediction.step-seconds:30}") int stepSeconds,
+                         @Value("${satellite.polling.pass-prediction.min-elevation:10}") double minElevation) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.stepMillis = stepSeconds * 1000L;
+        this.minElevation = minElevation;
+    }
+    
+    /**
+     * Ground observer with its Earth-fixed position and local east/north/up axes precomputed.
+     */
+    public static final class Observer {
+        private final double latitude;
+        private final double longitude;
+        private final double[] position = new double[3];
+        private final double eastX, eastY;
+        private final double northX, northY, northZ;
+        private final double upX, upY, upZ;
+        
+        public Observer(double latitude, double longitude, double altitudeKm) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            EarthFrames.geodeticToEcef(latitude, longitude, altitudeKm, position);
+            double lat = Math.toRadians(latitude);
+            double lon = Math.toRadians(longitude);
+            double sinLat = Math.sin(lat), cosLat = Math.cos(lat);
+            double sinLon = Math.sin(lon), cosLon = Math.cos(lon);
+            eastX = -sinLon;
+            eastY = cosLon;
+            northX = -sinLat * cosLon;
+            northY = -sinLat * sinLon;
+            northZ = cosLat;
+            upX = cosLat * cosLon;
+            upY = cosLat * sinLon;
+            upZ = sinLat;
+        }
+        
+        public double getLatitude() { return latitude; }
+        public double getLongitude() { return longitude; }
+        
+        // Sine of the elevation of an Earth-fixed point seen from this observer
+        double sinElevation(double x, double y, double z) {
+            double dx = x - position[0], dy = y - position[1], dz = z - position[2];
+            double range = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            return (dx * upX + dy * upY + dz * upZ) / range;
+        }
+        
+        double azimuth(double x, double y, double z) {
+            double dx = x - position[0], dy = y - position[1], dz = z - position[2];
+            double east = dx * eastX + dy * eastY;
+            double north = dx * northX + dy * northY + dz * northZ;
+            double az = Math.toDegrees(Math.atan2(east, north));
+            return az < 0.0 ? az + 360.0 : az;
+        }
+    }
+    
+    /**
+     * Predicts the passes of every satellite over every observer that both rise
+     * and set within {@code [startMillis, endMillis]}, spreading satellites over
+     * the worker pool.
+     */
+    public List<SatellitePass> predictAll(List<Sgp4Propagator> propagators, List<Observer> observers,
+                                          long startMillis, long endMillis) {
+        if (propagators.isEmpty() || observers.isEmpty()) {
+            return List.of();
+        }
+        return pool.submit(() -> propagators.parallelStream()
+                        .flatMap(p -> predict(p, observers, startMillis, endMillis).stream())
+                        .toList())
+                .join();
+    }
+    
+    public List<SatellitePass> predict(Sgp4Propagator propagator, List<Observer> observers,
+                                       long startMillis, long endMillis) {
+        if (propagator.isDeepSpace()) {
+            return List.of();
+        }
+        long first = Math.floorDiv(startMillis + stepMillis - 1, stepMillis) * stepMillis;
+        int steps = (int) ((endMillis - first) / stepMillis) + 1;
+        if (steps < 2) {
+            return List.of();
+        }
+        
+        // Shared Earth-fixed trajectory on the step grid
+        double[] xs = new double[steps];
+        double[] ys = new double[steps];
+        double[] zs = new double[steps];
+        boolean[] ok = new boolean[steps];
+        double[] rv = new double[6];
+        double[] ecef = new double[3];
+        for (int i = 0; i < steps; i++) {
+            long t = first + i * stepMillis;
+            if (propagator.propagate(propagator.minutesSinceEpoch(t), rv)) {
+                EarthFrames.temeToEcef(rv, EarthFrames.gmst(t), ecef);
+                xs[i] = ecef[0];
+                ys[i] = ecef[1];
+                zs[i] = ecef[2];
+                ok[i] = true;
+            }
+        }
+        
+        double sinMin = Math.sin(Math.toRadians(minElevation));
+        List<SatellitePass> passes = new ArrayList<>();
+        for (Observer observer : observers) {
+            boolean previousUp = ok[0] && observer.sinElevation(xs[0], ys[0], zs[0]) >= sinMin;
+            int riseIndex = -1;
+            int peakIndex = -1;
+            double peak = -2.0;
+            for (int i = 1; i < steps; i++) {
+                if (!ok[i]) {
+                    riseIndex = -1;
+                    previousUp = false;
+                    continue;
+                }
+                double sinEl = observer.sinElevation(xs[i], ys[i], zs[i]);
+                boolean up = sinEl >= sinMin;
+                if (up && !previousUp) {
+                    riseIndex = i;
+                    peak = -2.0;
+                }
+                if (up && riseIndex >= 0 && sinEl > peak) {
+                    peak = sinEl;
+                    peakIndex = i;
+                }
+                if (!up && previousUp && riseIndex >= 0) {
+                    passes.add(refinePass(propagator, observer, sinMin, first, riseIndex, i, peakIndex));
+                    riseIndex = -1;
+                }
+                previousUp = up;
+            }
+        }
+        return passes;
+    }
+    
+    private SatellitePass refinePass(Sgp4Propagator propagator, Observer observer, double sinMin,
+                                     long first, int riseIndex, int setIndex, int peakIndex) {
+        double[] rv = new double[6];
+        double[] ecef = new double[3];
+        long aos = findCrossing(propagator, observer, sinMin, first + (riseIndex - 1) * stepMillis,
+                first + riseIndex * stepMillis, true, rv, ecef);
+        long los = findCrossing(propagator, observer, sinMin, first + (setIndex - 1) * stepMillis,
+                first + setIndex * stepMillis, false, rv, ecef);
+        long culmination = findCulmination(propagator, observer, Math.max(aos, first + (peakIndex - 1) * stepMillis),
+                Math.min(los, first + (peakIndex + 1) * stepMillis), rv, ecef);
+        
+        aos = Math.round(aos / 1000.0) * 1000L;
+        los = Math.round(los / 1000.0) * 1000L;
+        
+        return SatellitePass.builder()
+                .satelliteId(propagator.getSatelliteId())
+                .satelliteName(propagator.getSatelliteName())
+                .observerLatitude(observer.getLatitude())
+                .observerLongitude(observer.getLongitude())
+                .startTime(aos)
+                .endTime(los)
+                .maxElevation(Math.toDegrees(Math.asin(sinElevationAt(propagator, observer, culmination, rv, ecef))))
+                .startAzimuth(azimuthAt(propagator, observer, aos, rv, ecef))
+                .endAzimuth(azimuthAt(propagator, observer, los, rv, ecef))
+                .build();
+    }
+    
+    private long findCrossing(Sgp4Propagator propagator, Observer observer, double sinMin,
+                              long low, long high, boolean rising, double[] rv, double[] ecef) {
+        while (high - low > REFINE_TOLERANCE_MILLIS) {
+            long mid = (low + high) >>> 1;
+            boolean up = sinElevationAt(propagator, observer, mid, rv, ecef) >= sinMin;
+            if (up == rising) {
+                high = mid;
+            } else {
+                low = mid;
+            }
+        }
+        return high;
+    }
+    
+    private long findCulmination(Sgp4Propagator propagator, Observer observer, long low, long high,
+                                 double[] rv, double[] ecef) {
+        double a = low, b = high;
+        double c = b - GOLDEN * (b - a);
+        double d = a + GOLDEN * (b - a);
+        while (b - a > REFINE_TOLERANCE_MILLIS) {
+            if (sinElevationAt(propagator, observer, (long) c, rv, ecef)
+                    > sinElevationAt(propagator, observer, (long) d, rv, ecef)) {
+                b = d;
+            } else {
+                a = c;
+            }
+            c = b - GOLDEN * (b - a);
+            d = a + GOLDEN * (b - a);
+        }
+        return (long) ((a + b) / 2.0);
+    }
+    
+    private double sinElevationAt(Sgp4Propagator propagator, Observer observer, long t, double[] rv, double[] ecef) {
+        if (!propagator.propagate(propagator.minutesSinceEpoch(t), rv)) {
+            return -1.0;
+        }
+        EarthFrames.temeToEcef(rv, EarthFrames.gmst(t), ecef);
+        return observer.sinElevation(ecef[0], ecef[1], ecef[2]);
+    }
+    
+    private double azimuthAt(Sgp4Propagator propagator, Observer observer, long t, double[] rv, double[] ecef) {
+        propagator.propagate(propagator.minutesSinceEpoch(t), rv);
+        EarthFrames.temeToEcef(rv, EarthFrames.gmst(t), ecef);
+        return observer.azimuth(ecef[0], ecef[1], ecef[2]);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
\ No newline at end of file
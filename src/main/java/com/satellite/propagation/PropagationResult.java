@@ -0,0 +1,70 @@
+package com.satellite.propagation;
+
+import com.satellite.model.SatellitePosition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column-oriented output of a batch propagation: slot {@code i} holds the state
+ * of the {@code i}-th propagator passed to {@link BatchPropagator#propagate}.
+ */
+public class PropagationResult {
+    
+    private final List<Sgp4Propagator> propagators;
+    private final long timestamp;
+    final double[] latitude;
+    final double[] longitude;
+    final double[] altitude;
+    final double[] velocity;
+    final boolean[] valid;
+    
+    PropagationResult(List<Sgp4Propagator> propagators, long timestamp) {
+        int size = propagators.size();
+        this.propagators = propagators;
+        this.timestamp = timestamp;
+        this.latitude = new double[size];
+        this.longitude = new double[size];
+        this.altitude = new double[size];
+        this.velocity = new double[size];
+        this.valid = new boolean[size];
+    }
+    
+    public int size() { return valid.length; }
+    public long getTimestamp() { return timestamp; }
+    public boolean isValid(int i) { return valid[i]; }
+    public double getLatitude(int i) { return latitude[i]; }
+    public double getLongitude(int i) { return longitude[i]; }
+    public double getAltitude(int i) { return altitude[i]; }
+    public double getVelocity(int i) { return velocity[i]; }
+    public Sgp4Propagator getPropagator(int i) { return propagators.get(i); }
+    
+    public int getValidCount() {
+        int count = 0;
+        for (boolean ok : valid) {
+            if (ok) count++;
+        }
+        return count;
+    }
+    
+    /**
+     * Materialises the successfully propagated slots as {@link SatellitePosition}s.
+     */
+    public List<SatellitePosition> getPositions() {
+        List<SatellitePosition> positions = new ArrayList<>(valid.length);
+        for (int i = 0; i < valid.length; i++) {
+            if (!valid[i]) continue;
+            Sgp4Propagator propagator = propagators.get(i);
+            positions.add(SatellitePosition.builder()
+                    .satelliteId(propagator.getSatelliteId())
+                    .satelliteName(propagator.getSatelliteName())
+                    .latitude(latitude[i])
+                    .longitude(longitude[i])
+                    .altitude(altitude[i])
+                    .velocity(velocity[i])
+                    .timestamp(timestamp)
+                    .build());
+        }
+        return positions;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,371 @@
+package com.satellite.propagation;
+
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+
+/**
+ * In-process SGP4 propagator for a single element set, following the
+ * Spacetrack Report #3 / Vallado (2006) formulation with WGS-72 constants.
+ *
+ * Initialisation happens once in the constructor; {@link #propagate(double, double[])}
+ * does not allocate, so a propagator can be evaluated at any rate.
+ *
+ * Objects with periods of 225 minutes or more need the SDP4 deep-space
+ * extension (lunar-solar and resonance terms), which is not implemented. They
+ * are flagged by {@link #isDeepSpace()} and propagated here with the simplified
+ * near-earth model only, which drifts by tens of kilometres a day or more, so
+ * position output, pass prediction and conjunction screening all skip them.
+ */
+public class Sgp4Propagator {
+    
+    // WGS-72 constants, as used to generate the published element sets
+    static final double MU = 398600.8; // km^3/s^2
+    static final double EARTH_RADIUS = 6378.135; // km
+    static final double XKE = 60.0 / Math.sqrt(EARTH_RADIUS * EARTH_RADIUS * EARTH_RADIUS / MU);
+    static final double J2 = 0.001082616;
+    static final double J3 = -0.00000253881;
+    static final double J4 = -0.00000165597;
+    static final double J3OJ2 = J3 / J2;
+    static final double VKM_PER_SEC = EARTH_RADIUS * XKE / 60.0;
+    
+    private static final double X2O3 = 2.0 / 3.0;
+    private static final double TWO_PI = EarthFrames.TWO_PI;
+    private static final double MINUTES_PER_DAY = 1440.0;
+    private static final double DEEP_SPACE_PERIOD_MINUTES = 225.0;
+    
+    private final String satelliteId;
+    private final String satelliteName;
+    private final long epochMillis;
+    private final boolean deepSpace;
+    private final double perigeeAltitude; // km, from the mean elements
+    private final double apogeeAltitude;  // km, from the mean elements
+    
+    // Mean elements at epoch
+    private final double ecco;
+    private final double inclo;
+    private final double nodeo;
+    private final double argpo;
+    private final double mo;
+    private final double bstar;
+    private final double noUnkozai;
+    
+    // Initialised coefficients
+    private boolean isimp;
+    private double aycof, con41, cc1, cc4, cc5, d2, d3, d4, delmo, eta, argpdot, omgcof,
+            sinmao, t2cof, t3cof, t4cof, t5cof, x1mth2, x7thm1, mdot, nodedot, xlcof, xmcof, nodecf;
+    
+    public Sgp4Propagator(TleData tle) {
+        this(tle.getSatelliteId(), tle.getSatelliteName(), tle.getEpochMillis(), tle.getMeanMotion(),
+                tle.getEccentricity(), tle.getInclination(), tle.getRaan(), tle.getArgumentOfPerigee(),
+                tle.getMeanAnomaly(), tle.getBstar());
+    }
+    
+    /**
+     * Initialises from raw mean elements (angles in degrees, mean motion in rev/day).
+     */
+    public Sgp4Propagator(String satelliteId, String satelliteName, long epochMillis, double meanMotion,
+                          double eccentricity, double inclination, double raan, double argumentOfPerigee,
+                          double meanAnomaly, double bstar) {
+        this.satelliteId = satelliteId;
+        this.satelliteName = satelliteName;
+        this.epochMillis = epochMillis;
+        
+        double noKozai = meanMotion * TWO_PI / MINUTES_PER_DAY; // rad/min
+        if (!(noKozai > 0.0)) {
+            throw new IllegalArgumentException("Mean motion must be positive for satellite " + satelliteId);
+        }
+        if (eccentricity < 0.0 || eccentricity >= 1.0) {
+            throw new IllegalArgumentException("Eccentricity out of range for satellite " + satelliteId);
+        }
+        
+        this.ecco = eccentricity;
+        this.inclo = Math.toRadians(inclination);
+        this.nodeo = Math.toRadians(raan);
+        this.argpo = Math.toRadians(argumentOfPerigee);
+        this.mo = Math.toRadians(meanAnomaly);
+        this.bstar = bstar;
+        
+        // Recover the original (un-Kozai'd) mean motion and semi-major axis
+        double eccsq = ecco * ecco;
+        double omeosq = 1.0 - eccsq;
+        double rteosq = Math.sqrt(omeosq);
+        double cosio = Math.cos(inclo);
+        double cosio2 = cosio * cosio;
+        
+        double ak = Math.pow(XKE / noKozai, X2O3);
+        double d1 = 0.75 * J2 * (3.0 * cosio2 - 1.0) / (rteosq * omeosq);
+        double del = d1 / (ak * ak);
+        double adel = ak * (1.0 - del * del - del * (1.0 / 3.0 + 134.0 * del * del / 81.0));
+        del = d1 / (adel * adel);
+        this.noUnkozai = noKozai / (1.0 + del);
+        
+        double ao = Math.pow(XKE / noUnkozai, X2O3);
+        double sinio = Math.sin(inclo);
+        double po = ao * omeosq;
+        double con42 = 1.0 - 5.0 * cosio2;
+        this.con41 = -con42 - cosio2 - cosio2;
+        double posq = po * po;
+        double rp = ao * (1.0 - ecco);
+        
+        this.deepSpace = TWO_PI / noUnkozai >= DEEP_SPACE_PERIOD_MINUTES;
+        this.perigeeAltitude = (rp - 1.0) * EARTH_RADIUS;
+        this.apogeeAltitude = (ao * (1.0 + ecco) - 1.0) * EARTH_RADIUS;
+        
+        initialise(ao, rp, omeosq, rteosq, posq, sinio, cosio, cosio2, con42);
+    }
+    
+    private void initialise(double ao, double rp, double omeosq, double rteosq, double posq,
+                            double sinio, double cosio, double cosio2, double con42) {
+        double ss = 78.0 / EARTH_RADIUS + 1.0;
+        double qzms2t = Math.pow((120.0 - 78.0) / EARTH_RADIUS, 4);
+        
+        // Perigee below 220 km: drop the higher order drag terms
+        isimp = rp < (220.0 / EARTH_RADIUS + 1.0) || deepSpace;
+        
+        double sfour = ss;
+        double qzms24 = qzms2t;
+        double perige = (rp - 1.0) * EARTH_RADIUS;
+        if (perige < 156.0) {
+            sfour = perige < 98.0 ? 20.0 : perige - 78.0;
+            qzms24 = Math.pow((120.0 - sfour) / EARTH_RADIUS, 4);
+            sfour = sfour / EARTH_RADIUS + 1.0;
+        }
+        
+        double pinvsq = 1.0 / posq;
+        double tsi = 1.0 / (ao - sfour);
+        eta = ao * ecco * tsi;
+        double etasq = eta * eta;
+        double eeta = ecco * eta;
+        double psisq = Math.abs(1.0 - etasq);
+        double coef = qzms24 * Math.pow(tsi, 4);
+        double coef1 = coef / Math.pow(psisq, 3.5);
+        double cc2 = coef1 * noUnkozai * (ao * (1.0 + 1.5 * etasq + eeta * (4.0 + etasq))
+                + 0.375 * J2 * tsi / psisq * con41 * (8.0 + 3.0 * etasq * (8.0 + etasq)));
+        cc1 = bstar * cc2;
+        double cc3 = 0.0;
+        if (ecco > 1.0e-4) {
+            cc3 = -2.0 * coef * tsi * J3OJ2 * noUnkozai * sinio / ecco;
+        }
+        x1mth2 = 1.0 - cosio2;
+        cc4 = 2.0 * noUnkozai * coef1 * ao * omeosq
+                * (eta * (2.0 + 0.5 * etasq) + ecco * (0.5 + 2.0 * etasq)
+                - J2 * tsi / (ao * psisq)
+                * (-3.0 * con41 * (1.0 - 2.0 * eeta + etasq * (1.5 - 0.5 * eeta))
+                + 0.75 * x1mth2 * (2.0 * etasq - eeta * (1.0 + etasq)) * Math.cos(2.0 * argpo)));
+        cc5 = 2.0 * coef1 * ao * omeosq * (1.0 + 2.75 * (etasq + eeta) + eeta * etasq);
+        
+        double cosio4 = cosio2 * cosio2;
+        double temp1 = 1.5 * J2 * pinvsq * noUnkozai;
+        double temp2 = 0.5 * temp1 * J2 * pinvsq;
+        double temp3 = -0.46875 * J4 * pinvsq * pinvsq * noUnkozai;
+        mdot = noUnkozai + 0.5 * temp1 * rteosq * con41
+                + 0.0625 * temp2 * rteosq * (13.0 - 78.0 * cosio2 + 137.0 * cosio4);
+        argpdot = -0.5 * temp1 * con42 + 0.0625 * temp2 * (7.0 - 114.0 * cosio2 + 395.0 * cosio4)
+                + temp3 * (3.0 - 36.0 * cosio2 + 49.0 * cosio4);
+        double xhdot1 = -temp1 * cosio;
+        nodedot = xhdot1 + (0.5 * temp2 * (4.0 - 19.0 * cosio2) + 2.0 * temp3 * (3.0 - 7.0 * cosio2)) * cosio;
+        omgcof = bstar * cc3 * Math.cos(argpo);
+        xmcof = 0.0;
+        if (ecco > 1.0e-4) {
+            xmcof = -X2O3 * coef * bstar / eeta;
+        }
+        nodecf = 3.5 * omeosq * xhdot1 * cc1;
+        t2cof = 1.5 * cc1;
+        
+        // Avoid a divide by zero for inclinations of exactly 180 degrees
+        double denominator = Math.abs(cosio + 1.0) > 1.5e-12 ? 1.0 + cosio : 1.5e-12;
+        xlcof = -0.25 * J3OJ2 * sinio * (3.0 + 5.0 * cosio) / denominator;
+        aycof = -0.5 * J3OJ2 * sinio;
+        delmo = Math.pow(1.0 + eta * Math.cos(mo), 3);
+        sinmao = Math.sin(mo);
+        x7thm1 = 7.0 * cosio2 - 1.0;
+        
+        if (!isimp) {
+            double cc1sq = cc1 * cc1;
+            d2 = 4.0 * ao * tsi * cc1sq;
+            double temp = d2 * tsi * cc1 / 3.0;
+            d3 = (17.0 * ao + sfour) * temp;
+            d4 = 0.5 * temp * ao * tsi * (221.0 * ao + 31.0 * sfour) * cc1;
+            t3cof = d2 + 2.0 * cc1sq;
+            t4cof = 0.25 * (3.0 * d3 + cc1 * (12.0 * d2 + 10.0 * cc1sq));
+            t5cof = 0.2 * (3.0 * d4 + 12.0 * cc1 * d3 + 6.0 * d2 * d2 + 15.0 * cc1sq * (2.0 * d2 + cc1sq));
+        }
+    }
+    
+    /**
+     * Propagates to {@code tsince} minutes from the element epoch.
+     *
+     * @param tsince minutes since epoch (may be negative)
+     * @param rv     receives TEME position (km) in [0..2] and velocity (km/s) in [3..5]
+     * @return {@code false} if the orbit has decayed or the elements became invalid
+     */
+    public boolean propagate(double tsince, double[] rv) {
+        double xmdf = mo + mdot * tsince;
+        double argpdf = argpo + argpdot * tsince;
+        double nodedf = nodeo + nodedot * tsince;
+        double argpm = argpdf;
+        double mm = xmdf;
+        double t2 = tsince * tsince;
+        double nodem = nodedf + nodecf * t2;
+        double tempa = 1.0 - cc1 * tsince;
+        double tempe = bstar * cc4 * tsince;
+        double templ = t2cof * t2;
+        
+        if (!isimp) {
+            double delomg = omgcof * tsince;
+            double delmtemp = 1.0 + eta * Math.cos(xmdf);
+            double delm = xmcof * (delmtemp * delmtemp * delmtemp - delmo);
+            double temp = delomg + delm;
+            mm = xmdf + temp;
+            argpm = argpdf - temp;
+            double t3 = t2 * tsince;
+            double t4 = t3 * tsince;
+            tempa = tempa - d2 * t2 - d3 * t3 - d4 * t4;
+            tempe = tempe + bstar * cc5 * (Math.sin(mm) - sinmao);
+            templ = templ + t3cof * t3 + t4 * (t4cof + tsince * t5cof);
+        }
+        
+        double nm = noUnkozai;
+        double em = ecco;
+        double inclm = inclo;
+        if (nm <= 0.0) {
+            return false;
+        }
+        
+        double am = Math.pow(XKE / nm, X2O3) * tempa * tempa;
+        nm = XKE / Math.pow(am, 1.5);
+        em = em - tempe;
+        if (em >= 1.0 || em < -0.001) {
+            return false;
+        }
+        if (em < 1.0e-6) {
+            em = 1.0e-6;
+        }
+        mm = mm + noUnkozai * templ;
+        double xlm = mm + argpm + nodem;
+        
+        nodem = nodem % TWO_PI;
+        argpm = argpm % TWO_PI;
+        xlm = xlm % TWO_PI;
+        mm = (xlm - argpm - nodem) % TWO_PI;
+        
+        double sinip = Math.sin(inclm);
+        double cosip = Math.cos(inclm);
+        
+        // Long period periodics
+        double axnl = em * Math.cos(argpm);
+        double temp = 1.0 / (am * (1.0 - em * em));
+        double aynl = em * Math.sin(argpm) + temp * aycof;
+        double xl = mm + argpm + nodem + temp * xlcof * axnl;
+        
+        // Solve Kepler's equation
+        double u = (xl - nodem) % TWO_PI;
+        double eo1 = u;
+        double tem5 = 9999.9;
+        double sineo1 = 0.0;
+        double coseo1 = 0.0;
+        for (int ktr = 1; Math.abs(tem5) >= 1.0e-12 && ktr <= 10; ktr++) {
+            sineo1 = Math.sin(eo1);
+            coseo1 = Math.cos(eo1);
+            tem5 = 1.0 - coseo1 * axnl - sineo1 * aynl;
+            tem5 = (u - aynl * coseo1 + axnl * sineo1 - eo1) / tem5;
+            if (Math.abs(tem5) >= 0.95) {
+                tem5 = tem5 > 0.0 ? 0.95 : -0.95;
+            }
+            eo1 += tem5;
+        }
+        
+        // Short period preliminary quantities
+        double ecose = axnl * coseo1 + aynl * sineo1;
+        double esine = axnl * sineo1 - aynl * coseo1;
+        double el2 = axnl * axnl + aynl * aynl;
+        double pl = am * (1.0 - el2);
+        if (pl < 0.0) {
+            return false;
+        }
+        
+        double rl = am * (1.0 - ecose);
+        double rdotl = Math.sqrt(am) * esine / rl;
+        double rvdotl = Math.sqrt(pl) / rl;
+        double betal = Math.sqrt(1.0 - el2);
+        temp = esine / (1.0 + betal);
+        double sinu = am / rl * (sineo1 - aynl - axnl * temp);
+        double cosu = am / rl * (coseo1 - axnl + aynl * temp);
+        double su = Math.atan2(sinu, cosu);
+        double sin2u = (cosu + cosu) * sinu;
+        double cos2u = 1.0 - 2.0 * sinu * sinu;
+        temp = 1.0 / pl;
+        double temp1 = 0.5 * J2 * temp;
+        double temp2 = temp1 * temp;
+        
+        // Update for short period periodics
+        double mrt = rl * (1.0 - 1.5 * temp2 * betal * con41) + 0.5 * temp1 * x1mth2 * cos2u;
+        su = su - 0.25 * temp2 * x7thm1 * sin2u;
+        double xnode = nodem + 1.5 * temp2 * cosip * sin2u;
+        double xinc = inclm + 1.5 * temp2 * cosip * sinip * cos2u;
+        double mvt = rdotl - nm * temp1 * x1mth2 * sin2u / XKE;
+        double rvdot = rvdotl + nm * temp1 * (x1mth2 * cos2u + 1.5 * con41) / XKE;
+        
+        // Orientation vectors
+        double sinsu = Math.sin(su);
+        double cossu = Math.cos(su);
+        double snod = Math.sin(xnode);
+        double cnod = Math.cos(xnode);
+        double sini = Math.sin(xinc);
+        double cosi = Math.cos(xinc);
+        double xmx = -snod * cosi;
+        double xmy = cnod * cosi;
+        double ux = xmx * sinsu + cnod * cossu;
+        double uy = xmy * sinsu + snod * cossu;
+        double uz = sini * sinsu;
+        double vx = xmx * cossu - cnod * sinsu;
+        double vy = xmy * cossu - snod * sinsu;
+        double vz = sini * cossu;
+        
+        rv[0] = mrt * ux * EARTH_RADIUS;
+        rv[1] = mrt * uy * EARTH_RADIUS;
+        rv[2] = mrt * uz * EARTH_RADIUS;
+        rv[3] = (mvt * ux + rvdot * vx) * VKM_PER_SEC;
+        rv[4] = (mvt * uy + rvdot * vy) * VKM_PER_SEC;
+        rv[5] = (mvt * uz + rvdot * vz) * VKM_PER_SEC;
+        
+        // Below the surface: the object has decayed
+        return mrt >= 1.0;
+    }
+    
+    /**
+     * Propagates to an absolute time and converts the result to the geodetic
+     * {@link SatellitePosition} model used by the rest of the pipeline.
+     *
+     * @throws IllegalStateException if the elements cannot be propagated to that time
+     */
+    public SatellitePosition positionAt(long timestampMillis) {
+        double[] rv = new double[6];
+        double[] geodetic = new double[3];
+        if (!propagate(minutesSinceEpoch(timestampMillis), rv)) {
+            throw new IllegalStateException("SGP4 propagation failed for satellite " + satelliteId);
+        }
+        EarthFrames.temeToGeodetic(rv, EarthFrames.gmst(timestampMillis), geodetic);
+        
+        return SatellitePosition.builder()
+                .satelliteId(satelliteId)
+                .satelliteName(satelliteName)
+                .latitude(geodetic[0])
+                .longitude(geodetic[1])
+                .altitude(geodetic[2])
+                .velocity(Math.sqrt(rv[3] * rv[3] + rv[4] * rv[4] + rv[5] * rv[5]))
+                .timestamp(timestampMillis)
+                .build();
+    }
+    
+    public double minutesSinceEpoch(long timestampMillis) {
+        return (timestampMillis - epochMillis) / 60_000.0;
+    }
+    
+    public String getSatelliteId() { return satelliteId; }
+    public String getSatelliteName() { return satelliteName; }
+    public long getEpochMillis() { return epochMillis; }
+    public boolean isDeepSpace() { return deepSpace; }
+    public double getPerigeeAltitude() { return perigeeAltitude; }
+    public double getApogeeAltitude() { return apogeeAltitude; }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.satellite.serialization;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer with Avro binary primitives (zig-zag varints,
+ * little-endian doubles, length-prefixed UTF-8 strings). It is also an
+ * {@link OutputStream}, so an Avro {@code BinaryEncoder} can write into the same
+ * buffer. Meant to be reset and reused by one thread; not thread-safe.
+ */
+public final class AvroBinaryWriter extends OutputStream {
+    
+    private byte[] buf;
+    private int count;
+    
+    public AvroBinaryWriter(int initialCapacity) {
+        this.buf = new byte[initialCapacity];
+    }
+    
+    public void reset() {
+        count = 0;
+    }
+    
+    public int size() {
+        return count;
+    }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+    
+    @Override
+    public void write(int b) {
+        ensureCapacity(1);
+        buf[count++] = (byte) b;
+    }
+    
+    @Override
+    public void write(byte[] bytes, int off, int len) {
+        ensureCapacity(len);
+        System.arraycopy(bytes, off, buf, count, len);
+        count += len;
+    }
+    
+    /** Writes a plain 4-byte big-endian int, as used by the Confluent wire header. */
+    public void writeFixedInt(int value) {
+        ensureCapacity(4);
+        buf[count++] = (byte) (value >>> 24);
+        buf[count++] = (byte) (value >>> 16);
+        buf[count++] = (byte) (value >>> 8);
+        buf[count++] = (byte) value;
+    }
+    
+    public void writeInt(int value) {
+        writeVarLong(((long) value << 1) ^ (value >> 31));
+    }
+    
+    public void writeLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+    
+    public void writeDouble(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buf[count++] = (byte) (bits >>> (i * 8));
+        }
+    }
+    
+    /**
+     * Writes an Avro string. ASCII (every TLE, ID and source string we emit) is
+     * copied char by char without an intermediate byte[]; anything else goes
+     * through {@link String#getBytes}, exactly as Avro's own encoder does.
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            throw new NullPointerException("Avro string fields are not nullable");
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                writeInt(utf8.length);
+                write(utf8, 0, utf8.length);
+                return;
+            }
+        }
+        writeInt(length);
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buf[count++] = (byte) value.charAt(i);
+        }
+    }
+    
+    private void writeVarLong(long zigZag) {
+        ensureCapacity(10);
+        while ((zigZag & ~0x7FL) != 0) {
+            buf[count++] = (byte) ((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        buf[count++] = (byte) zigZag;
+    }
+    
+    private void ensureCapacity(int extra) {
+        if (count + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+        }
+    }
+}
\ No newline at end of file
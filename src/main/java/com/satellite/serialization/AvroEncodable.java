@@ -0,0 +1,18 @@
+package com.satellite.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
+
+/**
+ * A Kafka value that can write its own Avro binary body for {@link #getSchema()},
+ * skipping SpecificRecord construction. {@link #toSpecificRecord()} must encode to
+ * exactly the same bytes; it is the reference the fast path is tested against.
+ */
+public interface AvroEncodable {
+    
+    Schema getSchema();
+    
+    void encode(AvroBinaryWriter out);
+    
+    SpecificRecord toSpecificRecord();
+}
\ No newline at end of file
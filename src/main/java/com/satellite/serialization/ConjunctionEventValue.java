@@ -0,0 +1,44 @@
+package com.satellite.serialization;
+
+import com.satellite.avro.SatelliteConjunctionEvent;
+import com.satellite.model.Conjunction;
+import org.apache.avro.Schema;
+
+/**
+ * {@link SatelliteConjunctionEvent} body encoded straight from the domain model;
+ * {@code timestamp} is when the screening ran.
+ */
+public record ConjunctionEventValue(Conjunction conjunction, long timestamp) implements AvroEncodable {
+    
+    @Override
+    public Schema getSchema() {
+        return SatelliteConjunctionEvent.getClassSchema();
+    }
+    
+    @Override
+    public void encode(AvroBinaryWriter out) {
+        // Field order follows satellite-conjunction-event.avsc
+        out.writeString(conjunction.getPrimarySatelliteId());
+        out.writeString(conjunction.getPrimarySatelliteName());
+        out.writeString(conjunction.getSecondarySatelliteId());
+        out.writeString(conjunction.getSecondarySatelliteName());
+        out.writeLong(timestamp);
+        out.writeLong(conjunction.getTimeOfClosestApproach());
+        out.writeDouble(conjunction.getMissDistance());
+        out.writeDouble(conjunction.getRelativeSpeed());
+    }
+    
+    @Override
+    public SatelliteConjunctionEvent toSpecificRecord() {
+        return SatelliteConjunctionEvent.newBuilder()
+                .setPrimarySatelliteId(conjunction.getPrimarySatelliteId())
+                .setPrimarySatelliteName(conjunction.getPrimarySatelliteName())
+                .setSecondarySatelliteId(conjunction.getSecondarySatelliteId())
+                .setSecondarySatelliteName(conjunction.getSecondarySatelliteName())
+                .setTimestamp(timestamp)
+                .setTimeOfClosestApproach(conjunction.getTimeOfClosestApproach())
+                .setMissDistance(conjunction.getMissDistance())
+                .setRelativeSpeed(conjunction.getRelativeSpeed())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.satellite.serialization;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves Avro encoding off the calling thread (typically a Reactor Netty event
+ * loop) onto a fixed set of worker threads, which hand the finished bytes to a
+ * {@code byte[]}-valued producer.
+ *
+ * Each event is routed by the hash of its satellite ID, and each worker encodes
+ * and sends its queue in order, so all events of one satellite reach the
+ * producer in submission order. Queues are bounded, and {@link #submit} never
+ * blocks, since the caller may be an event loop: when a worker falls behind, the
+ * event is rejected by failing its future, just as a failed send would.
+ *
+ * The pipeline owns the template's producer, which {@link #close} flushes and
+ * closes once the workers have finished.
+ */
+public class EventSerializationPipeline implements AutoCloseable {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventSerializationPipeline.class);
+    
+    private record Task(String topic, Object key, Object value, CompletableFuture<SendResult<Object, byte[]>> result) {
+    }
+    
+    // Queued after the real tasks to stop a worker
+    private static final Task SHUTDOWN = new Task(null, null, null, null);
+    
+    private final Serializer<Object> serializer;
+    private final KafkaTemplate<Object, byte[]> kafkaTemplate;
+    private final BlockingQueue<Task>[] queues;
+    private final Thread[] workers;
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile boolean closed;
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public EventSerializationPipeline(Serializer<Object> serializer, KafkaTemplate<Object, byte[]> kafkaTemplate,
+                                      int workerCount, int queueCapacity) {
+        if (workerCount < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("workerCount and queueCapacity must be positive");
+        }
+        this.serializer = serializer;
+        this.kafkaTemplate = kafkaTemplate;
+        this.queues = new BlockingQueue[workerCount];
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<Task> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues[i] = queue;
+            workers[i] = new Thread(() -> drain(queue), "event-serializer-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+    
+    /**
+     * Queues {@code value} for encoding and sending on the worker owning
+     * {@code satelliteId}. The returned future completes with the broker ack, or
+     * fails at once if that worker's queue is full.
+     */
+    public CompletableFuture<SendResult<Object, byte[]>> submit(String topic, String satelliteId, Object key,
+                                                                Object value) {
+        CompletableFuture<SendResult<Object, byte[]>> result = new CompletableFuture<>();
+        if (closed) {
+            result.completeExceptionally(new IllegalStateException("Serialization pipeline is closed"));
+            return result;
+        }
+        int worker = workerFor(satelliteId);
+        if (!queues[worker].offer(new Task(topic, key, value, result))) {
+            rejected.incrementAndGet();
+            result.completeExceptionally(new RejectedExecutionException(
+                    "Serialization queue of worker " + worker + " is full"));
+        }
+        return result;
+    }
+    
+    int workerFor(String satelliteId) {
+        return (satelliteId.hashCode() & Integer.MAX_VALUE) % queues.length;
+    }
+    
+    public int getQueuedCount() {
+        int queued = 0;
+        for (BlockingQueue<Task> queue : queues) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+    
+    /**
+     * Events rejected because their worker's queue was full.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+    
+    private void drain(BlockingQueue<Task> queue) {
+        while (true) {
+            Task task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == SHUTDOWN) {
+                return;
+            }
+            try {
+                byte[] bytes = serializer.serialize(task.topic(), task.value());
+                kafkaTemplate.send(task.topic(), task.key(), bytes).whenComplete((sendResult, ex) -> {
+                    if (ex == null) {
+                        task.result().complete(sendResult);
+                    } else {
+                        task.result().completeExceptionally(ex);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to serialize event for key {} on topic {}: {}", task.key(), task.topic(), e.getMessage());
+                task.result().completeExceptionally(e);
+            }
+        }
+    }
+    
+    /**
+     * Stops accepting events, lets the workers finish what is already queued and
+     * waits for them, then flushes and closes the producer.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            for (BlockingQueue<Task> queue : queues) {
+                queue.put(SHUTDOWN);
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeProducer();
+        }
+    }
+    
+    private void closeProducer() {
+        try {
+            kafkaTemplate.flush();
+            if (kafkaTemplate.getProducerFactory() instanceof DisposableBean producerFactory) {
+                producerFactory.destroy();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to close serialization pipeline producer: {}", e.getMessage());
+        }
+    }
+}
\ No newline at end of file
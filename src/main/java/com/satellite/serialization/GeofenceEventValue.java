@@ -0,0 +1,46 @@
+package com.satellite.serialization;
+
+import com.satellite.avro.SatelliteGeofenceEvent;
+import com.satellite.geo.GeofenceTransition;
+import com.satellite.model.SatellitePosition;
+import org.apache.avro.Schema;
+
+/**
+ * {@link SatelliteGeofenceEvent} body for a satellite crossing a geofence,
+ * encoded from the first position observed on the new side.
+ */
+public record GeofenceEventValue(SatellitePosition position, String geofence, GeofenceTransition transition)
+        implements AvroEncodable {
+    
+    @Override
+    public Schema getSchema() {
+        return SatelliteGeofenceEvent.getClassSchema();
+    }
+    
+    @Override
+    public void encode(AvroBinaryWriter out) {
+        // Field order follows satellite-geofence-event.avsc
+        out.writeString(position.getSatelliteId());
+        out.writeString(position.getSatelliteName());
+        out.writeString(geofence);
+        out.writeString(transition.name());
+        out.writeLong(position.getTimestamp());
+        out.writeDouble(position.getLatitude());
+        out.writeDouble(position.getLongitude());
+        out.writeDouble(position.getAltitude());
+    }
+    
+    @Override
+    public SatelliteGeofenceEvent toSpecificRecord() {
+        return SatelliteGeofenceEvent.newBuilder()
+                .setSatelliteId(position.getSatelliteId())
+                .setSatelliteName(position.getSatelliteName())
+                .setGeofence(geofence)
+                .setTransition(transition.name())
+                .setTimestamp(position.getTimestamp())
+                .setLatitude(position.getLatitude())
+                .setLongitude(position.getLongitude())
+                .setAltitude(position.getAltitude())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.satellite.serialization;
+
+import com.satellite.avro.SatellitePassEvent;
+import com.satellite.model.SatellitePass;
+import org.apache.avro.Schema;
+
+/**
+ * {@link SatellitePassEvent} body encoded straight from the domain model;
+ * {@code timestamp} is when the event was produced.
+ */
+public record PassEventValue(SatellitePass pass, long timestamp) implements AvroEncodable {
+    
+    @Override
+    public Schema getSchema() {
+        return SatellitePassEvent.getClassSchema();
+    }
+    
+    @Override
+    public void encode(AvroBinaryWriter out) {
+        // Field order follows satellite-pass-event.avsc
+        out.writeString(pass.getSatelliteId());
+        out.writeString(pass.getSatelliteName());
+        out.writeLong(timestamp);
+        out.writeDouble(pass.getObserverLatitude());
+        out.writeDouble(pass.getObserverLongitude());
+        out.writeLong(pass.getStartTime());
+        out.writeLong(pass.getEndTime());
+        out.writeDouble(pass.getMaxElevation());
+        out.writeDouble(pass.getStartAzimuth());
+        out.writeDouble(pass.getEndAzimuth());
+    }
+    
+    @Override
+    public SatellitePassEvent toSpecificRecord() {
+        return SatellitePassEvent.newBuilder()
+                .setSatelliteId(pass.getSatelliteId())
+                .setSatelliteName(pass.getSatelliteName())
+                .setTimestamp(timestamp)
+                .setObserverLatitude(pass.getObserverLatitude())
+                .setObserverLongitude(pass.getObserverLongitude())
+                .setStartTime(pass.getStartTime())
+                .setEndTime(pass.getEndTime())
+                .setMaxElevation(pass.getMaxElevation())
+                .setStartAzimuth(pass.getStartAzimuth())
+                .setEndAzimuth(pass.getEndAzimuth())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.satellite.serialization;
+
+import com.satellite.geo.GeoCellIndex;
+import com.satellite.model.NoradId;
+import com.satellite.model.SatellitePass;
+
+/**
+ * Fixed-width identity of a predicted pass, used both to deduplicate passes and
+ * as the pass topic's record key: NORAD ID (4 bytes), observer cell (4 bytes)
+ * and start time in epoch millis (8 bytes), big-endian.
+ *
+ * The observer is quantised to a 32-bit geohash cell, roughly 300 m of latitude
+ * by 600 m of longitude at the equator, so two predictions for the same place
+ * always get the same key however their coordinates were rounded on the way.
+ */
+public final class PassKey {
+    
+    public static final int SIZE = 16;
+    
+    private static final int OBSERVER_BITS_PER_AXIS = 16;
+    
+    private PassKey() {}
+    
+    /**
+     * First half of the key as a long: NORAD ID in the high 32 bits, observer cell in the low 32.
+     */
+    public static long satelliteObserver(int noradId, double observerLatitude, double observerLongitude) {
+        return ((long) noradId << 32) | GeoCellIndex.geohash(observerLatitude, observerLongitude, OBSERVER_BITS_PER_AXIS);
+    }
+    
+    public static long satelliteObserver(SatellitePass pass) {
+        return satelliteObserver(NoradId.parse(pass.getSatelliteId()), pass.getObserverLatitude(),
+                pass.getObserverLongitude());
+    }
+    
+    public static byte[] encode(long satelliteObserver, long startTime) {
+        byte[] key = new byte[SIZE];
+        for (int i = 0; i < 8; i++) {
+            key[i] = (byte) (satelliteObserver >>> (56 - 8 * i));
+            key[8 + i] = (byte) (startTime >>> (56 - 8 * i));
+        }
+        return key;
+    }
+    
+    public static byte[] encode(SatellitePass pass) {
+        return encode(satelliteObserver(pass), pass.getStartTime());
+    }
+    
+    /**
+     * First half of an encoded key, as returned by {@link #satelliteObserver(int, double, double)}.
+     */
+    public static long decodeSatelliteObserver(byte[] key) {
+        return decodeLong(key, 0);
+    }
+    
+    public static long decodeStartTime(byte[] key) {
+        return decodeLong(key, 8);
+    }
+    
+    private static long decodeLong(byte[] key, int offset) {
+        if (key.length != SIZE) {
+            throw new IllegalArgumentException("Pass keys are " + SIZE + " bytes, got " + key.length);
+        }
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (key[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
\ No newline at end of file
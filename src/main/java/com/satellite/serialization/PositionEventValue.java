@@ -0,0 +1,59 @@
+package com.satellite.serialization;
+
+import com.satellite.avro.SatellitePositionEvent;
+import com.satellite.model.SatellitePosition;
+import org.apache.avro.Schema;
+
+/**
+ * {@link SatellitePositionEvent} body encoded straight from the domain model.
+ */
+public record PositionEventValue(SatellitePosition position, String source) implements AvroEncodable {
+    
+    @Override
+    public Schema getSchema() {
+        return SatellitePositionEvent.getClassSchema();
+    }
+    
+    @Override
+    public void encode(AvroBinaryWriter out) {
+        // Field order follows satellite-position-event.avsc
+        out.writeString(position.getSatelliteId());
+        out.writeString(position.getSatelliteName());
+        out.writeLong(position.getTimestamp());
+        out.writeDouble(position.getLatitude());
+        out.writeDouble(position.getLongitude());
+        out.writeDouble(position.getAltitude());
+        out.writeDouble(position.getVelocity());
+        out.writeString(source);
+        writeOptionalDouble(out, position.getLatitudeRate());
+        writeOptionalDouble(out, position.getLongitudeRate());
+        writeOptionalDouble(out, position.getAltitudeRate());
+    }
+    
+    // ["null", "double"] union: branch index, then the value
+    private static void writeOptionalDouble(AvroBinaryWriter out, Double value) {
+        if (value == null) {
+            out.writeInt(0);
+        } else {
+            out.writeInt(1);
+            out.writeDouble(value);
+        }
+    }
+    
+    @Override
+    public SatellitePositionEvent toSpecificRecord() {
+        return SatellitePositionEvent.newBuilder()
+                .setSatelliteId(position.getSatelliteId())
+                .setSatelliteName(position.getSatelliteName())
+                .setTimestamp(position.getTimestamp())
+                .setLatitude(position.getLatitude())
+                .setLongitude(position.getLongitude())
+                .setAltitude(position.getAltitude())
+                .setVelocity(position.getVelocity())
+                .setSource(source)
+                .setLatitudeRate(position.getLatitudeRate())
+                .setLongitudeRate(position.getLongitudeRate())
+                .setAltitudeRate(position.getAltitudeRate())
+                .build();
+    }
+}
\ No newline at end of file
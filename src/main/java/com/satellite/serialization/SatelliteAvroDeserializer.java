@@ -0,0 +1,94 @@
+package com.satellite.serialization;
+
+import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads what {@link SatelliteAvroSerializer} writes back into the generated
+ * {@code com.satellite.avro} classes. The writer schema is fetched from the
+ * registry by the ID in each record and resolved against the current generated
+ * class, so records written before a compatible schema change still decode.
+ * Null values (tombstones) pass through as null.
+ */
+public class SatelliteAvroDeserializer implements Deserializer<Object> {
+    
+    private static final int REGISTRY_CACHE_CAPACITY = 100;
+    
+    // Schema ID -> reader from that writer schema to the generated class
+    private final Map<Integer, DatumReader<Object>> readers = new ConcurrentHashMap<>();
+    private final ThreadLocal<BinaryDecoder> decoder = new ThreadLocal<>();
+    
+    private SchemaRegistryClient registryClient;
+    
+    public SatelliteAvroDeserializer() {
+    }
+    
+    public SatelliteAvroDeserializer(SchemaRegistryClient registryClient) {
+        this.registryClient = registryClient;
+    }
+    
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (registryClient == null) {
+            Object url = configs.get(SatelliteAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG);
+            if (url == null) {
+                throw new IllegalArgumentException(SatelliteAvroSerializer.SCHEMA_REGISTRY_URL_CONFIG + " must be set");
+            }
+            registryClient = new CachedSchemaRegistryClient(url.toString(), REGISTRY_CACHE_CAPACITY);
+        }
+    }
+    
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < 5 || data[0] != SatelliteAvroSerializer.MAGIC_BYTE) {
+            throw new SerializationException("Not a Confluent Avro record on topic " + topic);
+        }
+        int schemaId = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+        try {
+            BinaryDecoder in = DecoderFactory.get().binaryDecoder(data, 5, data.length - 5, decoder.get());
+            decoder.set(in);
+            return readers.computeIfAbsent(schemaId, this::reader).read(null, in);
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof SerializationException serializationException) {
+                throw serializationException;
+            }
+            throw new SerializationException("Error deserializing Avro record with schema ID " + schemaId
+                    + " from topic " + topic, e);
+        }
+    }
+    
+    private DatumReader<Object> reader(int schemaId) {
+        Schema writer;
+        try {
+            writer = (Schema) registryClient.getSchemaById(schemaId).rawSchema();
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException("Error fetching schema ID " + schemaId, e);
+        }
+        Class<?> type = SpecificData.get().getClass(writer);
+        if (type == null) {
+            throw new SerializationException("No generated class for schema " + writer.getFullName());
+        }
+        return new SpecificDatumReader<>(writer, SpecificData.get().getSchema(type));
+    }
+    
+    @Override
+    public void close() {
+        decoder.remove();
+    }
+}
\ No newline at end of file
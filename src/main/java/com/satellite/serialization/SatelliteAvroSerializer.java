@@ -0,0 +1,143 @@
+package com.satellite.serialization;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Value serializer for the satellite event records that writes the Confluent
+ * wire format (magic byte, 4-byte schema ID, Avro binary) itself. Accepts
+ * {@link AvroEncodable} values, which encode their own body, and plain
+ * {@link SpecificRecord}s.
+ *
+ * Schema IDs for the topics listed in {@link #TOPIC_SCHEMAS_CONFIG} are resolved
+ * against the registry once, in {@link #configure}; anything else is resolved on
+ * first use and cached. Each thread reuses its own output buffer and
+ * {@link BinaryEncoder}, so a record costs one exact-size byte[] allocation.
+ * Null values (tombstones) pass through as null.
+ */
+public class SatelliteAvroSerializer implements Serializer<Object> {
+    
+    /** {@code Map<String, Schema>} of topic to value schema to resolve eagerly. */
+    public static final String TOPIC_SCHEMAS_CONFIG = "satellite.avro.topic-schemas";
+    public static final String SCHEMA_REGISTRY_URL_CONFIG = "schema.registry.url";
+    public static final String AUTO_REGISTER_SCHEMAS_CONFIG = "auto.register.schemas";
+    
+    static final byte MAGIC_BYTE = 0;
+    
+    private static final int REGISTRY_CACHE_CAPACITY = 100;
+    
+    private static final class EncoderState {
+        final AvroBinaryWriter out = new AvroBinaryWriter(256);
+        BinaryEncoder encoder;
+    }
+    
+    // topic -> schema -> registry ID; two levels so a lookup allocates nothing
+    private final Map<String, Map<Schema, Integer>> schemaIds = new ConcurrentHashMap<>();
+    private final Map<Schema, DatumWriter<Object>> writers = new ConcurrentHashMap<>();
+    private final ThreadLocal<EncoderState> encoderState = ThreadLocal.withInitial(EncoderState::new);
+    
+    private SchemaRegistryClient registryClient;
+    private boolean autoRegister = true;
+    
+    public SatelliteAvroSerializer() {
+    }
+    
+    public SatelliteAvroSerializer(SchemaRegistryClient registryClient) {
+        this.registryClient = registryClient;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object register = configs.get(AUTO_REGISTER_SCHEMAS_CONFIG);
+        if (register != null) {
+            autoRegister = Boolean.parseBoolean(register.toString());
+        }
+        if (registryClient == null) {
+            Object url = configs.get(SCHEMA_REGISTRY_URL_CONFIG);
+            if (url == null) {
+                throw new IllegalArgumentException(SCHEMA_REGISTRY_URL_CONFIG + " must be set");
+            }
+            registryClient = new CachedSchemaRegistryClient(url.toString(), REGISTRY_CACHE_CAPACITY);
+        }
+        Object topicSchemas = configs.get(TOPIC_SCHEMAS_CONFIG);
+        if (topicSchemas != null) {
+            ((Map<String, Schema>) topicSchemas).forEach(this::schemaId);
+        }
+    }
+    
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        EncoderState state = encoderState.get();
+        AvroBinaryWriter out = state.out;
+        out.reset();
+        try {
+            if (data instanceof AvroEncodable encodable) {
+                writeHeader(out, schemaId(topic, encodable.getSchema()));
+                encodable.encode(out);
+            } else if (data instanceof SpecificRecord record) {
+                Schema schema = record.getSchema();
+                writeHeader(out, schemaId(topic, schema));
+                state.encoder = EncoderFactory.get().binaryEncoder(out, state.encoder);
+                writers.computeIfAbsent(schema, SpecificDatumWriter::new).write(record, state.encoder);
+                state.encoder.flush();
+            } else {
+                throw new SerializationException("Unsupported value type " + data.getClass().getName());
+            }
+        } catch (SerializationException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing Avro record for topic " + topic, e);
+        }
+        return out.toByteArray();
+    }
+    
+    private static void writeHeader(AvroBinaryWriter out, int schemaId) {
+        out.write(MAGIC_BYTE);
+        out.writeFixedInt(schemaId);
+    }
+    
+    private int schemaId(String topic, Schema schema) {
+        Map<Schema, Integer> topicIds = schemaIds.computeIfAbsent(topic, t -> new ConcurrentHashMap<>());
+        return topicIds.computeIfAbsent(schema, s -> {
+            // TopicNameStrategy, as used by KafkaAvroSerializer
+            String subject = topic + "-value";
+            AvroSchema avroSchema = new AvroSchema(s);
+            try {
+                return autoRegister
+                        ? registryClient.register(subject, avroSchema)
+                        : registryClient.getId(subject, avroSchema);
+            } catch (IOException | RestClientException e) {
+                throw new SerializationException("Error resolving schema ID for subject " + subject, e);
+            }
+        });
+    }
+    
+    /**
+     * Drops the calling thread's encoder state only. The buffers of other threads
+     * that serialized with this instance cannot be reached from here; they stay
+     * with those threads until the serializer itself is unreachable and the stale
+     * thread-local entries are expunged.
+     */
+    @Override
+    public void close() {
+        encoderState.remove();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.satellite.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Record keys are either strings (satellite IDs and the like), written as UTF-8,
+ * or fixed-width binary keys such as {@link PassKey}, written as they are.
+ */
+public class SatelliteKeySerializer implements Serializer<Object> {
+    
+    @Override
+    public byte[] serialize(String topic, Object key) {
+        if (key == null || key instanceof byte[]) {
+            return (byte[]) key;
+        }
+        if (key instanceof String string) {
+            return string.getBytes(StandardCharsets.UTF_8);
+        }
+        throw new SerializationException("Unsupported key type " + key.getClass().getName());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.satellite.serialization;
+
+import com.satellite.avro.SatelliteTleUpdateEvent;
+import com.satellite.model.TleData;
+import org.apache.avro.Schema;
+
+/**
+ * {@link SatelliteTleUpdateEvent} body encoded straight from the domain model;
+ * {@code timestamp} is when the event was produced.
+ */
+public record TleUpdateEventValue(TleData tle, String source, long timestamp) implements AvroEncodable {
+    
+    @Override
+    public Schema getSchema() {
+        return SatelliteTleUpdateEvent.getClassSchema();
+    }
+    
+    @Override
+    public void encode(AvroBinaryWriter out) {
+        // Field order follows satellite-tle-update-event.avsc
+        out.writeString(tle.getSatelliteId());
+        out.writeString(tle.getSatelliteName());
+        out.writeLong(timestamp);
+        out.writeString(tle.getLine1());
+        out.writeString(tle.getLine2());
+        out.writeInt(tle.getEpochYear());
+        out.writeDouble(tle.getEpochDay());
+        out.writeDouble(tle.getMeanMotion());
+        out.writeDouble(tle.getEccentricity());
+        out.writeDouble(tle.getInclination());
+        out.writeString(source);
+    }
+    
+    @Override
+    public SatelliteTleUpdateEvent toSpecificRecord() {
+        return SatelliteTleUpdateEvent.newBuilder()
+                .setSatelliteId(tle.getSatelliteId())
+                .setSatelliteName(tle.getSatelliteName())
+                .setTimestamp(timestamp)
+                .setLine1(tle.getLine1())
+                .setLine2(tle.getLine2())
+                .setEpochYear(tle.getEpochYear())
+                .setEpochDay(tle.getEpochDay())
+                .setMeanMotion(tle.getMeanMotion())
+                .setEccentricity(tle.getEccentricity())
+                .setInclination(tle.getInclination())
+                .setSource(source)
+                .build();
+    }
+}
\ No newline at end of file
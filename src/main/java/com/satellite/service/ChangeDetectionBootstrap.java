@@ -0,0 +1,255 @@
+package com.satellite.service;
+
+import com.satellite.avro.SatellitePositionEvent;
+import com.satellite.avro.SatelliteTleUpdateEvent;
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+import com.satellite.serialization.PassKey;
+import jakarta.annotation.PostConstruct;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordDeserializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seeds {@link ChangeDetectionService} from the compacted TLE, position and pass
+ * topics before any polling is scheduled, so a fresh host or an additional
+ * instance starts from what has already been published instead of publishing
+ * the whole catalog again.
+ *
+ * Every partition is read from the beginning to the end offset it had when the
+ * bootstrap started, on its own thread with its own consumer, keeping the last
+ * value per key. A partition that fails or does not finish within the timeout
+ * contributes nothing; its satellites are simply published once more.
+ */
+@Service
+@ConditionalOnProperty(value = "satellite.change-detection.bootstrap.enabled", havingValue = "true")
+public class ChangeDetectionBootstrap {
+    
+    private static final Logger log = LoggerFactory.getLogger(ChangeDetectionBootstrap.class);
+    
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    
+    private final ChangeDetectionService changeDetectionService;
+    private final ConsumerFactory<byte[], Object> consumerFactory;
+    private final String tleTopic;
+    private final String positionTopic;
+    private final String passTopic;
+    private final Duration timeout;
+    private final int maxThreads;
+    
+    private volatile long recordsRead;
+    private volatile long durationMillis = -1;
+    
+    // Latest value per key in one partition, and how many records it took to get there
+    private record PartitionLog(TopicPartition partition, long records, Map<ByteBuffer, Object> latest) {}
+    
+    public ChangeDetectionBootstrap(ChangeDetectionService changeDetectionService,
+                                    ConsumerFactory<byte[], Object> consumerFactory,
+                                    @Value("${kafka.topics.satellite-tle}") String tleTopic,
+                                    @Value("${kafka.topics.satellite-position}") String positionTopic,
+                                    @Value("${kafka.topics.satellite-pass}") String passTopic,
+                                    @Value("${satellite.change-detection.bootstrap.timeout-seconds:60}") long timeoutSeconds,
+                                    @Value("${satellite.change-detection.bootstrap.max-threads:16}") int maxThreads) {
+        this.changeDetectionService = changeDetectionService;
+        this.consumerFactory = consumerFactory;
+        this.tleTopic = tleTopic;
+        this.positionTopic = positionTopic;
+        this.passTopic = passTopic;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.maxThreads = maxThreads;
+    }
+    
+    /**
+     * Records read by the last bootstrap, tombstones and superseded values included.
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+    
+    /**
+     * Wall-clock time of the last bootstrap, or -1 if none has run.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+    
+    @PostConstruct
+    public void bootstrap() {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        
+        List<TopicPartition> partitions;
+        try (Consumer<byte[], Object> consumer = consumerFactory.createConsumer()) {
+            partitions = new ArrayList<>();
+            for (String topic : List.of(tleTopic, positionTopic, passTopic)) {
+                List<PartitionInfo> infos = consumer.partitionsFor(topic,
+                        Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+                if (infos != null) {
+                    infos.forEach(info -> partitions.add(new TopicPartition(info.topic(), info.partition())));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not list partitions to bootstrap change-detection state, starting cold: {}", e.getMessage());
+            return;
+        }
+        if (partitions.isEmpty()) {
+            log.info("No partitions to bootstrap change-detection state from");
+            return;
+        }
+        
+        List<PartitionLog> logs = readAll(partitions, deadline);
+        long records = 0;
+        List<TleData> tles = new ArrayList<>();
+        List<SatellitePosition> positions = new ArrayList<>();
+        List<byte[]> passKeys = new ArrayList<>();
+        for (PartitionLog partitionLog : logs) {
+            records += partitionLog.records();
+            String topic = partitionLog.partition().topic();
+            partitionLog.latest().forEach((key, value) -> {
+                if (value == null) {
+                    return;
+                }
+                if (topic.equals(tleTopic) && value instanceof SatelliteTleUpdateEvent event) {
+                    TleData tle = toTle(event);
+                    if (tle != null) {
+                        tles.add(tle);
+                    }
+                } else if (topic.equals(positionTopic) && value instanceof SatellitePositionEvent event) {
+                    positions.add(toPosition(event));
+                } else if (topic.equals(passTopic) && key.remaining() == PassKey.SIZE) {
+                    // Keys written before the binary layout are ignored
+                    passKeys.add(key.array());
+                }
+            });
+        }
+        long[] passes = new long[passKeys.size() * 2];
+        for (int i = 0; i < passKeys.size(); i++) {
+            passes[2 * i] = PassKey.decodeSatelliteObserver(passKeys.get(i));
+            passes[2 * i + 1] = PassKey.decodeStartTime(passKeys.get(i));
+        }
+        changeDetectionService.restore(new ChangeDetectionSnapshot(System.currentTimeMillis(), tles, positions,
+                List.of(), passes));
+        
+        recordsRead = records;
+        durationMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bootstrapped {} TLEs, {} positions and {} passes from {} records in {} of {} partitions in {} ms",
+                tles.size(), positions.size(), passKeys.size(), records, logs.size(), partitions.size(), durationMillis);
+    }
+    
+    private List<PartitionLog> readAll(List<TopicPartition> partitions, long deadline) {
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = maxThreads > 0 ? Math.min(maxThreads, partitions.size()) : partitions.size();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "state-bootstrap-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<PartitionLog>> futures = new ArrayList<>(partitions.size());
+            for (TopicPartition partition : partitions) {
+                futures.add(executor.submit(() -> read(partition, deadline)));
+            }
+            List<PartitionLog> logs = new ArrayList<>(partitions.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    logs.add(futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    log.warn("Timed out bootstrapping change-detection state from {}", partitions.get(i));
+                } catch (ExecutionException e) {
+                    log.warn("Could not bootstrap change-detection state from {}: {}",
+                            partitions.get(i), e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return logs;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private PartitionLog read(TopicPartition partition, long deadline) throws TimeoutException {
+        Map<ByteBuffer, Object> latest = new HashMap<>();
+        long records = 0;
+        try (Consumer<byte[], Object> consumer = consumerFactory.createConsumer()) {
+            List<TopicPartition> assignment = List.of(partition);
+            consumer.assign(assignment);
+            consumer.seekToBeginning(assignment);
+            long end = consumer.endOffsets(assignment).get(partition);
+            while (consumer.position(partition) < end) {
+                if (System.nanoTime() > deadline) {
+                    throw new TimeoutException("Stopped at offset " + consumer.position(partition) + " of " + end);
+                }
+                try {
+                    for (ConsumerRecord<byte[], Object> record : consumer.poll(POLL_TIMEOUT)) {
+                        if (record.offset() >= end) {
+                            break;
+                        }
+                        records++;
+                        if (record.key() == null) {
+                            continue;
+                        }
+                        if (record.value() == null) {
+                            latest.remove(ByteBuffer.wrap(record.key()));
+                        } else {
+                            latest.put(ByteBuffer.wrap(record.key()), record.value());
+                        }
+                    }
+                } catch (RecordDeserializationException e) {
+                    log.warn("Skipping undecodable record at {} offset {}: {}", partition, e.offset(), e.getMessage());
+                    consumer.seek(partition, e.offset() + 1);
+                    records++;
+                }
+            }
+        }
+        return new PartitionLog(partition, records, latest);
+    }
+    
+    private static TleData toTle(SatelliteTleUpdateEvent event) {
+        try {
+            return TleData.parseTle(event.getSatelliteName().toString(), event.getLine1().toString(),
+                    event.getLine2().toString());
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring unparseable TLE for satellite {}: {}", event.getSatelliteId(), e.getMessage());
+            return null;
+        }
+    }
+    
+    private static SatellitePosition toPosition(SatellitePositionEvent event) {
+        return SatellitePosition.builder()
+                .satelliteId(event.getSatelliteId().toString())
+                .satelliteName(event.getSatelliteName().toString())
+                .timestamp(event.getTimestamp())
+                .latitude(event.getLatitude())
+                .longitude(event.getLongitude())
+                .altitude(event.getAltitude())
+                .velocity(event.getVelocity())
+                .latitudeRate(event.getLatitudeRate())
+                .longitudeRate(event.getLongitudeRate())
+                .altitudeRate(event.getAltitudeRate())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.satellite.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Periodically saves the change-detection state to a {@link ChangeDetectionSnapshot}
+ * file and restores it on startup, so the first cycles after a deploy publish
+ * only real changes instead of every TLE, position and pass again. The restore
+ * runs while the context is being built, before any polling is scheduled.
+ */
+@Service
+@ConditionalOnProperty(value = "satellite.change-detection.snapshot.enabled", havingValue = "true")
+public class ChangeDetectionCheckpointer {
+    
+    private static final Logger log = LoggerFactory.getLogger(ChangeDetectionCheckpointer.class);
+    
+    private final ChangeDetectionService changeDetectionService;
+    private final Path file;
+    
+    public ChangeDetectionCheckpointer(ChangeDetectionService changeDetectionService,
+                                       @Value("${satellite.change-detection.snapshot.file:data/change-detection.snapshot}") String file) {
+        this.changeDetectionService = changeDetectionService;
+        this.file = Path.of(file);
+    }
+    
+    @PostConstruct
+    public void restore() {
+        if (!Files.exists(file)) {
+            log.info("No change-detection snapshot at {}, starting cold", file);
+            return;
+        }
+        long start = System.nanoTime();
+        ChangeDetectionSnapshot snapshot;
+        try {
+            snapshot = ChangeDetectionSnapshot.read(file);
+        } catch (IOException e) {
+            log.warn("Could not read change-detection snapshot from {}, starting cold: {}", file, e.getMessage());
+            return;
+        }
+        changeDetectionService.restore(snapshot);
+        log.info("Restored {} TLEs, {} positions and {} passes saved at {} from {} in {} ms",
+                snapshot.getTles().size(), snapshot.getPublishedPositions().size(), snapshot.getPassCount(),
+                Instant.ofEpochMilli(snapshot.getSavedAt()), file, (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    @Scheduled(fixedDelayString = "${satellite.change-detection.snapshot.interval:60}000",
+               initialDelayString = "${satellite.change-detection.snapshot.interval:60}000")
+    public void checkpoint() {
+        long start = System.nanoTime();
+        ChangeDetectionSnapshot snapshot = changeDetectionService.snapshot();
+        try {
+            int tles = snapshot.write(file);
+            log.debug("Saved {} TLEs, {} positions and {} passes to {} in {} us",
+                    tles, snapshot.getPublishedPositions().size(), snapshot.getPassCount(), file,
+                    (System.nanoTime() - start) / 1000);
+        } catch (IOException e) {
+            // The previous snapshot is still in place; the next checkpoint retries
+            log.error("Could not save change-detection snapshot to {}: {}", file, e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+}
\ No newline at end of file
@@ -1,79 +1,320 @@
 package com.satellite.service;
 
+import com.satellite.geo.DeadReckoning;
+import com.satellite.model.NoradId;
 import com.satellite.model.SatellitePass;
 import com.satellite.model.SatellitePosition;
 import com.satellite.model.TleData;
+import com.satellite.propagation.EphemerisCache;
+import com.satellite.serialization.PassKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
 
+/**
+ * Decides which TLEs, positions and passes are new enough to publish.
+ *
+ * The latest TLE and published position per satellite are kept in
+ * {@link SatelliteStateTable}s keyed by NORAD ID. A change is recorded with a
+ * compare-and-set before it is published, so when parallel polling delivers the
+ * same update twice only one caller emits it; if publication then fails the
+ * swap is undone so the next cycle retries. Published passes are remembered by
+ * their binary {@link PassKey} in a {@link PassKeySet}. All of it can be copied
+ * into a {@link ChangeDetectionSnapshot} and restored after a restart.
+ */
 @Service
 public class ChangeDetectionService {
     
     private static final Logger log = LoggerFactory.getLogger(ChangeDetectionService.class);
     
-    private final CacheManager cacheManager;
     private final SatelliteEventProducer eventProducer;
+    private final SatelliteCatalog satelliteCatalog;
+    private final RegionIndexService regionIndexService;
+    private final EphemerisCache ephemerisCache;
+    private final boolean deadReckoning;
+    private final double deadReckoningToleranceKm;
     
-    private static final String TLE_CACHE = "tleCache";
-    private static final String POSITION_CACHE = "positionCache";
-    private static final String PASS_CACHE = "passCache";
+    private final SatelliteStateTable<TleData> tles = new SatelliteStateTable<>();
+    private final SatelliteStateTable<SatellitePosition> publishedPositions = new SatelliteStateTable<>();
+    // Latest observation per satellite, published or not, for estimating dead-reckoning rates
+    private final SatelliteStateTable<SatellitePosition> observedPositions = new SatelliteStateTable<>();
+    private final AtomicLong positionsObserved = new AtomicLong();
+    private final AtomicLong positionsProduced = new AtomicLong();
+    // A pass is only predicted again while it lies ahead, so a day of history is plenty
+    private static final long PASS_RETENTION_MILLIS = 24 * 3_600_000L;
+    private final PassKeySet publishedPasses = new PassKeySet(PASS_RETENTION_MILLIS);
     
-    public ChangeDetectionService(CacheManager cacheManager, SatelliteEventProducer eventProducer) {
-        this.cacheManager = cacheManager;
+    public ChangeDetectionService(SatelliteEventProducer eventProducer,
+                                  SatelliteCatalog satelliteCatalog,
+                                  RegionIndexService regionIndexService,
+                                  EphemerisCache ephemerisCache,
+                                  @Value("${satellite.change-detection.dead-reckoning.enabled:false}") boolean deadReckoning,
+                                  @Value("${satellite.change-detection.dead-reckoning.tolerance-km:1.0}") double deadReckoningToleranceKm) {
         this.eventProducer = eventProducer;
+        this.satelliteCatalog = satelliteCatalog;
+        this.regionIndexService = regionIndexService;
+        this.ephemerisCache = ephemerisCache;
+        this.deadReckoning = deadReckoning;
+        this.deadReckoningToleranceKm = deadReckoningToleranceKm;
     }
     
     public void checkAndProduceTleUpdate(TleData newTle, String source) {
-        Cache cache = cacheManager.getCache(TLE_CACHE);
-        if (cache == null) return;
+        int id = noradId(newTle.getSatelliteId());
+        if (id < 0) return;
         
-        String cacheKey = newTle.getSatelliteId();
-        TleData cachedTle = cache.get(cacheKey, TleData.class);
+        TleData cachedTle = claimTle(id, newTle);
+        if (cachedTle == newTle) return;
         
-        if (cachedTle == null || hasTleChanged(cachedTle, newTle)) {
-            log.info("TLE change detected for satellite {}", newTle.getSatelliteId());
+        log.info("TLE change detected for satellite {}", newTle.getSatelliteId());
+        try {
             eventProducer.produceTleUpdateEvent(newTle, source);
-            cache.put(cacheKey, newTle);
+        } catch (RuntimeException e) {
+            tles.compareAndSet(id, newTle, cachedTle);
+            throw e;
+        }
+        satelliteCatalog.update(newTle);
+        ephemerisCache.invalidate(newTle.getSatelliteId());
+    }
+    
+    /**
+     * Bulk variant of {@link #checkAndProduceTleUpdate} for one polling cycle. The
+     * changed TLEs are published together (atomically in transactional mode); if
+     * publication fails they are rolled back in the state table, so an aborted
+     * cycle is retried.
+     */
+    public void checkAndProduceTleUpdates(List<TleData> newTles, String source) {
+        List<TleData> changed = new ArrayList<>();
+        List<TleData> replaced = new ArrayList<>();
+        for (TleData newTle : newTles) {
+            int id = noradId(newTle.getSatelliteId());
+            if (id < 0) continue;
+            TleData cachedTle = claimTle(id, newTle);
+            if (cachedTle != newTle) {
+                changed.add(newTle);
+                replaced.add(cachedTle);
+            }
+        }
+        if (changed.isEmpty()) {
+            log.debug("No TLE changes in {} updates from {}", newTles.size(), source);
+            return;
+        }
+        
+        log.info("TLE changes detected for {} of {} satellites from {}", changed.size(), newTles.size(), source);
+        try {
+            eventProducer.produceTleUpdateEvents(changed, source);
+        } catch (RuntimeException e) {
+            // Undo in reverse so a satellite listed twice ends up at its original TLE
+            for (int i = changed.size() - 1; i >= 0; i--) {
+                TleData tle = changed.get(i);
+                tles.compareAndSet(NoradId.parse(tle.getSatelliteId()), tle, replaced.get(i));
+            }
+            throw e;
+        }
+        for (TleData tle : changed) {
+            satelliteCatalog.update(tle);
+            ephemerisCache.invalidate(tle.getSatelliteId());
         }
     }
     
     public void checkAndProducePositionUpdate(SatellitePosition newPosition, String source) {
-        Cache cache = cacheManager.getCache(POSITION_CACHE);
-        if (cache == null) return;
+        // The region index tracks every observed position, not just the published ones
+        regionIndexService.update(newPosition);
+        producePositionIfChanged(newPosition, source);
+    }
+    
+    /**
+     * Bulk variant of {@link #checkAndProducePositionUpdate} for batch-propagated catalogs.
+     */
+    public void checkAndProducePositionUpdates(List<SatellitePosition> newPositions, String source) {
+        int produced = 0;
+        for (SatellitePosition newPosition : newPositions) {
+            regionIndexService.update(newPosition);
+            if (producePositionIfChanged(newPosition, source)) {
+                produced++;
+            }
+        }
+        log.debug("Produced {} of {} position updates from {}", produced, newPositions.size(), source);
+    }
+    
+    /**
+     * Fraction of observed positions that were not published, since startup.
+     */
+    public double getPositionSuppressionRatio() {
+        long observed = positionsObserved.get();
+        return observed == 0 ? 0.0 : 1.0 - (double) positionsProduced.get() / observed;
+    }
+    
+    public long getPositionsObserved() {
+        return positionsObserved.get();
+    }
+    
+    public long getPositionsProduced() {
+        return positionsProduced.get();
+    }
+    
+    public boolean isDeadReckoning() {
+        return deadReckoning;
+    }
+    
+    /**
+     * Copies the current state. Updates that race with the copy may or may not be
+     * included, so a restore can at worst publish them once more.
+     */
+    public ChangeDetectionSnapshot snapshot() {
+        List<TleData> tleValues = new ArrayList<>(tles.size());
+        tles.forEach((id, tle) -> tleValues.add(tle));
+        List<SatellitePosition> published = new ArrayList<>(publishedPositions.size());
+        publishedPositions.forEach((id, position) -> published.add(position));
+        List<SatellitePosition> observed = new ArrayList<>(observedPositions.size());
+        observedPositions.forEach((id, position) -> observed.add(position));
+        return new ChangeDetectionSnapshot(System.currentTimeMillis(), tleValues, published, observed,
+                publishedPasses.toArray());
+    }
+    
+    /**
+     * Seeds state from {@code snapshot}, so satellites that have not changed since
+     * it was taken are not published again. Where a satellite already has state the
+     * newer TLE (by epoch) or position (by timestamp) is kept, so snapshots from
+     * different sources can be restored in any order. TLEs that are taken are also
+     * loaded into the catalog, and passes that can no longer recur are skipped.
+     */
+    public void restore(ChangeDetectionSnapshot snapshot) {
+        for (TleData tle : snapshot.getTles()) {
+            int id = noradId(tle.getSatelliteId());
+            if (id >= 0 && restoreIfNewer(tles, id, tle, (a, b) -> a.getEpochMillis() > b.getEpochMillis())) {
+                satelliteCatalog.update(tle);
+            }
+        }
+        for (SatellitePosition position : snapshot.getPublishedPositions()) {
+            int id = noradId(position.getSatelliteId());
+            if (id >= 0) {
+                restoreIfNewer(publishedPositions, id, position, (a, b) -> a.getTimestamp() > b.getTimestamp());
+            }
+        }
+        for (SatellitePosition position : snapshot.getObservedPositions()) {
+            int id = noradId(position.getSatelliteId());
+            if (id >= 0) {
+                restoreIfNewer(observedPositions, id, position, (a, b) -> a.getTimestamp() > b.getTimestamp());
+            }
+        }
+        long now = System.currentTimeMillis();
+        long[] passes = snapshot.getPasses();
+        for (int i = 0; i < passes.length; i += 2) {
+            if (passes[i + 1] >= now - PASS_RETENTION_MILLIS) {
+                publishedPasses.add(passes[i], passes[i + 1], now);
+            }
+        }
+    }
+    
+    private static <V> boolean restoreIfNewer(SatelliteStateTable<V> table, int id, V value,
+                                              BiPredicate<V, V> isNewer) {
+        while (true) {
+            V current = table.get(id);
+            if (current != null && !isNewer.test(value, current)) {
+                return false;
+            }
+            if (table.compareAndSet(id, current, value)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Swaps {@code newTle} in if it differs from the stored TLE.
+     *
+     * @return the TLE it replaced (null if there was none), or {@code newTle} itself if unchanged
+     */
+    private TleData claimTle(int id, TleData newTle) {
+        while (true) {
+            TleData cachedTle = tles.get(id);
+            if (cachedTle != null && !hasTleChanged(cachedTle, newTle)) {
+                return newTle;
+            }
+            if (tles.compareAndSet(id, cachedTle, newTle)) {
+                return cachedTle;
+            }
+        }
+    }
+    
+    private boolean producePositionIfChanged(SatellitePosition newPosition, String source) {
+        positionsObserved.incrementAndGet();
+        int id = noradId(newPosition.getSatelliteId());
+        if (id < 0) return false;
         
-        String cacheKey = newPosition.getSatelliteId();
-        SatellitePosition cachedPosition = cache.get(cacheKey, SatellitePosition.class);
+        SatellitePosition published = newPosition;
+        SatellitePosition previous = null;
+        if (deadReckoning) {
+            previous = observedPositions.getAndSet(id, newPosition);
+            if (previous != null) {
+                // Publish the rates consumers should extrapolate with until the next event
+                published = DeadReckoning.withRates(previous, newPosition);
+            }
+        }
         
-        if (cachedPosition == null || hasPositionChanged(cachedPosition, newPosition)) {
-            eventProducer.producePositionEvent(newPosition, source);
-            cache.put(cacheKey, newPosition);
+        SatellitePosition cachedPosition;
+        do {
+            cachedPosition = publishedPositions.get(id);
+            if (cachedPosition != null && !shouldPublish(cachedPosition, newPosition)) {
+                return false;
+            }
+        } while (!publishedPositions.compareAndSet(id, cachedPosition, published));
+        
+        try {
+            eventProducer.producePositionEvent(published, source);
+        } catch (RuntimeException e) {
+            // Roll back both tables so the retried sample derives its rates from the same predecessor
+            publishedPositions.compareAndSet(id, published, cachedPosition);
+            if (deadReckoning) {
+                observedPositions.compareAndSet(id, newPosition, previous);
+            }
+            throw e;
+        }
+        positionsProduced.incrementAndGet();
+        return true;
+    }
+    
+    private boolean shouldPublish(SatellitePosition published, SatellitePosition observed) {
+        // An older sample that lost a race with a newer one is never published over it
+        if (observed.getTimestamp() < published.getTimestamp()) {
+            return false;
+        }
+        return deadReckoning ? hasDeviated(published, observed) : hasPositionChanged(published, observed);
+    }
+    
+    private int noradId(String satelliteId) {
+        try {
+            return NoradId.parse(satelliteId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("Ignoring update for invalid satellite ID {}", satelliteId);
+            return -1;
         }
     }
     
     public void checkAndProducePassUpdate(SatellitePass newPass) {
-        Cache cache = cacheManager.getCache(PASS_CACHE);
-        if (cache == null) return;
-        
-        String cacheKey = String.format("%s_%f_%f_%d", 
-                newPass.getSatelliteId(),
-                newPass.getObserverLatitude(),
-                newPass.getObserverLongitude(),
-                newPass.getStartTime());
-        
-        SatellitePass cachedPass = cache.get(cacheKey, SatellitePass.class);
+        int id = noradId(newPass.getSatelliteId());
+        if (id < 0) return;
         
-        if (cachedPass == null) {
+        long satelliteObserver = PassKey.satelliteObserver(id, newPass.getObserverLatitude(),
+                newPass.getObserverLongitude());
+        // add claims the pass atomically, so concurrent predictions emit it once
+        if (publishedPasses.add(satelliteObserver, newPass.getStartTime(), System.currentTimeMillis())) {
             log.info("New pass detected for satellite {} at ({}, {})", 
                     newPass.getSatelliteId(),
                     newPass.getObserverLatitude(),
                     newPass.getObserverLongitude());
-            eventProducer.producePassEvent(newPass);
-            cache.put(cacheKey, newPass);
+            try {
+                eventProducer.producePassEvent(newPass);
+            } catch (RuntimeException e) {
+                publishedPasses.remove(satelliteObserver, newPass.getStartTime());
+                throw e;
+            }
         }
     }
     
@@ -89,9 +330,16 @@ public class ChangeDetectionService {
     private boolean hasPositionChanged(SatellitePosition old, SatellitePosition new_) {
         // Check if position has changed significantly (more than ~1km)
         double latDiff = Math.abs(old.getLatitude() - new_.getLatitude());
-        double lonDiff = Math.abs(old.getLongitude() - new_.getLongitude());
+        double lonDiff = Math.abs(DeadReckoning.longitudeDifference(old.getLongitude(), new_.getLongitude()));
         double altDiff = Math.abs(old.getAltitude() - new_.getAltitude());
         
         return latDiff > 0.01 || lonDiff > 0.01 || altDiff > 1.0;
     }
+    
+    private boolean hasDeviated(SatellitePosition published, SatellitePosition observed) {
+        // Compare with what a consumer extrapolates from the last event it received
+        double[] predicted = DeadReckoning.extrapolate(published, observed.getTimestamp());
+        return DeadReckoning.distanceKm(predicted[0], predicted[1], predicted[2],
+                observed.getLatitude(), observed.getLongitude(), observed.getAltitude()) > deadReckoningToleranceKm;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.satellite.service;
+
+import com.satellite.model.NoradId;
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+import com.satellite.serialization.PassKey;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Point-in-time copy of the change-detection state, stored as a memory-mapped
+ * file of fixed-size big-endian records so a restart can reload it without
+ * parsing anything but the TLE lines themselves.
+ *
+ * <pre>
+ * header    32 bytes   magic, version, saved at (epoch millis), TLE, published
+ *                      position, observed position and pass record counts
+ * TLE       169 bytes  NORAD ID, then name (24), line 1 (69) and line 2 (69),
+ *                      each as a length byte and zero-padded ASCII
+ * position  68 bytes   NORAD ID, timestamp, latitude, longitude, altitude,
+ *                      velocity and the three dead-reckoning rates (NaN if none)
+ * pass      16 bytes   the {@link PassKey}
+ * </pre>
+ *
+ * A snapshot is written to a temporary file and atomically moved into place, so
+ * a crash mid-checkpoint leaves the previous one intact.
+ */
+public final class ChangeDetectionSnapshot {
+    
+    static final int MAGIC = 0x53434453; // "SCDS"
+    static final int VERSION = 1;
+    
+    static final int HEADER_SIZE = 32;
+    static final int NAME_BYTES = 24;
+    static final int LINE_BYTES = 69;
+    static final int TLE_RECORD_SIZE = 4 + 3 + NAME_BYTES + 2 * LINE_BYTES;
+    static final int POSITION_RECORD_SIZE = 4 + 8 + 7 * 8;
+    static final int PASS_RECORD_SIZE = PassKey.SIZE;
+    
+    private final long savedAt;
+    private final List<TleData> tles;
+    private final List<SatellitePosition> publishedPositions;
+    private final List<SatellitePosition> observedPositions;
+    // Pairs of PassKey halves: satelliteObserver, startTime
+    private final long[] passes;
+    
+    public ChangeDetectionSnapshot(long savedAt,
+                                   List<TleData> tles,
+                                   List<SatellitePosition> publishedPositions,
+                                   List<SatellitePosition> observedPositions,
+                                   long[] passes) {
+        if (passes.length % 2 != 0) {
+            throw new IllegalArgumentException("Pass keys must come in pairs, got " + passes.length + " longs");
+        }
+        this.savedAt = savedAt;
+        this.tles = tles;
+        this.publishedPositions = publishedPositions;
+        this.observedPositions = observedPositions;
+        this.passes = passes;
+    }
+    
+    public long getSavedAt() { return savedAt; }
+    public List<TleData> getTles() { return tles; }
+    public List<SatellitePosition> getPublishedPositions() { return publishedPositions; }
+    public List<SatellitePosition> getObservedPositions() { return observedPositions; }
+    public long[] getPasses() { return passes; }
+    
+    public int getPassCount() {
+        return passes.length / 2;
+    }
+    
+    /**
+     * TLEs whose lines do not fit the fixed record (longer than 69 characters or not
+     * ASCII) are left out; they are simply published again after a restart.
+     *
+     * @return the number of TLE records written
+     */
+    public int write(Path file) throws IOException {
+        List<byte[][]> tleFields = new ArrayList<>(tles.size());
+        List<TleData> written = new ArrayList<>(tles.size());
+        for (TleData tle : tles) {
+            byte[] line1 = ascii(tle.getLine1());
+            byte[] line2 = ascii(tle.getLine2());
+            if (line1 != null && line2 != null) {
+                tleFields.add(new byte[][]{name(tle.getSatelliteName()), line1, line2});
+                written.add(tle);
+            }
+        }
+        
+        long size = HEADER_SIZE
+                + (long) written.size() * TLE_RECORD_SIZE
+                + (long) (publishedPositions.size() + observedPositions.size()) * POSITION_RECORD_SIZE
+                + (long) getPassCount() * PASS_RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Change-detection snapshot too large to map: " + size + " bytes");
+        }
+        
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putLong(savedAt)
+                        .putInt(written.size())
+                        .putInt(publishedPositions.size())
+                        .putInt(observedPositions.size())
+                        .putInt(getPassCount());
+                for (int i = 0; i < written.size(); i++) {
+                    byte[][] fields = tleFields.get(i);
+                    buffer.putInt(NoradId.parse(written.get(i).getSatelliteId()));
+                    putField(buffer, fields[0], NAME_BYTES);
+                    putField(buffer, fields[1], LINE_BYTES);
+                    putField(buffer, fields[2], LINE_BYTES);
+                }
+                for (SatellitePosition position : publishedPositions) {
+                    putPosition(buffer, position);
+                }
+                for (SatellitePosition position : observedPositions) {
+                    putPosition(buffer, position);
+                }
+                for (long half : passes) {
+                    buffer.putLong(half);
+                }
+                buffer.force();
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return written.size();
+    }
+    
+    /**
+     * @throws IOException if the file cannot be read or is not a complete snapshot
+     *         in this version's layout
+     */
+    public static ChangeDetectionSnapshot read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Truncated change-detection snapshot: " + channel.size() + " bytes");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        
+        int magic = buffer.getInt();
+        int version = buffer.getInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException(String.format("Not a version %d change-detection snapshot (magic %08x, version %d)",
+                    VERSION, magic, version));
+        }
+        long savedAt = buffer.getLong();
+        int tleCount = buffer.getInt();
+        int publishedCount = buffer.getInt();
+        int observedCount = buffer.getInt();
+        int passCount = buffer.getInt();
+        long expected = HEADER_SIZE
+                + (long) tleCount * TLE_RECORD_SIZE
+                + ((long) publishedCount + observedCount) * POSITION_RECORD_SIZE
+                + (long) passCount * PASS_RECORD_SIZE;
+        if (tleCount < 0 || publishedCount < 0 || observedCount < 0 || passCount < 0
+                || expected != buffer.capacity()) {
+            throw new IOException("Change-detection snapshot is " + buffer.capacity()
+                    + " bytes but its header describes " + expected);
+        }
+        
+        List<TleData> tles = new ArrayList<>(tleCount);
+        for (int i = 0; i < tleCount; i++) {
+            buffer.getInt(); // NORAD ID, also in line 1
+            String name = getField(buffer, NAME_BYTES);
+            String line1 = getField(buffer, LINE_BYTES);
+            String line2 = getField(buffer, LINE_BYTES);
+            try {
+                tles.add(TleData.parseTle(name, line1, line2));
+            } catch (IllegalArgumentException e) {
+                // Unreadable record: that satellite is published again, nothing worse
+            }
+        }
+        List<SatellitePosition> publishedPositions = getPositions(buffer, publishedCount);
+        List<SatellitePosition> observedPositions = getPositions(buffer, observedCount);
+        long[] passes = new long[passCount * 2];
+        for (int i = 0; i < passes.length; i++) {
+            passes[i] = buffer.getLong();
+        }
+        return new ChangeDetectionSnapshot(savedAt, tles, publishedPositions, observedPositions, passes);
+    }
+    
+    private static void putPosition(ByteBuffer buffer, SatellitePosition position) {
+        buffer.putInt(NoradId.parse(position.getSatelliteId()))
+                .putLong(position.getTimestamp())
+                .putDouble(position.getLatitude())
+                .putDouble(position.getLongitude())
+                .putDouble(position.getAltitude())
+                .putDouble(position.getVelocity())
+                .putDouble(rate(position.getLatitudeRate()))
+                .putDouble(rate(position.getLongitudeRate()))
+                .putDouble(rate(position.getAltitudeRate()));
+    }
+    
+    private static List<SatellitePosition> getPositions(ByteBuffer buffer, int count) {
+        List<SatellitePosition> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            positions.add(SatellitePosition.builder()
+                    .satelliteId(NoradId.format(buffer.getInt()))
+                    .timestamp(buffer.getLong())
+                    .latitude(buffer.getDouble())
+                    .longitude(buffer.getDouble())
+                    .altitude(buffer.getDouble())
+                    .velocity(buffer.getDouble())
+                    .latitudeRate(rate(buffer.getDouble()))
+                    .longitudeRate(rate(buffer.getDouble()))
+                    .altitudeRate(rate(buffer.getDouble()))
+                    .build());
+        }
+        return positions;
+    }
+    
+    private static double rate(Double rate) {
+        return rate == null ? Double.NaN : rate;
+    }
+    
+    private static Double rate(double rate) {
+        return Double.isNaN(rate) ? null : rate;
+    }
+    
+    private static void putField(ByteBuffer buffer, byte[] value, int width) {
+        buffer.put((byte) value.length).put(value);
+        buffer.position(buffer.position() + width - value.length);
+    }
+    
+    private static String getField(ByteBuffer buffer, int width) {
+        int length = Math.min(buffer.get() & 0xFF, width);
+        byte[] value = new byte[length];
+        buffer.get(value);
+        buffer.position(buffer.position() + width - length);
+        return new String(value, StandardCharsets.US_ASCII);
+    }
+    
+    // null unless the line is ASCII and fits its field
+    private static byte[] ascii(String line) {
+        if (line == null || line.length() > LINE_BYTES || !StandardCharsets.US_ASCII.newEncoder().canEncode(line)) {
+            return null;
+        }
+        return line.getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    // Names are informational only, so anything that does not fit is cut or replaced
+    private static byte[] name(String name) {
+        byte[] bytes = (name == null ? "" : name).getBytes(StandardCharsets.US_ASCII);
+        return bytes.length <= NAME_BYTES ? bytes : Arrays.copyOf(bytes, NAME_BYTES);
+    }
+}
\ No newline at end of file
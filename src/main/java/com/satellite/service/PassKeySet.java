@@ -0,0 +1,147 @@
+package com.satellite.service;
+
+import com.satellite.serialization.PassKey;
+
+import java.util.Arrays;
+
+/**
+ * Passes already published, as {@link PassKey} halves in two parallel long
+ * arrays with open addressing, so deduplicating a pass neither formats nor
+ * allocates.
+ *
+ * Nothing expires on a timer: when the table fills up, passes that started more
+ * than {@code retentionMillis} ago are dropped first (they are never predicted
+ * again), and the table only grows if that does not free enough room.
+ */
+public class PassKeySet {
+    
+    private static final long EMPTY = Long.MIN_VALUE;
+    
+    private final long retentionMillis;
+    private long[] satelliteObservers;
+    private long[] startTimes;
+    private int size;
+    
+    public PassKeySet(long retentionMillis) {
+        this(retentionMillis, 1024);
+    }
+    
+    public PassKeySet(long retentionMillis, int expectedPasses) {
+        this.retentionMillis = retentionMillis;
+        allocate(Integer.highestOneBit(Math.max(16, expectedPasses * 2) - 1) << 1);
+    }
+    
+    /**
+     * @return true if the pass was not in the set
+     */
+    public synchronized boolean add(long satelliteObserver, long startTime, long nowMillis) {
+        if (startTime == EMPTY) {
+            throw new IllegalArgumentException("Invalid pass start time: " + startTime);
+        }
+        int i = find(satelliteObserver, startTime);
+        if (startTimes[i] != EMPTY) {
+            return false;
+        }
+        if ((size + 1) * 2 > startTimes.length) {
+            rebuild(nowMillis - retentionMillis);
+            i = find(satelliteObserver, startTime);
+        }
+        satelliteObservers[i] = satelliteObserver;
+        startTimes[i] = startTime;
+        size++;
+        return true;
+    }
+    
+    public synchronized boolean contains(long satelliteObserver, long startTime) {
+        return startTimes[find(satelliteObserver, startTime)] != EMPTY;
+    }
+    
+    /**
+     * @return true if the pass was in the set
+     */
+    public synchronized boolean remove(long satelliteObserver, long startTime) {
+        int i = find(satelliteObserver, startTime);
+        if (startTimes[i] == EMPTY) {
+            return false;
+        }
+        // Backward-shift deletion: pull later entries of the probe run into the gap
+        int mask = startTimes.length - 1;
+        int gap = i;
+        for (int j = (i + 1) & mask; startTimes[j] != EMPTY; j = (j + 1) & mask) {
+            int home = slot(satelliteObservers[j], startTimes[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                satelliteObservers[gap] = satelliteObservers[j];
+                startTimes[gap] = startTimes[j];
+                gap = j;
+            }
+        }
+        startTimes[gap] = EMPTY;
+        size--;
+        return true;
+    }
+    
+    public synchronized int size() {
+        return size;
+    }
+    
+    /**
+     * Every pass in the set, as {satelliteObserver, startTime} pairs laid end to end.
+     */
+    public synchronized long[] toArray() {
+        long[] pairs = new long[size * 2];
+        int n = 0;
+        for (int i = 0; i < startTimes.length; i++) {
+            if (startTimes[i] != EMPTY) {
+                pairs[n++] = satelliteObservers[i];
+                pairs[n++] = startTimes[i];
+            }
+        }
+        return pairs;
+    }
+    
+    private int find(long satelliteObserver, long startTime) {
+        int mask = startTimes.length - 1;
+        int i = slot(satelliteObserver, startTime, mask);
+        while (startTimes[i] != EMPTY
+                && (startTimes[i] != startTime || satelliteObservers[i] != satelliteObserver)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+    
+    private void rebuild(long expireBefore) {
+        long[] oldSatelliteObservers = satelliteObservers;
+        long[] oldStartTimes = startTimes;
+        int live = 0;
+        for (long startTime : oldStartTimes) {
+            if (startTime != EMPTY && startTime >= expireBefore) {
+                live++;
+            }
+        }
+        int capacity = oldStartTimes.length;
+        while ((live + 1) * 4 > capacity) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldStartTimes.length; i++) {
+            if (oldStartTimes[i] != EMPTY && oldStartTimes[i] >= expireBefore) {
+                int j = find(oldSatelliteObservers[i], oldStartTimes[i]);
+                satelliteObservers[j] = oldSatelliteObservers[i];
+                startTimes[j] = oldStartTimes[i];
+                size++;
+            }
+        }
+    }
+    
+    private void allocate(int capacity) {
+        satelliteObservers = new long[capacity];
+        startTimes = new long[capacity];
+        Arrays.fill(startTimes, EMPTY);
+    }
+    
+    private static int slot(long satelliteObserver, long startTime, int mask) {
+        long h = (satelliteObserver ^ Long.rotateLeft(startTime, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.satellite.service;
+
+import com.satellite.geo.GeoCellIndex;
+import com.satellite.geo.GeoPolygon;
+import com.satellite.geo.GeofenceTransition;
+import com.satellite.model.SatelliteConfig;
+import com.satellite.model.SatellitePosition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a {@link GeoCellIndex} over the latest position of every satellite and
+ * watches the configured geofences. A satellite's fence membership is kept as a
+ * bit mask, so each position costs one point-in-polygon test per fence and an
+ * event is produced only for the fences whose bit flipped. Membership is not
+ * persisted: a satellite's first position after a restart only seeds it, so the
+ * restart does not replay an ENTER for every satellite already inside a fence.
+ */
+@Service
+public class RegionIndexService {
+    
+    private static final Logger log = LoggerFactory.getLogger(RegionIndexService.class);
+    
+    private static final int MAX_GEOFENCES = Long.SIZE;
+    
+    private final GeoCellIndex index;
+    private final SatelliteEventProducer eventProducer;
+    private final String[] geofenceNames;
+    private final GeoPolygon[] geofences;
+    // satellite ID -> bit mask of the geofences it is inside
+    private final Map<String, Long> membership = new ConcurrentHashMap<>();
+    
+    public RegionIndexService(SatelliteConfig satelliteConfig,
+                              SatelliteEventProducer eventProducer,
+                              @Value("${satellite.region-index.cell-bits:7}") int cellBits) {
+        this.index = new GeoCellIndex(cellBits);
+        this.eventProducer = eventProducer;
+        
+        Map<String, GeoPolygon> configured = new LinkedHashMap<>();
+        List<SatelliteConfig.Geofence> fences = satelliteConfig.getGeofences();
+        if (fences != null) {
+            for (SatelliteConfig.Geofence fence : fences) {
+                List<SatelliteConfig.Vertex> vertices = fence.getVertices();
+                double[] latitudes = new double[vertices.size()];
+                double[] longitudes = new double[vertices.size()];
+                for (int i = 0; i < vertices.size(); i++) {
+                    latitudes[i] = vertices.get(i).getLatitude();
+                    longitudes[i] = vertices.get(i).getLongitude();
+                }
+                if (configured.put(fence.getName(), new GeoPolygon(latitudes, longitudes)) != null) {
+                    throw new IllegalArgumentException("Duplicate geofence name: " + fence.getName());
+                }
+            }
+        }
+        if (configured.size() > MAX_GEOFENCES) {
+            throw new IllegalArgumentException("At most " + MAX_GEOFENCES + " geofences are supported");
+        }
+        this.geofenceNames = configured.keySet().toArray(new String[0]);
+        this.geofences = configured.values().toArray(new GeoPolygon[0]);
+    }
+    
+    public void update(SatellitePosition position) {
+        index.update(position);
+        if (geofences.length == 0) {
+            return;
+        }
+        
+        long inside = 0L;
+        for (int i = 0; i < geofences.length; i++) {
+            if (geofences[i].contains(position.getLatitude(), position.getLongitude())) {
+                inside |= 1L << i;
+            }
+        }
+        long mask = inside;
+        long[] flipped = new long[1];
+        // Decide the transition atomically with the write, so concurrent updates never report the same flip twice
+        membership.compute(position.getSatelliteId(), (satelliteId, previous) -> {
+            flipped[0] = previous == null ? 0L : previous ^ mask;
+            return mask;
+        });
+        long changed = flipped[0];
+        while (changed != 0L) {
+            int fence = Long.numberOfTrailingZeros(changed);
+            changed &= changed - 1;
+            GeofenceTransition transition = (inside & (1L << fence)) != 0L
+                    ? GeofenceTransition.ENTER
+                    : GeofenceTransition.EXIT;
+            log.info("Satellite {} {} geofence {}", position.getSatelliteId(), transition, geofenceNames[fence]);
+            eventProducer.produceGeofenceEvent(position, geofenceNames[fence], transition);
+        }
+    }
+    
+    public List<SatellitePosition> queryBox(double minLatitude, double maxLatitude,
+                                            double minLongitude, double maxLongitude) {
+        return index.queryBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+    
+    public List<SatellitePosition> queryPolygon(GeoPolygon polygon) {
+        return index.queryPolygon(polygon);
+    }
+    
+    /**
+     * Satellites currently inside the named geofence, or null if there is no such fence.
+     */
+    public List<SatellitePosition> queryGeofence(String name) {
+        for (int i = 0; i < geofenceNames.length; i++) {
+            if (geofenceNames[i].equals(name)) {
+                return index.queryPolygon(geofences[i]);
+            }
+        }
+        return null;
+    }
+    
+    public Set<String> getGeofenceNames() {
+        return Set.of(geofenceNames);
+    }
+    
+    public int size() {
+        return index.size();
+    }
+}
\ No newline at end of file
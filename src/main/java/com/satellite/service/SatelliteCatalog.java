@@ -0,0 +1,110 @@
+package com.satellite.service;
+
+import com.satellite.model.NoradId;
+import com.satellite.model.TleData;
+import com.satellite.propagation.OrbitalElementStore;
+import com.satellite.propagation.Sgp4Propagator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Latest element set per satellite. Elements live in a column-oriented
+ * {@link OrbitalElementStore}; each slot's SGP4 propagator is built from the
+ * store's columns and sits in an array aligned with the slots, so propagation
+ * and screening walk the catalog in store order and positions can be computed
+ * locally at any rate.
+ */
+@Service
+public class SatelliteCatalog {
+    
+    private static final Logger log = LoggerFactory.getLogger(SatelliteCatalog.class);
+    
+    private final OrbitalElementStore elementStore = new OrbitalElementStore();
+    private volatile Sgp4Propagator[] propagators = new Sgp4Propagator[1024];
+    
+    /**
+     * Stores {@code tle} and rebuilds its satellite's propagator. An element set the
+     * catalog already holds keeps its propagator, so a catalog refresh does not
+     * invalidate the ephemeris tables built from unchanged TLEs. Concurrent updates
+     * may arrive out of order, so an element set older than the held one is ignored.
+     */
+    public synchronized void update(TleData tle) {
+        int existing = elementStore.slotOf(NoradId.parse(tle.getSatelliteId()));
+        if (existing >= 0) {
+            if (tle.getEpochMillis() < elementStore.epochMillis(existing)) {
+                log.debug("Ignoring TLE for satellite {} older than the catalog's", tle.getSatelliteId());
+                return;
+            }
+            if (getPropagator(existing) != null && elementStore.holds(existing, tle)) {
+                return;
+            }
+        }
+        
+        int slot = elementStore.put(tle);
+        Sgp4Propagator propagator;
+        try {
+            propagator = elementStore.createPropagator(slot);
+        } catch (IllegalArgumentException e) {
+            // The slot keeps the latest elements but drops out of propagation
+            log.warn("Unpropagatable TLE for satellite {}: {}", tle.getSatelliteId(), e.getMessage());
+            propagator = null;
+        }
+        
+        Sgp4Propagator[] current = propagators;
+        if (slot >= current.length) {
+            current = Arrays.copyOf(current, Math.max(slot + 1, current.length * 2));
+        }
+        current[slot] = propagator;
+        propagators = current;
+    }
+    
+    public Sgp4Propagator getPropagator(String satelliteId) {
+        try {
+            return getPropagator(elementStore.slotOf(NoradId.parse(satelliteId)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Whether positions and passes for {@code satelliteId} can be computed locally:
+     * the catalog holds a propagatable TLE for it and it is not a deep-space object,
+     * which would need SDP4. The others are left to N2YO.
+     */
+    public boolean canPropagate(String satelliteId) {
+        Sgp4Propagator propagator = getPropagator(satelliteId);
+        return propagator != null && !propagator.isDeepSpace();
+    }
+    
+    private Sgp4Propagator getPropagator(int slot) {
+        Sgp4Propagator[] current = propagators;
+        return slot >= 0 && slot < current.length ? current[slot] : null;
+    }
+    
+    /**
+     * All propagators in slot order, i.e. the order of the element store columns.
+     */
+    public List<Sgp4Propagator> getPropagators() {
+        Sgp4Propagator[] current = propagators;
+        List<Sgp4Propagator> result = new ArrayList<>(elementStore.size());
+        elementStore.scan((store, slot) -> {
+            if (slot < current.length && current[slot] != null) {
+                result.add(current[slot]);
+            }
+        });
+        return result;
+    }
+    
+    public OrbitalElementStore getElementStore() {
+        return elementStore;
+    }
+    
+    public int size() {
+        return elementStore.size();
+    }
+}
\ No newline at end of file
@@ -1,18 +1,33 @@
 package com.satellite.service;
 
-import com.satellite.avro.SatellitePassEvent;
-import com.satellite.avro.SatellitePositionEvent;
-import com.satellite.avro.SatelliteTleUpdateEvent;
+import com.satellite.geo.GeofenceTransition;
+import com.satellite.model.Conjunction;
 import com.satellite.model.SatellitePass;
 import com.satellite.model.SatellitePosition;
 import com.satellite.model.TleData;
+import com.satellite.serialization.ConjunctionEventValue;
+import com.satellite.serialization.PassEventValue;
+import com.satellite.serialization.PassKey;
+import com.satellite.serialization.EventSerializationPipeline;
+import com.satellite.serialization.GeofenceEventValue;
+import com.satellite.serialization.PositionEventValue;
+import com.satellite.serialization.TleUpdateEventValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -20,7 +35,16 @@ public class SatelliteEventProducer {
     
     private static final Logger log = LoggerFactory.getLogger(SatelliteEventProducer.class);
     
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    public static final String CATALOG_CYCLE_MARKER_KEY = "__catalog_cycle__";
+    public static final String CATALOG_CYCLE_HEADER = "catalog-cycle";
+    public static final String CATALOG_CYCLE_SOURCE_HEADER = "catalog-cycle-source";
+    public static final String CATALOG_CYCLE_SIZE_HEADER = "catalog-cycle-size";
+    
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    // Only present when satellite.kafka.transactions.enabled is set
+    private final KafkaTemplate<Object, Object> transactionalKafkaTemplate;
+    // Only present when satellite.kafka.serialization.offload is set
+    private final EventSerializationPipeline serializationPipeline;
     
     @Value("${kafka.topics.satellite-position}")
     private String positionTopic;
@@ -31,31 +55,38 @@ public class SatelliteEventProducer {
     @Value("${kafka.topics.satellite-tle}")
     private String tleTopic;
     
-    public SatelliteEventProducer(KafkaTemplate<String, Object> kafkaTemplate) {
+    @Value("${kafka.topics.satellite-conjunction}")
+    private String conjunctionTopic;
+    
+    @Value("${kafka.topics.satellite-geofence}")
+    private String geofenceTopic;
+    
+    public SatelliteEventProducer(KafkaTemplate<Object, Object> kafkaTemplate) {
+        this(kafkaTemplate, Optional.empty(), Optional.empty());
+    }
+    
+    @Autowired
+    public SatelliteEventProducer(KafkaTemplate<Object, Object> kafkaTemplate,
+                                  @Qualifier("tleTransactionalKafkaTemplate")
+                                  Optional<KafkaTemplate<Object, Object>> transactionalKafkaTemplate,
+                                  Optional<EventSerializationPipeline> serializationPipeline) {
         this.kafkaTemplate = kafkaTemplate;
+        this.transactionalKafkaTemplate = transactionalKafkaTemplate.orElse(null);
+        this.serializationPipeline = serializationPipeline.orElse(null);
     }
     
     public void producePositionEvent(SatellitePosition position, String source) {
-        SatellitePositionEvent event = SatellitePositionEvent.newBuilder()
-                .setSatelliteId(position.getSatelliteId())
-                .setSatelliteName(position.getSatelliteName())
-                .setTimestamp(position.getTimestamp())
-                .setLatitude(position.getLatitude())
-                .setLongitude(position.getLongitude())
-                .setAltitude(position.getAltitude())
-                .setVelocity(position.getVelocity())
-                .setSource(source)
-                .build();
+        PositionEventValue event = new PositionEventValue(position, source);
         
         String key = position.getSatelliteId();
         
-        CompletableFuture<SendResult<String, Object>> future = 
-                kafkaTemplate.send(positionTopic, key, event);
+        CompletableFuture<RecordMetadata> future = 
+                send(positionTopic, position.getSatelliteId(), key, event);
         
-        future.whenComplete((result, ex) -> {
+        future.whenComplete((metadata, ex) -> {
             if (ex == null) {
                 log.debug("Produced position event for satellite {} at offset {}",
-                        position.getSatelliteId(), result.getRecordMetadata().offset());
+                        position.getSatelliteId(), metadata.offset());
             } else {
                 log.error("Failed to produce position event for satellite {}: {}",
                         position.getSatelliteId(), ex.getMessage());
@@ -64,29 +95,15 @@ public class SatelliteEventProducer {
     }
     
     public void producePassEvent(SatellitePass pass) {
-        SatellitePassEvent event = SatellitePassEvent.newBuilder()
-                .setSatelliteId(pass.getSatelliteId())
-                .setSatelliteName(pass.getSatelliteName())
-                .setTimestamp(System.currentTimeMillis())
-                .setObserverLatitude(pass.getObserverLatitude())
-                .setObserverLongitude(pass.getObserverLongitude())
-                .setStartTime(pass.getStartTime())
-                .setEndTime(pass.getEndTime())
-                .setMaxElevation(pass.getMaxElevation())
-                .setStartAzimuth(pass.getStartAzimuth())
-                .setEndAzimuth(pass.getEndAzimuth())
-                .build();
-        
-        // Key includes location to allow multiple observers
-        String key = String.format("%s_%f_%f", 
-                pass.getSatelliteId(), 
-                pass.getObserverLatitude(), 
-                pass.getObserverLongitude());
-        
-        CompletableFuture<SendResult<String, Object>> future = 
-                kafkaTemplate.send(passTopic, key, event);
-        
-        future.whenComplete((result, ex) -> {
+        PassEventValue event = new PassEventValue(pass, System.currentTimeMillis());
+        
+        // One record per pass and observer cell; see PassKey for the layout
+        byte[] key = PassKey.encode(pass);
+        
+        CompletableFuture<RecordMetadata> future = 
+                send(passTopic, pass.getSatelliteId(), key, event);
+        
+        future.whenComplete((metadata, ex) -> {
             if (ex == null) {
                 log.debug("Produced pass event for satellite {} at location ({}, {})",
                         pass.getSatelliteId(), pass.getObserverLatitude(), pass.getObserverLongitude());
@@ -98,26 +115,14 @@ public class SatelliteEventProducer {
     }
     
     public void produceTleUpdateEvent(TleData tle, String source) {
-        SatelliteTleUpdateEvent event = SatelliteTleUpdateEvent.newBuilder()
-                .setSatelliteId(tle.getSatelliteId())
-                .setSatelliteName(tle.getSatelliteName())
-                .setTimestamp(System.currentTimeMillis())
-                .setLine1(tle.getLine1())
-                .setLine2(tle.getLine2())
-                .setEpochYear(tle.getEpochYear())
-                .setEpochDay(tle.getEpochDay())
-                .setMeanMotion(tle.getMeanMotion())
-                .setEccentricity(tle.getEccentricity())
-                .setInclination(tle.getInclination())
-                .setSource(source)
-                .build();
+        TleUpdateEventValue event = new TleUpdateEventValue(tle, source, System.currentTimeMillis());
         
         String key = tle.getSatelliteId();
         
-        CompletableFuture<SendResult<String, Object>> future = 
-                kafkaTemplate.send(tleTopic, key, event);
+        CompletableFuture<RecordMetadata> future = 
+                send(tleTopic, tle.getSatelliteId(), key, event);
         
-        future.whenComplete((result, ex) -> {
+        future.whenComplete((metadata, ex) -> {
             if (ex == null) {
                 log.info("Produced TLE update event for satellite {} from source {}",
                         tle.getSatelliteId(), source);
@@ -127,4 +132,91 @@ public class SatelliteEventProducer {
             }
         });
     }
+    
+    /**
+     * Publishes one polling cycle's TLE updates. In transactional mode they are
+     * committed as a single Kafka transaction followed by a cycle marker, so
+     * read_committed consumers see the whole catalog epoch or none of it; this
+     * blocks until the commit and throws if the transaction is aborted. Otherwise
+     * each update is sent independently, as {@link #produceTleUpdateEvent} does.
+     */
+    public void produceTleUpdateEvents(List<TleData> tles, String source) {
+        if (tles.isEmpty()) {
+            return;
+        }
+        if (transactionalKafkaTemplate == null) {
+            tles.forEach(tle -> produceTleUpdateEvent(tle, source));
+            return;
+        }
+        
+        String cycleId = source + "-" + UUID.randomUUID();
+        byte[] cycleHeader = cycleId.getBytes(StandardCharsets.UTF_8);
+        long timestamp = System.currentTimeMillis();
+        transactionalKafkaTemplate.executeInTransaction(operations -> {
+            for (TleData tle : tles) {
+                ProducerRecord<Object, Object> record = new ProducerRecord<>(
+                        tleTopic, tle.getSatelliteId(), new TleUpdateEventValue(tle, source, timestamp));
+                record.headers().add(CATALOG_CYCLE_HEADER, cycleHeader);
+                operations.send(record);
+            }
+            // Tombstone under a reserved key: compacts away, carries the cycle summary in headers.
+            // One per partition, so a consumer of any partition sees where the cycle ends
+            for (PartitionInfo partition : operations.partitionsFor(tleTopic)) {
+                ProducerRecord<Object, Object> marker = new ProducerRecord<>(
+                        tleTopic, partition.partition(), CATALOG_CYCLE_MARKER_KEY, null);
+                marker.headers()
+                        .add(CATALOG_CYCLE_HEADER, cycleHeader)
+                        .add(CATALOG_CYCLE_SOURCE_HEADER, source.getBytes(StandardCharsets.UTF_8))
+                        .add(CATALOG_CYCLE_SIZE_HEADER, Integer.toString(tles.size()).getBytes(StandardCharsets.UTF_8));
+                operations.send(marker);
+            }
+            return null;
+        });
+        log.info("Committed catalog cycle {} with {} TLE updates", cycleId, tles.size());
+    }
+    
+    public void produceConjunctionEvent(Conjunction conjunction, long screeningTime) {
+        ConjunctionEventValue event = new ConjunctionEventValue(conjunction, screeningTime);
+        
+        // One record per pair, so compaction keeps the latest assessment
+        String key = conjunction.getPrimarySatelliteId() + "_" + conjunction.getSecondarySatelliteId();
+        
+        CompletableFuture<RecordMetadata> future = 
+                send(conjunctionTopic, conjunction.getPrimarySatelliteId(), key, event);
+        
+        future.whenComplete((metadata, ex) -> {
+            if (ex == null) {
+                log.debug("Produced conjunction event for {} at offset {}", key, metadata.offset());
+            } else {
+                log.error("Failed to produce conjunction event for {}: {}", key, ex.getMessage());
+            }
+        });
+    }
+    
+    public void produceGeofenceEvent(SatellitePosition position, String geofence, GeofenceTransition transition) {
+        GeofenceEventValue event = new GeofenceEventValue(position, geofence, transition);
+        
+        // Compaction keeps whether each satellite is currently inside each fence
+        String key = position.getSatelliteId() + "_" + geofence;
+        
+        CompletableFuture<RecordMetadata> future = 
+                send(geofenceTopic, position.getSatelliteId(), key, event);
+        
+        future.whenComplete((metadata, ex) -> {
+            if (ex == null) {
+                log.debug("Produced geofence {} event for {} at offset {}", transition, key, metadata.offset());
+            } else {
+                log.error("Failed to produce geofence event for {}: {}", key, ex.getMessage());
+            }
+        });
+    }
+    
+    private CompletableFuture<RecordMetadata> send(String topic, String satelliteId, Object key, Object value) {
+        if (serializationPipeline != null) {
+            return serializationPipeline.submit(topic, satelliteId, key, value)
+                    .thenApply(SendResult::getRecordMetadata);
+        }
+        return kafkaTemplate.send(topic, key, value)
+                .thenApply(SendResult::getRecordMetadata);
+    }
 }
\ No newline at end of file
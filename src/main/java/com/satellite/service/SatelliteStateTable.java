@@ -0,0 +1,187 @@
+package com.satellite.service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latest value per satellite, keyed by int NORAD ID, for change detection under
+ * concurrent polling.
+ *
+ * Each ID is given a dense slot through an open-addressed index the first time
+ * it is seen; values live in fixed-size chunks that never move, so a caller can
+ * read a satellite's value and replace it with {@link #compareAndSet} exactly as
+ * with an {@code AtomicReference}. When two threads race to record the same
+ * change, only one wins the swap and emits the event. Reads and swaps do not
+ * lock; only the first sighting of a satellite takes the insert lock.
+ */
+public class SatelliteStateTable<V> {
+    
+    private static final int EMPTY = -1;
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    // Readers probe without locking: a key is published (volatile write) only after its slot is written
+    private static final class Index {
+        final AtomicIntegerArray keys;
+        final int[] slots;
+        
+        Index(int capacity) {
+            keys = new AtomicIntegerArray(capacity);
+            slots = new int[capacity];
+            for (int i = 0; i < capacity; i++) {
+                keys.lazySet(i, EMPTY);
+            }
+        }
+    }
+    
+    /**
+     * Receives each satellite's current value in {@link #forEach}.
+     */
+    @FunctionalInterface
+    public interface Visitor<V> {
+        void visit(int noradId, V value);
+    }
+    
+    private final Object insertLock = new Object();
+    private volatile Index index;
+    private volatile AtomicReferenceArray<V>[] chunks;
+    private int size;
+    
+    public SatelliteStateTable() {
+        this(1024);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SatelliteStateTable(int expectedSatellites) {
+        this.index = new Index(Integer.highestOneBit(Math.max(16, expectedSatellites * 2) - 1) << 1);
+        this.chunks = new AtomicReferenceArray[0];
+    }
+    
+    /**
+     * @return the current value, or null if none has been set
+     */
+    public V get(int noradId) {
+        int slot = slotOf(noradId);
+        return slot < 0 ? null : chunks[slot >>> CHUNK_BITS].get(slot & CHUNK_MASK);
+    }
+    
+    /**
+     * Sets the value to {@code update} if it is still {@code expected}, compared by
+     * identity; pass the instance returned by {@link #get}, or null for a satellite
+     * that has no value yet.
+     */
+    public boolean compareAndSet(int noradId, V expected, V update) {
+        int slot = slotOf(noradId);
+        if (slot < 0) {
+            if (expected != null) {
+                return false;
+            }
+            slot = insert(noradId);
+        }
+        return chunks[slot >>> CHUNK_BITS].compareAndSet(slot & CHUNK_MASK, expected, update);
+    }
+    
+    /**
+     * Unconditionally replaces the value.
+     *
+     * @return the previous value, or null
+     */
+    public V getAndSet(int noradId, V value) {
+        int slot = slotOf(noradId);
+        if (slot < 0) {
+            slot = insert(noradId);
+        }
+        return chunks[slot >>> CHUNK_BITS].getAndSet(slot & CHUNK_MASK, value);
+    }
+    
+    /**
+     * Number of satellites that have been given a slot.
+     */
+    public int size() {
+        synchronized (insertLock) {
+            return size;
+        }
+    }
+    
+    /**
+     * Visits every satellite that has a value, without locking; values swapped
+     * concurrently may be seen either before or after the swap.
+     */
+    public void forEach(Visitor<? super V> visitor) {
+        Index current = index;
+        AtomicReferenceArray<V>[] currentChunks = chunks;
+        for (int i = 0; i < current.slots.length; i++) {
+            int key = current.keys.get(i);
+            if (key != EMPTY) {
+                int slot = current.slots[i];
+                V value = currentChunks[slot >>> CHUNK_BITS].get(slot & CHUNK_MASK);
+                if (value != null) {
+                    visitor.visit(key, value);
+                }
+            }
+        }
+    }
+    
+    private int slotOf(int noradId) {
+        Index current = index;
+        int mask = current.slots.length - 1;
+        for (int i = mix(noradId) & mask; ; i = (i + 1) & mask) {
+            int key = current.keys.get(i);
+            if (key == noradId) return current.slots[i];
+            if (key == EMPTY) return -1;
+        }
+    }
+    
+    private int insert(int noradId) {
+        if (noradId == EMPTY) {
+            throw new IllegalArgumentException("Invalid NORAD catalog number: " + noradId);
+        }
+        synchronized (insertLock) {
+            // Another thread may have inserted it since the lock-free probe
+            int existing = slotOf(noradId);
+            if (existing >= 0) {
+                return existing;
+            }
+            if ((size + 1) * 2 > index.slots.length) {
+                index = rehash(index, index.slots.length * 2);
+            }
+            int slot = size;
+            if ((slot >>> CHUNK_BITS) == chunks.length) {
+                AtomicReferenceArray<V>[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+                grown[chunks.length] = new AtomicReferenceArray<>(CHUNK_SIZE);
+                chunks = grown;
+            }
+            place(index, noradId, slot);
+            size++;
+            return slot;
+        }
+    }
+    
+    private static Index rehash(Index old, int capacity) {
+        Index grown = new Index(capacity);
+        for (int i = 0; i < old.slots.length; i++) {
+            int key = old.keys.get(i);
+            if (key != EMPTY) {
+                place(grown, key, old.slots[i]);
+            }
+        }
+        return grown;
+    }
+    
+    private static void place(Index target, int noradId, int slot) {
+        int mask = target.slots.length - 1;
+        int i = mix(noradId) & mask;
+        while (target.keys.get(i) != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        target.slots[i] = slot;
+        target.keys.set(i, noradId);
+    }
+    
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.satellite.service.polling;
+
+import com.satellite.model.OrbitRegime;
+import com.satellite.model.TleData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decides when each tracked satellite's TLE is next worth fetching, instead of
+ * fetching every one every cycle. Satellites sit in a min-heap keyed by their
+ * next due time; a polling tick takes the due ones off the heap and puts each
+ * back once its cycle has been published.
+ *
+ * The next poll is when the satellite's next element set is expected: its
+ * current epoch plus the interval at which its sets have been changing. That
+ * interval starts from a prior for the orbit regime (shorter for low, high-drag
+ * LEO orbits) and follows the observed epoch-to-epoch gaps as a moving average.
+ * Once a set is overdue the satellite is checked every quarter of that interval.
+ * Delays are kept between the configured minimum and maximum.
+ */
+public class AdaptivePollSchedule {
+    
+    private static final long HOUR = 3_600_000L;
+    // Weight of the newest observed gap in the moving average
+    private static final double ALPHA = 0.3;
+    // Mean motion above which drag is strong enough to revise sets several times a day
+    private static final double LOW_LEO_MEAN_MOTION = 15.0;
+    
+    private static final class Entry {
+        final String satelliteId;
+        long due;
+        long epochMillis;
+        long expectedInterval;
+        OrbitRegime regime = OrbitRegime.UNKNOWN;
+        // False while the satellite's request is in flight
+        boolean scheduled = true;
+        
+        Entry(String satelliteId, long due) {
+            this.satelliteId = satelliteId;
+            this.due = due;
+        }
+    }
+    
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.due));
+    // Every tracked satellite, including those taken off the heap while their request is in flight
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final AtomicLongArray requests = new AtomicLongArray(OrbitRegime.values().length);
+    
+    public AdaptivePollSchedule(long minIntervalMillis, long maxIntervalMillis) {
+        if (minIntervalMillis < 0 || maxIntervalMillis < minIntervalMillis) {
+            throw new IllegalArgumentException("Poll interval bounds must satisfy 0 <= min <= max, got "
+                    + minIntervalMillis + " and " + maxIntervalMillis);
+        }
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+    }
+    
+    /**
+     * Brings the schedule in line with the tracked satellites: new ones are due
+     * immediately, ones no longer tracked are dropped.
+     */
+    public synchronized void track(Collection<String> satelliteIds, long now) {
+        Set<String> tracked = new HashSet<>(satelliteIds);
+        if (entries.keySet().retainAll(tracked)) {
+            heap.removeIf(entry -> !tracked.contains(entry.satelliteId));
+        }
+        for (String satelliteId : tracked) {
+            if (!entries.containsKey(satelliteId)) {
+                Entry entry = new Entry(satelliteId, now);
+                entries.put(satelliteId, entry);
+                heap.add(entry);
+            }
+        }
+    }
+    
+    /**
+     * Takes every satellite due at {@code now} off the schedule and counts a
+     * request for each. Each must be handed back with {@link #completed}.
+     */
+    public synchronized List<String> due(long now) {
+        List<String> due = new ArrayList<>();
+        while (!heap.isEmpty() && heap.peek().due <= now) {
+            Entry entry = heap.poll();
+            entry.scheduled = false;
+            requests.incrementAndGet(entry.regime.ordinal());
+            due.add(entry.satelliteId);
+        }
+        return due;
+    }
+    
+    /**
+     * Puts a satellite back on the schedule after its cycle was published.
+     *
+     * @param tle the element set received, or null if the request failed or the
+     *            set was not modified
+     */
+    public synchronized void completed(String satelliteId, TleData tle, long now) {
+        Entry entry = entries.get(satelliteId);
+        if (entry == null || entry.scheduled) {
+            return;
+        }
+        if (tle != null && tle.getEpochMillis() > entry.epochMillis) {
+            OrbitRegime regime = OrbitRegime.of(tle);
+            if (entry.epochMillis == 0 || regime != entry.regime) {
+                entry.expectedInterval = priorInterval(regime, tle.getMeanMotion());
+            } else {
+                long gap = tle.getEpochMillis() - entry.epochMillis;
+                entry.expectedInterval = Math.round(ALPHA * gap + (1 - ALPHA) * entry.expectedInterval);
+            }
+            entry.regime = regime;
+            entry.epochMillis = tle.getEpochMillis();
+        }
+        entry.due = now + nextDelay(entry, now);
+        entry.scheduled = true;
+        heap.add(entry);
+    }
+    
+    /**
+     * Puts a satellite back on the schedule after a cycle that could not be
+     * published, due again after the minimum interval whatever its history.
+     */
+    public synchronized void retry(String satelliteId, long now) {
+        Entry entry = entries.get(satelliteId);
+        if (entry == null || entry.scheduled) {
+            return;
+        }
+        entry.due = now + minIntervalMillis;
+        entry.scheduled = true;
+        heap.add(entry);
+    }
+    
+    private long nextDelay(Entry entry, long now) {
+        if (entry.epochMillis == 0) {
+            // Nothing known yet: retry soon
+            return minIntervalMillis;
+        }
+        long untilExpected = entry.epochMillis + entry.expectedInterval - now;
+        long delay = untilExpected > 0 ? untilExpected : entry.expectedInterval / 4;
+        return Math.max(minIntervalMillis, Math.min(maxIntervalMillis, delay));
+    }
+    
+    static long priorInterval(OrbitRegime regime, double meanMotion) {
+        return switch (regime) {
+            case LEO -> meanMotion >= LOW_LEO_MEAN_MOTION ? 6 * HOUR : 12 * HOUR;
+            case HEO -> 24 * HOUR;
+            case MEO -> 72 * HOUR;
+            case GEO -> 168 * HOUR;
+            case UNKNOWN -> 24 * HOUR;
+        };
+    }
+    
+    /**
+     * Requests made per orbit regime since startup; satellites whose first TLE
+     * has not arrived yet count as {@link OrbitRegime#UNKNOWN}.
+     */
+    public Map<OrbitRegime, Long> getRequestCounts() {
+        Map<OrbitRegime, Long> counts = new EnumMap<>(OrbitRegime.class);
+        for (OrbitRegime regime : OrbitRegime.values()) {
+            counts.put(regime, requests.get(regime.ordinal()));
+        }
+        return counts;
+    }
+    
+    /**
+     * When the satellite is next due, or -1 if it is not tracked or its request
+     * is in flight.
+     */
+    public synchronized long nextDue(String satelliteId) {
+        Entry entry = entries.get(satelliteId);
+        return entry == null || !entry.scheduled ? -1 : entry.due;
+    }
+}
\ No newline at end of file
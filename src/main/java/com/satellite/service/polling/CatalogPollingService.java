@@ -0,0 +1,49 @@
+package com.satellite.service.polling;
+
+import com.satellite.client.CelestrakClient;
+import com.satellite.service.SatelliteCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Loads the full Celestrak active catalog into {@link SatelliteCatalog} so it can
+ * be propagated locally. TLE events are still only produced for tracked satellites.
+ */
+@Service
+@ConditionalOnProperty(value = "satellite.polling.catalog.enabled", havingValue = "true")
+public class CatalogPollingService {
+    
+    private static final Logger log = LoggerFactory.getLogger(CatalogPollingService.class);
+    
+    private final CelestrakClient celestrakClient;
+    private final SatelliteCatalog satelliteCatalog;
+    
+    public CatalogPollingService(CelestrakClient celestrakClient, SatelliteCatalog satelliteCatalog) {
+        this.celestrakClient = celestrakClient;
+        this.satelliteCatalog = satelliteCatalog;
+    }
+    
+    // Blocks until the refresh is done, so the fixed delay runs from its end and refreshes never overlap
+    @Scheduled(fixedDelayString = "${satellite.polling.catalog.interval}000")
+    public void pollActiveCatalog() {
+        log.info("Starting Celestrak active catalog refresh");
+        long start = System.nanoTime();
+        pollCycle().block();
+        log.info("Celestrak active catalog refresh finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    public Mono<Void> pollCycle() {
+        return celestrakClient.getActivesSatellites()
+                .doOnNext(satelliteCatalog::update)
+                .count()
+                .doOnNext(count -> log.info("Loaded {} active satellites, catalog now holds {}",
+                        count, satelliteCatalog.size()))
+                .doOnError(e -> log.error("Error refreshing active catalog: {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
\ No newline at end of file
@@ -1,14 +1,27 @@
 package com.satellite.service.polling;
 
 import com.satellite.client.CelestrakClient;
+import com.satellite.client.FetchedTle;
+import com.satellite.model.OrbitRegime;
 import com.satellite.model.SatelliteConfig;
+import com.satellite.model.TleData;
 import com.satellite.service.ChangeDetectionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @ConditionalOnProperty(value = "satellite.polling.celestrak.enabled", havingValue = "true")
@@ -20,29 +33,146 @@ public class CelestrakPollingService {
     private final ChangeDetectionService changeDetectionService;
     private final SatelliteConfig satelliteConfig;
     
+    // At most this many TLE requests in flight at once
+    private final int concurrency;
+    private final int requestTimeoutSeconds;
+    // "reactor" or "virtual-threads"
+    private final String execution;
+    
+    private final AdaptivePollSchedule schedule;
+    
     public CelestrakPollingService(CelestrakClient celestrakClient, 
                                   ChangeDetectionService changeDetectionService,
-                                  SatelliteConfig satelliteConfig) {
+                                  SatelliteConfig satelliteConfig,
+                                  @Value("${satellite.polling.celestrak.concurrency:8}") int concurrency,
+                                  @Value("${satellite.polling.celestrak.request-timeout:30}") int requestTimeoutSeconds,
+                                  @Value("${satellite.polling.execution:reactor}") String execution,
+                                  @Value("${satellite.polling.celestrak.min-interval:900}") long minIntervalSeconds,
+                                  @Value("${satellite.polling.celestrak.max-interval:86400}") long maxIntervalSeconds) {
         this.celestrakClient = celestrakClient;
         this.changeDetectionService = changeDetectionService;
         this.satelliteConfig = satelliteConfig;
+        this.concurrency = VirtualThreadPolling.checkPositive("satellite.polling.celestrak.concurrency", concurrency);
+        this.requestTimeoutSeconds = VirtualThreadPolling.checkPositive(
+                "satellite.polling.celestrak.request-timeout", requestTimeoutSeconds);
+        this.execution = VirtualThreadPolling.checkExecution(execution);
+        this.schedule = new AdaptivePollSchedule(minIntervalSeconds * 1000, maxIntervalSeconds * 1000);
+    }
+    
+    /**
+     * TLE requests made per orbit regime since startup.
+     */
+    public Map<OrbitRegime, Long> getRequestCounts() {
+        return schedule.getRequestCounts();
     }
     
+    // Runs every interval but only fetches the satellites the schedule says are due. Blocks
+    // until the cycle is done, so the fixed delay runs from its end and cycles never overlap
     @Scheduled(fixedDelayString = "${satellite.polling.celestrak.interval}000")
     public void pollCelestrakData() {
-        log.info("Starting Celestrak polling cycle");
-        
-        satelliteConfig.getTrackedSatellites().forEach(satellite -> {
-            celestrakClient.getTleForSatellite(satellite.getId())
-                    .doOnNext(tle -> changeDetectionService.checkAndProduceTleUpdate(tle, "CELESTRAK"))
-                    .doOnError(e -> log.error("Error processing TLE for satellite {}: {}", 
-                            satellite.getId(), e.getMessage()))
-                    .onErrorResume(e -> Mono.empty())
-                    .subscribe(
-                            tle -> log.debug("Processed TLE for satellite: {}", tle.getSatelliteId()),
-                            error -> log.error("Error in Celestrak polling for satellite {}: {}", 
-                                    satellite.getId(), error.getMessage())
-                    );
-        });
+        List<String> due = takeDueSatellites();
+        if (due.isEmpty()) {
+            log.debug("No satellites due for a Celestrak TLE check");
+            return;
+        }
+        log.info("Starting Celestrak polling cycle for {} due satellites", due.size());
+        long start = System.nanoTime();
+        if (VirtualThreadPolling.enabled(execution)) {
+            pollOnVirtualThreads(due);
+        } else {
+            poll(due).block();
+        }
+        log.info("Celestrak polling cycle finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    /**
+     * One polling cycle: fetches the TLE of every tracked satellite that is due,
+     * {@code concurrency} requests at a time, and publishes the changes together.
+     * Completes once they have been published. A satellite whose request fails or
+     * times out is retried once the schedule says it is due again.
+     */
+    public Mono<Void> pollCycle() {
+        return Mono.defer(() -> poll(takeDueSatellites()));
+    }
+    
+    /**
+     * Blocking-style equivalent of {@link #pollCycle()}: each due satellite's TLE is
+     * fetched on its own virtual thread, {@code concurrency} at a time, and the
+     * changes are published together once every request has finished.
+     */
+    public void pollCycleOnVirtualThreads() {
+        pollOnVirtualThreads(takeDueSatellites());
+    }
+    
+    private List<String> takeDueSatellites() {
+        long now = System.currentTimeMillis();
+        schedule.track(satelliteConfig.getTrackedSatellites().stream()
+                .map(SatelliteConfig.TrackedSatellite::getId)
+                .toList(), now);
+        return schedule.due(now);
+    }
+    
+    private Mono<Void> poll(List<String> satelliteIds) {
+        Duration requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        return Flux.fromIterable(satelliteIds)
+                .flatMap(satelliteId -> celestrakClient.getTleForSatellite(satelliteId)
+                        .timeout(requestTimeout)
+                        .doOnError(e -> log.error("Error processing TLE for satellite {}: {}",
+                                satelliteId, e.getMessage()))
+                        .onErrorResume(e -> Mono.empty())
+                        .map(fetched -> Tuples.of(satelliteId, fetched)), concurrency)
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                // Publishing may block on a Kafka transaction commit
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(fetched -> publish(satelliteIds, fetched))
+                // An abandoned cycle must not take its satellites off the schedule for good
+                .doOnCancel(() -> retry(satelliteIds))
+                .doOnError(e -> {
+                    log.error("Error in Celestrak polling: {}", e.getMessage());
+                    retry(satelliteIds);
+                })
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+    
+    private void pollOnVirtualThreads(List<String> satelliteIds) {
+        Duration requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        Map<String, FetchedTle> fetched = new ConcurrentHashMap<>();
+        VirtualThreadPolling.forEach(satelliteIds, concurrency, satelliteId -> {
+            FetchedTle tle = celestrakClient.getTleForSatellite(satelliteId).block(requestTimeout);
+            if (tle != null) {
+                fetched.put(satelliteId, tle);
+            }
+        }, (satelliteId, e) -> log.error("Error processing TLE for satellite {}: {}", satelliteId, e.getMessage()));
+        publish(satelliteIds, fetched);
+    }
+    
+    /**
+     * Publishes a cycle's TLEs, and only then saves their responses' validators and
+     * reschedules the cycle's satellites from what was received. If publication
+     * fails neither happens: the next requests are full downloads rather than 304s,
+     * and every satellite of the cycle is due again after the minimum interval.
+     */
+    private void publish(List<String> satelliteIds, Map<String, FetchedTle> fetched) {
+        List<TleData> tles = fetched.values().stream().map(FetchedTle::tle).toList();
+        try {
+            changeDetectionService.checkAndProduceTleUpdates(tles, "CELESTRAK");
+        } catch (RuntimeException e) {
+            log.error("Error publishing {} Celestrak TLEs, retrying their satellites: {}", tles.size(), e.getMessage());
+            retry(satelliteIds);
+            return;
+        }
+        fetched.values().forEach(celestrakClient::commit);
+        long now = System.currentTimeMillis();
+        for (String satelliteId : satelliteIds) {
+            FetchedTle tle = fetched.get(satelliteId);
+            schedule.completed(satelliteId, tle == null ? null : tle.tle(), now);
+        }
+        log.debug("Processed {} Celestrak TLEs", tles.size());
+    }
+    
+    private void retry(List<String> satelliteIds) {
+        long now = System.currentTimeMillis();
+        satelliteIds.forEach(satelliteId -> schedule.retry(satelliteId, now));
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.satellite.service.polling;
+
+import com.satellite.model.Conjunction;
+import com.satellite.propagation.ConjunctionScreener;
+import com.satellite.propagation.Sgp4Propagator;
+import com.satellite.service.SatelliteCatalog;
+import com.satellite.service.SatelliteEventProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Periodically screens the whole catalog for close approaches over the next
+ * {@code window-hours} and publishes one event per encounter.
+ */
+@Service
+@ConditionalOnProperty(value = "satellite.polling.conjunction.enabled", havingValue = "true")
+public class ConjunctionScreeningService {
+    
+    private static final Logger log = LoggerFactory.getLogger(ConjunctionScreeningService.class);
+    
+    private final SatelliteCatalog satelliteCatalog;
+    private final ConjunctionScreener conjunctionScreener;
+    private final SatelliteEventProducer eventProducer;
+    
+    @Value("${satellite.polling.conjunction.window-hours:6}")
+    private int windowHours;
+    
+    public ConjunctionScreeningService(SatelliteCatalog satelliteCatalog,
+                                       ConjunctionScreener conjunctionScreener,
+                                       SatelliteEventProducer eventProducer) {
+        this.satelliteCatalog = satelliteCatalog;
+        this.conjunctionScreener = conjunctionScreener;
+        this.eventProducer = eventProducer;
+    }
+    
+    @Scheduled(fixedDelayString = "${satellite.polling.conjunction.interval}000")
+    public void screenCatalog() {
+        List<Sgp4Propagator> propagators = satelliteCatalog.getPropagators();
+        if (propagators.size() < 2) {
+            log.debug("Not enough objects in the catalog to screen for conjunctions");
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        long start = System.nanoTime();
+        List<Conjunction> conjunctions = conjunctionScreener.screen(propagators, now, now + windowHours * 3_600_000L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        log.info("Screened {} objects over {} h in {} ms: {} conjunctions within {} km",
+                propagators.size(), windowHours, elapsedMillis, conjunctions.size(),
+                conjunctionScreener.getThresholdKm());
+        conjunctions.forEach(conjunction -> eventProducer.produceConjunctionEvent(conjunction, now));
+    }
+}
\ No newline at end of file
@@ -2,13 +2,23 @@ package com.satellite.service.polling;
 
 import com.satellite.client.N2yoClient;
 import com.satellite.model.SatelliteConfig;
+import com.satellite.model.SatellitePass;
+import com.satellite.model.SatellitePosition;
 import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.SatelliteCatalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.List;
 
 @Service
 @ConditionalOnProperty(value = "satellite.polling.n2yo.enabled", havingValue = "true")
@@ -19,49 +29,152 @@ public class N2yoPollingService {
     private final N2yoClient n2yoClient;
     private final ChangeDetectionService changeDetectionService;
     private final SatelliteConfig satelliteConfig;
+    private final SatelliteCatalog satelliteCatalog;
+    private final boolean positionsEnabled;
+    private final boolean passesEnabled;
+    private final boolean localPositions;
+    private final boolean localPasses;
+    // At most this many requests in flight at once; N2YO limits requests per hour
+    private final int concurrency;
+    private final int requestTimeoutSeconds;
+    // "reactor" or "virtual-threads"
+    private final String execution;
     
+    /**
+     * While positions are propagated or passes predicted locally, N2YO is only
+     * asked about the tracked satellites that cannot be handled in-process:
+     * deep-space objects, which need SDP4, and satellites without a TLE yet.
+     */
     public N2yoPollingService(N2yoClient n2yoClient,
                              ChangeDetectionService changeDetectionService,
-                             SatelliteConfig satelliteConfig) {
+                             SatelliteConfig satelliteConfig,
+                             SatelliteCatalog satelliteCatalog,
+                             @Value("${satellite.polling.n2yo.positions-enabled:true}") boolean positionsEnabled,
+                             @Value("${satellite.polling.n2yo.passes-enabled:true}") boolean passesEnabled,
+                             @Value("${satellite.polling.propagation.enabled:false}") boolean localPositions,
+                             @Value("${satellite.polling.pass-prediction.enabled:false}") boolean localPasses,
+                             @Value("${satellite.polling.n2yo.concurrency:4}") int concurrency,
+                             @Value("${satellite.polling.n2yo.request-timeout:30}") int requestTimeoutSeconds,
+                             @Value("${satellite.polling.execution:reactor}") String execution) {
         this.n2yoClient = n2yoClient;
         this.changeDetectionService = changeDetectionService;
         this.satelliteConfig = satelliteConfig;
+        this.satelliteCatalog = satelliteCatalog;
+        this.positionsEnabled = positionsEnabled;
+        this.passesEnabled = passesEnabled;
+        this.localPositions = localPositions;
+        this.localPasses = localPasses;
+        this.concurrency = VirtualThreadPolling.checkPositive("satellite.polling.n2yo.concurrency", concurrency);
+        this.requestTimeoutSeconds = VirtualThreadPolling.checkPositive(
+                "satellite.polling.n2yo.request-timeout", requestTimeoutSeconds);
+        this.execution = VirtualThreadPolling.checkExecution(execution);
+    }
+    
+    private List<SatelliteConfig.TrackedSatellite> satellitesFor(boolean local) {
+        if (!local) {
+            return satelliteConfig.getTrackedSatellites();
+        }
+        return satelliteConfig.getTrackedSatellites().stream()
+                .filter(satellite -> !satelliteCatalog.canPropagate(satellite.getId()))
+                .toList();
     }
     
+    // Blocks until the cycle is done, so the fixed delay runs from its end and cycles never overlap
     @Scheduled(fixedDelayString = "${satellite.polling.n2yo.interval}000")
     public void pollN2yoData() {
         log.info("Starting N2YO polling cycle");
-        
-        // Poll current positions
-        satelliteConfig.getTrackedSatellites().forEach(satellite -> {
-            n2yoClient.getCurrentPosition(satellite.getId())
-                    .doOnNext(position -> changeDetectionService.checkAndProducePositionUpdate(position, "N2YO"))
-                    .doOnError(e -> log.error("Error getting position for satellite {}: {}", 
-                            satellite.getId(), e.getMessage()))
-                    .onErrorResume(e -> Mono.empty())
-                    .subscribe(
-                            position -> log.debug("Processed position for satellite: {}", position.getSatelliteId()),
-                            error -> log.error("Error in N2YO position polling for satellite {}: {}", 
-                                    satellite.getId(), error.getMessage())
-                    );
-        });
-        
-        // Poll upcoming passes
-        satelliteConfig.getTrackedSatellites().forEach(satellite -> {
-            satelliteConfig.getObserverLocations().forEach(location -> {
-                n2yoClient.getUpcomingPasses(
-                        satellite.getId(), 
-                        location.getLatitude(), 
-                        location.getLongitude(), 
-                        2) // Look 2 days ahead
-                        .doOnNext(pass -> changeDetectionService.checkAndProducePassUpdate(pass))
+        long start = System.nanoTime();
+        if (VirtualThreadPolling.enabled(execution)) {
+            pollCycleOnVirtualThreads();
+        } else {
+            pollCycle().block();
+        }
+        log.info("N2YO polling cycle finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    /**
+     * One polling cycle: current positions, then upcoming passes, each with at most
+     * {@code concurrency} requests in flight. Completes when every response has been
+     * processed; a request that fails or times out is skipped until the next cycle.
+     */
+    public Mono<Void> pollCycle() {
+        Duration requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        return (positionsEnabled ? pollPositions(requestTimeout) : Mono.<Void>empty())
+                .then(passesEnabled ? pollPasses(requestTimeout) : Mono.empty());
+    }
+    
+    private Mono<Void> pollPositions(Duration requestTimeout) {
+        return Flux.defer(() -> Flux.fromIterable(satellitesFor(localPositions)))
+                .flatMap(satellite -> n2yoClient.getCurrentPosition(satellite.getId())
+                        .timeout(requestTimeout)
+                        .doOnNext(position -> {
+                            changeDetectionService.checkAndProducePositionUpdate(position, "N2YO");
+                            log.debug("Processed position for satellite: {}", position.getSatelliteId());
+                        })
+                        .doOnError(e -> log.error("Error getting position for satellite {}: {}", 
+                                satellite.getId(), e.getMessage()))
+                        .onErrorResume(e -> Mono.empty()), concurrency)
+                .then();
+    }
+    
+    private Mono<Void> pollPasses(Duration requestTimeout) {
+        return Flux.defer(() -> Flux.fromIterable(satellitesFor(localPasses)))
+                .flatMapIterable(satellite -> satelliteConfig.getObserverLocations().stream()
+                        .map(location -> Tuples.of(satellite, location))
+                        .toList())
+                .flatMap(request -> n2yoClient.getUpcomingPasses(
+                                request.getT1().getId(),
+                                request.getT2().getLatitude(),
+                                request.getT2().getLongitude(),
+                                2) // Look 2 days ahead
+                        .timeout(requestTimeout)
+                        .doOnNext(pass -> {
+                            changeDetectionService.checkAndProducePassUpdate(pass);
+                            log.debug("Processed pass for satellite: {}", pass.getSatelliteId());
+                        })
                         .doOnError(e -> log.error("Error getting passes for satellite {} at {}: {}", 
-                                satellite.getId(), location.getName(), e.getMessage()))
-                        .subscribe(
-                                pass -> log.debug("Processed pass for satellite: {}", pass.getSatelliteId()),
-                                error -> log.error("Error in N2YO pass polling: {}", error.getMessage())
-                        );
-            });
-        });
+                                request.getT1().getId(), request.getT2().getName(), e.getMessage()))
+                        .onErrorResume(e -> Mono.empty()), concurrency)
+                .then();
+    }
+    
+    /**
+     * Blocking-style equivalent of {@link #pollCycle()}: each request is fetched,
+     * change-detected and produced on its own virtual thread, {@code concurrency}
+     * at a time.
+     */
+    public void pollCycleOnVirtualThreads() {
+        Duration requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        if (positionsEnabled) {
+            VirtualThreadPolling.forEach(satellitesFor(localPositions), concurrency, satellite -> {
+                SatellitePosition position = n2yoClient.getCurrentPosition(satellite.getId()).block(requestTimeout);
+                if (position != null) {
+                    changeDetectionService.checkAndProducePositionUpdate(position, "N2YO");
+                    log.debug("Processed position for satellite: {}", position.getSatelliteId());
+                }
+            }, (satellite, e) -> log.error("Error getting position for satellite {}: {}",
+                    satellite.getId(), e.getMessage()));
+        }
+        if (passesEnabled) {
+            List<Tuple2<SatelliteConfig.TrackedSatellite, SatelliteConfig.ObserverLocation>> requests =
+                    satellitesFor(localPasses).stream()
+                            .flatMap(satellite -> satelliteConfig.getObserverLocations().stream()
+                                    .map(location -> Tuples.of(satellite, location)))
+                            .toList();
+            VirtualThreadPolling.forEach(requests, concurrency, request -> {
+                List<SatellitePass> passes = n2yoClient.getUpcomingPasses(
+                                request.getT1().getId(),
+                                request.getT2().getLatitude(),
+                                request.getT2().getLongitude(),
+                                2) // Look 2 days ahead
+                        .collectList()
+                        .block(requestTimeout);
+                for (SatellitePass pass : passes) {
+                    changeDetectionService.checkAndProducePassUpdate(pass);
+                    log.debug("Processed pass for satellite: {}", pass.getSatelliteId());
+                }
+            }, (request, e) -> log.error("Error getting passes for satellite {} at {}: {}",
+                    request.getT1().getId(), request.getT2().getName(), e.getMessage()));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.satellite.service.polling;
+
+import com.satellite.model.SatelliteConfig;
+import com.satellite.model.SatellitePass;
+import com.satellite.propagation.PassPredictor;
+import com.satellite.propagation.Sgp4Propagator;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.SatelliteCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Predicts upcoming passes locally for every tracked satellite over every
+ * configured observer, replacing the satellites x observers N2YO calls.
+ * Deep-space satellites need SDP4, so N2YO keeps predicting theirs.
+ */
+@Service
+@ConditionalOnProperty(value = "satellite.polling.pass-prediction.enabled", havingValue = "true")
+public class PassPredictionPollingService {
+    
+    private static final Logger log = LoggerFactory.getLogger(PassPredictionPollingService.class);
+    
+    private final SatelliteCatalog satelliteCatalog;
+    private final PassPredictor passPredictor;
+    private final ChangeDetectionService changeDetectionService;
+    private final SatelliteConfig satelliteConfig;
+    
+    @Value("${satellite.polling.pass-prediction.days:2}")
+    private int days;
+    
+    public PassPredictionPollingService(SatelliteCatalog satelliteCatalog,
+                                        PassPredictor passPredictor,
+                                        ChangeDetectionService changeDetectionService,
+                                        SatelliteConfig satelliteConfig) {
+        this.satelliteCatalog = satelliteCatalog;
+        this.passPredictor = passPredictor;
+        this.changeDetectionService = changeDetectionService;
+        this.satelliteConfig = satelliteConfig;
+    }
+    
+    @Scheduled(fixedDelayString = "${satellite.polling.pass-prediction.interval}000")
+    public void predictPasses() {
+        List<PassPredictor.Observer> observers = new ArrayList<>();
+        satelliteConfig.getObserverLocations().forEach(location ->
+                observers.add(new PassPredictor.Observer(location.getLatitude(), location.getLongitude(), 0.0)));
+        
+        List<Sgp4Propagator> propagators = new ArrayList<>();
+        satelliteConfig.getTrackedSatellites().forEach(satellite -> {
+            if (satelliteCatalog.canPropagate(satellite.getId())) {
+                propagators.add(satelliteCatalog.getPropagator(satellite.getId()));
+            } else {
+                log.debug("No local pass prediction for satellite {}; left to N2YO", satellite.getId());
+            }
+        });
+        
+        long start = System.currentTimeMillis();
+        List<SatellitePass> passes = passPredictor.predictAll(propagators, observers,
+                start, start + days * 86_400_000L);
+        log.info("Predicted {} passes for {} satellites over {} observers in {} ms",
+                passes.size(), propagators.size(), observers.size(), System.currentTimeMillis() - start);
+        
+        passes.forEach(changeDetectionService::checkAndProducePassUpdate);
+    }
+}
\ No newline at end of file
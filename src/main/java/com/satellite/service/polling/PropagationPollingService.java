@@ -0,0 +1,106 @@
+package com.satellite.service.polling;
+
+import com.satellite.model.SatelliteConfig;
+import com.satellite.model.SatellitePosition;
+import com.satellite.propagation.BatchPropagator;
+import com.satellite.propagation.EphemerisCache;
+import com.satellite.propagation.Sgp4Propagator;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.SatelliteCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Emits positions computed locally with SGP4 from the TLEs already ingested
+ * from Celestrak and SpaceTrack, so no per-satellite API call is needed.
+ * Deep-space objects are skipped: they would need SDP4, which is not implemented,
+ * so N2YO keeps serving the tracked ones (see {@link SatelliteCatalog#canPropagate}).
+ */
+@Service
+@ConditionalOnProperty(value = "satellite.polling.propagation.enabled", havingValue = "true")
+public class PropagationPollingService {
+    
+    private static final Logger log = LoggerFactory.getLogger(PropagationPollingService.class);
+    
+    private final SatelliteCatalog satelliteCatalog;
+    private final BatchPropagator batchPropagator;
+    private final EphemerisCache ephemerisCache;
+    private final ChangeDetectionService changeDetectionService;
+    private final SatelliteConfig satelliteConfig;
+    
+    // Propagate every object in the catalog rather than only the tracked satellites
+    @Value("${satellite.polling.propagation.full-catalog:false}")
+    private boolean fullCatalog;
+    
+    // Evaluate cached Chebyshev fits instead of running SGP4 every tick
+    @Value("${satellite.ephemeris.enabled:false}")
+    private boolean ephemerisEnabled;
+    
+    public PropagationPollingService(SatelliteCatalog satelliteCatalog,
+                                     BatchPropagator batchPropagator,
+                                     EphemerisCache ephemerisCache,
+                                     ChangeDetectionService changeDetectionService,
+                                     SatelliteConfig satelliteConfig) {
+        this.satelliteCatalog = satelliteCatalog;
+        this.batchPropagator = batchPropagator;
+        this.ephemerisCache = ephemerisCache;
+        this.changeDetectionService = changeDetectionService;
+        this.satelliteConfig = satelliteConfig;
+    }
+    
+    // interval-millis allows sub-second rates, which only make sense with the ephemeris cache
+    @Scheduled(fixedDelayString = "${satellite.polling.propagation.interval-millis:${satellite.polling.propagation.interval}000}")
+    public void propagatePositions() {
+        List<Sgp4Propagator> candidates = fullCatalog
+                ? satelliteCatalog.getPropagators()
+                : trackedPropagators();
+        List<Sgp4Propagator> propagators = candidates.stream()
+                .filter(propagator -> !propagator.isDeepSpace())
+                .toList();
+        if (propagators.size() < candidates.size()) {
+            log.debug("Skipping {} deep-space satellites, which need SDP4", candidates.size() - propagators.size());
+        }
+        
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        List<SatellitePosition> positions;
+        if (ephemerisEnabled) {
+            positions = batchPropagator.propagate(propagators, timestamp, ephemerisCache::evaluate).getPositions();
+            // Every propagated satellite now has a table, so any extra belong to departed ones
+            if (ephemerisCache.size() > propagators.size()) {
+                ephemerisCache.retainOnly(propagators);
+            }
+        } else {
+            positions = batchPropagator.propagate(propagators, timestamp).getPositions();
+        }
+        long elapsedMicros = (System.nanoTime() - start) / 1000;
+        
+        if (positions.size() < propagators.size()) {
+            log.warn("{} of {} satellites could not be propagated",
+                    propagators.size() - positions.size(), propagators.size());
+        }
+        log.debug("Propagated {} satellites in {} us", propagators.size(), elapsedMicros);
+        
+        changeDetectionService.checkAndProducePositionUpdates(positions, "SGP4");
+    }
+    
+    private List<Sgp4Propagator> trackedPropagators() {
+        List<Sgp4Propagator> propagators = new ArrayList<>();
+        satelliteConfig.getTrackedSatellites().forEach(satellite -> {
+            Sgp4Propagator propagator = satelliteCatalog.getPropagator(satellite.getId());
+            if (propagator == null) {
+                log.debug("No TLE available yet for satellite {}", satellite.getId());
+            } else {
+                propagators.add(propagator);
+            }
+        });
+        return propagators;
+    }
+}
\ No newline at end of file
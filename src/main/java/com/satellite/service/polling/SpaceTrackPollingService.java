@@ -9,6 +9,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
 
 @Service
 @ConditionalOnProperty(value = "satellite.polling.spacetrack.enabled", havingValue = "true")
@@ -28,21 +31,36 @@ public class SpaceTrackPollingService {
         this.satelliteConfig = satelliteConfig;
     }
     
+    // Blocks until the cycle is done, so the fixed delay runs from its end and cycles never overlap
     @Scheduled(fixedDelayString = "${satellite.polling.spacetrack.interval}000")
     public void pollSpaceTrackData() {
         log.info("Starting SpaceTrack polling cycle");
+        long start = System.nanoTime();
+        pollCycle().block();
+        log.info("SpaceTrack polling cycle finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    /**
+     * One polling cycle: an incremental GP sync of the tracked satellites, published
+     * together. Completes once the changes have been published. The watermark only
+     * advances after that, so a cycle whose publication fails is fetched again.
+     */
+    public Mono<Void> pollCycle() {
+        List<String> satelliteIds = satelliteConfig.getTrackedSatellites().stream()
+                .map(SatelliteConfig.TrackedSatellite::getId)
+                .toList();
         
-        satelliteConfig.getTrackedSatellites().forEach(satellite -> {
-            spaceTrackClient.getLatestTle(satellite.getId())
-                    .doOnNext(tle -> changeDetectionService.checkAndProduceTleUpdate(tle, "SPACETRACK"))
-                    .doOnError(e -> log.error("Error processing TLE from SpaceTrack for satellite {}: {}", 
-                            satellite.getId(), e.getMessage()))
-                    .onErrorResume(e -> Mono.empty())
-                    .subscribe(
-                            tle -> log.debug("Processed SpaceTrack TLE for satellite: {}", tle.getSatelliteId()),
-                            error -> log.error("Error in SpaceTrack polling for satellite {}: {}", 
-                                    satellite.getId(), error.getMessage())
-                    );
-        });
+        return spaceTrackClient.getUpdatedTles(satelliteIds)
+                // Publishing may block on a Kafka transaction commit
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(sync -> {
+                    changeDetectionService.checkAndProduceTleUpdates(sync.tles(), "SPACETRACK");
+                    spaceTrackClient.commit(sync);
+                    log.debug("Processed {} SpaceTrack TLEs for {} tracked satellites",
+                            sync.tles().size(), satelliteIds.size());
+                })
+                .doOnError(e -> log.error("Error in SpaceTrack polling: {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
     }
 }
\ No newline at end of file
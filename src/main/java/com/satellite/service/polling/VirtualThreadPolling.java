@@ -0,0 +1,80 @@
+package com.satellite.service.polling;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Blocking-style alternative to the Reactor polling pipelines, selected with
+ * {@code satellite.polling.execution: virtual-threads}. Every request runs as plain
+ * sequential code on its own virtual thread, which parks instead of tying up a
+ * platform thread while it waits for the response; a semaphore keeps at most
+ * {@code concurrency} of them talking to the source at once.
+ */
+final class VirtualThreadPolling {
+    
+    static final String EXECUTION_MODE = "virtual-threads";
+    static final String REACTOR_MODE = "reactor";
+    
+    private VirtualThreadPolling() {
+    }
+    
+    static boolean enabled(String execution) {
+        return EXECUTION_MODE.equals(execution);
+    }
+    
+    /**
+     * Rejects an unknown {@code satellite.polling.execution} value at startup rather
+     * than quietly falling back to Reactor.
+     */
+    static String checkExecution(String execution) {
+        if (!REACTOR_MODE.equals(execution) && !EXECUTION_MODE.equals(execution)) {
+            throw new IllegalArgumentException("satellite.polling.execution must be " + REACTOR_MODE
+                    + " or " + EXECUTION_MODE + ", got " + execution);
+        }
+        return execution;
+    }
+    
+    /**
+     * Rejects a non-positive concurrency or request timeout at startup.
+     */
+    static int checkPositive(String property, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(property + " must be positive, got " + value);
+        }
+        return value;
+    }
+    
+    /**
+     * Runs {@code task} for every item, each on a new virtual thread, and returns
+     * once all of them have finished. A task that throws is reported to
+     * {@code onError} and does not affect the others.
+     */
+    static <T> void forEach(Collection<T> items, int concurrency,
+                            Consumer<? super T> task, BiConsumer<? super T, RuntimeException> onError) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        // close() waits for every submitted task
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T item : items) {
+                executor.execute(() -> {
+                    try {
+                        permits.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    try {
+                        task.accept(item);
+                    } catch (RuntimeException e) {
+                        onError.accept(item, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.satellite.benchmark;
+
+import com.satellite.avro.SatellitePositionEvent;
+import com.satellite.model.SatellitePosition;
+import com.satellite.serialization.PositionEventValue;
+import com.satellite.serialization.SatelliteAvroSerializer;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stock {@link KafkaAvroSerializer} with {@link SatelliteAvroSerializer}
+ * on a position event, both backed by an in-memory registry, and the builder
+ * path from the domain model with the direct {@link PositionEventValue} encoding. Run with
+ * {@code -prof gc}; {@code gc.alloc.rate.norm} is the bytes allocated per record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AvroSerializerBenchmark {
+
+    private static final String TOPIC = "satellite-position-events";
+
+    private KafkaAvroSerializer stock;
+    private SatelliteAvroSerializer cached;
+    private SatellitePositionEvent event;
+    private SatellitePosition position;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> configs = Map.of(
+                "schema.registry.url", "mock://benchmark",
+                "auto.register.schemas", true);
+        stock = new KafkaAvroSerializer(new MockSchemaRegistryClient(), configs);
+        cached = new SatelliteAvroSerializer(new MockSchemaRegistryClient());
+        cached.configure(Map.of(SatelliteAvroSerializer.TOPIC_SCHEMAS_CONFIG,
+                Map.of(TOPIC, SatellitePositionEvent.getClassSchema())), false);
+
+        event = SatellitePositionEvent.newBuilder()
+                .setSatelliteId("25544")
+                .setSatelliteName("ISS (ZARYA)")
+                .setTimestamp(1_700_000_000_000L)
+                .setLatitude(51.2)
+                .setLongitude(-12.7)
+                .setAltitude(418.3)
+                .setVelocity(7.66)
+                .setSource("SGP4")
+                .build();
+        position = SatellitePosition.builder()
+                .satelliteId("25544")
+                .satelliteName("ISS (ZARYA)")
+                .timestamp(1_700_000_000_000L)
+                .latitude(51.2)
+                .longitude(-12.7)
+                .altitude(418.3)
+                .velocity(7.66)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] kafkaAvroSerializer() {
+        return stock.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] satelliteAvroSerializer() {
+        return cached.serialize(TOPIC, event);
+    }
+
+    /** Model to bytes through the SpecificRecord builder, as the producer used to. */
+    @Benchmark
+    public byte[] builderFromModel() {
+        return cached.serialize(TOPIC, new PositionEventValue(position, "SGP4").toSpecificRecord());
+    }
+
+    /** Model to bytes through the direct encoder the producer now uses. */
+    @Benchmark
+    public byte[] directFromModel() {
+        return cached.serialize(TOPIC, new PositionEventValue(position, "SGP4"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AvroSerializerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+package com.satellite.benchmark;
+
+import com.satellite.model.Conjunction;
+import com.satellite.model.TleData;
+import com.satellite.propagation.ConjunctionScreener;
+import com.satellite.propagation.Sgp4Propagator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screening time against catalog size for {@link ConjunctionScreener} and for an
+ * all-pairs scan over the same time steps. Each operation screens a 10 minute
+ * window (30 steps of 20 s) of a synthetic catalog with a LEO-heavy mix of orbits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConjunctionScreeningBenchmark {
+
+    private static final double THRESHOLD_KM = 5.0;
+    private static final int STEP_SECONDS = 20;
+    private static final long WINDOW_MILLIS = 10 * 60_000L;
+
+    @Param({"1000", "2500", "5000", "10000"})
+    public int catalogSize;
+
+    private List<Sgp4Propagator> catalog;
+    private ConjunctionScreener screener;
+    private long start;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        catalog = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            double regime = random.nextDouble();
+            double meanMotion = regime < 0.8 ? 13.5 + random.nextDouble() * 2.2   // LEO
+                    : regime < 0.9 ? 2.0 + random.nextDouble() * 0.1               // MEO
+                    : 1.0027;                                                      // GEO
+            catalog.add(new Sgp4Propagator(TleData.builder()
+                    .satelliteId(String.valueOf(10000 + i))
+                    .satelliteName("OBJECT-" + i)
+                    .epochYear(24)
+                    .epochDay(100.0)
+                    .meanMotion(meanMotion)
+                    .eccentricity(random.nextDouble() * 0.01)
+                    .inclination(regime < 0.9 ? random.nextDouble() * 100.0 : random.nextDouble() * 0.1)
+                    .raan(random.nextDouble() * 360.0)
+                    .argumentOfPerigee(random.nextDouble() * 360.0)
+                    .meanAnomaly(random.nextDouble() * 360.0)
+                    .bstar(1.0e-5)
+                    .build()));
+        }
+        screener = new ConjunctionScreener(THRESHOLD_KM, STEP_SECONDS);
+        start = catalog.get(0).getEpochMillis();
+    }
+
+    @Benchmark
+    public List<Conjunction> spatialGrid() {
+        return screener.screen(catalog, start, start + WINDOW_MILLIS);
+    }
+
+    @Benchmark
+    public int allPairs() {
+        int n = catalog.size();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double[] z = new double[n];
+        double[] rv = new double[6];
+        // Same candidate radius as the grid cells, so both scans flag the same pairs
+        double radius = THRESHOLD_KM + 16.0 * STEP_SECONDS / 2.0;
+        double radiusSq = radius * radius;
+        int candidates = 0;
+        for (long t = start; t <= start + WINDOW_MILLIS; t += STEP_SECONDS * 1000L) {
+            for (int i = 0; i < n; i++) {
+                Sgp4Propagator propagator = catalog.get(i);
+                propagator.propagate(propagator.minutesSinceEpoch(t), rv);
+                x[i] = rv[0];
+                y[i] = rv[1];
+                z[i] = rv[2];
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    double dx = x[j] - x[i];
+                    double dy = y[j] - y[i];
+                    double dz = z[j] - z[i];
+                    if (dx * dx + dy * dy + dz * dz < radiusSq) {
+                        candidates++;
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConjunctionScreeningBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
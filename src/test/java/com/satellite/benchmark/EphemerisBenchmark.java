@@ -0,0 +1,81 @@
+package com.satellite.benchmark;
+
+import com.satellite.model.TleData;
+import com.satellite.propagation.ChebyshevEphemeris;
+import com.satellite.propagation.Sgp4Propagator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One TEME state from SGP4 against one from a cached {@link ChebyshevEphemeris},
+ * plus the cost of fitting a 6 hour table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EphemerisBenchmark {
+
+    private static final long SPAN_MILLIS = 6 * 3_600_000L;
+
+    private final double[] rv = new double[6];
+    private Sgp4Propagator propagator;
+    private ChebyshevEphemeris ephemeris;
+    private long start;
+    private long offset;
+
+    @Setup
+    public void setUp() {
+        propagator = new Sgp4Propagator(TleData.parseTle("ISS (ZARYA)",
+                "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+                "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537"));
+        start = propagator.getEpochMillis();
+        ephemeris = ChebyshevEphemeris.fit(propagator, start, start + SPAN_MILLIS, 20.0, 10, 0.01);
+    }
+
+    // Walk through the span one second at a time, as a 1 Hz stream would
+    private long nextTimestamp() {
+        offset = (offset + 1000L) % SPAN_MILLIS;
+        return start + offset;
+    }
+
+    @Benchmark
+    public double[] sgp4() {
+        long t = nextTimestamp();
+        propagator.propagate(propagator.minutesSinceEpoch(t), rv);
+        return rv;
+    }
+
+    @Benchmark
+    public double[] chebyshev() {
+        ephemeris.evaluate(nextTimestamp(), rv);
+        return rv;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ChebyshevEphemeris fitSixHours() {
+        return ChebyshevEphemeris.fit(propagator, start, start + SPAN_MILLIS, 20.0, 10, 0.01);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EphemerisBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,132 @@
+package com.satellite.benchmark;
+
+import com.satellite.config.KafkaConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends one full-catalog tick of position-sized records through each producer
+ * profile from {@link KafkaConfig} and reports records/s; the p99 send-to-ack
+ * latency of the measured iterations is printed at the end of each trial.
+ *
+ * Needs a broker, {@code localhost:9092} unless {@code -Dkafka.bootstrap} says
+ * otherwise. Values are pre-encoded bytes so only producer settings differ.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaProducerProfileBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    // Roughly an Avro-encoded SatellitePositionEvent
+    private static final int VALUE_SIZE = 96;
+    private static final int MAX_SAMPLES = 1 << 22;
+
+    @Param({"default", "throughput-lz4", "throughput-zstd"})
+    public String profile;
+
+    private KafkaProducer<String, byte[]> producer;
+    private String topic;
+    private String[] keys;
+    private byte[][] values;
+
+    private final long[] latencies = new long[MAX_SAMPLES];
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile boolean recording;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String compression = profile.startsWith("throughput-") ? profile.substring("throughput-".length()) : "none";
+        Map<String, Object> props = new HashMap<>(KafkaConfig.deliveryProperties(
+                profile.startsWith("throughput") ? "throughput" : "default", 5, 20, 131072, compression));
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, System.getProperty("kafka.bootstrap", "localhost:9092"));
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        producer = new KafkaProducer<>(props);
+        topic = "benchmark-producer-" + profile;
+
+        Random random = new Random(42);
+        keys = new String[CATALOG_SIZE];
+        values = new byte[CATALOG_SIZE][];
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            keys[i] = Integer.toString(10000 + i);
+            values[i] = new byte[VALUE_SIZE];
+            // Half random, half repeated, so compression has something realistic to do
+            random.nextBytes(values[i]);
+            Arrays.fill(values[i], VALUE_SIZE / 2, VALUE_SIZE, (byte) i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams params) {
+        // Only measurement iterations feed the latency histogram
+        recording = params.getType() == IterationType.MEASUREMENT;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CATALOG_SIZE)
+    public void catalogTick() {
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            long start = System.nanoTime();
+            producer.send(new ProducerRecord<>(topic, keys[i], values[i]), (metadata, e) -> {
+                if (e == null && recording) {
+                    int slot = samples.getAndIncrement();
+                    if (slot < MAX_SAMPLES) {
+                        latencies[slot] = System.nanoTime() - start;
+                    }
+                }
+            });
+        }
+        producer.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producer.close();
+        int count = Math.min(samples.get(), MAX_SAMPLES);
+        if (count > 0) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%n[%s] ack latency over %d records: p50 %.2f ms, p99 %.2f ms%n", profile, count,
+                    sorted[count / 2] / 1e6, sorted[(int) (count * 0.99)] / 1e6);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KafkaProducerProfileBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.satellite.benchmark;
+
+import com.satellite.model.SatellitePass;
+import com.satellite.serialization.PassKey;
+import com.satellite.service.PassKeySet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deduplicating a re-predicted pass and building its record key: the formatted
+ * string keys with a map lookup against {@link PassKey} with a {@link PassKeySet}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PassKeyBenchmark {
+
+    private static final int PASSES = 1024;
+
+    private final SatellitePass[] passes = new SatellitePass[PASSES];
+    private final ConcurrentMap<String, SatellitePass> stringKeys = new ConcurrentHashMap<>();
+    private final PassKeySet binaryKeys = new PassKeySet(24 * 3_600_000L, PASSES);
+    private long now;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        now = System.currentTimeMillis();
+        for (int i = 0; i < PASSES; i++) {
+            passes[i] = SatellitePass.builder()
+                    .satelliteId(String.valueOf(25544 + i % 64))
+                    .observerLatitude(40.7128 + i / 64)
+                    .observerLongitude(-74.0060)
+                    .startTime(now + i * 60_000L)
+                    .build();
+            stringKeys.putIfAbsent(dedupKey(passes[i]), passes[i]);
+            binaryKeys.add(PassKey.satelliteObserver(passes[i]), passes[i].getStartTime(), now);
+        }
+    }
+
+    private SatellitePass nextPass() {
+        next = (next + 1) & (PASSES - 1);
+        return passes[next];
+    }
+
+    private static String dedupKey(SatellitePass pass) {
+        return String.format("%s_%f_%f_%d", pass.getSatelliteId(), pass.getObserverLatitude(),
+                pass.getObserverLongitude(), pass.getStartTime());
+    }
+
+    @Benchmark
+    public byte[] formattedStrings() {
+        SatellitePass pass = nextPass();
+        if (stringKeys.putIfAbsent(dedupKey(pass), pass) != null) {
+            return null;
+        }
+        return String.format("%s_%f_%f", pass.getSatelliteId(), pass.getObserverLatitude(),
+                pass.getObserverLongitude()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] binaryKey() {
+        SatellitePass pass = nextPass();
+        long satelliteObserver = PassKey.satelliteObserver(pass);
+        if (!binaryKeys.add(satelliteObserver, pass.getStartTime(), now)) {
+            return null;
+        }
+        return PassKey.encode(satelliteObserver, pass.getStartTime());
+    }
+
+    // A pass seen for the first time: what it costs to produce its record key
+    @Benchmark
+    public byte[] formattedRecordKey() {
+        SatellitePass pass = nextPass();
+        return String.format("%s_%f_%f", pass.getSatelliteId(), pass.getObserverLatitude(),
+                pass.getObserverLongitude()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] binaryRecordKey() {
+        return PassKey.encode(nextPass());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PassKeyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,202 @@
+package com.satellite.benchmark;
+
+import com.satellite.client.CelestrakClient;
+import com.satellite.client.FetchedTle;
+import com.satellite.model.SatelliteConfig;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.polling.CelestrakPollingService;
+import com.sun.net.httpserver.HttpServer;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One Celestrak polling cycle against a local mock HTTP server that answers every
+ * TLE request after {@code latencyMillis}, run on the Reactor pipeline and on
+ * virtual threads. Reports cycles/s and satellites/s; the p50 and p99 request
+ * latency of the measured iterations (queueing for a permit included) is printed
+ * at the end of each trial. Run with {@code -prof gc} for memory per cycle.
+ *
+ * Change detection is mocked out: both modes publish the cycle's TLEs in one call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PollingExecutionBenchmark {
+
+    private static final int MAX_SAMPLES = 1 << 22;
+    private static final String TLE_LINE1 = "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927";
+    private static final String TLE_LINE2 = "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537";
+
+    @Param({"100", "1000", "10000"})
+    public int satellites;
+
+    @Param({"reactor", "virtual-threads"})
+    public String execution;
+
+    @Param({"256"})
+    public int concurrency;
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ConnectionProvider connections;
+    private CelestrakPollingService service;
+
+    private final long[] latencies = new long[MAX_SAMPLES];
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile boolean recording;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long satellitesPolled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            satellitesPolled = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Without a logging config Logback logs Netty and the client at DEBUG, which would dominate
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(ch.qos.logback.classic.Level.WARN);
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.createContext("/NORAD/elements/gp.php", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("ISS (ZARYA)\n" + TLE_LINE1 + "\n" + TLE_LINE2 + "\n").getBytes(StandardCharsets.US_ASCII);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        // Enough pooled connections that the permit count, not the pool, limits concurrency
+        connections = ConnectionProvider.builder("polling-benchmark")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+        CelestrakClient client = new CelestrakClient() {
+            @Override
+            public Mono<FetchedTle> getTleForSatellite(String satelliteId) {
+                return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return super.getTleForSatellite(satelliteId).doOnSuccess(tle -> record(start));
+                });
+            }
+        };
+        ReflectionTestUtils.setField(client, "webClient", webClient);
+
+        List<SatelliteConfig.TrackedSatellite> tracked = new ArrayList<>(satellites);
+        for (int i = 0; i < satellites; i++) {
+            SatelliteConfig.TrackedSatellite satellite = new SatelliteConfig.TrackedSatellite();
+            satellite.setId(String.valueOf(10000 + i));
+            tracked.add(satellite);
+        }
+        SatelliteConfig config = new SatelliteConfig();
+        config.setTrackedSatellites(tracked);
+
+        // Zero poll interval bounds make every satellite due every cycle
+        service = new CelestrakPollingService(client, Mockito.mock(ChangeDetectionService.class), config,
+                concurrency, 30, execution, 0, 0);
+    }
+
+    private void record(long start) {
+        if (recording) {
+            int slot = samples.getAndIncrement();
+            if (slot < MAX_SAMPLES) {
+                latencies[slot] = System.nanoTime() - start;
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams params) {
+        // Only measurement iterations feed the latency histogram
+        recording = params.getType() == IterationType.MEASUREMENT;
+    }
+
+    @Benchmark
+    public void pollCycle(Counters counters) {
+        if ("virtual-threads".equals(execution)) {
+            service.pollCycleOnVirtualThreads();
+        } else {
+            service.pollCycle().block();
+        }
+        counters.satellitesPolled += satellites;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.close();
+        connections.dispose();
+        int count = Math.min(samples.get(), MAX_SAMPLES);
+        if (count > 0) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%n[%s, %d satellites] request latency over %d requests: p50 %.2f ms, p99 %.2f ms%n",
+                    execution, satellites, count, sorted[count / 2] / 1e6, sorted[(int) (count * 0.99)] / 1e6);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PollingExecutionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
\ No newline at end of file
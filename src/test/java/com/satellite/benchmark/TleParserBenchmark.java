@@ -0,0 +1,95 @@
+package com.satellite.benchmark;
+
+import com.satellite.model.AsciiSequence;
+import com.satellite.model.TleData;
+import com.satellite.model.TleParser;
+import com.satellite.propagation.OrbitalElementStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the original substring/parseDouble TLE parsing with {@link TleParser}.
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TleParserBenchmark {
+
+    private static final String NAME = "ISS (ZARYA)";
+    private static final String LINE1 = "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927";
+    private static final String LINE2 = "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537";
+
+    private final AsciiSequence name = new AsciiSequence();
+    private final AsciiSequence line1 = new AsciiSequence();
+    private final AsciiSequence line2 = new AsciiSequence();
+    private OrbitalElementStore store;
+
+    @Setup
+    public void setUp() {
+        byte[] buffer = (NAME + "\n" + LINE1 + "\n" + LINE2 + "\n").getBytes(StandardCharsets.US_ASCII);
+        name.reset(buffer, 0, NAME.length());
+        line1.reset(buffer, NAME.length() + 1, 69);
+        line2.reset(buffer, NAME.length() + 71, 69);
+        store = new OrbitalElementStore();
+    }
+
+    @Benchmark
+    public TleData substringParse() {
+        return legacyParse(NAME, LINE1, LINE2);
+    }
+
+    @Benchmark
+    public TleData fixedColumnParse() {
+        return TleParser.LENIENT.parse(NAME, LINE1, LINE2);
+    }
+
+    @Benchmark
+    public int fixedColumnParseIntoStore() {
+        TleParser.STRICT.parse(name, line1, line2, store);
+        return store.size();
+    }
+
+    // The parser as it was before TleParser, kept verbatim as the baseline
+    private static TleData legacyParse(String name, String line1, String line2) {
+        return TleData.builder()
+                .satelliteId(line1.substring(2, 7).trim())
+                .satelliteName(name.trim())
+                .line1(line1)
+                .line2(line2)
+                .epochYear(Integer.parseInt(line1.substring(18, 20)))
+                .epochDay(Double.parseDouble(line1.substring(20, 32)))
+                .meanMotion(Double.parseDouble(line2.substring(52, 63)))
+                .eccentricity(Double.parseDouble("0." + line2.substring(26, 33)))
+                .inclination(Double.parseDouble(line2.substring(8, 16)))
+                .raan(Double.parseDouble(line2.substring(17, 25)))
+                .argumentOfPerigee(Double.parseDouble(line2.substring(34, 42)))
+                .meanAnomaly(Double.parseDouble(line2.substring(43, 51)))
+                .lastUpdated(System.currentTimeMillis())
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TleParserBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -3,13 +3,25 @@ package com.satellite.client;
 import com.satellite.model.TleData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -20,7 +32,8 @@ class CelestrakClientTest {
     private WebClient mockWebClient;
     private WebClient.RequestHeadersUriSpec mockRequestHeadersUriSpec;
     private WebClient.RequestHeadersSpec mockRequestHeadersSpec;
-    private WebClient.ResponseSpec mockResponseSpec;
+    private final HttpHeaders requestHeaders = new HttpHeaders();
+    private final Queue<ClientResponse> responses = new ArrayDeque<>();
     private CelestrakClient client;
 
     @BeforeEach
@@ -28,7 +41,6 @@ class CelestrakClientTest {
         mockWebClient = mock(WebClient.class);
         mockRequestHeadersUriSpec = mock(WebClient.RequestHeadersUriSpec.class);
         mockRequestHeadersSpec = mock(WebClient.RequestHeadersSpec.class);
-        mockResponseSpec = mock(WebClient.ResponseSpec.class);
         
         client = new CelestrakClient();
         
@@ -39,7 +51,14 @@ class CelestrakClientTest {
         
         // Set up the mock chain
         when(mockWebClient.get()).thenReturn(mockRequestHeadersUriSpec);
-        when(mockRequestHeadersSpec.retrieve()).thenReturn(mockResponseSpec);
+        when(mockRequestHeadersSpec.headers(any())).thenAnswer(invocation -> {
+            invocation.<Consumer<HttpHeaders>>getArgument(0).accept(requestHeaders);
+            return mockRequestHeadersSpec;
+        });
+        when(mockRequestHeadersSpec.exchangeToMono(any())).thenAnswer(invocation ->
+                invocation.<Function<ClientResponse, Mono<?>>>getArgument(0).apply(responses.remove()));
+        when(mockRequestHeadersSpec.exchangeToFlux(any())).thenAnswer(invocation ->
+                invocation.<Function<ClientResponse, Flux<?>>>getArgument(0).apply(responses.remove()));
     }
 
     @Test
@@ -50,9 +69,9 @@ class CelestrakClientTest {
                 "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456";
 
         when(mockRequestHeadersUriSpec.uri(eq("/NORAD/elements/gp.php?CATNR={id}&FORMAT=TLE"), eq(satelliteId))).thenReturn(mockRequestHeadersSpec);
-        when(mockResponseSpec.bodyToMono(String.class)).thenReturn(Mono.just(tleResponse));
+        responses.add(ok(tleResponse));
 
-        Mono<TleData> result = client.getTleForSatellite(satelliteId);
+        Mono<TleData> result = client.getTleForSatellite(satelliteId).map(FetchedTle::tle);
 
         StepVerifier.create(result)
                 .expectNextMatches(tle -> 
@@ -70,9 +89,9 @@ class CelestrakClientTest {
         String invalidResponse = "Invalid response";
 
         when(mockRequestHeadersUriSpec.uri(eq("/NORAD/elements/gp.php?CATNR={id}&FORMAT=TLE"), eq(satelliteId))).thenReturn(mockRequestHeadersSpec);
-        when(mockResponseSpec.bodyToMono(String.class)).thenReturn(Mono.just(invalidResponse));
+        responses.add(ok(invalidResponse));
 
-        Mono<TleData> result = client.getTleForSatellite(satelliteId);
+        Mono<TleData> result = client.getTleForSatellite(satelliteId).map(FetchedTle::tle);
 
         StepVerifier.create(result)
                 .expectErrorMatches(throwable -> 
@@ -92,7 +111,7 @@ class CelestrakClientTest {
                 "2 28654  99.1234 234.5678 0001234  23.4567 336.7890 14.12345678123456";
 
         when(mockRequestHeadersUriSpec.uri(anyString())).thenReturn(mockRequestHeadersSpec);
-        when(mockResponseSpec.bodyToMono(String.class)).thenReturn(Mono.just(tleResponse));
+        responses.add(ok(chunked(tleResponse, 8192)));
 
         Flux<TleData> result = client.getActivesSatellites();
 
@@ -111,7 +130,7 @@ class CelestrakClientTest {
     @Test
     void getActivesSatellites_WithNetworkError_ShouldReturnError() {
         when(mockRequestHeadersUriSpec.uri(anyString())).thenReturn(mockRequestHeadersSpec);
-        when(mockResponseSpec.bodyToMono(String.class)).thenReturn(Mono.error(new RuntimeException("Network error")));
+        responses.add(ok(Flux.error(new RuntimeException("Network error"))));
 
         Flux<TleData> result = client.getActivesSatellites();
 
@@ -122,4 +141,169 @@ class CelestrakClientTest {
                 )
                 .verify();
     }
+
+    @Test
+    void getActivesSatellites_WithLinesSplitAcrossBuffers_ShouldReassembleEveryTle() {
+        StringBuilder catalog = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            String id = String.format("%05d", 10000 + i);
+            catalog.append("SAT ").append(i).append("\r\n")
+                    .append("1 ").append(id).append("U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999\r\n")
+                    .append("2 ").append(id).append("  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456\r\n");
+        }
+
+        when(mockRequestHeadersUriSpec.uri(anyString())).thenReturn(mockRequestHeadersSpec);
+        responses.add(ok(chunked(catalog.toString(), 37)));
+
+        StepVerifier.create(client.getActivesSatellites(), 10)
+                .expectNextMatches(tle -> tle.getSatelliteId().equals("10000") && tle.getSatelliteName().equals("SAT 0"))
+                .expectNextCount(9)
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(489)
+                .expectNextMatches(tle -> tle.getSatelliteId().equals("10499") &&
+                        tle.getLine2().endsWith("15.48901234123456"))
+                .verifyComplete();
+    }
+
+    @Test
+    void getTleForSatellite_WhenNotModified_ShouldSendValidatorsAndCompleteEmpty() {
+        String satelliteId = "25544";
+        String tleResponse = "ISS (ZARYA)\n" +
+                "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999\n" +
+                "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456";
+
+        when(mockRequestHeadersUriSpec.uri(eq("/NORAD/elements/gp.php?CATNR={id}&FORMAT=TLE"), eq(satelliteId))).thenReturn(mockRequestHeadersSpec);
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .header(HttpHeaders.LAST_MODIFIED, "Sun, 01 Jan 2023 00:00:00 GMT")
+                .body(tleResponse)
+                .build());
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        StepVerifier.create(client.getTleForSatellite(satelliteId))
+                .consumeNextWith(client::commit)
+                .verifyComplete();
+        assertNull(requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH));
+
+        StepVerifier.create(client.getTleForSatellite(satelliteId))
+                .verifyComplete();
+
+        assertEquals("\"v1\"", requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("Sun, 01 Jan 2023 00:00:00 GMT", requestHeaders.getFirst(HttpHeaders.IF_MODIFIED_SINCE));
+        ConditionalGetCache stats = client.getConditionalGetCache();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(tleResponse.length(), stats.getBytesSaved());
+    }
+
+    @Test
+    void getTleForSatellite_WhenNotModified_ShouldCountBytesNotChars() {
+        String tleResponse = "SÜDSAT\n" +
+                "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999\n" +
+                "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456";
+
+        when(mockRequestHeadersUriSpec.uri(eq("/NORAD/elements/gp.php?CATNR={id}&FORMAT=TLE"), anyString())).thenReturn(mockRequestHeadersSpec);
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .body(tleResponse)
+                .build());
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"v2\"")
+                .header(HttpHeaders.CONTENT_LENGTH, "4096")
+                .body(tleResponse)
+                .build());
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        StepVerifier.create(client.getTleForSatellite("25544")).consumeNextWith(client::commit).verifyComplete();
+        StepVerifier.create(client.getTleForSatellite("25544")).verifyComplete();
+        long utf8Bytes = tleResponse.getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(tleResponse.length() + 1, utf8Bytes);
+        assertEquals(utf8Bytes, client.getConditionalGetCache().getBytesSaved());
+
+        StepVerifier.create(client.getTleForSatellite("43013")).consumeNextWith(client::commit).verifyComplete();
+        StepVerifier.create(client.getTleForSatellite("43013")).verifyComplete();
+        assertEquals(utf8Bytes + 4096, client.getConditionalGetCache().getBytesSaved());
+    }
+
+    @Test
+    void getTleForSatellite_BeforeCommit_ShouldNotSendValidators() {
+        String tleResponse = "ISS (ZARYA)\n" +
+                "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999\n" +
+                "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456";
+
+        when(mockRequestHeadersUriSpec.uri(eq("/NORAD/elements/gp.php?CATNR={id}&FORMAT=TLE"), eq("25544"))).thenReturn(mockRequestHeadersSpec);
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .body(tleResponse)
+                .build());
+        responses.add(ok(tleResponse));
+
+        // Not committed, e.g. because publishing it failed: the TLE must be downloaded again
+        StepVerifier.create(client.getTleForSatellite("25544")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(client.getTleForSatellite("25544")).expectNextCount(1).verifyComplete();
+
+        assertNull(requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(0, client.getConditionalGetCache().getHits());
+    }
+
+    @Test
+    void getTleForSatellite_WithInvalidBody_ShouldNotRememberValidators() {
+        when(mockRequestHeadersUriSpec.uri(eq("/NORAD/elements/gp.php?CATNR={id}&FORMAT=TLE"), eq("25544"))).thenReturn(mockRequestHeadersSpec);
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"bad\"")
+                .body("Invalid response")
+                .build());
+        responses.add(ok("Invalid response"));
+
+        StepVerifier.create(client.getTleForSatellite("25544")).verifyError();
+        StepVerifier.create(client.getTleForSatellite("25544")).verifyError();
+
+        assertNull(requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    void getActivesSatellites_WhenNotModified_ShouldCompleteEmpty() {
+        String tleResponse = "ISS (ZARYA)\n" +
+                "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999\n" +
+                "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456\n";
+
+        when(mockRequestHeadersUriSpec.uri(anyString())).thenReturn(mockRequestHeadersSpec);
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"catalog-1\"")
+                .body(chunked(tleResponse, 64))
+                .build());
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        StepVerifier.create(client.getActivesSatellites())
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(client.getActivesSatellites())
+                .verifyComplete();
+
+        assertEquals("\"catalog-1\"", requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(1, client.getConditionalGetCache().getHits());
+        assertEquals(tleResponse.length(), client.getConditionalGetCache().getBytesSaved());
+    }
+
+    private static ClientResponse ok(String body) {
+        return ClientResponse.create(HttpStatus.OK).body(body).build();
+    }
+
+    private static ClientResponse ok(Flux<DataBuffer> body) {
+        return ClientResponse.create(HttpStatus.OK).body(body).build();
+    }
+
+    private static Flux<DataBuffer> chunked(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+        DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+        return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(i -> {
+                    int from = i * chunkSize;
+                    int length = Math.min(chunkSize, bytes.length - from);
+                    DataBuffer buffer = factory.allocateBuffer(length);
+                    buffer.write(bytes, from, length);
+                    return buffer;
+                });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.satellite.client;
+
+import com.satellite.dto.SpaceTrackGpRecord;
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SpaceTrackClientTest {
+
+    private static final String GP_QUERY =
+            "/basicspacedata/query/class/gp/NORAD_CAT_ID/{ids}/orderby/NORAD_CAT_ID%20asc/predicates/{fields}/format/json";
+    private static final String GP_QUERY_SINCE =
+            "/basicspacedata/query/class/gp/NORAD_CAT_ID/{ids}/CREATION_DATE/%3E{since}/orderby/NORAD_CAT_ID%20asc/predicates/{fields}/format/json";
+    private static final String PREDICATES = "NORAD_CAT_ID,CREATION_DATE,TLE_LINE0,TLE_LINE1,TLE_LINE2";
+
+    private static final SpaceTrackGpRecord VANGUARD = record("00005", "2023-01-01T06:00:00", "0 VANGUARD 1",
+            "1 00005U 58002B   00179.78495062  .00000023  00000-0  28098-4 0  4753",
+            "2 00005  34.2682 348.7242 1859667 331.7664  19.3264 10.82419157413667");
+    private static final SpaceTrackGpRecord ISS = record("25544", "2023-01-01T02:00:00", "0 ISS (ZARYA)",
+            "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999",
+            "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456");
+    private static final SpaceTrackGpRecord HST = record("20580", "2023-01-02T00:00:00", null,
+            "1 20580U 90037B   23001.00000000  .00000123  00000-0  12345-4 0  9999",
+            "2 20580  28.4700 123.4567 0002345  12.3456 347.8901 15.09123456123456");
+
+    private SpaceTrackWatermarkStore watermarkStore;
+    private WebClient mockWebClient;
+    private WebClient.RequestHeadersUriSpec mockRequestHeadersUriSpec;
+    private WebClient.RequestHeadersSpec mockRequestHeadersSpec;
+    private WebClient.ResponseSpec mockResponseSpec;
+    private SpaceTrackClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockWebClient = mock(WebClient.class);
+        mockRequestHeadersUriSpec = mock(WebClient.RequestHeadersUriSpec.class);
+        mockRequestHeadersSpec = mock(WebClient.RequestHeadersSpec.class);
+        mockResponseSpec = mock(WebClient.ResponseSpec.class);
+
+        watermarkStore = mock(SpaceTrackWatermarkStore.class);
+        client = new SpaceTrackClient(watermarkStore);
+        setField("webClient", mockWebClient);
+        // Skip the login round trip
+        setField("authCookie", "cookie");
+        setField("batchSize", 2);
+
+        when(mockWebClient.get()).thenReturn(mockRequestHeadersUriSpec);
+        when(mockRequestHeadersSpec.cookie(anyString(), anyString())).thenReturn(mockRequestHeadersSpec);
+        when(mockRequestHeadersSpec.retrieve()).thenReturn(mockResponseSpec);
+    }
+
+    @Test
+    void getLatestTles_ShouldQueryInChunksAndParseRecords() {
+        when(mockRequestHeadersUriSpec.uri(eq(GP_QUERY), eq("00005,25544"), eq(PREDICATES))).thenReturn(mockRequestHeadersSpec);
+        when(mockRequestHeadersUriSpec.uri(eq(GP_QUERY), eq("20580"), eq(PREDICATES))).thenReturn(mockRequestHeadersSpec);
+        when(mockResponseSpec.bodyToFlux(SpaceTrackGpRecord.class))
+                .thenReturn(Flux.just(VANGUARD, ISS))
+                .thenReturn(Flux.just(HST));
+
+        StepVerifier.create(client.getLatestTles(List.of("00005", "25544", "20580")))
+                .expectNextMatches(tle -> tle.getSatelliteId().equals("00005") && tle.getSatelliteName().equals("VANGUARD 1"))
+                .expectNextMatches(tle -> tle.getSatelliteId().equals("25544") && tle.getSatelliteName().equals("ISS (ZARYA)"))
+                .expectNextMatches(tle -> tle.getSatelliteId().equals("20580") && tle.getSatelliteName().equals("NORAD-20580"))
+                .verifyComplete();
+
+        verify(mockWebClient, times(2)).get();
+        verifyNoInteractions(watermarkStore);
+    }
+
+    @Test
+    void getUpdatedTles_WithoutWatermark_ShouldFullSyncAndAdvanceOnlyOnCommit() {
+        when(watermarkStore.getCreationDate()).thenReturn(null);
+        when(mockRequestHeadersUriSpec.uri(eq(GP_QUERY), eq("00005,25544"), eq(PREDICATES))).thenReturn(mockRequestHeadersSpec);
+        when(mockResponseSpec.bodyToFlux(SpaceTrackGpRecord.class)).thenReturn(Flux.just(VANGUARD, ISS));
+
+        SpaceTrackSync sync = client.getUpdatedTles(List.of("00005", "25544")).block();
+
+        assertEquals(2, sync.tles().size());
+        verify(watermarkStore, never()).advance(any(), any());
+
+        client.commit(sync);
+
+        verify(watermarkStore).advance("2023-01-01T06:00:00", List.of("00005", "25544"));
+    }
+
+    @Test
+    void getUpdatedTles_WithWatermark_ShouldOnlyQueryNewerRecordsForSyncedIds() {
+        when(watermarkStore.getCreationDate()).thenReturn("2023-01-01T00:00:00");
+        when(watermarkStore.getSyncedIds()).thenReturn(Set.of("25544"));
+        when(mockRequestHeadersUriSpec.uri(eq(GP_QUERY_SINCE), eq("25544"), eq("2022-12-31T23:59:00"), eq(PREDICATES)))
+                .thenReturn(mockRequestHeadersSpec);
+        when(mockRequestHeadersUriSpec.uri(eq(GP_QUERY), eq("20580"), eq(PREDICATES))).thenReturn(mockRequestHeadersSpec);
+        when(mockResponseSpec.bodyToFlux(SpaceTrackGpRecord.class))
+                .thenReturn(Flux.just(ISS))
+                .thenReturn(Flux.just(HST));
+
+        SpaceTrackSync sync = client.getUpdatedTles(List.of("25544", "20580")).block();
+
+        assertEquals(List.of("25544", "20580"), sync.tles().stream().map(TleData::getSatelliteId).toList());
+        assertEquals("2023-01-02T00:00:00", sync.newestCreationDate());
+        assertEquals(List.of("25544", "20580"), sync.satelliteIds());
+    }
+
+    @Test
+    void getUpdatedTles_OnError_ShouldNotAdvanceWatermark() {
+        when(watermarkStore.getCreationDate()).thenReturn(null);
+        when(mockRequestHeadersUriSpec.uri(eq(GP_QUERY), eq("25544"), eq(PREDICATES))).thenReturn(mockRequestHeadersSpec);
+        when(mockResponseSpec.bodyToFlux(SpaceTrackGpRecord.class))
+                .thenReturn(Flux.concat(Flux.just(ISS), Flux.error(new RuntimeException("boom"))));
+
+        StepVerifier.create(client.getUpdatedTles(List.of("25544")))
+                .verifyError();
+
+        verify(watermarkStore, never()).advance(any(), any());
+    }
+
+    @Test
+    void getLatestTles_WithNoIds_ShouldNotQuery() {
+        StepVerifier.create(client.getLatestTles(List.of()))
+                .verifyComplete();
+
+        verifyNoInteractions(mockWebClient);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = SpaceTrackClient.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(client, value);
+    }
+
+    private static SpaceTrackGpRecord record(String id, String created, String line0, String line1, String line2) {
+        SpaceTrackGpRecord record = new SpaceTrackGpRecord();
+        record.setNoradCatId(id);
+        record.setCreationDate(created);
+        record.setTleLine0(line0);
+        record.setTleLine1(line1);
+        record.setTleLine2(line2);
+        return record;
+    }
+}
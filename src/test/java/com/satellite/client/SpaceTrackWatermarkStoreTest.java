@@ -0,0 +1,41 @@
+package com.satellite.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceTrackWatermarkStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void advance_ShouldSurviveRestart() {
+        String file = dir.resolve("state/watermark.properties").toString();
+        SpaceTrackWatermarkStore store = new SpaceTrackWatermarkStore(file);
+        assertNull(store.getCreationDate());
+
+        store.advance("2023-01-01T06:00:00", List.of("25544", "20580"));
+
+        SpaceTrackWatermarkStore reloaded = new SpaceTrackWatermarkStore(file);
+        assertEquals("2023-01-01T06:00:00", reloaded.getCreationDate());
+        assertEquals(Set.of("25544", "20580"), reloaded.getSyncedIds());
+    }
+
+    @Test
+    void advance_ShouldNeverMoveBackwards() {
+        SpaceTrackWatermarkStore store = new SpaceTrackWatermarkStore(dir.resolve("watermark.properties").toString());
+
+        store.advance("2023-01-02T00:00:00", List.of("25544"));
+        store.advance("2023-01-01T00:00:00", List.of("20580"));
+        store.advance(null, List.of("43013"));
+
+        assertEquals("2023-01-02T00:00:00", store.getCreationDate());
+        assertEquals(Set.of("25544", "20580", "43013"), store.getSyncedIds());
+    }
+}
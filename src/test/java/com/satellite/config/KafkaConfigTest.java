@@ -0,0 +1,49 @@
+package com.satellite.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaConfigTest {
+
+    @Test
+    void deliveryProperties_DefaultProfile_ShouldKeepSingleInFlightRequest() {
+        Map<String, Object> props = KafkaConfig.deliveryProperties("default", 5, 20, 131072, "lz4");
+
+        assertEquals(true, props.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals("all", props.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(1, props.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+        assertFalse(props.containsKey(ProducerConfig.LINGER_MS_CONFIG));
+        assertFalse(props.containsKey(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+    }
+
+    @Test
+    void deliveryProperties_ThroughputProfile_ShouldStayIdempotentAndBatch() {
+        Map<String, Object> props = KafkaConfig.deliveryProperties("throughput", 5, 20, 131072, "zstd");
+
+        assertEquals(true, props.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals("all", props.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(5, props.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+        assertEquals(20, props.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(131072, props.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals("zstd", props.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+    }
+
+    @Test
+    void transactionIdPrefix_WhenNotConfigured_ShouldBeUniquePerHost() {
+        assertEquals("satellite-tracker-tle-node-a-", KafkaConfig.transactionIdPrefix("", "node-a"));
+        assertEquals("satellite-tracker-tle-node-b-", KafkaConfig.transactionIdPrefix(null, "node-b"));
+        assertEquals("tracker-7-", KafkaConfig.transactionIdPrefix("tracker-7-", "node-a"));
+    }
+
+    @Test
+    void deliveryProperties_WithInvalidSettings_ShouldReject() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KafkaConfig.deliveryProperties("throughput", 6, 20, 131072, "lz4"));
+        assertThrows(IllegalArgumentException.class,
+                () -> KafkaConfig.deliveryProperties("fast", 5, 20, 131072, "lz4"));
+    }
+}
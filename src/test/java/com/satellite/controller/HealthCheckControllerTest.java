@@ -1,18 +1,30 @@
 package com.satellite.controller;
 
+import com.satellite.client.CelestrakClient;
+import com.satellite.client.ConditionalGetCache;
+import com.satellite.client.SpaceTrackWatermarkStore;
+import com.satellite.model.OrbitRegime;
+import com.satellite.service.ChangeDetectionBootstrap;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.polling.CelestrakPollingService;
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -20,11 +32,32 @@ import static org.mockito.Mockito.when;
 class HealthCheckControllerTest {
 
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @Mock
+    private SpaceTrackWatermarkStore spaceTrackWatermarkStore;
+
+    @Mock
+    private CelestrakClient celestrakClient;
+
+    @Mock
+    private ChangeDetectionService changeDetectionService;
+
+    @Mock
+    private ObjectProvider<ChangeDetectionBootstrap> changeDetectionBootstrap;
+
+    @Mock
+    private ObjectProvider<CelestrakPollingService> celestrakPolling;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(celestrakClient.getConditionalGetCache()).thenReturn(new ConditionalGetCache());
+    }
 
     @Test
     void health_ShouldReturnHealthStatus() {
-        HealthCheckController controller = new HealthCheckController(kafkaTemplate);
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
 
         Map<String, String> result = controller.health();
 
@@ -40,7 +73,8 @@ class HealthCheckControllerTest {
         
         Mockito.doReturn(mockMetrics).when(kafkaTemplate).metrics();
         
-        HealthCheckController controller = new HealthCheckController(kafkaTemplate);
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
 
         Map<String, Object> result = controller.metrics();
 
@@ -53,11 +87,92 @@ class HealthCheckControllerTest {
     void metrics_WithNullKafkaMetrics_ShouldReturnEmptyMap() {
         when(kafkaTemplate.metrics()).thenReturn(null);
         
-        HealthCheckController controller = new HealthCheckController(kafkaTemplate);
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
 
         Map<String, Object> result = controller.metrics();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void metrics_WithSpaceTrackWatermark_ShouldExposeIt() {
+        when(kafkaTemplate.metrics()).thenReturn(null);
+        when(spaceTrackWatermarkStore.getCreationDate()).thenReturn("2023-01-01T06:00:00");
+
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
+
+        Map<String, Object> result = controller.metrics();
+
+        assertEquals("2023-01-01T06:00:00", result.get("spacetrack_creation_date_watermark"));
+    }
+
+    @Test
+    void metrics_AfterConditionalGets_ShouldExposeHitAndMissCounters() {
+        ConditionalGetCache conditionalGets = new ConditionalGetCache();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"abc\"");
+        conditionalGets.save(conditionalGets.recordModified("/gp", headers, 1200));
+        conditionalGets.recordNotModified("/gp");
+        when(kafkaTemplate.metrics()).thenReturn(null);
+        when(celestrakClient.getConditionalGetCache()).thenReturn(conditionalGets);
+
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
+
+        Map<String, Object> result = controller.metrics();
+
+        assertEquals(Map.of("not_modified_hits", 1L, "misses", 1L, "bytes_saved", 1200L),
+                result.get("celestrak_conditional_get"));
+    }
+
+    @Test
+    void metrics_AfterPositionUpdates_ShouldExposeSuppressionRatio() {
+        when(kafkaTemplate.metrics()).thenReturn(null);
+        when(changeDetectionService.getPositionsObserved()).thenReturn(200L);
+        when(changeDetectionService.getPositionsProduced()).thenReturn(20L);
+        when(changeDetectionService.getPositionSuppressionRatio()).thenReturn(0.9);
+        when(changeDetectionService.isDeadReckoning()).thenReturn(true);
+
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
+
+        Map<String, Object> result = controller.metrics();
+
+        assertEquals(Map.of("mode", "dead-reckoning", "observed", 200L, "produced", 20L, "suppression_ratio", 0.9),
+                result.get("position_change_detection"));
+    }
+
+    @Test
+    void metrics_AfterStateBootstrap_ShouldExposeRecordsAndDuration() {
+        ChangeDetectionBootstrap bootstrap = mock(ChangeDetectionBootstrap.class);
+        when(bootstrap.getRecordsRead()).thenReturn(12_000L);
+        when(bootstrap.getDurationMillis()).thenReturn(850L);
+        when(changeDetectionBootstrap.getIfAvailable()).thenReturn(bootstrap);
+        when(kafkaTemplate.metrics()).thenReturn(null);
+
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
+
+        assertEquals(Map.of("records", 12_000L, "duration_ms", 850L), controller.metrics().get("state_bootstrap"));
+    }
+
+    @Test
+    void metrics_AfterCelestrakPolling_ShouldExposeRequestsByRegime() {
+        CelestrakPollingService celestrak = mock(CelestrakPollingService.class);
+        Map<OrbitRegime, Long> counts = new EnumMap<>(OrbitRegime.class);
+        counts.put(OrbitRegime.LEO, 40L);
+        counts.put(OrbitRegime.GEO, 3L);
+        counts.put(OrbitRegime.UNKNOWN, 0L);
+        when(celestrak.getRequestCounts()).thenReturn(counts);
+        when(celestrakPolling.getIfAvailable()).thenReturn(celestrak);
+        when(kafkaTemplate.metrics()).thenReturn(null);
+
+        HealthCheckController controller = new HealthCheckController(kafkaTemplate, spaceTrackWatermarkStore, celestrakClient,
+                changeDetectionService, changeDetectionBootstrap, celestrakPolling);
+
+        assertEquals(Map.of("LEO", 40L, "GEO", 3L), controller.metrics().get("celestrak_requests_by_regime"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.satellite.geo;
+
+import com.satellite.model.SatellitePosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoCellIndexTest {
+
+    private final GeoCellIndex index = new GeoCellIndex(7);
+
+    private static SatellitePosition position(String id, double latitude, double longitude) {
+        return SatellitePosition.builder()
+                .satelliteId(id)
+                .satelliteName("SAT-" + id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .altitude(500.0)
+                .build();
+    }
+
+    private static Set<String> ids(List<SatellitePosition> positions) {
+        return positions.stream().map(SatellitePosition::getSatelliteId).collect(Collectors.toSet());
+    }
+
+    @Test
+    void queryBox_ShouldReturnOnlySatellitesInsideTheBox() {
+        index.update(position("1", 40.0, -74.0));
+        index.update(position("2", 41.5, -73.0));
+        index.update(position("3", 51.5, -0.1));
+
+        assertEquals(Set.of("1", "2"), ids(index.queryBox(39.0, 42.0, -75.0, -72.0)));
+        // Same cells, but the exact check drops satellite 2
+        assertEquals(Set.of("1"), ids(index.queryBox(39.0, 41.0, -75.0, -72.0)));
+    }
+
+    @Test
+    void queryBox_AcrossTheAntimeridian_ShouldMatchBothSides() {
+        index.update(position("east", 10.0, 179.5));
+        index.update(position("west", 10.0, -179.5));
+        index.update(position("far", 10.0, 170.0));
+
+        assertEquals(Set.of("east", "west"), ids(index.queryBox(5.0, 15.0, 179.0, -179.0)));
+    }
+
+    @Test
+    void update_ShouldMoveSatelliteBetweenCells() {
+        index.update(position("1", 40.0, -74.0));
+        index.update(position("1", -33.9, 151.2));
+
+        assertEquals(1, index.size());
+        assertTrue(index.queryBox(39.0, 41.0, -75.0, -73.0).isEmpty());
+        assertEquals(Set.of("1"), ids(index.queryBox(-35.0, -33.0, 150.0, 152.0)));
+
+        index.remove("1");
+        assertEquals(0, index.size());
+        assertTrue(index.queryBox(-35.0, -33.0, 150.0, 152.0).isEmpty());
+    }
+
+    @Test
+    void queryPolygon_ShouldMatchABruteForceScan() {
+        Random random = new Random(11);
+        for (int i = 0; i < 5000; i++) {
+            index.update(position(String.valueOf(i), random.nextDouble() * 180.0 - 90.0,
+                    random.nextDouble() * 360.0 - 180.0));
+        }
+        // A triangle crossing the antimeridian
+        GeoPolygon polygon = new GeoPolygon(new double[] {-20.0, 30.0, -10.0}, new double[] {160.0, 175.0, -150.0});
+
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            SatellitePosition position = index.get(String.valueOf(i));
+            if (polygon.contains(position.getLatitude(), position.getLongitude())) {
+                expected.add(position.getSatelliteId());
+            }
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, ids(index.queryPolygon(polygon)));
+    }
+
+    @Test
+    void geoPolygon_AcrossTheAntimeridian_ShouldContainPointsOnBothSides() {
+        GeoPolygon polygon = new GeoPolygon(new double[] {-10.0, -10.0, 10.0, 10.0},
+                new double[] {170.0, -170.0, -170.0, 170.0});
+
+        assertTrue(polygon.contains(0.0, 179.0));
+        assertTrue(polygon.contains(0.0, -179.0));
+        assertFalse(polygon.contains(0.0, 0.0));
+        assertFalse(polygon.contains(20.0, 179.0));
+    }
+
+    @Test
+    void cellKey_ShouldInterleaveLongitudeFirstLikeGeohash() {
+        // Longitude index 1, latitude index 0 in the lowest bit pair
+        assertEquals(0b10L, GeoCellIndex.cellKey(0, 1));
+        assertEquals(0b01L, GeoCellIndex.cellKey(1, 0));
+        assertEquals(0b1101L, GeoCellIndex.cellKey(0b11, 0b10));
+    }
+}
@@ -0,0 +1,100 @@
+package com.satellite.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TleParserTest {
+
+    private static final String VANGUARD_1 = "1 00005U 58002B   00179.78495062  .00000023  00000-0  28098-4 0  4753";
+    private static final String VANGUARD_2 = "2 00005  34.2682 348.7242 1859667 331.7664  19.3264 10.82419157413667";
+    private static final String ISS_1 = "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927";
+    private static final String ISS_2 = "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537";
+
+    @Test
+    void parse_ShouldMatchSubstringBasedParsingExactly() {
+        assertSameAsReference("VANGUARD 1", VANGUARD_1, VANGUARD_2);
+        assertSameAsReference("ISS (ZARYA)             ", ISS_1, ISS_2);
+        assertSameAsReference("TEST",
+                "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999",
+                "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456");
+    }
+
+    @Test
+    void parse_ShouldReadNegativeBstar() {
+        TleData tle = TleParser.LENIENT.parse("ISS", ISS_1, ISS_2);
+
+        assertEquals(-0.11606e-4, tle.getBstar(), 1e-15);
+        assertEquals(8, tle.getEpochYear());
+    }
+
+    @Test
+    void strictParser_ShouldRejectBadChecksum() {
+        String corrupted = ISS_2.substring(0, 68) + "0";
+
+        assertTrue(TleParser.isChecksumValid(ISS_1));
+        assertFalse(TleParser.isChecksumValid(corrupted));
+        assertDoesNotThrow(() -> TleParser.STRICT.parse("ISS", ISS_1, ISS_2));
+        assertThrows(IllegalArgumentException.class, () -> TleParser.STRICT.parse("ISS", ISS_1, corrupted));
+        assertDoesNotThrow(() -> TleParser.LENIENT.parse("ISS", ISS_1, corrupted));
+    }
+
+    @Test
+    void parse_WithMalformedField_ShouldThrow() {
+        String broken = ISS_2.substring(0, 8) + " 51.6x16" + ISS_2.substring(16);
+
+        assertThrows(NumberFormatException.class, () -> TleParser.LENIENT.parse("ISS", ISS_1, broken));
+    }
+
+    @Test
+    void parse_FromByteWindow_ShouldFeedSink() {
+        byte[] buffer = ("VANGUARD 1\n" + VANGUARD_1 + "\n" + VANGUARD_2 + "\n").getBytes(StandardCharsets.US_ASCII);
+        int line1Start = 11;
+        int line2Start = line1Start + 70;
+        AsciiSequence name = new AsciiSequence().reset(buffer, 0, 10);
+        AsciiSequence line1 = new AsciiSequence().reset(buffer, line1Start, 69);
+        AsciiSequence line2 = new AsciiSequence().reset(buffer, line2Start, 69);
+        TleData expected = TleData.parseTle("VANGUARD 1", VANGUARD_1, VANGUARD_2);
+        double[] captured = new double[8];
+        long[] epoch = new long[1];
+
+        TleParser.STRICT.parse(name, line1, line2, (id, satName, epochMillis, meanMotion, ecc, incl, raan, argp, ma, bstar) -> {
+            assertEquals(5, id);
+            assertEquals("VANGUARD 1", satName.toString());
+            epoch[0] = epochMillis;
+            captured[0] = meanMotion;
+            captured[1] = ecc;
+            captured[2] = incl;
+            captured[3] = raan;
+            captured[4] = argp;
+            captured[5] = ma;
+            captured[6] = bstar;
+        });
+
+        assertEquals(expected.getEpochMillis(), epoch[0]);
+        assertEquals(expected.getMeanMotion(), captured[0]);
+        assertEquals(expected.getEccentricity(), captured[1]);
+        assertEquals(expected.getInclination(), captured[2]);
+        assertEquals(expected.getRaan(), captured[3]);
+        assertEquals(expected.getArgumentOfPerigee(), captured[4]);
+        assertEquals(expected.getMeanAnomaly(), captured[5]);
+        assertEquals(expected.getBstar(), captured[6]);
+    }
+
+    private static void assertSameAsReference(String name, String line1, String line2) {
+        TleData tle = TleParser.LENIENT.parse(name, line1, line2);
+
+        assertEquals(line1.substring(2, 7).trim(), tle.getSatelliteId());
+        assertEquals(name.trim(), tle.getSatelliteName());
+        assertEquals(Integer.parseInt(line1.substring(18, 20)), tle.getEpochYear());
+        assertEquals(Double.parseDouble(line1.substring(20, 32)), tle.getEpochDay());
+        assertEquals(Double.parseDouble(line2.substring(52, 63)), tle.getMeanMotion());
+        assertEquals(Double.parseDouble("0." + line2.substring(26, 33)), tle.getEccentricity());
+        assertEquals(Double.parseDouble(line2.substring(8, 16)), tle.getInclination());
+        assertEquals(Double.parseDouble(line2.substring(17, 25)), tle.getRaan());
+        assertEquals(Double.parseDouble(line2.substring(34, 42)), tle.getArgumentOfPerigee());
+        assertEquals(Double.parseDouble(line2.substring(43, 51)), tle.getMeanAnomaly());
+    }
+}
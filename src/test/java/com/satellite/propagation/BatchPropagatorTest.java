@@ -0,0 +1,95 @@
+package com.satellite.propagation;
+
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchPropagatorTest {
+
+    private final BatchPropagator batchPropagator = new BatchPropagator(4, 8);
+
+    @AfterEach
+    void tearDown() {
+        batchPropagator.shutdown();
+    }
+
+    @Test
+    void propagate_ShouldMatchSingleSatellitePropagation() {
+        List<Sgp4Propagator> propagators = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            propagators.add(new Sgp4Propagator(TleData.builder()
+                    .satelliteId(String.valueOf(40000 + i))
+                    .satelliteName("SAT-" + i)
+                    .epochYear(23)
+                    .epochDay(1.0)
+                    .meanMotion(14.0 + i * 0.01)
+                    .eccentricity(0.001)
+                    .inclination(i * 1.5)
+                    .raan(i * 3.0)
+                    .argumentOfPerigee(90.0)
+                    .meanAnomaly(i * 3.6)
+                    .bstar(1.0e-5)
+                    .build()));
+        }
+        long timestamp = propagators.get(0).getEpochMillis() + 45 * 60_000L;
+
+        PropagationResult result = batchPropagator.propagate(propagators, timestamp);
+
+        assertEquals(100, result.size());
+        assertEquals(100, result.getValidCount());
+        List<SatellitePosition> positions = result.getPositions();
+        for (int i = 0; i < propagators.size(); i++) {
+            SatellitePosition expected = propagators.get(i).positionAt(timestamp);
+            SatellitePosition actual = positions.get(i);
+            assertEquals(expected.getSatelliteId(), actual.getSatelliteId());
+            assertEquals(expected.getLatitude(), actual.getLatitude(), 1e-9);
+            assertEquals(expected.getLongitude(), actual.getLongitude(), 1e-9);
+            assertEquals(expected.getAltitude(), actual.getAltitude(), 1e-9);
+            assertEquals(timestamp, actual.getTimestamp());
+        }
+    }
+
+    @Test
+    void propagate_WithEphemerisCache_ShouldFitEachSatelliteOnceOnThePool() {
+        List<Sgp4Propagator> propagators = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            propagators.add(new Sgp4Propagator(TleData.builder()
+                    .satelliteId(String.valueOf(40000 + i))
+                    .satelliteName("SAT-" + i)
+                    .epochYear(23)
+                    .epochDay(1.0)
+                    .meanMotion(14.0 + i * 0.05)
+                    .eccentricity(0.001)
+                    .inclination(i * 4.5)
+                    .meanAnomaly(i * 18.0)
+                    .build()));
+        }
+        long timestamp = propagators.get(0).getEpochMillis() + 30 * 60_000L;
+        EphemerisCache cache = new EphemerisCache(0.01, 6, 20.0, 10);
+
+        PropagationResult result = batchPropagator.propagate(propagators, timestamp, cache::evaluate);
+        batchPropagator.propagate(propagators, timestamp + 1000L, cache::evaluate);
+
+        assertEquals(20, result.getValidCount());
+        assertEquals(20, cache.getFitCount());
+        for (int i = 0; i < propagators.size(); i++) {
+            SatellitePosition expected = propagators.get(i).positionAt(timestamp);
+            assertEquals(expected.getLatitude(), result.getLatitude(i), 1e-3);
+            assertEquals(expected.getAltitude(), result.getAltitude(i), 0.02);
+        }
+    }
+
+    @Test
+    void propagate_WithEmptyCatalog_ShouldReturnEmptyResult() {
+        PropagationResult result = batchPropagator.propagate(List.of(), 0L);
+
+        assertEquals(0, result.size());
+        assertTrue(result.getPositions().isEmpty());
+    }
+}
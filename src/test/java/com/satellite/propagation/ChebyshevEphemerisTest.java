@@ -0,0 +1,126 @@
+package com.satellite.propagation;
+
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChebyshevEphemerisTest {
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+            "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537");
+
+    private static final TleData MOLNIYA = TleData.parseTle("MOLNIYA 1-91",
+            "1 25485U 98054A   23001.50000000  .00000100  00000-0  10000-3 0  9990",
+            "2 25485  62.8000 100.0000 7200000 270.0000  10.0000  2.00600000100000");
+
+    private static void assertMatchesSgp4(Sgp4Propagator propagator, ChebyshevEphemeris ephemeris,
+                                          long start, long end, double toleranceKm) {
+        Random random = new Random(5);
+        double[] expected = new double[6];
+        double[] actual = new double[6];
+        for (int i = 0; i < 2000; i++) {
+            long t = start + (long) (random.nextDouble() * (end - start));
+            assertTrue(propagator.propagate(propagator.minutesSinceEpoch(t), expected));
+            assertTrue(ephemeris.evaluate(t, actual));
+            double dx = actual[0] - expected[0];
+            double dy = actual[1] - expected[1];
+            double dz = actual[2] - expected[2];
+            assertEquals(0.0, Math.sqrt(dx * dx + dy * dy + dz * dz), toleranceKm, "position at " + t);
+            // SGP4's velocity is not exactly the derivative of its position (~1 m/s apart near perigee)
+            for (int axis = 3; axis < 6; axis++) {
+                assertEquals(expected[axis], actual[axis], 5e-3, "velocity at " + t);
+            }
+        }
+    }
+
+    @Test
+    void fit_ShouldStayWithinToleranceOfSgp4() {
+        Sgp4Propagator propagator = new Sgp4Propagator(ISS);
+        long start = propagator.getEpochMillis();
+        long end = start + 6 * 3_600_000L;
+
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(propagator, start, end, 20.0, 10, 0.01);
+
+        assertTrue(ephemeris.getMaxFitError() <= 0.01);
+        // Allow for error between the check points
+        assertMatchesSgp4(propagator, ephemeris, start, end, 0.02);
+    }
+
+    @Test
+    void fit_ShouldSplitSegmentsWhereTheOrbitIsHardToFit() {
+        // Perigee passes of a highly eccentric orbit need shorter segments
+        Sgp4Propagator propagator = new Sgp4Propagator(MOLNIYA);
+        long start = propagator.getEpochMillis();
+        long end = start + 24 * 3_600_000L;
+
+        ChebyshevEphemeris loose = ChebyshevEphemeris.fit(propagator, start, end, 60.0, 8, 10.0);
+        ChebyshevEphemeris tight = ChebyshevEphemeris.fit(propagator, start, end, 60.0, 8, 0.001);
+
+        assertTrue(tight.getSegmentCount() > loose.getSegmentCount());
+        assertMatchesSgp4(propagator, tight, start, end, 0.005);
+    }
+
+    @Test
+    void evaluate_OutsideTheFittedSpan_ShouldReturnFalse() {
+        Sgp4Propagator propagator = new Sgp4Propagator(ISS);
+        long start = propagator.getEpochMillis();
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(propagator, start, start + 3_600_000L, 20.0, 10, 0.01);
+
+        assertTrue(ephemeris.covers(start + 1_800_000L));
+        assertFalse(ephemeris.covers(start - 1));
+        assertFalse(ephemeris.evaluate(start + 3_600_001L, new double[6]));
+    }
+
+    @Test
+    void cache_ShouldRefitAfterInvalidationOrANewPropagator() {
+        EphemerisCache cache = new EphemerisCache(0.01, 6, 20.0, 10);
+        Sgp4Propagator propagator = new Sgp4Propagator(ISS);
+        long t = propagator.getEpochMillis();
+        double[] rv = new double[6];
+
+        assertTrue(cache.evaluate(propagator, t, rv));
+        assertTrue(cache.evaluate(propagator, t + 60_000L, rv));
+        assertEquals(1, cache.getFitCount());
+
+        cache.invalidate(ISS.getSatelliteId());
+        assertTrue(cache.evaluate(propagator, t, rv));
+        assertEquals(2, cache.getFitCount());
+
+        // A TLE update that raced the invalidation is still picked up
+        assertTrue(cache.evaluate(new Sgp4Propagator(ISS), t, rv));
+        assertEquals(3, cache.getFitCount());
+
+        // Outside the fitted span
+        assertTrue(cache.evaluate(propagator, t + 7 * 3_600_000L, rv));
+        assertEquals(4, cache.getFitCount());
+    }
+
+    @Test
+    void cache_RetainOnly_ShouldEvictDepartedSatellites() {
+        EphemerisCache cache = new EphemerisCache(0.01, 6, 20.0, 10);
+        Sgp4Propagator iss = new Sgp4Propagator(ISS);
+        Sgp4Propagator other = new Sgp4Propagator(TleData.builder()
+                .satelliteId("43013")
+                .satelliteName("NOAA 20")
+                .epochYear(23)
+                .epochDay(1.0)
+                .meanMotion(14.2)
+                .eccentricity(0.0001)
+                .inclination(98.7)
+                .build());
+        long t = iss.getEpochMillis();
+        cache.evaluate(iss, t, new double[6]);
+        cache.evaluate(other, other.getEpochMillis(), new double[6]);
+
+        cache.retainOnly(List.of(iss));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.evaluate(iss, t, new double[6]));
+        assertEquals(2, cache.getFitCount());
+    }
+}
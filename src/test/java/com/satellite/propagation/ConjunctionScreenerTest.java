@@ -0,0 +1,130 @@
+package com.satellite.propagation;
+
+import com.satellite.model.Conjunction;
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConjunctionScreenerTest {
+
+    private static Sgp4Propagator satellite(int id, double meanMotion, double eccentricity, double inclination,
+                                            double raan, double meanAnomaly) {
+        return new Sgp4Propagator(TleData.builder()
+                .satelliteId(String.valueOf(id))
+                .satelliteName("SAT-" + id)
+                .epochYear(23)
+                .epochDay(1.0)
+                .meanMotion(meanMotion)
+                .eccentricity(eccentricity)
+                .inclination(inclination)
+                .raan(raan)
+                .argumentOfPerigee(0.0)
+                .meanAnomaly(meanAnomaly)
+                .bstar(1.0e-5)
+                .build());
+    }
+
+    @Test
+    void screen_WithCrossingOrbits_ShouldReportEachNodeCrossing() {
+        // Same period and node, both at the ascending node at epoch: they meet at
+        // each node, i.e. every half orbit (J2 opens the second miss up to ~30 km)
+        Sgp4Propagator a = satellite(1, 15.0, 0.0001, 30.0, 40.0, 0.0);
+        Sgp4Propagator b = satellite(2, 15.0, 0.0001, 80.0, 40.0, 0.0);
+        long epoch = a.getEpochMillis();
+        long halfPeriod = (long) (86_400_000L / 15.0 / 2);
+        ConjunctionScreener screener = new ConjunctionScreener(40.0, 20);
+
+        List<Conjunction> conjunctions = screener.screen(List.of(a, b), epoch - 600_000L, epoch + halfPeriod + 600_000L);
+
+        assertEquals(2, conjunctions.size());
+        assertEquals(epoch, conjunctions.get(0).getTimeOfClosestApproach(), 30_000);
+        assertTrue(conjunctions.get(0).getMissDistance() < 10.0);
+        assertEquals(epoch + halfPeriod, conjunctions.get(1).getTimeOfClosestApproach(), 30_000);
+        for (Conjunction conjunction : conjunctions) {
+            assertEquals("1", conjunction.getPrimarySatelliteId());
+            assertEquals("2", conjunction.getSecondarySatelliteId());
+            assertTrue(conjunction.getMissDistance() < 40.0);
+            // 50 degrees between the planes at ~7.5 km/s
+            assertEquals(2 * 7.5 * Math.sin(Math.toRadians(25.0)), conjunction.getRelativeSpeed(), 0.5);
+        }
+    }
+
+    @Test
+    void screen_WithSeparatedShells_ShouldReportNothing() {
+        // ~400 km and ~1200 km circular orbits through the same node at the same time
+        Sgp4Propagator low = satellite(1, 15.5, 0.0001, 51.6, 0.0, 0.0);
+        Sgp4Propagator high = satellite(2, 12.5, 0.0001, 51.6, 0.0, 0.0);
+        ConjunctionScreener screener = new ConjunctionScreener(10.0, 20);
+
+        assertTrue(screener.screen(List.of(low, high), low.getEpochMillis(), low.getEpochMillis() + 3_600_000L).isEmpty());
+    }
+
+    @Test
+    void screen_ShouldFindEveryPairABruteForceScanFinds() {
+        Random random = new Random(42);
+        List<Sgp4Propagator> catalog = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            catalog.add(satellite(i + 1, 15.0 + random.nextDouble() * 0.05, random.nextDouble() * 0.002,
+                    random.nextDouble() * 100.0, random.nextDouble() * 360.0, random.nextDouble() * 360.0));
+        }
+        double threshold = 50.0;
+        int stepSeconds = 20;
+        long start = catalog.get(0).getEpochMillis();
+        long end = start + 3_600_000L;
+
+        Set<String> expected = new HashSet<>();
+        double[] rvA = new double[6];
+        double[] rvB = new double[6];
+        for (long t = start; t <= end; t += stepSeconds * 1000L) {
+            for (int i = 0; i < catalog.size(); i++) {
+                Sgp4Propagator a = catalog.get(i);
+                a.propagate(a.minutesSinceEpoch(t), rvA);
+                for (int j = i + 1; j < catalog.size(); j++) {
+                    Sgp4Propagator b = catalog.get(j);
+                    b.propagate(b.minutesSinceEpoch(t), rvB);
+                    double dx = rvA[0] - rvB[0];
+                    double dy = rvA[1] - rvB[1];
+                    double dz = rvA[2] - rvB[2];
+                    if (Math.sqrt(dx * dx + dy * dy + dz * dz) < threshold) {
+                        expected.add(a.getSatelliteId() + "_" + b.getSatelliteId());
+                    }
+                }
+            }
+        }
+        assertFalse(expected.isEmpty(), "test catalog should contain close approaches");
+
+        List<Conjunction> conjunctions = new ConjunctionScreener(threshold, stepSeconds).screen(catalog, start, end);
+
+        Set<String> found = new HashSet<>();
+        for (Conjunction conjunction : conjunctions) {
+            assertTrue(conjunction.getMissDistance() <= threshold);
+            found.add(conjunction.getPrimarySatelliteId() + "_" + conjunction.getSecondarySatelliteId());
+        }
+        expected.removeAll(found);
+        assertTrue(expected.isEmpty(), "missed " + expected);
+    }
+
+    @Test
+    void screen_ShouldSkipDeepSpaceObjects() {
+        // Two geostationary objects a fraction of a degree apart
+        List<Sgp4Propagator> catalog = List.of(
+                satellite(1, 1.0027, 0.0001, 0.05, 100.0, 0.0),
+                satellite(2, 1.0027, 0.0001, 0.05, 100.0, 0.01));
+        long start = catalog.get(0).getEpochMillis();
+
+        assertTrue(catalog.get(0).isDeepSpace());
+        assertTrue(new ConjunctionScreener(50.0, 20).screen(catalog, start, start + 3_600_000L).isEmpty());
+    }
+
+    @Test
+    void constructor_WithNonPositiveThreshold_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ConjunctionScreener(0.0, 20));
+    }
+}
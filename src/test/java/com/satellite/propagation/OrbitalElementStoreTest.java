@@ -0,0 +1,111 @@
+package com.satellite.propagation;
+
+import com.satellite.model.NoradId;
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrbitalElementStoreTest {
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999",
+            "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456");
+
+    @Test
+    void put_ShouldStoreElementsInColumns() {
+        OrbitalElementStore store = new OrbitalElementStore();
+
+        int slot = store.put(ISS);
+
+        assertEquals(0, slot);
+        assertEquals(slot, store.slotOf(25544));
+        assertEquals(25544, store.noradId(slot));
+        assertEquals("ISS (ZARYA)", store.name(slot));
+        assertEquals(15.48901234, store.meanMotion(slot), 1e-12);
+        assertEquals(0.0001234, store.eccentricity(slot), 1e-12);
+        assertEquals(51.64, store.inclination(slot), 1e-12);
+        assertEquals(ISS.getEpochMillis(), store.epochMillis(slot));
+    }
+
+    @Test
+    void createPropagator_ShouldMatchPropagatorBuiltFromTle() {
+        OrbitalElementStore store = new OrbitalElementStore();
+        TleData vanguard = TleData.parseTle("VANGUARD 1",
+                "1 00005U 58002B   00179.78495062  .00000023  00000-0  28098-4 0  4753",
+                "2 00005  34.2682 348.7242 1859667 331.7664  19.3264 10.82419157413667");
+
+        Sgp4Propagator fromStore = store.createPropagator(store.put(vanguard));
+        Sgp4Propagator fromTle = new Sgp4Propagator(vanguard);
+
+        assertEquals("00005", fromStore.getSatelliteId());
+        assertEquals(fromTle.getPerigeeAltitude(), fromStore.getPerigeeAltitude(), 1e-9);
+        assertEquals(fromTle.getApogeeAltitude(), fromStore.getApogeeAltitude(), 1e-9);
+        double[] expected = new double[6];
+        double[] actual = new double[6];
+        fromTle.propagate(720.0, expected);
+        fromStore.propagate(720.0, actual);
+        assertArrayEquals(expected, actual, 1e-9);
+    }
+
+    @Test
+    void put_WithExistingSatellite_ShouldOverwriteSlotInPlace() {
+        OrbitalElementStore store = new OrbitalElementStore();
+        int slot = store.put(ISS);
+
+        TleData updated = TleData.builder()
+                .satelliteId("25544")
+                .satelliteName("ISS (ZARYA)")
+                .epochYear(23)
+                .epochDay(2.0)
+                .meanMotion(15.5)
+                .build();
+
+        assertEquals(slot, store.put(updated));
+        assertEquals(1, store.size());
+        assertEquals(15.5, store.meanMotion(slot), 1e-12);
+    }
+
+    @Test
+    void put_BeyondInitialCapacity_ShouldGrowAndScanInSlotOrder() {
+        OrbitalElementStore store = new OrbitalElementStore(16);
+        for (int id = 1; id <= 1000; id++) {
+            store.put(id, "SAT-" + id, 0L, 14.0, 0.001, 98.0, 0.0, 0.0, 0.0, 0.0);
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        store.scan((s, slot) -> ids.add(s.noradId(slot)));
+
+        assertEquals(1000, store.size());
+        assertEquals(1000, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i + 1, ids.get(i));
+        }
+        assertEquals(-1, store.slotOf(5000));
+    }
+
+    @Test
+    void createPropagator_ShouldMatchTlePropagator() {
+        OrbitalElementStore store = new OrbitalElementStore();
+        int slot = store.put(ISS);
+        double[] fromStore = new double[6];
+        double[] fromTle = new double[6];
+
+        store.createPropagator(slot).propagate(90.0, fromStore);
+        new Sgp4Propagator(ISS).propagate(90.0, fromTle);
+
+        assertArrayEquals(fromTle, fromStore, 1e-9);
+    }
+
+    @Test
+    void noradIdParse_ShouldHandleAlpha5() {
+        assertEquals(25544, NoradId.parse("25544"));
+        assertEquals(5, NoradId.parse("00005"));
+        assertEquals(100001, NoradId.parse("A0001"));
+        assertEquals(339999, NoradId.parse("Z9999"));
+        assertThrows(IllegalArgumentException.class, () -> NoradId.parse("I0001"));
+    }
+}
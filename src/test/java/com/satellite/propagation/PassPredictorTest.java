@@ -0,0 +1,101 @@
+package com.satellite.propagation;
+
+import com.satellite.model.SatellitePass;
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassPredictorTest {
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999",
+            "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456");
+
+    private final PassPredictor predictor = new PassPredictor(2, 30, 10.0);
+
+    @AfterEach
+    void tearDown() {
+        predictor.shutdown();
+    }
+
+    @Test
+    void predict_ShouldFindPassesConsistentWithBruteForceSampling() {
+        Sgp4Propagator propagator = new Sgp4Propagator(ISS);
+        PassPredictor.Observer newYork = new PassPredictor.Observer(40.7128, -74.0060, 0.0);
+        long start = ISS.getEpochMillis();
+
+        List<SatellitePass> passes = predictor.predict(propagator, List.of(newYork), start, start + 86_400_000L);
+
+        assertFalse(passes.isEmpty());
+        for (SatellitePass pass : passes) {
+            assertEquals("25544", pass.getSatelliteId());
+            assertEquals(40.7128, pass.getObserverLatitude());
+            assertTrue(pass.getEndTime() > pass.getStartTime());
+            assertTrue(pass.getEndTime() - pass.getStartTime() < 15 * 60_000L);
+            assertTrue(pass.getStartAzimuth() >= 0.0 && pass.getStartAzimuth() < 360.0);
+
+            assertEquals(10.0, elevation(propagator, newYork, pass.getStartTime()), 0.1);
+            assertEquals(10.0, elevation(propagator, newYork, pass.getEndTime()), 0.1);
+
+            double sampledMax = -90.0;
+            for (long t = pass.getStartTime(); t <= pass.getEndTime(); t += 1000) {
+                sampledMax = Math.max(sampledMax, elevation(propagator, newYork, t));
+            }
+            assertEquals(sampledMax, pass.getMaxElevation(), 0.01);
+        }
+    }
+
+    @Test
+    void predict_WithShiftedWindow_ShouldReturnIdenticalStartTimes() {
+        Sgp4Propagator propagator = new Sgp4Propagator(ISS);
+        PassPredictor.Observer observer = new PassPredictor.Observer(51.5, -0.13, 0.0);
+        long start = ISS.getEpochMillis();
+
+        List<SatellitePass> first = predictor.predict(propagator, List.of(observer), start, start + 86_400_000L);
+        List<SatellitePass> shifted = predictor.predict(propagator, List.of(observer), start + 7_000L, start + 86_400_000L);
+
+        assertFalse(first.isEmpty());
+        assertEquals(first.size(), shifted.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getStartTime(), shifted.get(i).getStartTime());
+        }
+    }
+
+    @Test
+    void predictAll_ShouldCoverEveryObserver() {
+        Sgp4Propagator propagator = new Sgp4Propagator(ISS);
+        List<PassPredictor.Observer> observers = List.of(
+                new PassPredictor.Observer(40.7128, -74.0060, 0.0),
+                new PassPredictor.Observer(-33.87, 151.21, 0.0));
+        long start = ISS.getEpochMillis();
+
+        List<SatellitePass> passes = predictor.predictAll(List.of(propagator), observers, start, start + 86_400_000L);
+
+        assertTrue(passes.stream().anyMatch(p -> p.getObserverLatitude() == 40.7128));
+        assertTrue(passes.stream().anyMatch(p -> p.getObserverLatitude() == -33.87));
+    }
+
+    @Test
+    void predict_WithDeepSpaceObject_ShouldReturnNoPasses() {
+        Sgp4Propagator molniya = new Sgp4Propagator(TleData.parseTle("MOLNIYA 1-91",
+                "1 25485U 98054A   23001.50000000  .00000100  00000-0  10000-3 0  9990",
+                "2 25485  62.8000 100.0000 7200000 270.0000  10.0000  2.00600000100000"));
+        PassPredictor.Observer moscow = new PassPredictor.Observer(55.75, 37.62, 0.0);
+        long start = molniya.getEpochMillis();
+
+        assertTrue(molniya.isDeepSpace());
+        assertTrue(predictor.predict(molniya, List.of(moscow), start, start + 86_400_000L).isEmpty());
+    }
+
+    private static double elevation(Sgp4Propagator propagator, PassPredictor.Observer observer, long t) {
+        double[] rv = new double[6];
+        double[] ecef = new double[3];
+        propagator.propagate(propagator.minutesSinceEpoch(t), rv);
+        EarthFrames.temeToEcef(rv, EarthFrames.gmst(t), ecef);
+        return Math.toDegrees(Math.asin(observer.sinElevation(ecef[0], ecef[1], ecef[2])));
+    }
+}
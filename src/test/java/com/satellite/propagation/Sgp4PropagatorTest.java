@@ -0,0 +1,80 @@
+package com.satellite.propagation;
+
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Sgp4PropagatorTest {
+
+    // Vallado "Revisiting Spacetrack Report #3" verification case 00005
+    private static final TleData VANGUARD = TleData.parseTle("VANGUARD 1",
+            "1 00005U 58002B   00179.78495062  .00000023  00000-0  28098-4 0  4753",
+            "2 00005  34.2682 348.7242 1859667 331.7664  19.3264 10.82419157413667");
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999",
+            "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456");
+
+    @Test
+    void parseTle_ShouldReadBstarAndEpoch() {
+        assertEquals(0.28098e-4, VANGUARD.getBstar(), 1e-12);
+        // 2000 day 179.78495062
+        assertEquals(962131819734L, VANGUARD.getEpochMillis(), 1);
+    }
+
+    @Test
+    void propagate_AtEpoch_ShouldMatchReferenceVector() {
+        Sgp4Propagator propagator = new Sgp4Propagator(VANGUARD);
+        double[] rv = new double[6];
+
+        assertTrue(propagator.propagate(0.0, rv));
+
+        assertEquals(7022.46529266, rv[0], 1e-3);
+        assertEquals(-1400.08296755, rv[1], 1e-3);
+        assertEquals(0.03995155, rv[2], 1e-3);
+        assertEquals(1.893841015, rv[3], 1e-6);
+        assertEquals(6.405893759, rv[4], 1e-6);
+        assertEquals(4.534807250, rv[5], 1e-6);
+    }
+
+    @Test
+    void propagate_SixHoursAfterEpoch_ShouldMatchReferenceVector() {
+        Sgp4Propagator propagator = new Sgp4Propagator(VANGUARD);
+        double[] rv = new double[6];
+
+        assertTrue(propagator.propagate(360.0, rv));
+
+        assertEquals(-7154.03120202, rv[0], 1e-3);
+        assertEquals(-3783.17682504, rv[1], 1e-3);
+        assertEquals(-3536.19412294, rv[2], 1e-3);
+        assertEquals(4.741887409, rv[3], 1e-6);
+        assertEquals(-4.151817765, rv[4], 1e-6);
+        assertEquals(-2.093935425, rv[5], 1e-6);
+    }
+
+    @Test
+    void positionAt_ShouldProduceGeodeticPosition() {
+        Sgp4Propagator propagator = new Sgp4Propagator(ISS);
+        long timestamp = ISS.getEpochMillis() + 3_600_000L;
+
+        SatellitePosition position = propagator.positionAt(timestamp);
+
+        assertEquals("25544", position.getSatelliteId());
+        assertEquals("ISS (ZARYA)", position.getSatelliteName());
+        assertEquals(timestamp, position.getTimestamp());
+        assertTrue(Math.abs(position.getLatitude()) <= 51.7);
+        assertTrue(position.getLongitude() >= -180.0 && position.getLongitude() <= 180.0);
+        assertTrue(position.getAltitude() > 300.0 && position.getAltitude() < 500.0);
+        assertEquals(7.66, position.getVelocity(), 0.05);
+        assertFalse(propagator.isDeepSpace());
+    }
+
+    @Test
+    void constructor_WithZeroMeanMotion_ShouldReject() {
+        TleData invalid = TleData.builder().satelliteId("1").meanMotion(0.0).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new Sgp4Propagator(invalid));
+    }
+}
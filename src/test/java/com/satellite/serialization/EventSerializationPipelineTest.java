@@ -0,0 +1,142 @@
+package com.satellite.serialization;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSerializationPipelineTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submit_ShouldEncodeOffThreadAndKeepPerSatelliteOrder() throws Exception {
+        Map<String, List<String>> sentByKey = new ConcurrentHashMap<>();
+        Map<String, String> encodingThreads = new ConcurrentHashMap<>();
+        KafkaTemplate<Object, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenAnswer(invocation -> {
+            String key = invocation.getArgument(1);
+            String value = new String(invocation.<byte[]>getArgument(2), StandardCharsets.UTF_8);
+            sentByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+        Serializer<Object> serializer = (topic, data) -> {
+            encodingThreads.put(data.toString(), Thread.currentThread().getName());
+            return data.toString().getBytes(StandardCharsets.UTF_8);
+        };
+
+        List<CompletableFuture<SendResult<Object, byte[]>>> results = new ArrayList<>();
+        try (EventSerializationPipeline pipeline = new EventSerializationPipeline(serializer, kafkaTemplate, 4, 2000)) {
+            for (int seq = 0; seq < 200; seq++) {
+                for (int sat = 0; sat < 10; sat++) {
+                    String id = Integer.toString(25544 + sat);
+                    results.add(pipeline.submit("positions", id, id, id + ":" + seq));
+                }
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(10, sentByKey.size());
+        sentByKey.forEach((key, values) -> {
+            assertEquals(200, values.size());
+            for (int seq = 0; seq < values.size(); seq++) {
+                assertEquals(key + ":" + seq, values.get(seq), "out of order for " + key);
+            }
+        });
+        String caller = Thread.currentThread().getName();
+        assertTrue(encodingThreads.values().stream().allMatch(name -> name.startsWith("event-serializer-")));
+        assertFalse(encodingThreads.containsValue(caller));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submit_WhenEncodingFails_ShouldFailTheFuture() throws Exception {
+        KafkaTemplate<Object, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+        Serializer<Object> serializer = (topic, data) -> {
+            throw new IllegalStateException("bad record");
+        };
+
+        try (EventSerializationPipeline pipeline = new EventSerializationPipeline(serializer, kafkaTemplate, 1, 1)) {
+            CompletableFuture<SendResult<Object, byte[]>> result = pipeline.submit("positions", "25544", "25544", "x");
+
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submit_AfterClose_ShouldBeRejected() {
+        EventSerializationPipeline pipeline = new EventSerializationPipeline(
+                (topic, data) -> new byte[0], mock(KafkaTemplate.class), 2, 4);
+        pipeline.close();
+
+        assertTrue(pipeline.submit("positions", "25544", "25544", "x").isCompletedExceptionally());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submit_WhenQueueIsFull_ShouldFailTheFutureWithoutBlocking() throws Exception {
+        CountDownLatch encoding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Serializer<Object> serializer = (topic, data) -> {
+            encoding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new byte[0];
+        };
+        KafkaTemplate<Object, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        try (EventSerializationPipeline pipeline = new EventSerializationPipeline(serializer, kafkaTemplate, 1, 1)) {
+            // The worker holds the first event, the queue the second
+            CompletableFuture<SendResult<Object, byte[]>> first = pipeline.submit("positions", "25544", "25544", "a");
+            assertTrue(encoding.await(5, TimeUnit.SECONDS));
+            pipeline.submit("positions", "25544", "25544", "b");
+
+            CompletableFuture<SendResult<Object, byte[]>> third = pipeline.submit("positions", "25544", "25544", "c");
+
+            Exception e = assertThrows(Exception.class, () -> third.get(0, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, e.getCause());
+            assertEquals(1, pipeline.getRejectedCount());
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void close_ShouldFlushAndDestroyTheProducerFactory() {
+        KafkaTemplate<Object, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+        DefaultKafkaProducerFactory<Object, byte[]> producerFactory = mock(DefaultKafkaProducerFactory.class);
+        when(kafkaTemplate.getProducerFactory()).thenReturn(producerFactory);
+
+        new EventSerializationPipeline((topic, data) -> new byte[0], kafkaTemplate, 2, 4).close();
+
+        InOrder inOrder = inOrder(kafkaTemplate, producerFactory);
+        inOrder.verify(kafkaTemplate).flush();
+        inOrder.verify(producerFactory).destroy();
+    }
+}
\ No newline at end of file
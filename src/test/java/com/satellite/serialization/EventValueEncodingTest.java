@@ -0,0 +1,188 @@
+package com.satellite.serialization;
+
+import com.satellite.geo.GeofenceTransition;
+import com.satellite.model.Conjunction;
+import com.satellite.model.SatellitePass;
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The direct encoders must be byte-identical to Avro's own SpecificRecord encoding.
+ */
+class EventValueEncodingTest {
+
+    private static final String[] STRINGS = {
+            "", "25544", "ISS (ZARYA)", "NOAA 15 [B]", "ÉTOILE-1", "天宫", "emoji 🚀", "SGP4",
+            "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999"
+    };
+    private static final double[] DOUBLES = {
+            0.0, -0.0, 1.5, -75.000001, 6378.137, Double.MIN_VALUE, Double.MAX_VALUE,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+    };
+    private static final long[] LONGS = {0L, 1L, -1L, 63L, 64L, -65L, 1_700_000_000_000L, Long.MIN_VALUE, Long.MAX_VALUE};
+    private static final int[] INTS = {0, 1, -1, 23, 99, 2024, Integer.MIN_VALUE, Integer.MAX_VALUE};
+
+    private final Random random = new Random(20240601);
+
+    @Test
+    void positionEventValue_ShouldMatchSpecificRecordEncoding() throws IOException {
+        for (int i = 0; i < 2000; i++) {
+            SatellitePosition position = SatellitePosition.builder()
+                    .satelliteId(string())
+                    .satelliteName(string())
+                    .timestamp(longValue())
+                    .latitude(doubleValue())
+                    .longitude(doubleValue())
+                    .altitude(doubleValue())
+                    .velocity(doubleValue())
+                    .latitudeRate(optionalDouble())
+                    .longitudeRate(optionalDouble())
+                    .altitudeRate(optionalDouble())
+                    .build();
+            assertSameEncoding(new PositionEventValue(position, string()));
+        }
+    }
+
+    @Test
+    void passEventValue_ShouldMatchSpecificRecordEncoding() throws IOException {
+        for (int i = 0; i < 2000; i++) {
+            SatellitePass pass = SatellitePass.builder()
+                    .satelliteId(string())
+                    .satelliteName(string())
+                    .observerLatitude(doubleValue())
+                    .observerLongitude(doubleValue())
+                    .startTime(longValue())
+                    .endTime(longValue())
+                    .maxElevation(doubleValue())
+                    .startAzimuth(doubleValue())
+                    .endAzimuth(doubleValue())
+                    .build();
+            assertSameEncoding(new PassEventValue(pass, longValue()));
+        }
+    }
+
+    @Test
+    void tleUpdateEventValue_ShouldMatchSpecificRecordEncoding() throws IOException {
+        for (int i = 0; i < 2000; i++) {
+            TleData tle = TleData.builder()
+                    .satelliteId(string())
+                    .satelliteName(string())
+                    .line1(string())
+                    .line2(string())
+                    .epochYear(intValue())
+                    .epochDay(doubleValue())
+                    .meanMotion(doubleValue())
+                    .eccentricity(doubleValue())
+                    .inclination(doubleValue())
+                    .build();
+            assertSameEncoding(new TleUpdateEventValue(tle, string(), longValue()));
+        }
+    }
+
+    @Test
+    void conjunctionEventValue_ShouldMatchSpecificRecordEncoding() throws IOException {
+        for (int i = 0; i < 2000; i++) {
+            Conjunction conjunction = Conjunction.builder()
+                    .primarySatelliteId(string())
+                    .primarySatelliteName(string())
+                    .secondarySatelliteId(string())
+                    .secondarySatelliteName(string())
+                    .timeOfClosestApproach(longValue())
+                    .missDistance(doubleValue())
+                    .relativeSpeed(doubleValue())
+                    .build();
+            assertSameEncoding(new ConjunctionEventValue(conjunction, longValue()));
+        }
+    }
+
+    @Test
+    void geofenceEventValue_ShouldMatchSpecificRecordEncoding() throws IOException {
+        GeofenceTransition[] transitions = GeofenceTransition.values();
+        for (int i = 0; i < 2000; i++) {
+            SatellitePosition position = SatellitePosition.builder()
+                    .satelliteId(string())
+                    .satelliteName(string())
+                    .timestamp(longValue())
+                    .latitude(doubleValue())
+                    .longitude(doubleValue())
+                    .altitude(doubleValue())
+                    .build();
+            assertSameEncoding(new GeofenceEventValue(position, string(), transitions[i % transitions.length]));
+        }
+    }
+
+    @Test
+    void serializer_ShouldProduceIdenticalWireBytesForBothPaths() throws Exception {
+        SchemaRegistryClient registryClient = mock(SchemaRegistryClient.class);
+        when(registryClient.register(anyString(), any(ParsedSchema.class))).thenReturn(3);
+        SatelliteAvroSerializer serializer = new SatelliteAvroSerializer(registryClient);
+        serializer.configure(Map.of(), false);
+
+        TleData tle = TleData.parseTle("ISS (ZARYA)",
+                "1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999",
+                "2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456");
+        TleUpdateEventValue value = new TleUpdateEventValue(tle, "CELESTRAK", 1_700_000_000_000L);
+
+        assertArrayEquals(serializer.serialize("satellite-tle", value.toSpecificRecord()),
+                serializer.serialize("satellite-tle", value));
+    }
+
+    @Test
+    void encode_WithNullString_ShouldFailLikeTheBuilder() {
+        SatellitePosition position = SatellitePosition.builder().satelliteName("ISS").build();
+
+        assertThrows(NullPointerException.class,
+                () -> new PositionEventValue(position, "SGP4").encode(new AvroBinaryWriter(16)));
+    }
+
+    private static void assertSameEncoding(AvroEncodable value) throws IOException {
+        SpecificRecord record = value.toSpecificRecord();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(expected, null);
+        new SpecificDatumWriter<SpecificRecord>(record.getSchema()).write(record, encoder);
+        encoder.flush();
+
+        AvroBinaryWriter actual = new AvroBinaryWriter(8);
+        value.encode(actual);
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray(), () -> "Encoding differs for " + record);
+    }
+
+    private String string() {
+        return STRINGS[random.nextInt(STRINGS.length)];
+    }
+
+    private double doubleValue() {
+        return random.nextBoolean() ? DOUBLES[random.nextInt(DOUBLES.length)] : random.nextGaussian() * 1e4;
+    }
+
+    private Double optionalDouble() {
+        return random.nextBoolean() ? null : doubleValue();
+    }
+
+    private long longValue() {
+        return random.nextBoolean() ? LONGS[random.nextInt(LONGS.length)] : random.nextLong();
+    }
+
+    private int intValue() {
+        return random.nextBoolean() ? INTS[random.nextInt(INTS.length)] : random.nextInt();
+    }
+}
@@ -0,0 +1,53 @@
+package com.satellite.serialization;
+
+import com.satellite.model.SatellitePass;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassKeyTest {
+
+    private static SatellitePass pass(String id, double latitude, double longitude, long startTime) {
+        return SatellitePass.builder()
+                .satelliteId(id)
+                .observerLatitude(latitude)
+                .observerLongitude(longitude)
+                .startTime(startTime)
+                .build();
+    }
+
+    @Test
+    void encode_ShouldLayOutNoradIdObserverCellAndStartTimeBigEndian() {
+        SatellitePass pass = pass("25544", 45.0, -75.0, 1_703_123_456_000L);
+
+        ByteBuffer key = ByteBuffer.wrap(PassKey.encode(pass));
+
+        assertEquals(PassKey.SIZE, key.remaining());
+        assertEquals(25544, key.getInt());
+        assertEquals((int) PassKey.satelliteObserver(pass), key.getInt());
+        assertEquals(1_703_123_456_000L, key.getLong());
+    }
+
+    @Test
+    void encode_ShouldIgnoreCoordinateNoiseWithinAnObserverCell() {
+        // The same observer after a float round trip, and one a few metres away
+        assertArrayEquals(PassKey.encode(pass("25544", 45.0, -75.0, 1000L)),
+                PassKey.encode(pass("25544", 45.00000001, -74.99999999, 1000L)));
+        assertArrayEquals(PassKey.encode(pass("25544", 45.0001, -75.0001, 1000L)),
+                PassKey.encode(pass("25544", 45.0002, -75.0002, 1000L)));
+    }
+
+    @Test
+    void encode_ShouldSeparateSatellitesObserversAndStartTimes() {
+        byte[] key = PassKey.encode(pass("25544", 45.0, -75.0, 1000L));
+
+        assertFalse(Arrays.equals(key, PassKey.encode(pass("20580", 45.0, -75.0, 1000L))));
+        assertFalse(Arrays.equals(key, PassKey.encode(pass("25544", 45.01, -75.0, 1000L))));
+        assertFalse(Arrays.equals(key, PassKey.encode(pass("25544", 45.0, -75.0, 2000L))));
+        // Alpha-5 catalog numbers keep their own range
+        assertEquals(100001L, PassKey.satelliteObserver(pass("A0001", 0.0, 0.0, 0L)) >>> 32);
+    }
+}
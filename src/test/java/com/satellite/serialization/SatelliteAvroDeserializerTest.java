@@ -0,0 +1,96 @@
+package com.satellite.serialization;
+
+import com.satellite.avro.SatellitePositionEvent;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SatelliteAvroDeserializerTest {
+
+    private MockSchemaRegistryClient registryClient;
+    private SatelliteAvroDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        registryClient = new MockSchemaRegistryClient();
+        deserializer = new SatelliteAvroDeserializer(registryClient);
+        deserializer.configure(Map.of(), false);
+    }
+
+    @Test
+    void deserialize_ShouldReadWhatTheSerializerWrote() {
+        SatelliteAvroSerializer serializer = new SatelliteAvroSerializer(registryClient);
+        serializer.configure(Map.of(), false);
+        SatellitePositionEvent event = SatellitePositionEvent.newBuilder()
+                .setSatelliteId("25544")
+                .setSatelliteName("ISS")
+                .setTimestamp(1_700_000_000_000L)
+                .setLatitude(51.5)
+                .setLongitude(-0.1)
+                .setAltitude(420.0)
+                .setVelocity(7.66)
+                .setSource("SGP4")
+                .setLatitudeRate(0.05)
+                .build();
+
+        Object decoded = deserializer.deserialize("satellite-position", serializer.serialize("satellite-position", event));
+
+        assertEquals(event, decoded);
+        assertNull(deserializer.deserialize("satellite-position", null));
+    }
+
+    @Test
+    void deserialize_WithOlderWriterSchema_ShouldResolveToCurrentClass() throws Exception {
+        // The position schema before the dead-reckoning rates were added
+        Schema old = SchemaBuilder.record("SatellitePositionEvent").namespace("com.satellite.avro").fields()
+                .requiredString("satelliteId")
+                .requiredString("satelliteName")
+                .requiredLong("timestamp")
+                .requiredDouble("latitude")
+                .requiredDouble("longitude")
+                .requiredDouble("altitude")
+                .requiredDouble("velocity")
+                .requiredString("source")
+                .endRecord();
+        int id = registryClient.register("satellite-position-value", new AvroSchema(old));
+        GenericRecord record = new GenericData.Record(old);
+        record.put("satelliteId", "25544");
+        record.put("satelliteName", "ISS");
+        record.put("timestamp", 1L);
+        record.put("latitude", 1.0);
+        record.put("longitude", 2.0);
+        record.put("altitude", 400.0);
+        record.put("velocity", 7.7);
+        record.put("source", "N2YO");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(SatelliteAvroSerializer.MAGIC_BYTE);
+        out.write(ByteBuffer.allocate(4).putInt(id).array());
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(old).write(record, encoder);
+        encoder.flush();
+
+        SatellitePositionEvent decoded = (SatellitePositionEvent) deserializer.deserialize("satellite-position",
+                out.toByteArray());
+
+        assertEquals("25544", decoded.getSatelliteId().toString());
+        assertEquals(400.0, decoded.getAltitude());
+        assertNull(decoded.getLatitudeRate());
+        assertThrows(SerializationException.class,
+                () -> deserializer.deserialize("satellite-position", new byte[]{1, 0, 0, 0, 1}));
+    }
+}
\ No newline at end of file
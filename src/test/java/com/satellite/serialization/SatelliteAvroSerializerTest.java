@@ -0,0 +1,113 @@
+package com.satellite.serialization;
+
+import com.satellite.avro.SatellitePassEvent;
+import com.satellite.avro.SatellitePositionEvent;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SatelliteAvroSerializerTest {
+
+    @Mock
+    private SchemaRegistryClient registryClient;
+
+    private SatelliteAvroSerializer serializer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(registryClient.register(eq("satellite-position-value"), any(ParsedSchema.class))).thenReturn(42);
+        lenient().when(registryClient.register(eq("satellite-pass-value"), any(ParsedSchema.class))).thenReturn(7);
+        serializer = new SatelliteAvroSerializer(registryClient);
+    }
+
+    @Test
+    void configure_ShouldResolveSchemaIdsOnceUpFront() throws Exception {
+        serializer.configure(Map.of(
+                SatelliteAvroSerializer.TOPIC_SCHEMAS_CONFIG,
+                Map.of("satellite-position", SatellitePositionEvent.getClassSchema())), false);
+
+        verify(registryClient).register("satellite-position-value", new AvroSchema(SatellitePositionEvent.getClassSchema()));
+
+        for (int i = 0; i < 3; i++) {
+            serializer.serialize("satellite-position", position(i));
+        }
+        verifyNoMoreInteractions(registryClient);
+    }
+
+    @Test
+    void serialize_ShouldWriteConfluentWireFormat() throws Exception {
+        serializer.configure(Map.of(), false);
+        SatellitePositionEvent event = position(1);
+
+        byte[] bytes = serializer.serialize("satellite-position", event);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        assertEquals(SatelliteAvroSerializer.MAGIC_BYTE, buffer.get());
+        assertEquals(42, buffer.getInt());
+        SatellitePositionEvent decoded = new SpecificDatumReader<>(SatellitePositionEvent.class).read(null,
+                DecoderFactory.get().binaryDecoder(bytes, 5, bytes.length - 5, null));
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void serialize_ShouldNotLeakStateBetweenRecords() throws Exception {
+        serializer.configure(Map.of(), false);
+        SatellitePassEvent pass = SatellitePassEvent.newBuilder()
+                .setSatelliteId("25544")
+                .setSatelliteName("ISS")
+                .setTimestamp(1L)
+                .setObserverLatitude(40.7)
+                .setObserverLongitude(-74.0)
+                .setStartTime(1000L)
+                .setEndTime(2000L)
+                .setMaxElevation(45.0)
+                .setStartAzimuth(10.0)
+                .setEndAzimuth(200.0)
+                .build();
+
+        byte[] first = serializer.serialize("satellite-position", position(1));
+        byte[] passBytes = serializer.serialize("satellite-pass", pass);
+        byte[] again = serializer.serialize("satellite-position", position(1));
+
+        assertArrayEquals(first, again);
+        assertEquals(7, ByteBuffer.wrap(passBytes, 1, 4).getInt());
+    }
+
+    @Test
+    void serialize_WithNullOrForeignValue_ShouldHandleExplicitly() {
+        serializer.configure(Map.of(), false);
+
+        assertNull(serializer.serialize("satellite-tle", null));
+        assertThrows(SerializationException.class, () -> serializer.serialize("satellite-tle", "not avro"));
+    }
+
+    private static SatellitePositionEvent position(int i) {
+        return SatellitePositionEvent.newBuilder()
+                .setSatelliteId(Integer.toString(25544 + i))
+                .setSatelliteName("SAT " + i)
+                .setTimestamp(1_700_000_000_000L + i)
+                .setLatitude(45.0 + i)
+                .setLongitude(-75.0)
+                .setAltitude(420.0)
+                .setVelocity(7.66)
+                .setSource("SGP4")
+                .build();
+    }
+}
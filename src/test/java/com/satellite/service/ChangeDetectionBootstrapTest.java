@@ -0,0 +1,147 @@
+package com.satellite.service;
+
+import com.satellite.avro.SatellitePositionEvent;
+import com.satellite.avro.SatelliteTleUpdateEvent;
+import com.satellite.serialization.PassKey;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeDetectionBootstrapTest {
+
+    private static final String TLE_TOPIC = "satellite-tle-updates";
+    private static final String POSITION_TOPIC = "satellite-position-events";
+    private static final String PASS_TOPIC = "satellite-pass-events";
+
+    @Mock
+    private ChangeDetectionService changeDetectionService;
+
+    @Mock
+    private ConsumerFactory<byte[], Object> consumerFactory;
+
+    private final Map<TopicPartition, List<ConsumerRecord<byte[], Object>>> logs = new HashMap<>();
+
+    private void append(String topic, int partition, byte[] key, Object value) {
+        TopicPartition tp = new TopicPartition(topic, partition);
+        List<ConsumerRecord<byte[], Object>> log = logs.computeIfAbsent(tp, p -> new ArrayList<>());
+        log.add(new ConsumerRecord<>(topic, partition, log.size(), key, value));
+    }
+
+    // Each consumer serves whichever partition it is assigned from the logs above
+    private MockConsumer<byte[], Object> newConsumer() {
+        MockConsumer<byte[], Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        Map<String, List<PartitionInfo>> partitions = new HashMap<>();
+        Map<TopicPartition, Long> beginning = new HashMap<>();
+        Map<TopicPartition, Long> end = new HashMap<>();
+        for (String topic : List.of(TLE_TOPIC, POSITION_TOPIC, PASS_TOPIC)) {
+            for (int p = 0; p < 2; p++) {
+                TopicPartition tp = new TopicPartition(topic, p);
+                partitions.computeIfAbsent(topic, t -> new ArrayList<>()).add(new PartitionInfo(topic, p, null, null, null));
+                beginning.put(tp, 0L);
+                end.put(tp, (long) logs.getOrDefault(tp, List.of()).size());
+            }
+        }
+        partitions.forEach(consumer::updatePartitions);
+        consumer.updateBeginningOffsets(beginning);
+        consumer.updateEndOffsets(end);
+        consumer.schedulePollTask(() -> consumer.assignment().forEach(
+                tp -> logs.getOrDefault(tp, List.of()).forEach(consumer::addRecord)));
+        return consumer;
+    }
+
+    private ChangeDetectionBootstrap newBootstrap() {
+        return new ChangeDetectionBootstrap(changeDetectionService, consumerFactory,
+                TLE_TOPIC, POSITION_TOPIC, PASS_TOPIC, 10, 4);
+    }
+
+    private static SatelliteTleUpdateEvent tle(String epoch) {
+        return SatelliteTleUpdateEvent.newBuilder()
+                .setSatelliteId("25544")
+                .setSatelliteName("ISS (ZARYA)")
+                .setTimestamp(1L)
+                .setLine1("1 25544U 98067A   " + epoch + " -.00002182  00000-0 -11606-4 0  2927")
+                .setLine2("2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537")
+                .setEpochYear(8)
+                .setEpochDay(264.5)
+                .setMeanMotion(15.72125391)
+                .setEccentricity(0.0006703)
+                .setInclination(51.6416)
+                .setSource("Celestrak")
+                .build();
+    }
+
+    private static byte[] key(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void bootstrap_ShouldSeedTheLatestValuePerKeyFromEveryPartition() {
+        long startTime = System.currentTimeMillis() + 3_600_000L;
+        long satelliteObserver = PassKey.satelliteObserver(25544, 40.7, -74.0);
+        append(TLE_TOPIC, 0, key("25544"), tle("08264.51782528"));
+        append(TLE_TOPIC, 0, key("25544"), tle("08265.51782528"));
+        append(TLE_TOPIC, 1, key("20580"), tle("08264.51782528"));
+        append(TLE_TOPIC, 1, key("20580"), null);
+        append(POSITION_TOPIC, 1, key("25544"), SatellitePositionEvent.newBuilder()
+                .setSatelliteId("25544")
+                .setSatelliteName("ISS")
+                .setTimestamp(1_700_000_000_000L)
+                .setLatitude(51.5)
+                .setLongitude(-0.1)
+                .setAltitude(420.0)
+                .setVelocity(7.66)
+                .setSource("SGP4")
+                .setLatitudeRate(0.05)
+                .setLongitudeRate(0.06)
+                .setAltitudeRate(0.0)
+                .build());
+        append(PASS_TOPIC, 0, PassKey.encode(satelliteObserver, startTime), new Object());
+        append(PASS_TOPIC, 1, key("25544_40.700000_-74.000000"), new Object());
+        when(consumerFactory.createConsumer()).thenAnswer(invocation -> newConsumer());
+
+        ChangeDetectionBootstrap bootstrap = newBootstrap();
+        bootstrap.bootstrap();
+
+        ArgumentCaptor<ChangeDetectionSnapshot> snapshot = ArgumentCaptor.forClass(ChangeDetectionSnapshot.class);
+        verify(changeDetectionService).restore(snapshot.capture());
+        assertEquals(1, snapshot.getValue().getTles().size());
+        assertTrue(snapshot.getValue().getTles().get(0).getLine1().contains("08265.51782528"));
+        assertEquals(0.05, snapshot.getValue().getPublishedPositions().get(0).getLatitudeRate());
+        assertArrayEquals(new long[]{satelliteObserver, startTime}, snapshot.getValue().getPasses());
+        assertEquals(7, bootstrap.getRecordsRead());
+        assertTrue(bootstrap.getDurationMillis() >= 0);
+        // One consumer to list partitions, then one per partition
+        verify(consumerFactory, times(7)).createConsumer();
+    }
+
+    @Test
+    void bootstrap_WhenKafkaIsUnreachable_ShouldStartCold() {
+        when(consumerFactory.createConsumer()).thenThrow(new KafkaException("No resolvable bootstrap urls"));
+
+        ChangeDetectionBootstrap bootstrap = newBootstrap();
+        bootstrap.bootstrap();
+
+        verify(changeDetectionService, never()).restore(any());
+        assertEquals(-1, bootstrap.getDurationMillis());
+    }
+}
\ No newline at end of file
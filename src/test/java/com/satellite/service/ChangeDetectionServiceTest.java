@@ -1,16 +1,29 @@
 package com.satellite.service;
 
+import com.satellite.geo.DeadReckoning;
 import com.satellite.model.SatellitePass;
 import com.satellite.model.SatellitePosition;
 import com.satellite.model.TleData;
+import com.satellite.propagation.EarthFrames;
+import com.satellite.propagation.EphemerisCache;
+import com.satellite.propagation.Sgp4Propagator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -18,109 +31,113 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ChangeDetectionServiceTest {
 
-    @Mock
-    private CacheManager cacheManager;
-
     @Mock
     private SatelliteEventProducer eventProducer;
 
     @Mock
-    private Cache tleCache;
+    private SatelliteCatalog satelliteCatalog;
 
     @Mock
-    private Cache positionCache;
+    private RegionIndexService regionIndexService;
 
     @Mock
-    private Cache passCache;
+    private EphemerisCache ephemerisCache;
 
     private ChangeDetectionService service;
 
     @BeforeEach
     void setUp() {
-        service = new ChangeDetectionService(cacheManager, eventProducer);
+        service = newService(false, 1.0);
     }
 
-    @Test
-    void checkAndProduceTleUpdate_WithNewTle_ShouldProduceEvent() {
-        TleData newTle = TleData.builder()
+    private ChangeDetectionService newService(boolean deadReckoning, double toleranceKm) {
+        return new ChangeDetectionService(eventProducer, satelliteCatalog, regionIndexService, ephemerisCache,
+                deadReckoning, toleranceKm);
+    }
+
+    private static TleData issTle(String epoch) {
+        return TleData.builder()
                 .satelliteId("25544")
                 .satelliteName("ISS")
-                .line1("1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999")
+                .line1("1 25544U 98067A   " + epoch + "  .00001234  00000-0  12345-4 0  9999")
                 .line2("2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456")
                 .meanMotion(15.48901234)
                 .eccentricity(0.0001234)
                 .inclination(51.6400)
                 .build();
+    }
 
-        when(cacheManager.getCache("tleCache")).thenReturn(tleCache);
-        when(tleCache.get("25544", TleData.class)).thenReturn(null);
+    @Test
+    void checkAndProduceTleUpdate_WithNewTle_ShouldProduceEvent() {
+        TleData newTle = issTle("23001.00000000");
 
         service.checkAndProduceTleUpdate(newTle, "Celestrak");
 
         verify(eventProducer).produceTleUpdateEvent(newTle, "Celestrak");
-        verify(tleCache).put("25544", newTle);
+        verify(satelliteCatalog).update(newTle);
+        verify(ephemerisCache).invalidate("25544");
     }
 
     @Test
     void checkAndProduceTleUpdate_WithChangedTle_ShouldProduceEvent() {
-        TleData cachedTle = TleData.builder()
-                .satelliteId("25544")
-                .satelliteName("ISS")
-                .line1("1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999")
-                .line2("2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456")
-                .meanMotion(15.48901234)
-                .eccentricity(0.0001234)
-                .inclination(51.6400)
-                .build();
-
-        TleData newTle = TleData.builder()
-                .satelliteId("25544")
-                .satelliteName("ISS")
-                .line1("1 25544U 98067A   23002.00000000  .00001234  00000-0  12345-4 0  9999")
-                .line2("2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456")
-                .meanMotion(15.48901234)
-                .eccentricity(0.0001234)
-                .inclination(51.6400)
-                .build();
-
-        when(cacheManager.getCache("tleCache")).thenReturn(tleCache);
-        when(tleCache.get("25544", TleData.class)).thenReturn(cachedTle);
+        TleData cachedTle = issTle("23001.00000000");
+        TleData newTle = issTle("23002.00000000");
+        service.checkAndProduceTleUpdate(cachedTle, "Celestrak");
 
         service.checkAndProduceTleUpdate(newTle, "Celestrak");
 
         verify(eventProducer).produceTleUpdateEvent(newTle, "Celestrak");
-        verify(tleCache).put("25544", newTle);
+        verify(satelliteCatalog).update(newTle);
     }
 
     @Test
     void checkAndProduceTleUpdate_WithUnchangedTle_ShouldNotProduceEvent() {
-        TleData cachedTle = TleData.builder()
-                .satelliteId("25544")
-                .satelliteName("ISS")
-                .line1("1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999")
-                .line2("2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456")
-                .meanMotion(15.48901234)
-                .eccentricity(0.0001234)
-                .inclination(51.6400)
-                .build();
+        TleData cachedTle = issTle("23001.00000000");
+        TleData newTle = issTle("23001.00000000");
+        service.checkAndProduceTleUpdate(cachedTle, "Celestrak");
+        clearInvocations(eventProducer, satelliteCatalog, ephemerisCache);
 
-        TleData newTle = TleData.builder()
-                .satelliteId("25544")
-                .satelliteName("ISS")
-                .line1("1 25544U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999")
-                .line2("2 25544  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456")
-                .meanMotion(15.48901234)
-                .eccentricity(0.0001234)
-                .inclination(51.6400)
-                .build();
+        service.checkAndProduceTleUpdate(newTle, "Celestrak");
+
+        verify(eventProducer, never()).produceTleUpdateEvent(any(), any());
+        verify(satelliteCatalog, never()).update(any());
+        verify(ephemerisCache, never()).invalidate(any());
+    }
 
-        when(cacheManager.getCache("tleCache")).thenReturn(tleCache);
-        when(tleCache.get("25544", TleData.class)).thenReturn(cachedTle);
+    @Test
+    void checkAndProduceTleUpdate_WithInvalidSatelliteId_ShouldNotProduceEvent() {
+        TleData newTle = TleData.builder().satelliteId("ISS").build();
 
         service.checkAndProduceTleUpdate(newTle, "Celestrak");
 
         verify(eventProducer, never()).produceTleUpdateEvent(any(), any());
-        verify(tleCache, never()).put(any(), any());
+    }
+
+    @Test
+    void checkAndProduceTleUpdate_FromConcurrentPollers_ShouldProduceOnce() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 50; round++) {
+                TleData newTle = issTle(String.format("23%03d.00000000", round + 1));
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        service.checkAndProduceTleUpdate(newTle, "Celestrak");
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                verify(eventProducer, times(1)).produceTleUpdateEvent(newTle, "Celestrak");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Test
@@ -135,13 +152,9 @@ class ChangeDetectionServiceTest {
                 .velocity(7.8)
                 .build();
 
-        when(cacheManager.getCache("positionCache")).thenReturn(positionCache);
-        when(positionCache.get("25544", SatellitePosition.class)).thenReturn(null);
-
         service.checkAndProducePositionUpdate(newPosition, "N2YO");
 
         verify(eventProducer).producePositionEvent(newPosition, "N2YO");
-        verify(positionCache).put("25544", newPosition);
     }
 
     @Test
@@ -160,13 +173,11 @@ class ChangeDetectionServiceTest {
                 .altitude(402.0)
                 .build();
 
-        when(cacheManager.getCache("positionCache")).thenReturn(positionCache);
-        when(positionCache.get("25544", SatellitePosition.class)).thenReturn(cachedPosition);
+        service.checkAndProducePositionUpdate(cachedPosition, "N2YO");
 
         service.checkAndProducePositionUpdate(newPosition, "N2YO");
 
         verify(eventProducer).producePositionEvent(newPosition, "N2YO");
-        verify(positionCache).put("25544", newPosition);
     }
 
     @Test
@@ -185,71 +196,321 @@ class ChangeDetectionServiceTest {
                 .altitude(400.5)
                 .build();
 
-        when(cacheManager.getCache("positionCache")).thenReturn(positionCache);
-        when(positionCache.get("25544", SatellitePosition.class)).thenReturn(cachedPosition);
+        service.checkAndProducePositionUpdate(cachedPosition, "N2YO");
+        clearInvocations(eventProducer);
 
         service.checkAndProducePositionUpdate(newPosition, "N2YO");
 
         verify(eventProducer, never()).producePositionEvent(any(), any());
-        verify(positionCache, never()).put(any(), any());
+        // Unpublished positions still move the satellite in the region index
+        verify(regionIndexService).update(newPosition);
     }
 
     @Test
-    void checkAndProducePassUpdate_WithNewPass_ShouldProduceEvent() {
-        SatellitePass newPass = SatellitePass.builder()
+    void checkAndProducePositionUpdate_AcrossAntimeridian_ShouldNotProduceEvent() {
+        SatellitePosition cachedPosition = SatellitePosition.builder()
                 .satelliteId("25544")
-                .satelliteName("ISS")
-                .observerLatitude(45.0)
-                .observerLongitude(-75.0)
-                .startTime(1234567890L)
-                .endTime(1234568000L)
-                .maxElevation(85.0)
-                .startAzimuth(270.0)
-                .endAzimuth(90.0)
+                .latitude(45.0)
+                .longitude(179.999)
+                .altitude(400.0)
                 .build();
 
-        when(cacheManager.getCache("passCache")).thenReturn(passCache);
-        when(passCache.get("25544_45.000000_-75.000000_1234567890", SatellitePass.class)).thenReturn(null);
+        SatellitePosition newPosition = SatellitePosition.builder()
+                .satelliteId("25544")
+                .latitude(45.0)
+                .longitude(-179.998)
+                .altitude(400.0)
+                .build();
 
-        service.checkAndProducePassUpdate(newPass);
+        service.checkAndProducePositionUpdate(cachedPosition, "SGP4");
+        clearInvocations(eventProducer);
 
-        verify(eventProducer).producePassEvent(newPass);
-        verify(passCache).put("25544_45.000000_-75.000000_1234567890", newPass);
+        service.checkAndProducePositionUpdate(newPosition, "SGP4");
+
+        verify(eventProducer, never()).producePositionEvent(any(), any());
     }
 
     @Test
-    void checkAndProducePassUpdate_WithExistingPass_ShouldNotProduceEvent() {
-        SatellitePass existingPass = SatellitePass.builder()
+    void checkAndProducePositionUpdate_WithOlderPosition_ShouldNotProduceEvent() {
+        SatellitePosition newer = SatellitePosition.builder()
+                .satelliteId("25544")
+                .latitude(45.0)
+                .longitude(-75.0)
+                .altitude(400.0)
+                .timestamp(2_000L)
+                .build();
+
+        SatellitePosition older = SatellitePosition.builder()
+                .satelliteId("25544")
+                .latitude(40.0)
+                .longitude(-80.0)
+                .altitude(400.0)
+                .timestamp(1_000L)
+                .build();
+
+        service.checkAndProducePositionUpdate(newer, "SGP4");
+        service.checkAndProducePositionUpdate(older, "SGP4");
+
+        verify(eventProducer, never()).producePositionEvent(older, "SGP4");
+    }
+
+    @Test
+    void checkAndProducePositionUpdate_DeadReckoning_ShouldSuppressPredictablePositions() {
+        ChangeDetectionService deadReckoning = newService(true, 1.0);
+        List<SatellitePosition> published = new ArrayList<>();
+        doAnswer(invocation -> published.add(invocation.getArgument(0)))
+                .when(eventProducer).producePositionEvent(any(), eq("SGP4"));
+
+        // Steady eastward drift of 0.05 deg/s across the antimeridian
+        for (int i = 0; i < 10; i++) {
+            deadReckoning.checkAndProducePositionUpdate(SatellitePosition.builder()
+                    .satelliteId("25544")
+                    .latitude(10.0)
+                    .longitude(-180.0 + (179.8 + 0.05 * i + 180.0) % 360.0)
+                    .altitude(400.0)
+                    .timestamp(1_000_000L + 1000L * i)
+                    .build(), "SGP4");
+        }
+
+        // The first position has no rates; the second carries them and predicts the rest
+        assertEquals(2, published.size());
+        assertNull(published.get(0).getLatitudeRate());
+        SatellitePosition withRates = published.get(1);
+        assertEquals(1_001_000L, withRates.getTimestamp());
+        assertEquals(0.05, withRates.getLongitudeRate(), 1e-9);
+        assertEquals(0.0, withRates.getLatitudeRate(), 1e-9);
+        assertEquals(1.0 - 2.0 / 10.0, deadReckoning.getPositionSuppressionRatio(), 1e-9);
+    }
+
+    @Test
+    void checkAndProducePositionUpdate_DeadReckoning_WhenPublicationFails_ShouldRetryWithTheSameRates() {
+        ChangeDetectionService deadReckoning = newService(true, 1.0);
+        List<SatellitePosition> published = new ArrayList<>();
+        doAnswer(invocation -> published.add(invocation.getArgument(0)))
+                .doThrow(new IllegalStateException("buffer full"))
+                .doAnswer(invocation -> published.add(invocation.getArgument(0)))
+                .when(eventProducer).producePositionEvent(any(), eq("SGP4"));
+        SatellitePosition first = SatellitePosition.builder()
+                .satelliteId("25544").latitude(10.0).longitude(20.0).altitude(400.0).timestamp(1_000_000L).build();
+        SatellitePosition second = first.toBuilder().longitude(20.5).timestamp(1_010_000L).build();
+
+        deadReckoning.checkAndProducePositionUpdate(first, "SGP4");
+        assertThrows(IllegalStateException.class, () -> deadReckoning.checkAndProducePositionUpdate(second, "SGP4"));
+        deadReckoning.checkAndProducePositionUpdate(second, "SGP4");
+
+        // The retry still derives its rates from the first position, not from itself
+        assertEquals(2, published.size());
+        assertEquals(0.05, published.get(1).getLongitudeRate(), 1e-9);
+    }
+
+    @Test
+    void checkAndProducePositionUpdates_DeadReckoning_ShouldKeepConsumerErrorWithinTolerance() {
+        double toleranceKm = 1.0;
+        ChangeDetectionService deadReckoning = newService(true, toleranceKm);
+        List<SatellitePosition> published = new ArrayList<>();
+        doAnswer(invocation -> published.add(invocation.getArgument(0)))
+                .when(eventProducer).producePositionEvent(any(), eq("SGP4"));
+        Sgp4Propagator iss = new Sgp4Propagator(TleData.parseTle("ISS (ZARYA)",
+                "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+                "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537"));
+
+        // One orbit at 1 Hz
+        double[] rv = new double[6];
+        double[] geodetic = new double[3];
+        int samples = 5520;
+        for (int i = 0; i < samples; i++) {
+            long t = iss.getEpochMillis() + 1000L * i;
+            assertTrue(iss.propagate(iss.minutesSinceEpoch(t), rv));
+            EarthFrames.temeToGeodetic(rv, EarthFrames.gmst(t), geodetic);
+            SatellitePosition observed = SatellitePosition.builder()
+                    .satelliteId("25544")
+                    .latitude(geodetic[0])
+                    .longitude(geodetic[1])
+                    .altitude(geodetic[2])
+                    .timestamp(t)
+                    .build();
+            deadReckoning.checkAndProducePositionUpdates(List.of(observed), "SGP4");
+
+            double[] predicted = DeadReckoning.extrapolate(published.get(published.size() - 1), t);
+            double errorKm = DeadReckoning.distanceKm(predicted[0], predicted[1], predicted[2],
+                    observed.getLatitude(), observed.getLongitude(), observed.getAltitude());
+            assertTrue(errorKm <= toleranceKm, "consumer error " + errorKm + " km at sample " + i);
+        }
+
+        assertEquals(samples, deadReckoning.getPositionsObserved());
+        assertTrue(deadReckoning.getPositionSuppressionRatio() > 0.9,
+                "suppression ratio " + deadReckoning.getPositionSuppressionRatio());
+    }
+
+    @Test
+    void checkAndProducePositionUpdates_ShouldOnlyProduceChangedPositions() {
+        SatellitePosition cachedPosition = SatellitePosition.builder()
+                .satelliteId("25544")
+                .latitude(45.0)
+                .longitude(-75.0)
+                .altitude(400.0)
+                .build();
+
+        SatellitePosition unchanged = SatellitePosition.builder()
+                .satelliteId("25544")
+                .latitude(45.0)
+                .longitude(-75.0)
+                .altitude(400.0)
+                .build();
+
+        SatellitePosition fresh = SatellitePosition.builder()
+                .satelliteId("20580")
+                .latitude(10.0)
+                .longitude(20.0)
+                .altitude(540.0)
+                .build();
+
+        service.checkAndProducePositionUpdate(cachedPosition, "SGP4");
+
+        service.checkAndProducePositionUpdates(List.of(unchanged, fresh), "SGP4");
+
+        verify(eventProducer).producePositionEvent(fresh, "SGP4");
+        verify(eventProducer, never()).producePositionEvent(unchanged, "SGP4");
+    }
+
+    @Test
+    void checkAndProduceTleUpdates_ShouldPublishChangedTlesTogether() {
+        TleData cachedTle = issTle("23001.00000000");
+        TleData unchanged = issTle("23001.00000000");
+        TleData fresh = TleData.builder().satelliteId("20580").build();
+        service.checkAndProduceTleUpdate(cachedTle, "SPACETRACK");
+        clearInvocations(satelliteCatalog, ephemerisCache);
+
+        service.checkAndProduceTleUpdates(List.of(unchanged, fresh), "SPACETRACK");
+
+        verify(eventProducer).produceTleUpdateEvents(List.of(fresh), "SPACETRACK");
+        verify(satelliteCatalog).update(fresh);
+        verify(satelliteCatalog, never()).update(unchanged);
+        verify(ephemerisCache).invalidate("20580");
+        verify(ephemerisCache, never()).invalidate("25544");
+    }
+
+    @Test
+    void checkAndProduceTleUpdates_WhenPublicationFails_ShouldRetryNextCycle() {
+        TleData fresh = TleData.builder().satelliteId("20580").build();
+        doThrow(new IllegalStateException("aborted"))
+                .doNothing()
+                .when(eventProducer).produceTleUpdateEvents(List.of(fresh), "CELESTRAK");
+
+        assertThrows(IllegalStateException.class,
+                () -> service.checkAndProduceTleUpdates(List.of(fresh), "CELESTRAK"));
+
+        verify(satelliteCatalog, never()).update(any());
+
+        // The failed cycle left no state behind, so the next one publishes again
+        service.checkAndProduceTleUpdates(List.of(fresh), "CELESTRAK");
+
+        verify(eventProducer, times(2)).produceTleUpdateEvents(List.of(fresh), "CELESTRAK");
+        verify(satelliteCatalog).update(fresh);
+    }
+
+    private static SatellitePass issPass(double observerLatitude, long startTime) {
+        return SatellitePass.builder()
                 .satelliteId("25544")
                 .satelliteName("ISS")
-                .observerLatitude(45.0)
+                .observerLatitude(observerLatitude)
                 .observerLongitude(-75.0)
-                .startTime(1234567890L)
-                .endTime(1234568000L)
+                .startTime(startTime)
+                .endTime(startTime + 600_000L)
                 .maxElevation(85.0)
                 .startAzimuth(270.0)
                 .endAzimuth(90.0)
                 .build();
+    }
 
-        when(cacheManager.getCache("passCache")).thenReturn(passCache);
-        when(passCache.get("25544_45.000000_-75.000000_1234567890", SatellitePass.class)).thenReturn(existingPass);
+    @Test
+    void checkAndProducePassUpdate_WithNewPass_ShouldProduceEvent() {
+        SatellitePass newPass = issPass(45.0, 1234567890L);
+
+        service.checkAndProducePassUpdate(newPass);
 
+        verify(eventProducer).producePassEvent(newPass);
+    }
+
+    @Test
+    void checkAndProducePassUpdate_WithExistingPass_ShouldNotProduceEvent() {
+        SatellitePass existingPass = issPass(45.0, 1234567890L);
+        // Same observer, coordinates rounded differently on the way in
+        SatellitePass repredicted = issPass(45.0000001, 1234567890L);
         service.checkAndProducePassUpdate(existingPass);
+        clearInvocations(eventProducer);
+
+        service.checkAndProducePassUpdate(repredicted);
 
         verify(eventProducer, never()).producePassEvent(any());
-        verify(passCache, never()).put(any(), any());
     }
 
     @Test
-    void checkAndProduceTleUpdate_WithNullCache_ShouldNotProduceEvent() {
-        TleData newTle = TleData.builder()
+    void checkAndProducePassUpdate_ForAnotherObserverOrStartTime_ShouldProduceEvent() {
+        service.checkAndProducePassUpdate(issPass(45.0, 1234567890L));
+
+        service.checkAndProducePassUpdate(issPass(46.0, 1234567890L));
+        service.checkAndProducePassUpdate(issPass(45.0, 1234999890L));
+
+        verify(eventProducer, times(3)).producePassEvent(any());
+    }
+
+    @Test
+    void checkAndProducePassUpdate_WhenPublicationFails_ShouldRetry() {
+        SatellitePass newPass = issPass(45.0, 1234567890L);
+        doThrow(new IllegalStateException("buffer full"))
+                .doNothing()
+                .when(eventProducer).producePassEvent(newPass);
+
+        assertThrows(IllegalStateException.class, () -> service.checkAndProducePassUpdate(newPass));
+        service.checkAndProducePassUpdate(newPass);
+
+        verify(eventProducer, times(2)).producePassEvent(newPass);
+    }
+
+    @Test
+    void restore_ShouldOnlyPublishWhatChangedSinceTheSnapshot() {
+        ChangeDetectionService previous = newService(true, 1.0);
+        long now = System.currentTimeMillis();
+        SatellitePosition position = SatellitePosition.builder()
                 .satelliteId("25544")
+                .timestamp(now)
+                .latitude(45.0)
+                .longitude(-75.0)
+                .altitude(400.0)
                 .build();
+        previous.checkAndProduceTleUpdate(issTle("23001.00000000"), "Celestrak");
+        previous.checkAndProducePositionUpdate(position, "SGP4");
+        previous.checkAndProducePassUpdate(issPass(40.0, now + 3_600_000L));
+        ChangeDetectionSnapshot snapshot = previous.snapshot();
+        clearInvocations(eventProducer, satelliteCatalog);
+
+        service = newService(true, 1.0);
+        service.restore(snapshot);
+        TleData changedTle = issTle("23002.00000000");
+        service.checkAndProduceTleUpdate(issTle("23001.00000000"), "Celestrak");
+        service.checkAndProduceTleUpdate(changedTle, "Celestrak");
+        service.checkAndProducePositionUpdate(position.toBuilder().timestamp(now + 1000).build(), "SGP4");
+        service.checkAndProducePassUpdate(issPass(40.0, now + 3_600_000L));
+
+        // The restored TLE goes back into the catalog; only the newer one is published
+        verify(satelliteCatalog).update(snapshot.getTles().get(0));
+        verify(eventProducer).produceTleUpdateEvent(any(), any());
+        verify(eventProducer).produceTleUpdateEvent(changedTle, "Celestrak");
+        verify(eventProducer, never()).producePositionEvent(any(), any());
+        verify(eventProducer, never()).producePassEvent(any());
+    }
 
-        when(cacheManager.getCache("tleCache")).thenReturn(null);
+    @Test
+    void restore_ShouldKeepTheNewerStateWhateverTheOrder() {
+        SatellitePosition older = SatellitePosition.builder()
+                .satelliteId("25544").timestamp(1000L).latitude(10.0).longitude(20.0).altitude(400.0).build();
+        SatellitePosition newer = older.toBuilder().timestamp(2000L).latitude(30.0).build();
 
-        service.checkAndProduceTleUpdate(newTle, "Celestrak");
+        service.restore(new ChangeDetectionSnapshot(0L, List.of(), List.of(newer), List.of(), new long[0]));
+        service.restore(new ChangeDetectionSnapshot(0L, List.of(), List.of(older), List.of(), new long[0]));
+        service.checkAndProducePositionUpdate(newer.toBuilder().timestamp(3000L).build(), "SGP4");
 
-        verify(eventProducer, never()).produceTleUpdateEvent(any(), any());
+        verify(eventProducer, never()).producePositionEvent(any(), any());
     }
 }
\ No newline at end of file
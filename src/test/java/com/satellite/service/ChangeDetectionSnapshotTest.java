@@ -0,0 +1,113 @@
+package com.satellite.service;
+
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeDetectionSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+            "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537");
+
+    @Test
+    void write_ThenRead_ShouldRestoreEveryRecord() throws IOException {
+        SatellitePosition published = SatellitePosition.builder()
+                .satelliteId("25544")
+                .timestamp(1_700_000_000_000L)
+                .latitude(51.5)
+                .longitude(-0.1)
+                .altitude(420.0)
+                .velocity(7.66)
+                .latitudeRate(0.05)
+                .longitudeRate(-0.07)
+                .altitudeRate(0.001)
+                .build();
+        SatellitePosition observed = SatellitePosition.builder()
+                .satelliteId("A0001")
+                .timestamp(1_700_000_001_000L)
+                .latitude(-10.0)
+                .longitude(179.9)
+                .altitude(35786.0)
+                .build();
+        long[] passes = {0x000063C8_12345678L, 1_700_003_600_000L, 0x000063C8_9ABCDEF0L, 1_700_007_200_000L};
+        Path file = dir.resolve("state/change-detection.snapshot");
+
+        int written = new ChangeDetectionSnapshot(42L, List.of(ISS), List.of(published), List.of(observed), passes)
+                .write(file);
+        ChangeDetectionSnapshot read = ChangeDetectionSnapshot.read(file);
+
+        assertEquals(1, written);
+        assertEquals(ChangeDetectionSnapshot.HEADER_SIZE + ChangeDetectionSnapshot.TLE_RECORD_SIZE
+                + 2 * ChangeDetectionSnapshot.POSITION_RECORD_SIZE + 2 * ChangeDetectionSnapshot.PASS_RECORD_SIZE,
+                Files.size(file));
+        assertEquals(42L, read.getSavedAt());
+
+        TleData tle = read.getTles().get(0);
+        assertEquals("25544", tle.getSatelliteId());
+        assertEquals("ISS (ZARYA)", tle.getSatelliteName());
+        assertEquals(ISS.getLine1(), tle.getLine1());
+        assertEquals(ISS.getLine2(), tle.getLine2());
+        assertEquals(ISS.getMeanMotion(), tle.getMeanMotion());
+
+        SatellitePosition position = read.getPublishedPositions().get(0);
+        assertEquals("25544", position.getSatelliteId());
+        assertEquals(1_700_000_000_000L, position.getTimestamp());
+        assertEquals(420.0, position.getAltitude());
+        assertEquals(7.66, position.getVelocity());
+        assertEquals(-0.07, position.getLongitudeRate());
+
+        position = read.getObservedPositions().get(0);
+        assertEquals("A0001", position.getSatelliteId());
+        assertEquals(179.9, position.getLongitude());
+        assertNull(position.getLatitudeRate());
+
+        assertArrayEquals(passes, read.getPasses());
+    }
+
+    @Test
+    void read_WithDamagedFile_ShouldFail() throws IOException {
+        Path file = dir.resolve("change-detection.snapshot");
+        new ChangeDetectionSnapshot(42L, List.of(ISS), List.of(), List.of(), new long[0]).write(file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> ChangeDetectionSnapshot.read(file));
+
+        bytes[0] ^= 1;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> ChangeDetectionSnapshot.read(file));
+
+        Files.write(file, new byte[8]);
+        assertThrows(IOException.class, () -> ChangeDetectionSnapshot.read(file));
+    }
+
+    @Test
+    void write_ShouldSkipTlesThatDoNotFitTheRecord() throws IOException {
+        TleData oversized = TleData.builder()
+                .satelliteId("20580")
+                .satelliteName("HST")
+                .line1(ISS.getLine1() + "   ")
+                .line2(ISS.getLine2())
+                .build();
+        Path file = dir.resolve("change-detection.snapshot");
+
+        int written = new ChangeDetectionSnapshot(42L, List.of(oversized, ISS), List.of(), List.of(), new long[0])
+                .write(file);
+
+        assertEquals(1, written);
+        assertEquals("25544", ChangeDetectionSnapshot.read(file).getTles().get(0).getSatelliteId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.satellite.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassKeySetTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void add_ShouldReportOnlyTheFirstSighting() {
+        PassKeySet passes = new PassKeySet(HOUR);
+
+        assertTrue(passes.add(25544L << 32 | 7, 1000L, 0L));
+        assertFalse(passes.add(25544L << 32 | 7, 1000L, 0L));
+        assertTrue(passes.add(25544L << 32 | 7, 2000L, 0L));
+        assertTrue(passes.add(25544L << 32 | 8, 1000L, 0L));
+        assertEquals(3, passes.size());
+    }
+
+    @Test
+    void remove_ShouldKeepTheRestOfTheProbeRunReachable() {
+        PassKeySet passes = new PassKeySet(HOUR, 16);
+        Random random = new Random(7);
+        Set<Long> expected = new HashSet<>();
+        for (int round = 0; round < 20_000; round++) {
+            // Few distinct keys in a small table, so probe runs collide and wrap
+            long startTime = random.nextInt(12);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(startTime), passes.add(1L, startTime, 0L));
+            } else {
+                assertEquals(expected.remove(startTime), passes.remove(1L, startTime));
+            }
+            for (long t = 0; t < 12; t++) {
+                assertEquals(expected.contains(t), passes.contains(1L, t), "start time " + t);
+            }
+        }
+        assertEquals(expected.size(), passes.size());
+    }
+
+    @Test
+    void add_WhenFull_ShouldDropPassesOlderThanTheRetention() {
+        PassKeySet passes = new PassKeySet(HOUR, 16);
+        long now = 100 * HOUR;
+        for (int i = 0; i < 1_000; i++) {
+            passes.add(i, now - 2 * HOUR, now);
+        }
+
+        // Adding past the load factor rebuilds without the expired passes
+        for (int i = 0; i < 1_000; i++) {
+            passes.add(i, now + HOUR, now);
+        }
+
+        assertEquals(1_000, passes.size());
+        assertFalse(passes.contains(0, now - 2 * HOUR));
+        assertTrue(passes.contains(0, now + HOUR));
+    }
+}
@@ -0,0 +1,111 @@
+package com.satellite.service;
+
+import com.satellite.geo.GeofenceTransition;
+import com.satellite.model.SatelliteConfig;
+import com.satellite.model.SatellitePosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegionIndexServiceTest {
+
+    @Mock
+    private SatelliteEventProducer eventProducer;
+
+    private RegionIndexService service;
+
+    private static SatelliteConfig.Geofence fence(String name, double minLat, double maxLat, double minLon, double maxLon) {
+        List<SatelliteConfig.Vertex> vertices = new ArrayList<>();
+        double[][] corners = {{minLat, minLon}, {minLat, maxLon}, {maxLat, maxLon}, {maxLat, minLon}};
+        for (double[] corner : corners) {
+            SatelliteConfig.Vertex vertex = new SatelliteConfig.Vertex();
+            vertex.setLatitude(corner[0]);
+            vertex.setLongitude(corner[1]);
+            vertices.add(vertex);
+        }
+        SatelliteConfig.Geofence geofence = new SatelliteConfig.Geofence();
+        geofence.setName(name);
+        geofence.setVertices(vertices);
+        return geofence;
+    }
+
+    private static SatellitePosition position(double latitude, double longitude) {
+        return SatellitePosition.builder()
+                .satelliteId("25544")
+                .satelliteName("ISS")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SatelliteConfig config = new SatelliteConfig();
+        config.setGeofences(List.of(
+                fence("europe", 35.0, 70.0, -10.0, 40.0),
+                fence("germany", 47.0, 55.0, 6.0, 15.0)));
+        service = new RegionIndexService(config, eventProducer, 7);
+    }
+
+    @Test
+    void update_ShouldProduceEnterAndExitEventsOnlyOnCrossings() {
+        SatellitePosition outside = position(30.0, -20.0);
+        SatellitePosition inEurope = position(45.0, 0.0);
+        SatellitePosition inGermany = position(50.0, 10.0);
+        SatellitePosition stillInGermany = position(51.0, 11.0);
+        SatellitePosition gone = position(80.0, 10.0);
+
+        service.update(outside);
+        service.update(inEurope);
+        service.update(inGermany);
+        service.update(stillInGermany);
+        service.update(gone);
+
+        verify(eventProducer).produceGeofenceEvent(inEurope, "europe", GeofenceTransition.ENTER);
+        verify(eventProducer).produceGeofenceEvent(inGermany, "germany", GeofenceTransition.ENTER);
+        verify(eventProducer).produceGeofenceEvent(gone, "europe", GeofenceTransition.EXIT);
+        verify(eventProducer).produceGeofenceEvent(gone, "germany", GeofenceTransition.EXIT);
+        verify(eventProducer, times(4)).produceGeofenceEvent(any(), any(), any());
+    }
+
+    @Test
+    void update_OnFirstSighting_ShouldOnlySeedTheMembership() {
+        SatellitePosition inGermany = position(50.0, 10.0);
+        SatellitePosition stillInGermany = position(51.0, 11.0);
+        SatellitePosition inFrance = position(46.0, 2.0);
+
+        service.update(inGermany);
+        service.update(stillInGermany);
+        service.update(inFrance);
+
+        verify(eventProducer).produceGeofenceEvent(inFrance, "germany", GeofenceTransition.EXIT);
+        verify(eventProducer, times(1)).produceGeofenceEvent(any(), any(), any());
+    }
+
+    @Test
+    void queryGeofence_ShouldReturnSatellitesInsideTheFence() {
+        service.update(position(50.0, 10.0));
+
+        assertEquals(1, service.queryGeofence("germany").size());
+        assertEquals(1, service.queryBox(40.0, 60.0, 0.0, 20.0).size());
+        assertNull(service.queryGeofence("unknown"));
+    }
+
+    @Test
+    void constructor_WithDuplicateGeofenceNames_ShouldThrow() {
+        SatelliteConfig config = new SatelliteConfig();
+        config.setGeofences(List.of(fence("a", 0, 1, 0, 1), fence("a", 2, 3, 2, 3)));
+
+        assertThrows(IllegalArgumentException.class, () -> new RegionIndexService(config, eventProducer, 7));
+    }
+}
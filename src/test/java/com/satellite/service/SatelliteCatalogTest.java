@@ -0,0 +1,72 @@
+package com.satellite.service;
+
+import com.satellite.model.TleData;
+import com.satellite.propagation.Sgp4Propagator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SatelliteCatalogTest {
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+            "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537");
+    private static final TleData ISS_NEXT = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   08265.12345678 -.00002182  00000-0 -11606-4 0  2935",
+            "2 25544  51.6416 244.4627 0006703 131.5360 326.0288 15.72125391563548");
+
+    private final SatelliteCatalog catalog = new SatelliteCatalog();
+
+    @Test
+    void update_WithSameElementSet_ShouldKeepThePropagator() {
+        catalog.update(ISS);
+        Sgp4Propagator propagator = catalog.getPropagator("25544");
+
+        catalog.update(TleData.parseTle(ISS.getSatelliteName(), ISS.getLine1(), ISS.getLine2()));
+
+        assertSame(propagator, catalog.getPropagator("25544"));
+    }
+
+    @Test
+    void update_WithNewElementSet_ShouldReplaceThePropagatorInPlace() {
+        catalog.update(ISS);
+        Sgp4Propagator propagator = catalog.getPropagator("25544");
+
+        catalog.update(ISS_NEXT);
+
+        Sgp4Propagator updated = catalog.getPropagator("25544");
+        assertNotSame(propagator, updated);
+        assertEquals(ISS_NEXT.getEpochMillis(), updated.getEpochMillis());
+        assertEquals(List.of(updated), catalog.getPropagators());
+    }
+
+    @Test
+    void update_WithOlderElementSet_ShouldKeepTheNewerOne() {
+        catalog.update(ISS_NEXT);
+        Sgp4Propagator propagator = catalog.getPropagator("25544");
+
+        catalog.update(ISS);
+
+        assertSame(propagator, catalog.getPropagator("25544"));
+        assertEquals(ISS_NEXT.getEpochMillis(), propagator.getEpochMillis());
+    }
+
+    @Test
+    void update_WithUnpropagatableElementSet_ShouldDropTheSatelliteFromPropagation() {
+        catalog.update(ISS);
+
+        catalog.update(TleData.builder()
+                .satelliteId("25544")
+                .satelliteName("ISS (ZARYA)")
+                .epochYear(8)
+                .epochDay(266.0)
+                .meanMotion(0.0)
+                .build());
+
+        assertNull(catalog.getPropagator("25544"));
+        assertTrue(catalog.getPropagators().isEmpty());
+        assertEquals(1, catalog.size());
+    }
+}
\ No newline at end of file
@@ -1,21 +1,35 @@
 package com.satellite.service;
 
+import com.satellite.avro.SatelliteConjunctionEvent;
 import com.satellite.avro.SatellitePassEvent;
 import com.satellite.avro.SatellitePositionEvent;
 import com.satellite.avro.SatelliteTleUpdateEvent;
+import com.satellite.model.Conjunction;
 import com.satellite.model.SatellitePass;
 import com.satellite.model.SatellitePosition;
 import com.satellite.model.TleData;
+import com.satellite.serialization.ConjunctionEventValue;
+import com.satellite.serialization.EventSerializationPipeline;
+import com.satellite.serialization.PassEventValue;
+import com.satellite.serialization.PassKey;
+import com.satellite.serialization.PositionEventValue;
+import com.satellite.serialization.TleUpdateEventValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,10 +41,10 @@ import static org.mockito.Mockito.*;
 class SatelliteEventProducerTest {
 
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private KafkaTemplate<Object, Object> kafkaTemplate;
 
     @Mock
-    private SendResult<String, Object> sendResult;
+    private SendResult<Object, Object> sendResult;
 
     private SatelliteEventProducer producer;
 
@@ -40,6 +54,7 @@ class SatelliteEventProducerTest {
         ReflectionTestUtils.setField(producer, "positionTopic", "satellite-position");
         ReflectionTestUtils.setField(producer, "passTopic", "satellite-pass");
         ReflectionTestUtils.setField(producer, "tleTopic", "satellite-tle");
+        ReflectionTestUtils.setField(producer, "conjunctionTopic", "satellite-conjunction");
     }
 
     @Test
@@ -54,21 +69,21 @@ class SatelliteEventProducerTest {
                 .velocity(7.8)
                 .build();
 
-        CompletableFuture<SendResult<String, Object>> future = CompletableFuture.completedFuture(sendResult);
+        CompletableFuture<SendResult<Object, Object>> future = CompletableFuture.completedFuture(sendResult);
         when(kafkaTemplate.send(any(String.class), any(String.class), any())).thenReturn(future);
 
         producer.producePositionEvent(position, "N2YO");
 
         ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<SatellitePositionEvent> eventCaptor = ArgumentCaptor.forClass(SatellitePositionEvent.class);
+        ArgumentCaptor<PositionEventValue> eventCaptor = ArgumentCaptor.forClass(PositionEventValue.class);
 
         verify(kafkaTemplate).send(topicCaptor.capture(), keyCaptor.capture(), eventCaptor.capture());
 
         assertEquals("satellite-position", topicCaptor.getValue());
         assertEquals("12345", keyCaptor.getValue());
 
-        SatellitePositionEvent event = eventCaptor.getValue();
+        SatellitePositionEvent event = eventCaptor.getValue().toSpecificRecord();
         assertEquals("12345", event.getSatelliteId());
         assertEquals("Test Satellite", event.getSatelliteName());
         assertEquals(1234567890L, event.getTimestamp());
@@ -93,21 +108,21 @@ class SatelliteEventProducerTest {
                 .endAzimuth(90.0)
                 .build();
 
-        CompletableFuture<SendResult<String, Object>> future = CompletableFuture.completedFuture(sendResult);
-        when(kafkaTemplate.send(any(String.class), any(String.class), any())).thenReturn(future);
+        CompletableFuture<SendResult<Object, Object>> future = CompletableFuture.completedFuture(sendResult);
+        when(kafkaTemplate.send(any(String.class), any(byte[].class), any())).thenReturn(future);
 
         producer.producePassEvent(pass);
 
         ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<SatellitePassEvent> eventCaptor = ArgumentCaptor.forClass(SatellitePassEvent.class);
+        ArgumentCaptor<Object> keyCaptor = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<PassEventValue> eventCaptor = ArgumentCaptor.forClass(PassEventValue.class);
 
         verify(kafkaTemplate).send(topicCaptor.capture(), keyCaptor.capture(), eventCaptor.capture());
 
         assertEquals("satellite-pass", topicCaptor.getValue());
-        assertEquals("25544_45.000000_-75.000000", keyCaptor.getValue());
+        assertArrayEquals(PassKey.encode(pass), (byte[]) keyCaptor.getValue());
 
-        SatellitePassEvent event = eventCaptor.getValue();
+        SatellitePassEvent event = eventCaptor.getValue().toSpecificRecord();
         assertEquals("25544", event.getSatelliteId());
         assertEquals("ISS", event.getSatelliteName());
         assertEquals(45.0, event.getObserverLatitude());
@@ -133,21 +148,21 @@ class SatelliteEventProducerTest {
                 .inclination(51.6400)
                 .build();
 
-        CompletableFuture<SendResult<String, Object>> future = CompletableFuture.completedFuture(sendResult);
+        CompletableFuture<SendResult<Object, Object>> future = CompletableFuture.completedFuture(sendResult);
         when(kafkaTemplate.send(any(String.class), any(String.class), any())).thenReturn(future);
 
         producer.produceTleUpdateEvent(tle, "Celestrak");
 
         ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<SatelliteTleUpdateEvent> eventCaptor = ArgumentCaptor.forClass(SatelliteTleUpdateEvent.class);
+        ArgumentCaptor<TleUpdateEventValue> eventCaptor = ArgumentCaptor.forClass(TleUpdateEventValue.class);
 
         verify(kafkaTemplate).send(topicCaptor.capture(), keyCaptor.capture(), eventCaptor.capture());
 
         assertEquals("satellite-tle", topicCaptor.getValue());
         assertEquals("25544", keyCaptor.getValue());
 
-        SatelliteTleUpdateEvent event = eventCaptor.getValue();
+        SatelliteTleUpdateEvent event = eventCaptor.getValue().toSpecificRecord();
         assertEquals("25544", event.getSatelliteId());
         assertEquals("ISS", event.getSatelliteName());
         assertEquals(tle.getLine1(), event.getLine1());
@@ -159,4 +174,112 @@ class SatelliteEventProducerTest {
         assertEquals(51.6400, event.getInclination());
         assertEquals("Celestrak", event.getSource());
     }
+
+    @Test
+    void produceConjunctionEvent_ShouldKeyByPair() {
+        Conjunction conjunction = Conjunction.builder()
+                .primarySatelliteId("25544")
+                .primarySatelliteName("ISS")
+                .secondarySatelliteId("48274")
+                .secondarySatelliteName("CSS")
+                .timeOfClosestApproach(1234569000L)
+                .missDistance(1.2)
+                .relativeSpeed(9.4)
+                .build();
+
+        CompletableFuture<SendResult<Object, Object>> future = CompletableFuture.completedFuture(sendResult);
+        when(kafkaTemplate.send(any(String.class), any(String.class), any())).thenReturn(future);
+
+        producer.produceConjunctionEvent(conjunction, 1234567890L);
+
+        ArgumentCaptor<ConjunctionEventValue> eventCaptor = ArgumentCaptor.forClass(ConjunctionEventValue.class);
+        verify(kafkaTemplate).send(eq("satellite-conjunction"), eq("25544_48274"), eventCaptor.capture());
+
+        SatelliteConjunctionEvent event = eventCaptor.getValue().toSpecificRecord();
+        assertEquals("25544", event.getPrimarySatelliteId());
+        assertEquals("48274", event.getSecondarySatelliteId());
+        assertEquals(1234567890L, event.getTimestamp());
+        assertEquals(1234569000L, event.getTimeOfClosestApproach());
+        assertEquals(1.2, event.getMissDistance());
+        assertEquals(9.4, event.getRelativeSpeed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void produceTleUpdateEvents_InTransactionalMode_ShouldCommitCycleWithMarkerOnEveryPartition() {
+        KafkaTemplate<Object, Object> transactionalTemplate = mock(KafkaTemplate.class);
+        KafkaOperations<Object, Object> operations = mock(KafkaOperations.class);
+        when(operations.partitionsFor("satellite-tle")).thenReturn(List.of(
+                new PartitionInfo("satellite-tle", 0, null, null, null),
+                new PartitionInfo("satellite-tle", 1, null, null, null),
+                new PartitionInfo("satellite-tle", 2, null, null, null)));
+        when(transactionalTemplate.executeInTransaction(any())).thenAnswer(invocation ->
+                invocation.<KafkaOperations.OperationsCallback<Object, Object, Object>>getArgument(0)
+                        .doInOperations(operations));
+        producer = new SatelliteEventProducer(kafkaTemplate, Optional.of(transactionalTemplate), Optional.empty());
+        ReflectionTestUtils.setField(producer, "tleTopic", "satellite-tle");
+
+        TleData iss = tle("25544", "ISS");
+        TleData hst = tle("20580", "HST");
+
+        producer.produceTleUpdateEvents(List.of(iss, hst), "SPACETRACK");
+
+        ArgumentCaptor<ProducerRecord<Object, Object>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(operations, times(5)).send(recordCaptor.capture());
+        verifyNoInteractions(kafkaTemplate);
+
+        List<ProducerRecord<Object, Object>> records = recordCaptor.getAllValues();
+        assertEquals("25544", records.get(0).key());
+        assertEquals("20580", records.get(1).key());
+        assertEquals("HST", ((TleUpdateEventValue) records.get(1).value()).toSpecificRecord().getSatelliteName().toString());
+
+        for (int partition = 0; partition < 3; partition++) {
+            ProducerRecord<Object, Object> marker = records.get(2 + partition);
+            assertEquals(partition, marker.partition());
+            assertEquals(SatelliteEventProducer.CATALOG_CYCLE_MARKER_KEY, marker.key());
+            assertNull(marker.value());
+            assertEquals("2", new String(marker.headers()
+                    .lastHeader(SatelliteEventProducer.CATALOG_CYCLE_SIZE_HEADER).value(), StandardCharsets.UTF_8));
+            assertArrayEquals(records.get(0).headers().lastHeader(SatelliteEventProducer.CATALOG_CYCLE_HEADER).value(),
+                    marker.headers().lastHeader(SatelliteEventProducer.CATALOG_CYCLE_HEADER).value());
+        }
+    }
+
+    @Test
+    void produceTleUpdateEvents_WithoutTransactions_ShouldSendIndividually() {
+        when(kafkaTemplate.send(any(String.class), any(String.class), any()))
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+        producer.produceTleUpdateEvents(List.of(
+                tle("25544", "ISS"),
+                tle("20580", "HST")), "CELESTRAK");
+
+        verify(kafkaTemplate, times(2)).send(eq("satellite-tle"), any(String.class), any(TleUpdateEventValue.class));
+    }
+
+    @Test
+    void producePositionEvent_WithSerializationPipeline_ShouldHandOffInsteadOfSending() {
+        EventSerializationPipeline pipeline = mock(EventSerializationPipeline.class);
+        when(pipeline.submit(any(), any(), any(), any())).thenReturn(new CompletableFuture<>());
+        producer = new SatelliteEventProducer(kafkaTemplate, Optional.empty(), Optional.of(pipeline));
+        ReflectionTestUtils.setField(producer, "positionTopic", "satellite-position");
+        SatellitePosition position = SatellitePosition.builder()
+                .satelliteId("25544")
+                .satelliteName("ISS")
+                .build();
+
+        producer.producePositionEvent(position, "SGP4");
+
+        verify(pipeline).submit(eq("satellite-position"), eq("25544"), eq("25544"), any(PositionEventValue.class));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private static TleData tle(String id, String name) {
+        return TleData.builder()
+                .satelliteId(id)
+                .satelliteName(name)
+                .line1("1 " + id + "U 98067A   23001.00000000  .00001234  00000-0  12345-4 0  9999")
+                .line2("2 " + id + "  51.6400 123.4567 0001234  12.3456 347.8901 15.48901234123456")
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.satellite.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SatelliteStateTableTest {
+
+    @Test
+    void compareAndSet_ShouldOnlySwapTheExpectedValue() {
+        SatelliteStateTable<String> table = new SatelliteStateTable<>();
+
+        assertNull(table.get(25544));
+        assertFalse(table.compareAndSet(25544, "stale", "a"));
+        assertTrue(table.compareAndSet(25544, null, "a"));
+        assertFalse(table.compareAndSet(25544, null, "b"));
+        assertEquals("a", table.get(25544));
+        assertTrue(table.compareAndSet(25544, table.get(25544), "b"));
+        assertEquals("b", table.getAndSet(25544, "c"));
+        assertEquals("c", table.get(25544));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void get_AfterGrowingPastInitialCapacity_ShouldKeepEveryValue() {
+        SatelliteStateTable<Integer> table = new SatelliteStateTable<>(16);
+
+        // Alpha-5 catalog numbers run up to 339999
+        for (int id = 0; id < 340_000; id += 7) {
+            assertTrue(table.compareAndSet(id, null, id));
+        }
+
+        for (int id = 0; id < 340_000; id++) {
+            assertEquals(id % 7 == 0 ? Integer.valueOf(id) : null, table.get(id));
+        }
+        assertEquals(340_000 / 7 + 1, table.size());
+    }
+
+    @Test
+    void compareAndSet_FromConcurrentThreads_ShouldLetOneWriterWinPerValue() throws Exception {
+        SatelliteStateTable<Integer> table = new SatelliteStateTable<>(16);
+        int threads = 8;
+        int satellites = 5_000;
+        AtomicInteger wins = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    // Every thread tries to claim every satellite, inserting and growing concurrently
+                    for (int id = 0; id < satellites; id++) {
+                        if (table.compareAndSet(id * 31, null, id)) {
+                            wins.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(satellites, wins.get());
+        assertEquals(satellites, table.size());
+        for (int id = 0; id < satellites; id++) {
+            assertEquals(id, table.get(id * 31));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.satellite.service.polling;
+
+import com.satellite.model.OrbitRegime;
+import com.satellite.model.TleData;
+import com.satellite.model.TleParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePollScheduleTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+    private static final long START = TleParser.epochMillis(24, 1.0);
+
+    private final AdaptivePollSchedule schedule = new AdaptivePollSchedule(15 * MINUTE, DAY);
+
+    private static TleData tle(String id, double meanMotion, double eccentricity, long epochMillis) {
+        return TleData.builder()
+                .satelliteId(id)
+                .epochYear(24)
+                .epochDay(1.0 + (double) (epochMillis - START) / DAY)
+                .meanMotion(meanMotion)
+                .eccentricity(eccentricity)
+                .build();
+    }
+
+    @Test
+    void orbitRegime_ShouldClassifyByMeanMotionAndEccentricity() {
+        assertEquals(OrbitRegime.LEO, OrbitRegime.of(15.5, 0.0005));
+        assertEquals(OrbitRegime.MEO, OrbitRegime.of(2.0056, 0.01));
+        assertEquals(OrbitRegime.GEO, OrbitRegime.of(1.0027, 0.0002));
+        assertEquals(OrbitRegime.HEO, OrbitRegime.of(2.006, 0.72));
+        assertEquals(OrbitRegime.UNKNOWN, OrbitRegime.of(0.0, 0.0));
+    }
+
+    @Test
+    void due_ShouldPollGeoFarLessOftenThanLowLeo() {
+        List<String> ids = List.of("25544", "41866");
+        long end = START + 14 * DAY;
+        for (long now = START; now < end; now += MINUTE) {
+            schedule.track(ids, now);
+            for (String id : schedule.due(now)) {
+                // The LEO set is revised every 8 hours, the GEO set weekly
+                TleData current = id.equals("25544")
+                        ? tle(id, 15.5, 0.0005, START + (now - START) / (8 * HOUR) * 8 * HOUR)
+                        : tle(id, 1.0027, 0.0002, START + (now - START) / (7 * DAY) * 7 * DAY);
+                schedule.completed(id, current, now);
+            }
+        }
+
+        Map<OrbitRegime, Long> requests = schedule.getRequestCounts();
+        long leo = requests.get(OrbitRegime.LEO);
+        long geo = requests.get(OrbitRegime.GEO);
+        assertEquals(2L, requests.get(OrbitRegime.UNKNOWN));
+        // A fixed 30-minute interval would make 672 requests for each
+        assertTrue(leo < 200, "LEO requests " + leo);
+        assertTrue(geo <= 20, "GEO requests " + geo);
+        // GEO is held to the one-day maximum interval
+        assertTrue(geo * 3 < leo, "GEO " + geo + " vs LEO " + leo);
+    }
+
+    @Test
+    void completed_ShouldWaitForTheNextExpectedSetThenBackOff() {
+        schedule.track(List.of("25544", "43013"), START);
+        assertEquals(List.of("25544", "43013"), schedule.due(START).stream().sorted().toList());
+        long now = START + DAY;
+
+        // LEO at 14 rev/day is expected every 12 hours: a 2-hour-old set is next due in 10
+        schedule.completed("25544", tle("25544", 14.0, 0.001, now - 2 * HOUR), now);
+        assertEquals(now + 10 * HOUR, schedule.nextDue("25544"));
+
+        // A 13-hour-old set is overdue, so check every quarter of the interval
+        schedule.completed("43013", tle("43013", 14.0, 0.001, now - 13 * HOUR), now);
+        assertEquals(now + 3 * HOUR, schedule.nextDue("43013"));
+    }
+
+    @Test
+    void completed_ShouldLearnFromObservedChanges() {
+        schedule.track(List.of("25544"), START);
+        schedule.due(START);
+        schedule.completed("25544", tle("25544", 14.0, 0.001, START), START);
+        // Sets arriving every 2 hours pull the 12-hour prior down
+        for (int i = 1; i <= 10; i++) {
+            long now = START + i * 2 * HOUR;
+            schedule.due(Long.MAX_VALUE);
+            schedule.completed("25544", tle("25544", 14.0, 0.001, now), now);
+        }
+
+        long delay = schedule.nextDue("25544") - (START + 20 * HOUR);
+        assertTrue(delay < 3 * HOUR, "next poll in " + delay / MINUTE + " min");
+        assertTrue(delay >= 15 * MINUTE);
+    }
+
+    @Test
+    void schedule_ShouldTrackUntrackAndRetryFailures() {
+        schedule.track(List.of("25544"), START);
+        assertEquals(List.of("25544"), schedule.due(START));
+        // In flight: not due again until handed back
+        assertEquals(List.of(), schedule.due(START + DAY));
+        assertEquals(-1, schedule.nextDue("25544"));
+
+        // A failed first request is retried after the minimum interval
+        schedule.completed("25544", null, START);
+        assertEquals(START + 15 * MINUTE, schedule.nextDue("25544"));
+
+        schedule.track(List.of("43013"), START);
+        assertEquals(-1, schedule.nextDue("25544"));
+        assertEquals(List.of("43013"), schedule.due(START + 15 * MINUTE));
+    }
+}
\ No newline at end of file
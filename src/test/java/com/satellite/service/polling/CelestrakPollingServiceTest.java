@@ -0,0 +1,185 @@
+package com.satellite.service.polling;
+
+import com.satellite.client.CelestrakClient;
+import com.satellite.client.ConditionalGetCache;
+import com.satellite.client.FetchedTle;
+import com.satellite.model.SatelliteConfig;
+import com.satellite.model.TleData;
+import com.satellite.propagation.EphemerisCache;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.RegionIndexService;
+import com.satellite.service.SatelliteCatalog;
+import com.satellite.service.SatelliteEventProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CelestrakPollingServiceTest {
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+            "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537");
+    private static final FetchedTle FETCHED_ISS = new FetchedTle(ISS,
+            new ConditionalGetCache.Validators("/NORAD/elements/gp.php?CATNR=25544&FORMAT=TLE", "\"v1\"", 0, 140));
+
+    @Mock
+    private CelestrakClient celestrakClient;
+
+    @Mock
+    private ChangeDetectionService changeDetectionService;
+
+    private final SatelliteConfig satelliteConfig = new SatelliteConfig();
+
+    private CelestrakPollingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CelestrakPollingService(celestrakClient, changeDetectionService, satelliteConfig, 8, 30, "reactor",
+                900, 86400);
+    }
+
+    private void track(int count) {
+        List<SatelliteConfig.TrackedSatellite> tracked = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SatelliteConfig.TrackedSatellite satellite = new SatelliteConfig.TrackedSatellite();
+            satellite.setId(String.valueOf(25544 + i));
+            tracked.add(satellite);
+        }
+        satelliteConfig.setTrackedSatellites(tracked);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollCycle_ShouldKeepRequestsInFlightWithinTheConcurrencyLimit() {
+        track(20);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(celestrakClient.getTleForSatellite(anyString())).thenAnswer(invocation -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Mono.just(FETCHED_ISS).delayElement(Duration.ofMillis(100))
+                            .doOnSuccess(tle -> inFlight.decrementAndGet());
+                }));
+
+        StepVerifier.withVirtualTime(() -> service.pollCycle())
+                .thenAwait(Duration.ofSeconds(1))
+                .verifyComplete();
+
+        assertEquals(8, maxInFlight.get());
+        ArgumentCaptor<List<TleData>> published = ArgumentCaptor.forClass(List.class);
+        verify(changeDetectionService).checkAndProduceTleUpdates(published.capture(), eq("CELESTRAK"));
+        assertEquals(20, published.getValue().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollCycle_WithHungRequest_ShouldTimeItOutAndStillComplete() {
+        track(2);
+        when(celestrakClient.getTleForSatellite("25544")).thenReturn(Mono.never());
+        when(celestrakClient.getTleForSatellite("25545")).thenReturn(Mono.just(FETCHED_ISS));
+
+        StepVerifier.withVirtualTime(() -> service.pollCycle())
+                .thenAwait(Duration.ofSeconds(29))
+                .expectNoEvent(Duration.ofMillis(500))
+                .thenAwait(Duration.ofSeconds(1))
+                .verifyComplete();
+
+        ArgumentCaptor<List<TleData>> published = ArgumentCaptor.forClass(List.class);
+        verify(changeDetectionService).checkAndProduceTleUpdates(published.capture(), eq("CELESTRAK"));
+        assertEquals(1, published.getValue().size());
+    }
+
+    @Test
+    void constructor_WithInvalidSettings_ShouldReject() {
+        assertThrows(IllegalArgumentException.class, () -> new CelestrakPollingService(celestrakClient,
+                changeDetectionService, satelliteConfig, 0, 30, "reactor", 900, 86400));
+        assertThrows(IllegalArgumentException.class, () -> new CelestrakPollingService(celestrakClient,
+                changeDetectionService, satelliteConfig, 8, 0, "reactor", 900, 86400));
+        assertThrows(IllegalArgumentException.class, () -> new CelestrakPollingService(celestrakClient,
+                changeDetectionService, satelliteConfig, 8, 30, "threads", 900, 86400));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollCycleOnVirtualThreads_ShouldBoundConcurrencyAndSkipHungRequests() {
+        track(20);
+        service = new CelestrakPollingService(celestrakClient, changeDetectionService, satelliteConfig, 8, 1,
+                "virtual-threads", 900, 86400);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(celestrakClient.getTleForSatellite(anyString())).thenAnswer(invocation -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Mono<FetchedTle> response = invocation.getArgument(0).equals("25544")
+                            ? Mono.never()
+                            : Mono.just(FETCHED_ISS).delayElement(Duration.ofMillis(20));
+                    // The hung request is cancelled by its timeout
+                    return response.doOnSuccess(tle -> inFlight.decrementAndGet())
+                            .doOnCancel(inFlight::decrementAndGet);
+                }));
+
+        service.pollCycleOnVirtualThreads();
+
+        assertTrue(maxInFlight.get() <= 8, "at most 8 in flight, was " + maxInFlight.get());
+        ArgumentCaptor<List<TleData>> published = ArgumentCaptor.forClass(List.class);
+        verify(changeDetectionService).checkAndProduceTleUpdates(published.capture(), eq("CELESTRAK"));
+        assertEquals(19, published.getValue().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollCycle_WhenTransactionFails_ShouldNotCommitAndRepublishNextCycle() {
+        track(1);
+        KafkaTemplate<Object, Object> transactionalTemplate = mock(KafkaTemplate.class);
+        KafkaOperations<Object, Object> operations = mock(KafkaOperations.class);
+        when(operations.partitionsFor("satellite-tle"))
+                .thenReturn(List.of(new PartitionInfo("satellite-tle", 0, null, null, null)));
+        when(transactionalTemplate.executeInTransaction(any()))
+                .thenThrow(new KafkaException("transaction aborted"))
+                .thenAnswer(invocation -> invocation.<KafkaOperations.OperationsCallback<Object, Object, Object>>getArgument(0)
+                        .doInOperations(operations));
+        SatelliteEventProducer producer = new SatelliteEventProducer(mock(KafkaTemplate.class),
+                Optional.of(transactionalTemplate), Optional.empty());
+        ReflectionTestUtils.setField(producer, "tleTopic", "satellite-tle");
+        ChangeDetectionService changeDetection = new ChangeDetectionService(producer, mock(SatelliteCatalog.class),
+                mock(RegionIndexService.class), mock(EphemerisCache.class), false, 1.0);
+        // No minimum interval, so a failed cycle's satellites are due again at once
+        service = new CelestrakPollingService(celestrakClient, changeDetection, satelliteConfig, 8, 30,
+                "reactor", 0, 86400);
+        when(celestrakClient.getTleForSatellite("25544")).thenReturn(Mono.just(FETCHED_ISS));
+
+        StepVerifier.create(service.pollCycle()).verifyComplete();
+
+        verify(celestrakClient, never()).commit(any());
+        verifyNoInteractions(operations);
+
+        StepVerifier.create(service.pollCycle()).verifyComplete();
+
+        verify(transactionalTemplate, times(2)).executeInTransaction(any());
+        // The TLE and the cycle marker
+        verify(operations, times(2)).send(any(ProducerRecord.class));
+        verify(celestrakClient).commit(FETCHED_ISS);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.satellite.service.polling;
+
+import com.satellite.client.N2yoClient;
+import com.satellite.model.SatelliteConfig;
+import com.satellite.model.SatellitePosition;
+import com.satellite.model.TleData;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.SatelliteCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class N2yoPollingServiceTest {
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+            "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537");
+    private static final TleData GOES_16 = TleData.parseTle("GOES 16",
+            "1 41866U 16071A   23001.50000000 -.00000099  00000-0  00000-0 0  9991",
+            "2 41866   0.0500 100.0000 0001000 270.0000  90.0000  1.00270000 22222");
+
+    private N2yoClient n2yoClient;
+    private ChangeDetectionService changeDetectionService;
+    private final SatelliteConfig satelliteConfig = new SatelliteConfig();
+    private final SatelliteCatalog satelliteCatalog = new SatelliteCatalog();
+
+    @BeforeEach
+    void setUp() {
+        n2yoClient = mock(N2yoClient.class);
+        changeDetectionService = mock(ChangeDetectionService.class);
+        satelliteConfig.setTrackedSatellites(List.of(tracked("25544"), tracked("41866"), tracked("20580")));
+        SatelliteConfig.ObserverLocation newYork = new SatelliteConfig.ObserverLocation();
+        newYork.setName("New York");
+        newYork.setLatitude(40.7128);
+        newYork.setLongitude(-74.0060);
+        satelliteConfig.setObserverLocations(List.of(newYork));
+        satelliteCatalog.update(ISS);
+        satelliteCatalog.update(GOES_16);
+        when(n2yoClient.getCurrentPosition(anyString())).thenAnswer(invocation -> Mono.just(SatellitePosition.builder()
+                .satelliteId(invocation.getArgument(0))
+                .build()));
+        when(n2yoClient.getUpcomingPasses(anyString(), anyDouble(), anyDouble(), anyInt())).thenReturn(Flux.empty());
+    }
+
+    @Test
+    void pollCycle_WithLocalPropagation_ShouldOnlyAskForSatellitesItCannotPropagate() {
+        N2yoPollingService service = new N2yoPollingService(n2yoClient, changeDetectionService, satelliteConfig,
+                satelliteCatalog, true, true, true, true, 4, 30, "reactor");
+
+        StepVerifier.create(service.pollCycle()).verifyComplete();
+
+        // GOES 16 is a deep-space object, and 20580 has no TLE yet
+        verify(n2yoClient).getCurrentPosition("41866");
+        verify(n2yoClient).getCurrentPosition("20580");
+        verify(n2yoClient, never()).getCurrentPosition("25544");
+        verify(n2yoClient, never()).getUpcomingPasses(eq("25544"), anyDouble(), anyDouble(), anyInt());
+        verify(n2yoClient).getUpcomingPasses(eq("41866"), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void pollCycle_WithoutLocalPropagation_ShouldAskForEverySatellite() {
+        N2yoPollingService service = new N2yoPollingService(n2yoClient, changeDetectionService, satelliteConfig,
+                satelliteCatalog, true, false, false, true, 4, 30, "reactor");
+
+        StepVerifier.create(service.pollCycle()).verifyComplete();
+
+        verify(n2yoClient, times(3)).getCurrentPosition(anyString());
+        verify(changeDetectionService, times(3)).checkAndProducePositionUpdate(any(), eq("N2YO"));
+        verifyNoMoreInteractions(n2yoClient);
+    }
+
+    private static SatelliteConfig.TrackedSatellite tracked(String id) {
+        SatelliteConfig.TrackedSatellite satellite = new SatelliteConfig.TrackedSatellite();
+        satellite.setId(id);
+        return satellite;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.satellite.service.polling;
+
+import com.satellite.client.SpaceTrackClient;
+import com.satellite.client.SpaceTrackSync;
+import com.satellite.model.SatelliteConfig;
+import com.satellite.model.TleData;
+import com.satellite.propagation.EphemerisCache;
+import com.satellite.service.ChangeDetectionService;
+import com.satellite.service.RegionIndexService;
+import com.satellite.service.SatelliteCatalog;
+import com.satellite.service.SatelliteEventProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SpaceTrackPollingServiceTest {
+
+    private static final TleData ISS = TleData.parseTle("ISS (ZARYA)",
+            "1 25544U 98067A   08264.51782528 -.00002182  00000-0 -11606-4 0  2927",
+            "2 25544  51.6416 247.4627 0006703 130.5360 325.0288 15.72125391563537");
+
+    private SpaceTrackClient spaceTrackClient;
+    private KafkaTemplate<Object, Object> transactionalTemplate;
+    private KafkaOperations<Object, Object> operations;
+    private SpaceTrackPollingService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        spaceTrackClient = mock(SpaceTrackClient.class);
+        transactionalTemplate = mock(KafkaTemplate.class);
+        operations = mock(KafkaOperations.class);
+        SatelliteEventProducer producer = new SatelliteEventProducer(mock(KafkaTemplate.class),
+                Optional.of(transactionalTemplate), Optional.empty());
+        ReflectionTestUtils.setField(producer, "tleTopic", "satellite-tle");
+        ChangeDetectionService changeDetection = new ChangeDetectionService(producer, mock(SatelliteCatalog.class),
+                mock(RegionIndexService.class), mock(EphemerisCache.class), false, 1.0);
+
+        SatelliteConfig.TrackedSatellite iss = new SatelliteConfig.TrackedSatellite();
+        iss.setId("25544");
+        SatelliteConfig config = new SatelliteConfig();
+        config.setTrackedSatellites(List.of(iss));
+        service = new SpaceTrackPollingService(spaceTrackClient, changeDetection, config);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollCycle_WhenTransactionFails_ShouldNotAdvanceWatermarkAndRepublishNextCycle() {
+        SpaceTrackSync sync = new SpaceTrackSync(List.of(ISS), "2023-01-01T02:00:00", List.of("25544"));
+        // The watermark did not move, so the next sync returns the same records
+        when(spaceTrackClient.getUpdatedTles(List.of("25544"))).thenReturn(Mono.just(sync));
+        when(operations.partitionsFor("satellite-tle"))
+                .thenReturn(List.of(new PartitionInfo("satellite-tle", 0, null, null, null)));
+        when(transactionalTemplate.executeInTransaction(any()))
+                .thenThrow(new KafkaException("transaction aborted"))
+                .thenAnswer(invocation -> invocation.<KafkaOperations.OperationsCallback<Object, Object, Object>>getArgument(0)
+                        .doInOperations(operations));
+
+        StepVerifier.create(service.pollCycle()).verifyComplete();
+
+        verify(spaceTrackClient, never()).commit(any());
+        verifyNoInteractions(operations);
+
+        StepVerifier.create(service.pollCycle()).verifyComplete();
+
+        verify(transactionalTemplate, times(2)).executeInTransaction(any());
+        // The TLE and the cycle marker
+        verify(operations, times(2)).send(any(ProducerRecord.class));
+        verify(spaceTrackClient).commit(sync);
+    }
+
+    @Test
+    void pollCycle_WithNoChanges_ShouldStillAdvanceWatermark() {
+        SpaceTrackSync sync = new SpaceTrackSync(List.of(), "2023-01-01T02:00:00", List.of("25544"));
+        when(spaceTrackClient.getUpdatedTles(List.of("25544"))).thenReturn(Mono.just(sync));
+
+        StepVerifier.create(service.pollCycle()).verifyComplete();
+
+        verifyNoInteractions(transactionalTemplate);
+        verify(spaceTrackClient).commit(sync);
+    }
+}
\ No newline at end of file